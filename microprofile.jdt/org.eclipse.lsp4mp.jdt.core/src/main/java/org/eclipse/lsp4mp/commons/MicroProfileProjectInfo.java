@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.commons;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 
@@ -38,6 +39,8 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 
 	private ClasspathKind classpathKind;
 
+	private List<ProjectInfoTiming> timings;
+
 	/**
 	 * Returns the project URI.
 	 *
@@ -74,4 +77,24 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 		this.classpathKind = classpathKind;
 	}
 
+	/**
+	 * Returns the timings of the scan of the project, or null if they were not
+	 * requested (see {@link MicroProfileProjectInfoParams#isTimings()}).
+	 *
+	 * @return the timings of the scan of the project, or null if they were not
+	 *         requested.
+	 */
+	public List<ProjectInfoTiming> getTimings() {
+		return timings;
+	}
+
+	/**
+	 * Set the timings of the scan of the project.
+	 *
+	 * @param timings the timings of the scan of the project.
+	 */
+	public void setTimings(List<ProjectInfoTiming> timings) {
+		this.timings = timings;
+	}
+
 }
@@ -0,0 +1,91 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+import java.util.List;
+
+/**
+ * MicroProfile properties documentation parameters to retrieve in one request
+ * the documentation of several MicroProfile properties declared in Java class
+ * fields or Java methods.
+ *
+ * <p>
+ * The result of the request is a list of documentation which has the same
+ * size and the same order than {@link #getProperties()}.
+ * </p>
+ */
+public class MicroProfilePropertiesDocumentationParams {
+
+	private String uri;
+
+	private DocumentFormat documentFormat;
+
+	private List<MicroProfilePropertyDocumentationParams> properties;
+
+	/**
+	 * Returns the properties file URI.
+	 *
+	 * @return the properties file URI
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Set the properties file URI
+	 *
+	 * @param uri the properties file URI
+	 */
+	public void setUri(String uri) {
+		this.uri = uri;
+	}
+
+	/**
+	 * Returns the document format for this properties documentation request.
+	 *
+	 * @return the document format for this properties documentation request
+	 */
+	public DocumentFormat getDocumentFormat() {
+		return documentFormat;
+	}
+
+	/**
+	 * Sets which documentation format the documentation should be returned as.
+	 *
+	 * @param documentFormat the document format that the documentation should be
+	 *                       returned as
+	 */
+	public void setDocumentFormat(DocumentFormat documentFormat) {
+		this.documentFormat = documentFormat;
+	}
+
+	/**
+	 * Returns the properties (source type, field, method) to document.
+	 *
+	 * @return the properties (source type, field, method) to document.
+	 */
+	public List<MicroProfilePropertyDocumentationParams> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Set the properties (source type, field, method) to document.
+	 *
+	 * @param properties the properties (source type, field, method) to document.
+	 */
+	public void setProperties(List<MicroProfilePropertyDocumentationParams> properties) {
+		this.properties = properties;
+	}
+
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+/**
+ * Time spent in a phase of the scan of a MicroProfile project information, for
+ * a properties provider and a package fragment root.
+ *
+ */
+public class ProjectInfoTiming {
+
+	private String phase;
+
+	private String provider;
+
+	private String root;
+
+	private int count;
+
+	private long time;
+
+	public ProjectInfoTiming() {
+	}
+
+	public ProjectInfoTiming(String phase, String provider, String root) {
+		this.phase = phase;
+		this.provider = provider;
+		this.root = root;
+	}
+
+	/**
+	 * Returns the phase of the scan (ex : 'classpath', 'search', 'match',
+	 * 'staticProperties', 'merge').
+	 *
+	 * @return the phase of the scan.
+	 */
+	public String getPhase() {
+		return phase;
+	}
+
+	public void setPhase(String phase) {
+		this.phase = phase;
+	}
+
+	/**
+	 * Returns the properties provider, or null if the phase doesn't belong to a
+	 * provider.
+	 *
+	 * @return the properties provider, or null if the phase doesn't belong to a
+	 *         provider.
+	 */
+	public String getProvider() {
+		return provider;
+	}
+
+	public void setProvider(String provider) {
+		this.provider = provider;
+	}
+
+	/**
+	 * Returns the package fragment root (ex : JAR name), or null if the phase
+	 * doesn't belong to a package fragment root.
+	 *
+	 * @return the package fragment root, or null if the phase doesn't belong to a
+	 *         package fragment root.
+	 */
+	public String getRoot() {
+		return root;
+	}
+
+	public void setRoot(String root) {
+		this.root = root;
+	}
+
+	/**
+	 * Returns the number of calls measured.
+	 *
+	 * @return the number of calls measured.
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	public void setCount(int count) {
+		this.count = count;
+	}
+
+	/**
+	 * Returns the total time in milliseconds.
+	 *
+	 * @return the total time in milliseconds.
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	public void setTime(long time) {
+		this.time = time;
+	}
+
+	@Override
+	public String toString() {
+		return phase + (provider != null ? " [" + provider + "]" : "") + (root != null ? " (" + root + ")" : "")
+				+ ": " + time + "ms (" + count + " calls)";
+	}
+}
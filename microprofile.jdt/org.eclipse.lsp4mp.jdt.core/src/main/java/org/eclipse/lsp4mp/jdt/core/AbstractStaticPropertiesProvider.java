@@ -21,6 +21,11 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,7 +33,12 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.lsp4j.jsonrpc.json.adapters.EnumTypeAdapter;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector.MergingStrategy;
 
 import com.google.gson.Gson;
@@ -41,6 +51,16 @@ import com.google.gson.GsonBuilder;
  * class is present in the classpath. As a result, no search patterns are
  * required.
  *
+ * <p>
+ * The static metadata is loaded only once (see
+ * {@link PropertiesManager#preloadStaticProperties()}) in an immutable
+ * {@link ConfigurationMetadata} which is shared by all providers which use the
+ * same JSON file. Its {@link ItemMetadata} and {@link ValueHint} instances
+ * cannot be updated (the setters throw an
+ * {@link UnsupportedOperationException}), so the collected properties and
+ * hint values reference them instead of copying them.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  */
@@ -50,12 +70,20 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 
 	private static final String PLATFORM_PLUGIN = "platform:/plugin/"; //$NON-NLS-1$
 
+	/**
+	 * Immutable static metadata shared by all providers, indexed by plugin id and
+	 * path.
+	 */
+	private static final Map<String, ConfigurationMetadata> SHARED_METADATA = new ConcurrentHashMap<>();
+
 	private final String pluginId;
 
 	private final String path;
 
 	private ConfigurationMetadata metadata;
 
+	private boolean hasSourceProperties;
+
 	private final MergingStrategy mergingStrategy;
 
 	public AbstractStaticPropertiesProvider(String pluginId, String path) {
@@ -68,13 +96,33 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 		this.mergingStrategy = mergingStrategy;
 	}
 
+	/**
+	 * Returns the path of the JSON file of the static properties.
+	 *
+	 * @return the path of the JSON file of the static properties.
+	 */
+	String getPath() {
+		return path;
+	}
+
 	@Override
 	public final void endSearch(SearchContext context, IProgressMonitor monitor) {
+		if (MicroProfilePropertiesScope.isOnlySources(context.getScopes()) && !hasSourceProperties()) {
+			// Only properties from Java sources are collected and the static properties
+			// are all binary properties, no need to check if the provider is adapted.
+			return;
+		}
 		if (isAdaptedFor(context, monitor)) {
 			collectStaticProperties(context, monitor);
 		}
 	}
 
+	@Override
+	public boolean isIncrementalSearchSupported() {
+		// the static properties don't depend on the search matches
+		return true;
+	}
+
 	/**
 	 * Returns true if static properties must be collected for the given context and
 	 * false otherwise.
@@ -92,15 +140,220 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 	 * @param monitor the progress monitor
 	 */
 	protected void collectStaticProperties(SearchContext context, IProgressMonitor monitor) {
+		ConfigurationMetadata metadata = loadMetadata();
+		if (metadata != null) {
+			context.getCollector().merge(metadata, mergingStrategy);
+		}
+	}
+
+	/**
+	 * Load (if needed) and returns the immutable static metadata shared by all
+	 * providers which use the same JSON file.
+	 *
+	 * @return the immutable static metadata and null if it cannot be loaded.
+	 */
+	synchronized ConfigurationMetadata loadMetadata() {
 		if (metadata == null) {
-			try {
-				metadata = getMetadata();
-			} catch (IOException e) {
-				LOGGER.log(Level.SEVERE, "In AbstractStaticPropertiesProvider#collectStaticProperties, IOException", e);
+			String key = pluginId + "!" + path;
+			metadata = SHARED_METADATA.computeIfAbsent(key, k -> {
+				try {
+					ConfigurationMetadata loaded = getMetadata();
+					return loaded != null ? toImmutable(loaded) : null;
+				} catch (IOException e) {
+					LOGGER.log(Level.SEVERE, "In AbstractStaticPropertiesProvider#loadMetadata, IOException", e);
+					return null;
+				}
+			});
+			if (metadata != null) {
+				List<ItemMetadata> properties = metadata.getProperties();
+				hasSourceProperties = properties != null
+						&& properties.stream().anyMatch(property -> Boolean.TRUE.equals(property.getSource()));
 			}
 		}
-		if (metadata != null) {
-			context.getCollector().merge(metadata, mergingStrategy);
+		return metadata;
+	}
+
+	private synchronized boolean hasSourceProperties() {
+		if (metadata == null) {
+			// The metadata is not loaded, consider that it can have source properties.
+			return true;
+		}
+		return hasSourceProperties;
+	}
+
+	private static ConfigurationMetadata toImmutable(ConfigurationMetadata metadata) {
+		ConfigurationMetadata immutable = new ConfigurationMetadata();
+		List<ItemMetadata> properties = metadata.getProperties();
+		if (properties != null) {
+			List<ItemMetadata> immutableProperties = new ArrayList<>(properties.size());
+			for (ItemMetadata property : properties) {
+				immutableProperties.add(new ImmutableItemMetadata(property));
+			}
+			immutable.setProperties(Collections.unmodifiableList(immutableProperties));
+		}
+		List<ItemHint> hints = metadata.getHints();
+		if (hints != null) {
+			for (ItemHint hint : hints) {
+				List<ValueHint> values = hint.getValues();
+				if (values != null) {
+					List<ValueHint> immutableValues = new ArrayList<>(values.size());
+					for (ValueHint value : values) {
+						immutableValues.add(new ImmutableValueHint(value));
+					}
+					hint.setValues(Collections.unmodifiableList(immutableValues));
+				}
+			}
+			immutable.setHints(Collections.unmodifiableList(hints));
+		}
+		return immutable;
+	}
+
+	/**
+	 * Static property shared by all projects which cannot be updated.
+	 */
+	private static class ImmutableItemMetadata extends ItemMetadata {
+
+		private transient boolean immutable;
+
+		public ImmutableItemMetadata(ItemMetadata property) {
+			setName(property.getName());
+			setDescription(property.getDescription());
+			setSourceType(property.getSourceType());
+			setSource(property.getSource());
+			setOrigin(property.getOrigin());
+			setType(property.getType());
+			setSourceField(property.getSourceField());
+			setSourceMethod(property.getSourceMethod());
+			setDefaultValue(property.getDefaultValue());
+			setExtensionName(property.getExtensionName());
+			setRequired(property.isRequired());
+			setPhase(property.getPhase());
+			List<ConverterKind> converterKinds = property.getConverterKinds();
+			setConverterKinds(converterKinds != null ? Collections.unmodifiableList(converterKinds) : null);
+			immutable = true;
+		}
+
+		private void checkMutable() {
+			if (immutable) {
+				throw new UnsupportedOperationException("Static property '" + getName() + "' cannot be updated");
+			}
+		}
+
+		@Override
+		public void setName(String name) {
+			checkMutable();
+			super.setName(name);
+		}
+
+		@Override
+		public void setDescription(String description) {
+			checkMutable();
+			super.setDescription(description);
+		}
+
+		@Override
+		public void setSourceType(String sourceType) {
+			checkMutable();
+			super.setSourceType(sourceType);
+		}
+
+		@Override
+		public void setSource(Boolean source) {
+			checkMutable();
+			super.setSource(source);
+		}
+
+		@Override
+		public void setOrigin(String origin) {
+			checkMutable();
+			super.setOrigin(origin);
+		}
+
+		@Override
+		public void setType(String type) {
+			checkMutable();
+			super.setType(type);
+		}
+
+		@Override
+		public void setSourceField(String sourceField) {
+			checkMutable();
+			super.setSourceField(sourceField);
+		}
+
+		@Override
+		public void setSourceMethod(String sourceMethod) {
+			checkMutable();
+			super.setSourceMethod(sourceMethod);
+		}
+
+		@Override
+		public void setDefaultValue(String defaultValue) {
+			checkMutable();
+			super.setDefaultValue(defaultValue);
+		}
+
+		@Override
+		public void setExtensionName(String extensionName) {
+			checkMutable();
+			super.setExtensionName(extensionName);
+		}
+
+		@Override
+		public void setRequired(boolean required) {
+			checkMutable();
+			super.setRequired(required);
+		}
+
+		@Override
+		public void setPhase(int phase) {
+			checkMutable();
+			super.setPhase(phase);
+		}
+
+		@Override
+		public void setConverterKinds(List<ConverterKind> converterKinds) {
+			checkMutable();
+			super.setConverterKinds(converterKinds);
+		}
+	}
+
+	/**
+	 * Static hint value shared by all projects which cannot be updated.
+	 */
+	private static class ImmutableValueHint extends ValueHint {
+
+		private transient boolean immutable;
+
+		public ImmutableValueHint(ValueHint value) {
+			setValue(value.getValue());
+			setDescription(value.getDescription());
+			setSourceType(value.getSourceType());
+			immutable = true;
+		}
+
+		private void checkMutable() {
+			if (immutable) {
+				throw new UnsupportedOperationException("Static hint value '" + getValue() + "' cannot be updated");
+			}
+		}
+
+		@Override
+		public void setValue(String value) {
+			checkMutable();
+			super.setValue(value);
+		}
+
+		@Override
+		public void setDescription(String description) {
+			checkMutable();
+			super.setDescription(description);
+		}
+
+		@Override
+		public void setSourceType(String sourceType) {
+			checkMutable();
+			super.setSourceType(sourceType);
 		}
 	}
 
@@ -95,4 +95,35 @@ public interface IPropertiesProvider {
 
 	}
 
+	/**
+	 * Returns true if the provider supports the incremental search of the Java
+	 * sources and false otherwise.
+	 *
+	 * <p>
+	 * When only the Java sources are searched and all the providers support it,
+	 * only the compilation units which changed since the last search are searched
+	 * again, and the properties collected for the other compilation units are
+	 * reused. A provider supports it when:
+	 * </p>
+	 *
+	 * <ul>
+	 * <li>the properties collected by
+	 * {@link #collectProperties(SearchMatch, SearchContext, IProgressMonitor)}
+	 * only depend on the matches of the compilation unit and on the state stored
+	 * in the search context: each compilation unit is searched with its own search
+	 * context, and {@link #beginSearch(SearchContext, IProgressMonitor)} and
+	 * {@link #endSearch(SearchContext, IProgressMonitor)} are called with the
+	 * search context of the project.</li>
+	 * <li>the properties collected by
+	 * {@link #endSearch(SearchContext, IProgressMonitor)} don't depend on the
+	 * search matches.</li>
+	 * </ul>
+	 *
+	 * @return true if the provider supports the incremental search of the Java
+	 *         sources and false otherwise.
+	 */
+	default boolean isIncrementalSearchSupported() {
+		return false;
+	}
+
 }
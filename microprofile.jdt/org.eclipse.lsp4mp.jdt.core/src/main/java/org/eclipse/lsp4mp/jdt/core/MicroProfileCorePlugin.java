@@ -13,10 +13,17 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 import org.eclipse.lsp4mp.jdt.internal.core.MicroProfilePropertiesListenerManager;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.SourcePropertiesIndex;
+import org.eclipse.lsp4mp.jdt.internal.core.java.CompilationUnitASTCache;
 import org.eclipse.lsp4mp.jdt.internal.core.java.validators.JavaASTValidatorRegistry;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsApplicationPathCache;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsEndpointIndex;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityMonitor;
+import org.eclipse.lsp4mp.jdt.internal.restclient.java.RestClientInjectionIndex;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
@@ -38,6 +45,17 @@ public class MicroProfileCorePlugin implements BundleActivator {
 		PropertiesProviderRegistry.getInstance().initialize();
 		JavaASTValidatorRegistry.getInstance().initialize();
 		JDTMicroProfileProjectManager.getInstance().initialize();
+		JaxRsEndpointIndex.getInstance().initialize();
+		JaxRsApplicationPathCache.getInstance().initialize();
+		SourcePropertiesIndex.getInstance().initialize();
+		RestClientInjectionIndex.getInstance().initialize();
+		CompilationUnitASTCache.getInstance().initialize();
+		// Load the static properties in background to share them between all projects
+		Job job = Job.create("Loading MicroProfile static properties", monitor -> {
+			PropertiesManager.getInstance().preloadStaticProperties();
+		});
+		job.setSystem(true);
+		job.schedule();
 	}
 
 	public void stop(BundleContext context) throws Exception {
@@ -45,6 +63,12 @@ public class MicroProfileCorePlugin implements BundleActivator {
 		PropertiesProviderRegistry.getInstance().destroy();
 		JavaASTValidatorRegistry.getInstance().destroy();
 		JDTMicroProfileProjectManager.getInstance().destroy();
+		JaxRsEndpointIndex.getInstance().destroy();
+		JaxRsApplicationPathCache.getInstance().destroy();
+		SourcePropertiesIndex.getInstance().destroy();
+		RestClientInjectionIndex.getInstance().destroy();
+		CompilationUnitASTCache.getInstance().destroy();
+		ServerAvailabilityMonitor.getInstance().destroy();
 		plugin = null;
 	}
 
@@ -15,8 +15,11 @@ package org.eclipse.lsp4mp.jdt.core;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -29,6 +32,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
@@ -54,14 +58,19 @@ import org.eclipse.lsp4mp.commons.ClasspathKind;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesDocumentationParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.CompilationUnitPropertiesCollector;
 import org.eclipse.lsp4mp.jdt.internal.core.FakeJavaProject;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesCollector;
+import org.eclipse.lsp4mp.jdt.internal.core.ProjectInfoScanTimings;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.SourcePropertiesIndex;
 import org.eclipse.lsp4mp.jdt.internal.core.StaticPropertyProviderRegistry;
 
 /**
@@ -101,26 +110,59 @@ public class PropertiesManager {
 			// The uri doesn't belong to a Java project
 			return createInfo(file.getProject(), ClasspathKind.NONE);
 		}
-		return getMicroProfileProjectInfo(file, params.getScopes(), utils, params.getDocumentFormat(), progress);
+		return getMicroProfileProjectInfo(file, params.getScopes(), utils, params.getDocumentFormat(),
+				params.isTimings(), progress);
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(IFile file, List<MicroProfilePropertiesScope> scopes,
 			IJDTUtils utils, DocumentFormat documentFormat, IProgressMonitor progress)
 			throws JavaModelException, CoreException {
+		return getMicroProfileProjectInfo(file, scopes, utils, documentFormat, false, progress);
+	}
+
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(IFile file, List<MicroProfilePropertiesScope> scopes,
+			IJDTUtils utils, DocumentFormat documentFormat, boolean timings, IProgressMonitor progress)
+			throws JavaModelException, CoreException {
 		String projectName = file.getProject().getName();
 		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
 		ClasspathKind classpathKind = JDTMicroProfileUtils.getClasspathKind(file, javaProject);
-		return getMicroProfileProjectInfo(javaProject, scopes, classpathKind, utils, documentFormat, progress);
+		return getMicroProfileProjectInfo(javaProject, scopes, classpathKind, utils, documentFormat, timings,
+				progress);
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
 			List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, IJDTUtils utils,
 			DocumentFormat documentFormat, IProgressMonitor monitor) throws JavaModelException, CoreException {
+		return getMicroProfileProjectInfo(javaProject, scopes, classpathKind, utils, documentFormat, false, monitor);
+	}
+
+	/**
+	 * Returns the MicroProfile project information of the given Java project.
+	 *
+	 * @param javaProject    the Java project.
+	 * @param scopes         the scopes to scan.
+	 * @param classpathKind  the classpath kind.
+	 * @param utils          the JDT LS utilities.
+	 * @param documentFormat the document format to use to format Javadoc.
+	 * @param timings        true if the timings of the scan per provider, package
+	 *                       fragment root and phase must be attached to the
+	 *                       project information and false otherwise.
+	 * @param monitor        the progress monitor.
+	 * @return the MicroProfile project information of the given Java project.
+	 * @throws JavaModelException
+	 * @throws CoreException
+	 */
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
+			List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, IJDTUtils utils,
+			DocumentFormat documentFormat, boolean timings, IProgressMonitor monitor)
+			throws JavaModelException, CoreException {
 		MicroProfileProjectInfo info = createInfo(javaProject.getProject(), classpathKind);
 		if (classpathKind == ClasspathKind.NONE) {
 			info.setProperties(Collections.emptyList());
 			return info;
 		}
+		ProjectInfoScanTimings scanTimings = ProjectInfoScanTimings.create(javaProject.getElementName(), scopes,
+				timings);
 		long startTime = System.currentTimeMillis();
 		if (LOGGER.isLoggable(Level.INFO)) {
 			LOGGER.info("Start computing MicroProfile properties for '" + info.getProjectURI() + "' project.");
@@ -136,17 +178,18 @@ public class PropertiesManager {
 
 			// Step1 (50%) : get the java project used for the search
 			IJavaProject javaProjectForSearch = configureSearchClasspath(javaProject, excludeTestCode, scopes,
-					mainMonitor.split(50));
+					scanTimings, mainMonitor.split(50));
 			if (mainMonitor.isCanceled()) {
 				throw new OperationCanceledException();
 			}
 
 			// Step2 (50%) : scan Java classes from the search classpath
-			scanJavaClasses(javaProjectForSearch, excludeTestCode, documentFormat, scopes, info, utils,
+			scanJavaClasses(javaProjectForSearch, excludeTestCode, documentFormat, scopes, info, utils, scanTimings,
 					mainMonitor.split(50));
 			if (mainMonitor.isCanceled()) {
 				throw new OperationCanceledException();
 			}
+			scanTimings.done(info);
 		} finally {
 			if (LOGGER.isLoggable(Level.INFO)) {
 				LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' project in "
@@ -172,6 +215,13 @@ public class PropertiesManager {
 	 */
 	public IJavaProject configureSearchClasspath(IJavaProject javaProject, boolean excludeTestCode,
 			List<MicroProfilePropertiesScope> scopes, IProgressMonitor monitor) throws JavaModelException {
+		return configureSearchClasspath(javaProject, excludeTestCode, scopes, ProjectInfoScanTimings.disabled(),
+				monitor);
+	}
+
+	private IJavaProject configureSearchClasspath(IJavaProject javaProject, boolean excludeTestCode,
+			List<MicroProfilePropertiesScope> scopes, ProjectInfoScanTimings timings, IProgressMonitor monitor)
+			throws JavaModelException {
 		SubMonitor mainMonitor = SubMonitor.convert(monitor);
 		// Get the java project used for the search
 		mainMonitor.subTask("Configuring search classpath");
@@ -179,7 +229,7 @@ public class PropertiesManager {
 		SubMonitor subMonitor = mainMonitor.setWorkRemaining(length + 1);
 		subMonitor.split(1); // give feedback to the user that something is happening
 		try {
-			return getJavaProject(javaProject, excludeTestCode, scopes, subMonitor);
+			return getJavaProject(javaProject, excludeTestCode, scopes, timings, subMonitor);
 		} finally {
 			subMonitor.done();
 		}
@@ -203,7 +253,8 @@ public class PropertiesManager {
 	 */
 	private void scanJavaClasses(IJavaProject javaProjectForSearch, boolean excludeTestCode,
 			DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes, MicroProfileProjectInfo info,
-			IJDTUtils utils, SubMonitor mainMonitor) throws JavaModelException, CoreException {
+			IJDTUtils utils, ProjectInfoScanTimings timings, SubMonitor mainMonitor)
+			throws JavaModelException, CoreException {
 		// Create JDT Java search pattern, engine and scope
 		mainMonitor.subTask("Scanning Java classes");
 		SubMonitor subMonitor = mainMonitor.setWorkRemaining(100);
@@ -212,12 +263,20 @@ public class PropertiesManager {
 
 			SearchPattern pattern = createSearchPattern();
 			SearchEngine engine = new SearchEngine();
+			if (MicroProfilePropertiesScope.isOnlySources(scopes) && isIncrementalSearchSupported()) {
+				// Only the sources changed: scan only the changed compilation units
+				scanCompilationUnits(pattern, engine, javaProjectForSearch, excludeTestCode, documentFormat, scopes,
+						info, utils, timings, subMonitor);
+				return;
+			}
 			IJavaSearchScope scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode, subMonitor);
 
 			// Execute the search
-			PropertiesCollector collector = new PropertiesCollector(info, scopes);
+			PropertiesCollector collector = createCollector(info, scopes, timings);
 			SearchContext context = new SearchContext(javaProjectForSearch, collector, utils, documentFormat, scopes);
-			beginSearch(context, subMonitor);
+			beginSearch(context, timings, subMonitor);
+			long[] matchTime = new long[1];
+			long searchStart = timings.start();
 			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
 					new SearchRequestor() {
 
@@ -233,32 +292,231 @@ public class PropertiesManager {
 							// /* Demonstrate {@link ConfigProperties} */
 							// class A
 
+							checkCanceled(subMonitor);
 							if (!match.isInsideDocComment()) {
-								collectProperties(match, context, subMonitor);
+								matchTime[0] += collectProperties(match, context, timings, subMonitor);
 							}
 						}
 					}, subMonitor);
-			endSearch(context, subMonitor);
+			timings.add(ProjectInfoScanTimings.PHASE_SEARCH, null, null, timings.elapsed(searchStart) - matchTime[0]);
+			endSearch(context, timings, subMonitor);
 		} finally {
 			subMonitor.done();
 		}
 	}
 
-	private void beginSearch(SearchContext context, IProgressMonitor monitor) {
+	/**
+	 * Collect the properties of the sources of the given project with the
+	 * {@link SourcePropertiesIndex}: only the compilation units which changed since
+	 * the last collect are searched, the properties of the other compilation units
+	 * are reused.
+	 *
+	 * <p>
+	 * Each compilation unit is searched with its own search context, so that the
+	 * properties collected for a compilation unit don't depend on the other
+	 * compilation units (see
+	 * {@link IPropertiesProvider#isIncrementalSearchSupported()}).
+	 * </p>
+	 *
+	 * @param pattern              the search pattern.
+	 * @param engine               the search engine.
+	 * @param javaProjectForSearch Java project which hosts original JARs and new
+	 *                             JARs to use for the search.
+	 * @param excludeTestCode      true if test must be excluded and false
+	 *                             otherwise.
+	 * @param documentFormat       the document format to use to format Javadoc.
+	 * @param scopes               the scopes (only sources).
+	 * @param info                 the project information to update.
+	 * @param utils                the JDT LS utilities
+	 * @param monitor              the progress monitor.
+	 * @throws CoreException
+	 */
+	private void scanCompilationUnits(SearchPattern pattern, SearchEngine engine, IJavaProject javaProjectForSearch,
+			boolean excludeTestCode, DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes,
+			MicroProfileProjectInfo info, IJDTUtils utils, ProjectInfoScanTimings timings, SubMonitor monitor)
+			throws CoreException {
+		PropertiesCollector collector = createCollector(info, scopes, timings);
+		CompilationUnitPropertiesCollector unitCollector = new CompilationUnitPropertiesCollector(collector, scopes);
+		SearchContext context = new SearchContext(javaProjectForSearch, unitCollector, utils, documentFormat, scopes);
+		Map<String, SearchContext> unitContexts = new HashMap<>();
+		beginSearch(context, timings, monitor);
+		List<ConfigurationMetadata> contributions = SourcePropertiesIndex.getInstance().collect(
+				FakeJavaProject.getRealJavaProject(javaProjectForSearch), excludeTestCode, documentFormat, units -> {
+					IJavaSearchScope scope = units == null
+							? createSearchScope(javaProjectForSearch, scopes, excludeTestCode, monitor)
+							: createSearchScope(units, excludeTestCode);
+					if (scope != null) {
+						long[] matchTime = new long[1];
+						long searchStart = timings.start();
+						engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+								scope, new SearchRequestor() {
+
+									@Override
+									public void acceptSearchMatch(SearchMatch match) throws CoreException {
+										checkCanceled(monitor);
+										if (!match.isInsideDocComment()) {
+											String handle = getCompilationUnitHandle(match);
+											unitCollector.setCompilationUnit(handle);
+											SearchContext unitContext = handle == null ? context
+													: unitContexts.computeIfAbsent(handle,
+															h -> new SearchContext(javaProjectForSearch, unitCollector,
+																	utils, documentFormat, scopes));
+											matchTime[0] += collectProperties(match, unitContext, timings, monitor);
+										}
+									}
+								}, monitor);
+						timings.add(ProjectInfoScanTimings.PHASE_SEARCH, null, null,
+								timings.elapsed(searchStart) - matchTime[0]);
+					}
+					unitCollector.setCompilationUnit(null);
+					return unitCollector.getContributions();
+				}, monitor);
+		long mergeStart = timings.start();
+		for (ConfigurationMetadata contribution : contributions) {
+			collector.addCompilationUnitContribution(contribution);
+		}
+		timings.record(ProjectInfoScanTimings.PHASE_MERGE, null, null, mergeStart);
+		endSearch(context, timings, monitor);
+	}
+
+	/**
+	 * Create the properties collector which records the time spent to merge
+	 * metadata (ex: static properties) in the
+	 * {@link ProjectInfoScanTimings#PHASE_MERGE} phase, for the full scan and for
+	 * the scan of the changed compilation units.
+	 */
+	private static PropertiesCollector createCollector(MicroProfileProjectInfo info,
+			List<MicroProfilePropertiesScope> scopes, ProjectInfoScanTimings timings) {
+		if (!timings.isEnabled()) {
+			return new PropertiesCollector(info, scopes);
+		}
+		return new PropertiesCollector(info, scopes) {
+
+			@Override
+			public void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
+				long start = timings.start();
+				super.merge(metadata, mergingStrategy);
+				timings.record(ProjectInfoScanTimings.PHASE_MERGE, null, null, start);
+			}
+		};
+	}
+
+	private boolean isIncrementalSearchSupported() {
+		for (IPropertiesProvider provider : getPropertiesProviders()) {
+			if (!provider.isIncrementalSearchSupported()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static IJavaSearchScope createSearchScope(Set<ICompilationUnit> units, boolean excludeTestCode)
+			throws JavaModelException {
+		List<IJavaElement> elements = new ArrayList<>(units.size());
+		for (ICompilationUnit unit : units) {
+			if (excludeTestCode) {
+				IPackageFragmentRoot root = (IPackageFragmentRoot) unit.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+				if (root != null && root.getResolvedClasspathEntry().isTest()) {
+					continue;
+				}
+			}
+			elements.add(unit);
+		}
+		if (elements.isEmpty()) {
+			return null;
+		}
+		return SearchEngine.createJavaSearchScope(elements.toArray(new IJavaElement[elements.size()]),
+				IJavaSearchScope.SOURCES);
+	}
+
+	private static String getCompilationUnitHandle(SearchMatch match) {
+		Object element = match.getElement();
+		if (element instanceof IJavaElement) {
+			IJavaElement unit = ((IJavaElement) element).getAncestor(IJavaElement.COMPILATION_UNIT);
+			if (unit != null) {
+				return unit.getHandleIdentifier();
+			}
+		}
+		return null;
+	}
+
+	private void beginSearch(SearchContext context, ProjectInfoScanTimings timings, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
+			checkCanceled(monitor);
+			long start = timings.start();
 			provider.beginSearch(context, monitor);
+			if (timings.isEnabled()) {
+				timings.record(ProjectInfoScanTimings.PHASE_BEGIN_SEARCH, getProviderName(provider), null, start);
+			}
 		}
 	}
 
-	private void endSearch(SearchContext context, IProgressMonitor monitor) {
+	private void endSearch(SearchContext context, ProjectInfoScanTimings timings, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
+			checkCanceled(monitor);
+			long start = timings.start();
 			provider.endSearch(context, monitor);
+			if (timings.isEnabled()) {
+				// the static properties providers collect their properties at the end of
+				// the search
+				String phase = provider instanceof AbstractStaticPropertiesProvider
+						? ProjectInfoScanTimings.PHASE_STATIC_PROPERTIES
+						: ProjectInfoScanTimings.PHASE_END_SEARCH;
+				timings.record(phase, getProviderName(provider), null, start);
+			}
 		}
 	}
 
-	private void collectProperties(SearchMatch match, SearchContext context, IProgressMonitor monitor) {
+	/**
+	 * Collect the properties of the given search match with the providers and
+	 * returns the time spent by the providers in nanoseconds if timings are
+	 * enabled.
+	 */
+	private long collectProperties(SearchMatch match, SearchContext context, ProjectInfoScanTimings timings,
+			IProgressMonitor monitor) {
+		long total = 0;
+		String root = timings.isEnabled() ? getPackageFragmentRootName(match) : null;
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
+			checkCanceled(monitor);
+			long start = timings.start();
 			provider.collectProperties(match, context, monitor);
+			if (timings.isEnabled()) {
+				total += timings.record(ProjectInfoScanTimings.PHASE_MATCH, getProviderName(provider), root, start);
+			}
+		}
+		return total;
+	}
+
+	private static String getProviderName(IPropertiesProvider provider) {
+		if (provider instanceof AbstractStaticPropertiesProvider) {
+			// all static properties providers declared with the staticPropertyProviders
+			// extension point have the same class
+			return provider.getClass().getName() + " (" + ((AbstractStaticPropertiesProvider) provider).getPath()
+					+ ")";
+		}
+		return provider.getClass().getName();
+	}
+
+	private static String getPackageFragmentRootName(SearchMatch match) {
+		Object element = match.getElement();
+		if (element instanceof IJavaElement) {
+			IJavaElement root = ((IJavaElement) element).getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			if (root != null) {
+				return root.getPath().toString();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Throws an {@link OperationCanceledException} if the given monitor is
+	 * canceled (ex : the LSP request was cancelled with $/cancelRequest).
+	 *
+	 * @param monitor the progress monitor.
+	 */
+	private static void checkCanceled(IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
 		}
 	}
 
@@ -315,7 +573,8 @@ public class PropertiesManager {
 	 * @throws JavaModelException
 	 */
 	private IJavaProject getJavaProject(IJavaProject javaProject, boolean excludeTestCode,
-			List<MicroProfilePropertiesScope> scopes, SubMonitor monitor) throws JavaModelException {
+			List<MicroProfilePropertiesScope> scopes, ProjectInfoScanTimings timings, SubMonitor monitor)
+			throws JavaModelException {
 		if (javaProject instanceof FakeJavaProject) {
 			// The java project is already resolved
 			return javaProject;
@@ -323,9 +582,9 @@ public class PropertiesManager {
 		SubMonitor mainMonitor = monitor;
 		BuildingScopeContext context = new BuildingScopeContext(javaProject, excludeTestCode, scopes,
 				ArtifactResolver.DEFAULT_ARTIFACT_RESOLVER);
-		beginBuildingScope(context, mainMonitor);
-		contributeToClasspath(context, mainMonitor);
-		endBuildingScope(context, mainMonitor);
+		beginBuildingScope(context, timings, mainMonitor);
+		contributeToClasspath(context, timings, mainMonitor);
+		endBuildingScope(context, timings, mainMonitor);
 		List<IClasspathEntry> searchClasspathEntries = context.getSearchClassPathEntries();
 		if (!searchClasspathEntries.isEmpty()) {
 			return new FakeJavaProject(javaProject, searchClasspathEntries);
@@ -333,27 +592,44 @@ public class PropertiesManager {
 		return javaProject;
 	}
 
-	private void beginBuildingScope(BuildingScopeContext context, IProgressMonitor monitor) {
+	private void beginBuildingScope(BuildingScopeContext context, ProjectInfoScanTimings timings,
+			IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
+			checkCanceled(monitor);
+			long start = timings.start();
 			provider.beginBuildingScope(context, monitor);
+			if (timings.isEnabled()) {
+				timings.record(ProjectInfoScanTimings.PHASE_CLASSPATH, getProviderName(provider), null, start);
+			}
 		}
 	}
 
-	private void contributeToClasspath(BuildingScopeContext context, SubMonitor mainMonitor)
-			throws OperationCanceledException, JavaModelException {
+	private void contributeToClasspath(BuildingScopeContext context, ProjectInfoScanTimings timings,
+			SubMonitor mainMonitor) throws OperationCanceledException, JavaModelException {
 		int length = getPropertiesProviders().size();
 		for (int i = 0; i < length; i++) {
 			mainMonitor.subTask("Contributing to classpath for provider (" + (i + 1) + "/" + length + ")");
+			// split checks the cancellation of the monitor
 			SubMonitor subMonitor = mainMonitor.split(1);
 			IPropertiesProvider provider = getPropertiesProviders().get(i);
+			long start = timings.start();
 			provider.contributeToClasspath(context, subMonitor);
+			if (timings.isEnabled()) {
+				timings.record(ProjectInfoScanTimings.PHASE_CLASSPATH, getProviderName(provider), null, start);
+			}
 			subMonitor.done();
 		}
 	}
 
-	private void endBuildingScope(BuildingScopeContext context, IProgressMonitor monitor) {
+	private void endBuildingScope(BuildingScopeContext context, ProjectInfoScanTimings timings,
+			IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
+			checkCanceled(monitor);
+			long start = timings.start();
 			provider.endBuildingScope(context, monitor);
+			if (timings.isEnabled()) {
+				timings.record(ProjectInfoScanTimings.PHASE_CLASSPATH, getProviderName(provider), null, start);
+			}
 		}
 	}
 
@@ -431,6 +707,19 @@ public class PropertiesManager {
 		return scope;
 	}
 
+	/**
+	 * Load the static properties (ex : the JSON files declared with the
+	 * 'staticPropertyProviders' extension point) once in an immutable metadata
+	 * which is shared by all projects.
+	 */
+	public void preloadStaticProperties() {
+		for (IPropertiesProvider provider : getPropertiesProviders()) {
+			if (provider instanceof AbstractStaticPropertiesProvider) {
+				((AbstractStaticPropertiesProvider) provider).loadMetadata();
+			}
+		}
+	}
+
 	List<IPropertiesProvider> getPropertiesProviders() {
 		List<IPropertiesProvider> allProviders = new ArrayList<IPropertiesProvider>();
 		allProviders.addAll(PropertiesProviderRegistry.getInstance().getProviders());
@@ -535,31 +824,43 @@ public class PropertiesManager {
 			if (type == null) {
 				return null;
 			}
-
-			if (sourceField != null) {
-				return type.getField(sourceField);
-			}
-			if (sourceMethod != null) {
-				int startBracketIndex = sourceMethod.indexOf('(');
-				String methodName = sourceMethod.substring(0, startBracketIndex);
-				// Method signature has been generated with JDT API, so we are sure that we have
-				// a ')' character.
-				int endBracketIndex = sourceMethod.indexOf(')');
-				String methodSignature = sourceMethod.substring(startBracketIndex, endBracketIndex + 1);
-				String[] paramTypes = methodSignature.isEmpty() ? CharOperation.NO_STRINGS
-						: Signature.getParameterTypes(methodSignature);
-
-				// try findMethod for non constructor. If result is null, findMethod for
-				// constructor
-				IMethod method = JavaModelUtil.findMethod(methodName, paramTypes, false, type);
-				return method != null ? method : JavaModelUtil.findMethod(methodName, paramTypes, true, type);
-			}
-			return type;
+			return findMember(type, sourceField, sourceMethod);
 		} finally {
 			mainMonitor.done();
 		}
 	}
 
+	/**
+	 * Returns the Java field, method or the type itself from the given type.
+	 *
+	 * @param type         the Java type.
+	 * @param sourceField  the source field and null otherwise.
+	 * @param sourceMethod the source method and null otherwise.
+	 * @return the Java field, method or the type itself from the given type.
+	 * @throws JavaModelException
+	 */
+	private static IMember findMember(IType type, String sourceField, String sourceMethod) throws JavaModelException {
+		if (sourceField != null) {
+			return type.getField(sourceField);
+		}
+		if (sourceMethod != null) {
+			int startBracketIndex = sourceMethod.indexOf('(');
+			String methodName = sourceMethod.substring(0, startBracketIndex);
+			// Method signature has been generated with JDT API, so we are sure that we have
+			// a ')' character.
+			int endBracketIndex = sourceMethod.indexOf(')');
+			String methodSignature = sourceMethod.substring(startBracketIndex, endBracketIndex + 1);
+			String[] paramTypes = methodSignature.isEmpty() ? CharOperation.NO_STRINGS
+					: Signature.getParameterTypes(methodSignature);
+
+			// try findMethod for non constructor. If result is null, findMethod for
+			// constructor
+			IMethod method = JavaModelUtil.findMethod(methodName, paramTypes, false, type);
+			return method != null ? method : JavaModelUtil.findMethod(methodName, paramTypes, true, type);
+		}
+		return type;
+	}
+
 	// ---------------------------------- Properties documentation
 
 	/**
@@ -592,6 +893,72 @@ public class PropertiesManager {
 		return utils.getJavadoc(member, params.getDocumentFormat());
 	}
 
+	/**
+	 * Returns the javadoc for the specified properties in the specified format.
+	 *
+	 * <p>
+	 * The properties are grouped by source type, so that each source type is
+	 * resolved (and its source is discovered) only once per request, and the
+	 * Javadoc of its members is read from the same opened source buffer.
+	 * </p>
+	 *
+	 * @param params   the parameters used to locate the javadoc of each property
+	 *                 and specify the format in which it should be returned
+	 * @param utils    the jdt utils
+	 * @param progress the progress monitor
+	 * @return the javadoc list for the specified properties, in the same order
+	 *         than the properties of the given parameters.
+	 * @throws CoreException      when finding the class members specified in the
+	 *                            params fails
+	 * @throws JavaModelException when reading the javadoc from the class members
+	 *                            specified in the params fails
+	 */
+	public List<String> collectPropertiesDocumentation(MicroProfilePropertiesDocumentationParams params,
+			IJDTUtils utils, IProgressMonitor progress) throws JavaModelException, CoreException {
+		IFile file = utils.findFile(params.getUri());
+		if (file == null) {
+			throw new UnsupportedOperationException(String.format("Cannot find IFile for '%s'", params.getUri()));
+		}
+		String projectName = file.getProject().getName();
+		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
+
+		List<MicroProfilePropertyDocumentationParams> properties = params.getProperties();
+		List<String> result = new ArrayList<>(properties.size());
+		Map<String, IType> types = new HashMap<>();
+		SubMonitor mainMonitor = SubMonitor.convert(progress, properties.size());
+		try {
+			for (MicroProfilePropertyDocumentationParams property : properties) {
+				if (mainMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				String documentation = null;
+				String sourceType = property.getSourceType();
+				if (sourceType != null) {
+					IType type = types.get(sourceType);
+					if (type == null && !types.containsKey(sourceType)) {
+						// Find the type and discover its source only once per batch
+						IMember member = findProperty(javaProject, sourceType, null, null, utils,
+								mainMonitor.split(1));
+						type = member instanceof IType ? (IType) member : null;
+						types.put(sourceType, type);
+					} else {
+						mainMonitor.worked(1);
+					}
+					if (type != null) {
+						IMember member = findMember(type, property.getSourceField(), property.getSourceMethod());
+						if (member != null && member.exists()) {
+							documentation = utils.getJavadoc(member, params.getDocumentFormat());
+						}
+					}
+				}
+				result.add(documentation);
+			}
+		} finally {
+			mainMonitor.done();
+		}
+		return result;
+	}
+
 	private static String getMonitorTitle(IJavaProject javaProject, String sourceType, String sourceField,
 			String sourceMethod) {
 		StringBuilder title = new StringBuilder("Finding declared property");
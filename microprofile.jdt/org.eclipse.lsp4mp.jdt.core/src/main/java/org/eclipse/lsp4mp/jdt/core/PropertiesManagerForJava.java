@@ -45,7 +45,6 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.CompletionItem;
@@ -77,6 +76,7 @@ import org.eclipse.lsp4mp.jdt.core.java.hover.JavaHoverContext;
 import org.eclipse.lsp4mp.jdt.core.utils.ASTNodeUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.CompilationUnitASTCache;
 import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codelens.JavaCodeLensDefinition;
@@ -139,7 +139,12 @@ public class PropertiesManagerForJava {
 	 */
 	public List<? extends CodeAction> codeAction(MicroProfileJavaCodeActionParams params, IJDTUtils utils,
 			IProgressMonitor monitor) throws JavaModelException {
-		return codeActionHandler.codeAction(params, utils, monitor);
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			return codeActionHandler.codeAction(params, utils, monitor);
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
+		}
 	}
 
 	/**
@@ -153,7 +158,12 @@ public class PropertiesManagerForJava {
 	 */
 	public CodeAction resolveCodeAction(CodeAction unresolved, IJDTUtils utils, IProgressMonitor monitor)
 			throws JavaModelException {
-		return codeActionHandler.resolveCodeAction(unresolved, utils, monitor);
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			return codeActionHandler.resolveCodeAction(unresolved, utils, monitor);
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
+		}
 	}
 
 	/**
@@ -182,24 +192,32 @@ public class PropertiesManagerForJava {
 
 	private void collectCodeLens(String uri, ITypeRoot typeRoot, IJDTUtils utils, MicroProfileJavaCodeLensParams params,
 			List<CodeLens> lenses, IProgressMonitor monitor) {
-		// Collect all adapted codeLens participant
-		JavaCodeLensContext context = new JavaCodeLensContext(uri, typeRoot, utils, params);
-		List<JavaCodeLensDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaCodeLensDefinitions()
-				.stream().filter(definition -> definition.isAdaptedForCodeLens(context, monitor))
-				.collect(Collectors.toList());
-		if (definitions.isEmpty()) {
-			return;
-		}
-
-		// Begin, collect, end participants
-		definitions.forEach(definition -> definition.beginCodeLens(context, monitor));
-		definitions.forEach(definition -> {
-			List<CodeLens> collectedLenses = definition.collectCodeLens(context, monitor);
-			if (collectedLenses != null && !collectedLenses.isEmpty()) {
-				lenses.addAll(collectedLenses);
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			// Collect all adapted codeLens participant
+			JavaCodeLensContext context = new JavaCodeLensContext(uri, typeRoot, utils, params);
+			List<JavaCodeLensDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaCodeLensDefinitions()
+					.stream().filter(definition -> definition.isAdaptedForCodeLens(context, monitor))
+					.collect(Collectors.toList());
+			if (definitions.isEmpty()) {
+				return;
 			}
-		});
-		definitions.forEach(definition -> definition.endCodeLens(context, monitor));
+
+			// Begin, collect, end participants
+			definitions.forEach(definition -> definition.beginCodeLens(context, monitor));
+			definitions.forEach(definition -> {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				List<CodeLens> collectedLenses = definition.collectCodeLens(context, monitor);
+				if (collectedLenses != null && !collectedLenses.isEmpty()) {
+					lenses.addAll(collectedLenses);
+				}
+			});
+			definitions.forEach(definition -> definition.endCodeLens(context, monitor));
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
+		}
 	}
 
 	/**
@@ -213,41 +231,49 @@ public class PropertiesManagerForJava {
 	 */
 	public CompletionList completion(MicroProfileJavaCompletionParams params, IJDTUtils utils, IProgressMonitor monitor)
 			throws JavaModelException {
-		String uri = params.getUri();
-		ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
-		if (typeRoot == null) {
-			return null;
-		}
-
-		Position completionPosition = params.getPosition();
-		int completionOffset = utils.toOffset(typeRoot.getBuffer(), completionPosition.getLine(),
-				completionPosition.getCharacter());
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			String uri = params.getUri();
+			ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
+			if (typeRoot == null) {
+				return null;
+			}
 
-		List<CompletionItem> completionItems = new ArrayList<>();
-		JavaCompletionContext completionContext = new JavaCompletionContext(uri, typeRoot, utils, completionOffset);
+			Position completionPosition = params.getPosition();
+			int completionOffset = utils.toOffset(typeRoot.getBuffer(), completionPosition.getLine(),
+					completionPosition.getCharacter());
 
-		List<JavaCompletionDefinition> completions = JavaFeaturesRegistry.getInstance().getJavaCompletionDefinitions()
-				.stream().filter(completion -> completion.isAdaptedForCompletion(completionContext, monitor))
-				.collect(Collectors.toList());
+			List<CompletionItem> completionItems = new ArrayList<>();
+			JavaCompletionContext completionContext = new JavaCompletionContext(uri, typeRoot, utils, completionOffset);
 
-		if (completions.isEmpty()) {
-			return null;
-		}
+			List<JavaCompletionDefinition> completions = JavaFeaturesRegistry.getInstance().getJavaCompletionDefinitions()
+					.stream().filter(completion -> completion.isAdaptedForCompletion(completionContext, monitor))
+					.collect(Collectors.toList());
 
-		completions.forEach(completion -> {
-			List<? extends CompletionItem> collectedCompletionItems = completion
-					.collectCompletionItems(completionContext, monitor);
-			if (collectedCompletionItems != null) {
-				completionItems.addAll(collectedCompletionItems);
+			if (completions.isEmpty()) {
+				return null;
 			}
-		});
 
-		if (monitor.isCanceled()) {
-			return null;
+			completions.forEach(completion -> {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				List<? extends CompletionItem> collectedCompletionItems = completion
+						.collectCompletionItems(completionContext, monitor);
+				if (collectedCompletionItems != null) {
+					completionItems.addAll(collectedCompletionItems);
+				}
+			});
+
+			if (monitor.isCanceled()) {
+				return null;
+			}
+			CompletionList completionList = new CompletionList();
+			completionList.setItems(completionItems);
+			return completionList;
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
 		}
-		CompletionList completionList = new CompletionList();
-		completionList.setItems(completionItems);
-		return completionList;
 	}
 
 	/**
@@ -282,25 +308,33 @@ public class PropertiesManagerForJava {
 
 	private void collectDefinition(String uri, ITypeRoot typeRoot, IJavaElement hyperlinkedElement, IJDTUtils utils,
 			Position hyperlinkedPosition, List<MicroProfileDefinition> locations, IProgressMonitor monitor) {
-		// Collect all adapted definition participant
-		JavaDefinitionContext context = new JavaDefinitionContext(uri, typeRoot, utils, hyperlinkedElement,
-				hyperlinkedPosition);
-		List<JavaDefinitionDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaDefinitionDefinitions()
-				.stream().filter(definition -> definition.isAdaptedForDefinition(context, monitor))
-				.collect(Collectors.toList());
-		if (definitions.isEmpty()) {
-			return;
-		}
-
-		// Begin, collect, end participants
-		definitions.forEach(definition -> definition.beginDefinition(context, monitor));
-		definitions.forEach(definition -> {
-			List<MicroProfileDefinition> collectedDefinitions = definition.collectDefinitions(context, monitor);
-			if (collectedDefinitions != null && !collectedDefinitions.isEmpty()) {
-				locations.addAll(collectedDefinitions);
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			// Collect all adapted definition participant
+			JavaDefinitionContext context = new JavaDefinitionContext(uri, typeRoot, utils, hyperlinkedElement,
+					hyperlinkedPosition);
+			List<JavaDefinitionDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaDefinitionDefinitions()
+					.stream().filter(definition -> definition.isAdaptedForDefinition(context, monitor))
+					.collect(Collectors.toList());
+			if (definitions.isEmpty()) {
+				return;
 			}
-		});
-		definitions.forEach(definition -> definition.endDefinition(context, monitor));
+
+			// Begin, collect, end participants
+			definitions.forEach(definition -> definition.beginDefinition(context, monitor));
+			definitions.forEach(definition -> {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				List<MicroProfileDefinition> collectedDefinitions = definition.collectDefinitions(context, monitor);
+				if (collectedDefinitions != null && !collectedDefinitions.isEmpty()) {
+					locations.addAll(collectedDefinitions);
+				}
+			});
+			definitions.forEach(definition -> definition.endDefinition(context, monitor));
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
+		}
 	}
 
 	/**
@@ -320,6 +354,9 @@ public class PropertiesManagerForJava {
 		DocumentFormat documentFormat = params.getDocumentFormat();
 		List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
 		for (String uri : uris) {
+			if (monitor.isCanceled()) {
+				break;
+			}
 			List<Diagnostic> diagnostics = new ArrayList<>();
 			PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
 			publishDiagnostics.add(publishDiagnostic);
@@ -333,29 +370,37 @@ public class PropertiesManagerForJava {
 
 	private void collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
 			MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, IProgressMonitor monitor) {
-		ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
-		if (typeRoot == null) {
-			return;
-		}
-
-		// Collect all adapted diagnostics participant
-		JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, documentFormat, settings);
-		List<JavaDiagnosticsDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions()
-				.stream().filter(definition -> definition.isAdaptedForDiagnostics(context, monitor))
-				.collect(Collectors.toList());
-		if (definitions.isEmpty()) {
-			return;
-		}
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
+			if (typeRoot == null) {
+				return;
+			}
 
-		// Begin, collect, end participants
-		definitions.forEach(definition -> definition.beginDiagnostics(context, monitor));
-		definitions.forEach(definition -> {
-			List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context, monitor);
-			if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
-				diagnostics.addAll(collectedDiagnostics);
+			// Collect all adapted diagnostics participant
+			JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, documentFormat, settings);
+			List<JavaDiagnosticsDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions()
+					.stream().filter(definition -> definition.isAdaptedForDiagnostics(context, monitor))
+					.collect(Collectors.toList());
+			if (definitions.isEmpty()) {
+				return;
 			}
-		});
-		definitions.forEach(definition -> definition.endDiagnostics(context, monitor));
+
+			// Begin, collect, end participants
+			definitions.forEach(definition -> definition.beginDiagnostics(context, monitor));
+			definitions.forEach(definition -> {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context, monitor);
+				if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
+					diagnostics.addAll(collectedDiagnostics);
+				}
+			});
+			definitions.forEach(definition -> definition.endDiagnostics(context, monitor));
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
+		}
 	}
 
 	/**
@@ -407,18 +452,23 @@ public class PropertiesManagerForJava {
 	 */
 	public JavaCursorContextResult javaCursorContext(MicroProfileJavaCompletionParams params, IJDTUtils utils,
 			IProgressMonitor monitor) throws JavaModelException {
-		String uri = params.getUri();
-		ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			String uri = params.getUri();
+			ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
 
-		if (typeRoot == null) {
-			return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
-		}
-		CompilationUnit ast = ASTResolving.createQuickFixAST((ICompilationUnit) typeRoot, monitor);
+			if (typeRoot == null) {
+				return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
+			}
+			CompilationUnit ast = CompilationUnitASTCache.getInstance().getAST((ICompilationUnit) typeRoot, monitor);
 
-		JavaCursorContextKind kind = getJavaCursorContextKind(params, typeRoot, ast, utils, monitor);
-		String prefix = getJavaCursorPrefix(params, typeRoot, ast, utils, monitor);
+			JavaCursorContextKind kind = getJavaCursorContextKind(params, typeRoot, ast, utils, monitor);
+			String prefix = getJavaCursorPrefix(params, typeRoot, ast, utils, monitor);
 
-		return new JavaCursorContextResult(kind, prefix);
+			return new JavaCursorContextResult(kind, prefix);
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
+		}
 	}
 
 	private static JavaCursorContextKind getJavaCursorContextKind(MicroProfileJavaCompletionParams params,
@@ -571,24 +621,32 @@ public class PropertiesManagerForJava {
 	private void collectHover(String uri, ITypeRoot typeRoot, IJavaElement hoverElement, IJDTUtils utils,
 			Position hoverPosition, DocumentFormat documentFormat, boolean surroundEqualsWithSpaces, List<Hover> hovers,
 			IProgressMonitor monitor) {
-		// Collect all adapted hover participant
-		JavaHoverContext context = new JavaHoverContext(uri, typeRoot, utils, hoverElement, hoverPosition,
-				documentFormat, surroundEqualsWithSpaces);
-		List<JavaHoverDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaHoverDefinitions().stream()
-				.filter(definition -> definition.isAdaptedForHover(context, monitor)).collect(Collectors.toList());
-		if (definitions.isEmpty()) {
-			return;
-		}
-
-		// Begin, collect, end participants
-		definitions.forEach(definition -> definition.beginHover(context, monitor));
-		definitions.forEach(definition -> {
-			Hover hover = definition.collectHover(context, monitor);
-			if (hover != null) {
-				hovers.add(hover);
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			// Collect all adapted hover participant
+			JavaHoverContext context = new JavaHoverContext(uri, typeRoot, utils, hoverElement, hoverPosition,
+					documentFormat, surroundEqualsWithSpaces);
+			List<JavaHoverDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaHoverDefinitions().stream()
+					.filter(definition -> definition.isAdaptedForHover(context, monitor)).collect(Collectors.toList());
+			if (definitions.isEmpty()) {
+				return;
 			}
-		});
-		definitions.forEach(definition -> definition.endHover(context, monitor));
+
+			// Begin, collect, end participants
+			definitions.forEach(definition -> definition.beginHover(context, monitor));
+			definitions.forEach(definition -> {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				Hover hover = definition.collectHover(context, monitor);
+				if (hover != null) {
+					hovers.add(hover);
+				}
+			});
+			definitions.forEach(definition -> definition.endHover(context, monitor));
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
+		}
 	}
 
 	/**
@@ -613,15 +671,20 @@ public class PropertiesManagerForJava {
 
 	private void collectWorkspaceSymbols(IJavaProject project, IJDTUtils utils, List<SymbolInformation> symbols,
 			IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		List<JavaWorkspaceSymbolsDefinition> definitions = JavaFeaturesRegistry.getInstance()
-				.getJavaWorkspaceSymbolsDefinitions();
-		if (definitions.isEmpty()) {
-			return;
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			List<JavaWorkspaceSymbolsDefinition> definitions = JavaFeaturesRegistry.getInstance()
+					.getJavaWorkspaceSymbolsDefinitions();
+			if (definitions.isEmpty()) {
+				return;
+			}
+			definitions.forEach(definition -> definition.collectSymbols(project, utils, symbols, monitor));
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
 		}
-		definitions.forEach(definition -> definition.collectSymbols(project, utils, symbols, monitor));
 	}
 
 	/**
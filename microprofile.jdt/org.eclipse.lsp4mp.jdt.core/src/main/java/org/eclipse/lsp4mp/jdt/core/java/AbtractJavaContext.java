@@ -20,8 +20,8 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.CompilationUnitASTCache;
 
 /**
  * Abstract class for Java context for a given compilation unit.
@@ -93,9 +93,17 @@ public abstract class AbtractJavaContext {
 		return cache.get(key);
 	}
 	
+	/**
+	 * Returns the binding-resolved AST of the compilation unit. During the
+	 * requests of {@link org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava},
+	 * the AST is shared with the other contexts of the same unchanged compilation
+	 * unit.
+	 *
+	 * @return the binding-resolved AST of the compilation unit.
+	 */
 	public CompilationUnit getASTRoot() {
 		if (fASTRoot == null) {
-			fASTRoot = ASTResolving.createQuickFixAST((ICompilationUnit) getTypeRoot(), null);
+			fASTRoot = CompilationUnitASTCache.getInstance().getAST((ICompilationUnit) getTypeRoot(), null);
 		}
 		return fASTRoot;
 	}
@@ -18,9 +18,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -37,6 +35,13 @@ import org.eclipse.jdt.internal.core.JavaProject;
 /**
  * Abstract class for config file.
  *
+ * <p>
+ * The config file is resolved and loaded once: the lookups never access the
+ * file system or the classpath. The config source is invalidated by
+ * {@link JDTMicroProfileProject#evictConfigSourcesCache()} when a config file
+ * is added, changed or deleted or when the classpath of the project changes.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  * @param <T> the config model (ex: Properties for *.properties file)
@@ -56,7 +61,8 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 	private final IJavaProject javaProject;
 	private Path outputConfigFile;
 	private Path sourceConfigFile;
-	private FileTime lastModified;
+	private volatile boolean configFileResolved;
+	private volatile boolean loaded;
 	private T config;
 
 	private Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations;
@@ -78,12 +84,10 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 		this.profile = profile;
 		this.ordinal = ordinal;
 		this.javaProject = javaProject;
-		// load config file to udpate some fields like lastModified, config instance
+		// load config file to update some fields like config instance
 		// which must be updated when the config source is created. It's important that
 		// those fields are initialized here (and not in lazy mode) to prevent from
-		// multi
-		// thread
-		// context.
+		// multi thread context.
 		init();
 	}
 
@@ -105,11 +109,12 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 	 * @return the target/classes/$configFile and null otherwise.
 	 */
 	private Path getOutputConfigFile() {
-		if (outputConfigFile != null && Files.exists(outputConfigFile)) {
+		if (configFileResolved) {
 			return outputConfigFile;
 		}
 		sourceConfigFile = null;
 		outputConfigFile = null;
+		configFileResolved = true;
 		if (javaProject.getProject() != null && javaProject.getProject().isAccessible()) {
 			try {
 				List<IClasspathEntry> sourceEntries = Stream.of(((JavaProject) javaProject).getResolvedClasspath(true)) //
@@ -180,26 +185,27 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 	 * @return the loaded config and null otherwise
 	 */
 	protected final T getConfig() {
-		Path configFile = getOutputConfigFile();
-		if (configFile == null) {
-			reset();
-			return null;
+		if (loaded) {
+			return config;
 		}
-		try {
-			FileTime currentLastModified = Files.getLastModifiedTime(configFile);
-			if (!currentLastModified.equals(lastModified)) {
+		return loadConfig();
+	}
+
+	private synchronized T loadConfig() {
+		if (loaded) {
+			return config;
+		}
+		reset();
+		Path configFile = getOutputConfigFile();
+		if (configFile != null) {
+			try (InputStream input = new FileInputStream(configFile.toFile())) {
+				config = loadConfig(input);
+			} catch (IOException e) {
 				reset();
-				try (InputStream input = new FileInputStream(configFile.toFile())) {
-					config = loadConfig(input);
-					lastModified = Files.getLastModifiedTime(configFile);
-				} catch (IOException e) {
-					reset();
-					LOGGER.log(Level.SEVERE, "Error while loading properties from '" + configFile + "'.", e);
-				}
+				LOGGER.log(Level.SEVERE, "Error while loading properties from '" + configFile + "'.", e);
 			}
-		} catch (IOException e1) {
-			LOGGER.log(Level.SEVERE, "Error while getting last modified time for '" + configFile + "'.", e1);
 		}
+		loaded = true;
 		return config;
 	}
 
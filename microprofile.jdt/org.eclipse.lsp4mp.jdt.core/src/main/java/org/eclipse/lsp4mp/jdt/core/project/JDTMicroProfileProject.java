@@ -16,10 +16,8 @@ package org.eclipse.lsp4mp.jdt.core.project;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,11 +27,11 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.jdt.internal.core.ConfigSourceProviderRegistry;
-import org.eclipse.lsp4mp.jdt.internal.core.project.ConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.jdt.internal.core.project.MergedConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsApplicationPathCache;
 
 /**
  * JDT MicroProfile project wraps a Java project {@link IJavaProject} to store
@@ -52,8 +50,8 @@ public class JDTMicroProfileProject {
 
 	private List<IConfigSource> configSources;
 
-	private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
-	private transient PropertyValueExpander propertyValueExpander = null;
+	private transient volatile MergedConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
+	private transient volatile PropertyValueExpander propertyValueExpander = null;
 
 	public JDTMicroProfileProject(IJavaProject javaProject) {
 		this.javaProject = javaProject;
@@ -74,11 +72,7 @@ public class JDTMicroProfileProject {
 	 *         defined in this project
 	 */
 	public String getProperty(String propertyKey, String defaultValue) {
-
-		if (aggregatedPropertiesProvider == null) {
-			aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
-		}
-
+		IConfigSourcePropertiesProvider aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
 		String unresolved = aggregatedPropertiesProvider.getValue(propertyKey);
 		if (unresolved == null) {
 			return defaultValue;
@@ -165,27 +159,10 @@ public class JDTMicroProfileProject {
 	 *         defined in this project.
 	 */
 	public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-		// Use a map to override property values
-		// eg. if application.yaml defines a value for a property it should override the
-		// value defined in application.properties
-		Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
-		// Go backwards so that application.properties replaces
-		// microprofile-config.properties, etc.
-		List<IConfigSource> configSources = getConfigSources();
-		for (int i = configSources.size() - 1; i >= 0; i--) {
-			IConfigSource configSource = configSources.get(i);
-			List<MicroProfileConfigPropertyInformation> propertyInformations = configSource
-					.getPropertyInformations(propertyKey);
-			if (propertyInformations != null) {
-				for (MicroProfileConfigPropertyInformation propertyInformation : propertyInformations) {
-					propertyToInfoMap.put(propertyInformation.getPropertyNameWithProfile(), propertyInformation);
-				}
-			}
-		}
-		return propertyToInfoMap.values().stream() //
-				.sorted((a, b) -> {
-					return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
-				}) //
+		// The informations are merged by ordinal (eg. if application.yaml defines a
+		// value for a property it overrides the value defined in
+		// application.properties) and sorted when the config sources are loaded.
+		return getAggregatedPropertiesProvider().getPropertyInformations(propertyKey).stream() //
 				.map(info -> {
 					String resolved = this.getProperty(info.getPropertyNameWithProfile());
 					return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
@@ -207,12 +184,13 @@ public class JDTMicroProfileProject {
 
 	/**
 	 * Evict the config sources cache and related cached information as soon as one
-	 * of properties, yaml file is saved.
+	 * of properties, yaml file is saved or the classpath changes.
 	 */
 	public void evictConfigSourcesCache() {
 		configSources = null;
 		propertyValueExpander = null;
 		aggregatedPropertiesProvider = null;
+		JaxRsApplicationPathCache.getInstance().evict(javaProject);
 	}
 
 	/**
@@ -264,43 +242,20 @@ public class JDTMicroProfileProject {
 	 *         false otherwise
 	 */
 	public boolean hasProperty(String property) {
-		List<IConfigSource> configSources = getConfigSources();
-		for (IConfigSource configSource : configSources) {
-			if (configSource.getPropertyInformations(property) != null) {
-				return true;
-			}
-		}
-		return false;
+		return getAggregatedPropertiesProvider().hasProperty(property);
 	}
 
-	private IConfigSourcePropertiesProvider getAggregatedPropertiesProvider() {
-		List<IConfigSource> configSources = getConfigSources();
-		if (configSources.size() == 0) {
-			// Return an empty IConfigSourcePropertiesProvider
-			return new IConfigSourcePropertiesProvider() {
-
-				@Override
-				public Set<String> keys() {
-					return Collections.emptySet();
-				}
-
-				@Override
-				public boolean hasKey(String key) {
-					return false;
-				}
-
-				@Override
-				public String getValue(String key) {
-					return null;
-				}
-
-			};
-		}
-		IConfigSourcePropertiesProvider provider = new ConfigSourcePropertiesProvider(
-				configSources.get(configSources.size() - 1));
-		for (int i = configSources.size() - 2; i >= 0; i--) {
-			provider = ConfigSourcePropertiesProviderUtils
-					.layer(new ConfigSourcePropertiesProvider(configSources.get(i)), provider);
+	/**
+	 * Returns the snapshot of the config sources merged by ordinal, which is
+	 * created again after {@link #evictConfigSourcesCache()}.
+	 *
+	 * @return the snapshot of the config sources merged by ordinal.
+	 */
+	private MergedConfigSourcePropertiesProvider getAggregatedPropertiesProvider() {
+		MergedConfigSourcePropertiesProvider provider = aggregatedPropertiesProvider;
+		if (provider == null) {
+			provider = MergedConfigSourcePropertiesProvider.create(getConfigSources());
+			aggregatedPropertiesProvider = provider;
 		}
 		return provider;
 	}
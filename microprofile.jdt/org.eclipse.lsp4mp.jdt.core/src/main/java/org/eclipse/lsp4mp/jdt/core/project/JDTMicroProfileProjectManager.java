@@ -27,6 +27,10 @@ import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
@@ -52,7 +56,32 @@ public class JDTMicroProfileProjectManager {
 	private final Map<IJavaProject, JDTMicroProfileProject> projects;
 	private MicroProfileProjectListener microprofileProjectListener;
 
-	private class MicroProfileProjectListener implements IResourceChangeListener, IResourceDeltaVisitor {
+	private class MicroProfileProjectListener
+			implements IResourceChangeListener, IResourceDeltaVisitor, IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+				IJavaElement element = delta.getElement();
+				if (element.getElementType() == IJavaElement.JAVA_PROJECT && isClasspathChanged(delta.getFlags())) {
+					// the output folders can change, evict the config sources which are
+					// resolved only once.
+					try {
+						JDTMicroProfileProject mpProject = getJDTMicroProfileProject((IJavaProject) element, false);
+						if (mpProject != null) {
+							mpProject.evictConfigSourcesCache();
+						}
+					} catch (JavaModelException e) {
+						LOGGER.log(Level.SEVERE, "Error while getting MicroProfile project", e);
+					}
+				}
+			}
+		}
+
+		private boolean isClasspathChanged(int flags) {
+			return 0 != (flags
+					& (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED));
+		}
 
 		@Override
 		public void resourceChanged(IResourceChangeEvent event) {
@@ -196,9 +225,11 @@ public class JDTMicroProfileProjectManager {
 		}
 		microprofileProjectListener = new MicroProfileProjectListener();
 		ResourcesPlugin.getWorkspace().addResourceChangeListener(microprofileProjectListener);
+		JavaCore.addElementChangedListener(microprofileProjectListener, ElementChangedEvent.POST_CHANGE);
 	}
 
 	public void destroy() {
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(microprofileProjectListener);
+		JavaCore.removeElementChangedListener(microprofileProjectListener);
 	}
 }
@@ -58,6 +58,11 @@ public class MicroProfileConfigPropertyProvider extends AbstractAnnotationTypeRe
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public boolean isIncrementalSearchSupported() {
+		return true;
+	}
+
 	@Override
 	protected void processAnnotation(IJavaElement javaElement, IAnnotation configPropertyAnnotation,
 			String annotationName, SearchContext context, IProgressMonitor monitor) throws JavaModelException {
@@ -0,0 +1,109 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector;
+
+/**
+ * Properties collector which records the properties and hints contributed by
+ * each compilation unit.
+ *
+ * <p>
+ * The properties and hints are collected in the collector of the current
+ * compilation unit (see {@link #setCompilationUnit(String)}), or in the project
+ * collector when there is no current compilation unit (ex : static properties
+ * merged at the end of the search).
+ * </p>
+ *
+ */
+public class CompilationUnitPropertiesCollector implements IPropertiesCollector {
+
+	private final IPropertiesCollector projectCollector;
+
+	private final List<MicroProfilePropertiesScope> scopes;
+
+	private final Map<String /* compilation unit handle */, ConfigurationMetadata> contributions;
+
+	private final Map<String /* compilation unit handle */, PropertiesCollector> collectors;
+
+	private IPropertiesCollector current;
+
+	public CompilationUnitPropertiesCollector(IPropertiesCollector projectCollector,
+			List<MicroProfilePropertiesScope> scopes) {
+		this.projectCollector = projectCollector;
+		this.scopes = scopes;
+		this.contributions = new LinkedHashMap<>();
+		this.collectors = new HashMap<>();
+		this.current = projectCollector;
+	}
+
+	/**
+	 * Set the compilation unit which contributes the next collected properties.
+	 *
+	 * @param unitHandle the handle identifier of the compilation unit, or null to
+	 *                   collect the next properties in the project collector.
+	 */
+	public void setCompilationUnit(String unitHandle) {
+		if (unitHandle == null) {
+			current = projectCollector;
+			return;
+		}
+		current = collectors.computeIfAbsent(unitHandle, handle -> {
+			ConfigurationMetadata metadata = new ConfigurationMetadata();
+			contributions.put(handle, metadata);
+			return new PropertiesCollector(metadata, scopes);
+		});
+	}
+
+	/**
+	 * Returns the properties and hints collected per compilation unit handle.
+	 *
+	 * @return the properties and hints collected per compilation unit handle.
+	 */
+	public Map<String, ConfigurationMetadata> getContributions() {
+		return contributions;
+	}
+
+	@Override
+	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
+			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
+			int phase) {
+		return current.addItemMetadata(name, type, description, sourceType, sourceField, sourceMethod, defaultValue,
+				extensionName, binary, phase);
+	}
+
+	@Override
+	public boolean hasItemHint(String hint) {
+		return current.hasItemHint(hint);
+	}
+
+	@Override
+	public ItemHint getItemHint(String hint) {
+		return current.getItemHint(hint);
+	}
+
+	@Override
+	public void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
+		current.merge(metadata, mergingStrategy);
+	}
+}
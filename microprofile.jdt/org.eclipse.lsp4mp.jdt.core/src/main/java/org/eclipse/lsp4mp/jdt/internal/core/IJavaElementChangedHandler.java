@@ -0,0 +1,65 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+
+/**
+ * Handler of the Java element changes dispatched by
+ * {@link JavaElementChangedDispatcher}.
+ *
+ */
+public interface IJavaElementChangedHandler {
+
+	/**
+	 * Returns true if the handler must be notified of the changes and false
+	 * otherwise (ex : nothing is cached).
+	 *
+	 * @return true if the handler must be notified of the changes and false
+	 *         otherwise.
+	 */
+	default boolean isActive() {
+		return true;
+	}
+
+	/**
+	 * The given Java project has been added, removed, opened, closed or its
+	 * classpath has changed.
+	 *
+	 * @param javaProject the Java project.
+	 */
+	default void classpathChanged(IJavaProject javaProject) {
+	}
+
+	/**
+	 * A package fragment root or a package fragment of the given Java project has
+	 * been added or removed, or the content of an archive has changed.
+	 *
+	 * @param javaProject the Java project.
+	 */
+	default void packageFragmentsChanged(IJavaProject javaProject) {
+	}
+
+	/**
+	 * The given compilation unit has been added, removed or its content has
+	 * changed.
+	 *
+	 * @param unit  the compilation unit.
+	 * @param delta the compilation unit delta.
+	 */
+	default void compilationUnitChanged(ICompilationUnit unit, IJavaElementDelta delta) {
+	}
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Single Java element changed listener which walks the Java element deltas
+ * (saved files and reconciled working copies) once and dispatches the changes
+ * to the registered {@link IJavaElementChangedHandler}.
+ *
+ * <p>
+ * A reconciled working copy is dispatched only when its content has changed.
+ * The listener is registered to JDT while at least one handler is registered.
+ * </p>
+ *
+ */
+public class JavaElementChangedDispatcher {
+
+	private static final JavaElementChangedDispatcher INSTANCE = new JavaElementChangedDispatcher();
+
+	public static JavaElementChangedDispatcher getInstance() {
+		return INSTANCE;
+	}
+
+	private static final int CLASSPATH_CHANGED_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED;
+
+	private static final int PACKAGE_FRAGMENTS_CHANGED_FLAGS = IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED;
+
+	private static final int CONTENT_CHANGED_FLAGS = IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN;
+
+	private class JavaElementChangedListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			List<IJavaElementChangedHandler> activeHandlers = new ArrayList<>(handlers.size());
+			for (IJavaElementChangedHandler handler : handlers) {
+				if (handler.isActive()) {
+					activeHandlers.add(handler);
+				}
+			}
+			if (activeHandlers.isEmpty()) {
+				return;
+			}
+			processDelta(event.getDelta(), activeHandlers);
+		}
+
+		private void processDelta(IJavaElementDelta delta, List<IJavaElementChangedHandler> activeHandlers) {
+			IJavaElement element = delta.getElement();
+			switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				processDeltaChildren(delta, activeHandlers);
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (isCreatedOrDeleted(delta) || (delta.getFlags() & CLASSPATH_CHANGED_FLAGS) != 0) {
+					IJavaProject javaProject = (IJavaProject) element;
+					activeHandlers.forEach(handler -> handler.classpathChanged(javaProject));
+				} else {
+					processDeltaChildren(delta, activeHandlers);
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (isCreatedOrDeleted(delta) || (delta.getFlags() & PACKAGE_FRAGMENTS_CHANGED_FLAGS) != 0) {
+					IJavaProject javaProject = element.getJavaProject();
+					activeHandlers.forEach(handler -> handler.packageFragmentsChanged(javaProject));
+				} else {
+					processDeltaChildren(delta, activeHandlers);
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				// a reconcile without change only reports that an AST has been created
+				if (isCreatedOrDeleted(delta) || (delta.getFlags() & CONTENT_CHANGED_FLAGS) != 0) {
+					ICompilationUnit unit = (ICompilationUnit) element;
+					activeHandlers.forEach(handler -> handler.compilationUnitChanged(unit, delta));
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		private void processDeltaChildren(IJavaElementDelta delta, List<IJavaElementChangedHandler> activeHandlers) {
+			for (IJavaElementDelta c : delta.getAffectedChildren()) {
+				processDelta(c, activeHandlers);
+			}
+		}
+
+		private boolean isCreatedOrDeleted(IJavaElementDelta delta) {
+			int kind = delta.getKind();
+			return kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED;
+		}
+	}
+
+	private final List<IJavaElementChangedHandler> handlers;
+
+	private JavaElementChangedListener listener;
+
+	private JavaElementChangedDispatcher() {
+		handlers = new CopyOnWriteArrayList<>();
+	}
+
+	/**
+	 * Add the given Java element changed handler.
+	 *
+	 * @param handler the handler to add.
+	 */
+	public synchronized void addHandler(IJavaElementChangedHandler handler) {
+		if (handlers.contains(handler)) {
+			return;
+		}
+		handlers.add(handler);
+		if (listener == null) {
+			listener = new JavaElementChangedListener();
+			JavaCore.addElementChangedListener(listener,
+					ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	/**
+	 * Remove the given Java element changed handler.
+	 *
+	 * @param handler the handler to remove.
+	 */
+	public synchronized void removeHandler(IJavaElementChangedHandler handler) {
+		handlers.remove(handler);
+		if (handlers.isEmpty() && listener != null) {
+			JavaCore.removeElementChangedListener(listener);
+			listener = null;
+		}
+	}
+}
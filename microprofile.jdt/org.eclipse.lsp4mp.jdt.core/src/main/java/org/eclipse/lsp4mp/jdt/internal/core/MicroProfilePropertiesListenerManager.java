@@ -13,9 +13,17 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -27,12 +35,7 @@ import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.core.ElementChangedEvent;
-import org.eclipse.jdt.core.IElementChangedListener;
-import org.eclipse.jdt.core.IJavaElement;
-import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
@@ -50,6 +53,13 @@ import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
  * In this case it executes the "microprofile/propertiesChanged" command on
  * client side with array of project URIs which have classpath/sources changed.
  *
+ * <p>
+ * The changes are coalesced: a notification is sent
+ * {@link #COALESCE_DELAY_MS} after the last change of a burst (and at most
+ * {@link #MAX_COALESCE_DELAY_MS} after the first change of the burst), with one
+ * entry per project and the union of the changed scopes of the project.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  */
@@ -63,63 +73,27 @@ public class MicroProfilePropertiesListenerManager {
 		return INSTANCE;
 	}
 
+	public static final long COALESCE_DELAY_MS = 200;
+
+	public static final long MAX_COALESCE_DELAY_MS = 1000;
+
 	private class MicroProfileListener
-			implements IElementChangedListener, IResourceChangeListener, IResourceDeltaVisitor {
+			implements IJavaElementChangedHandler, IResourceChangeListener, IResourceDeltaVisitor {
 
 		private static final String JAVA_FILE_EXTENSION = "java";
 
 		@Override
-		public void elementChanged(ElementChangedEvent event) {
-			if (listeners.isEmpty()) {
-				return;
-			}
-			// Collect project names which have classpath changed.
-			MicroProfilePropertiesChangeEvent mpEvent = processDelta(event.getDelta(), null);
-			if (mpEvent != null) {
-				fireAsyncEvent(mpEvent);
-			}
-		}
-
-		private MicroProfilePropertiesChangeEvent processDeltaChildren(IJavaElementDelta delta,
-				MicroProfilePropertiesChangeEvent event) {
-			for (IJavaElementDelta c : delta.getAffectedChildren()) {
-				event = processDelta(c, event);
-			}
-			return event;
+		public boolean isActive() {
+			return !listeners.isEmpty();
 		}
 
-		private MicroProfilePropertiesChangeEvent processDelta(IJavaElementDelta delta,
-				MicroProfilePropertiesChangeEvent event) {
-			IJavaElement element = delta.getElement();
-			switch (element.getElementType()) {
-			case IJavaElement.JAVA_MODEL:
-				event = processDeltaChildren(delta, event);
-				break;
-			case IJavaElement.JAVA_PROJECT:
-				if (isCreatedOrDeleted(delta) || isClasspathChanged(delta.getFlags())) {
-					if (event == null) {
-						event = new MicroProfilePropertiesChangeEvent();
-						event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
-						event.setProjectURIs(new HashSet<String>());
-					}
-					IJavaProject project = (IJavaProject) element;
-					event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(project));
-				}
-				break;
-			default:
-				break;
-			}
-			return event;
-		}
-
-		private boolean isCreatedOrDeleted(IJavaElementDelta delta) {
-			int kind = delta.getKind();
-			return kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED;
-		}
-
-		private boolean isClasspathChanged(int flags) {
-			return 0 != (flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
-					| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED));
+		@Override
+		public void classpathChanged(IJavaProject javaProject) {
+			MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+			event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+			event.setProjectURIs(new HashSet<String>());
+			event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(javaProject));
+			fireEvent(event);
 		}
 
 		@Override
@@ -159,37 +133,18 @@ public class MicroProfilePropertiesListenerManager {
 					event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
 					event.setProjectURIs(new HashSet<String>());
 					event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(file.getProject()));
-					fireAsyncEvent(event);
+					fireEvent(event);
 				} else if (isConfigSource(file) && isFileContentChanged(delta)) {
 					MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
 					event.setType(MicroProfilePropertiesScope.ONLY_CONFIG_FILES);
 					event.setProjectURIs(new HashSet<String>());
 					event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(file.getProject()));
-					fireAsyncEvent(event);
+					fireEvent(event);
 				}
 			}
 			return false;
 		}
 
-		private void fireAsyncEvent(MicroProfilePropertiesChangeEvent event) {
-			// IMPORTANT: The LSP notification 'microprofile/propertiesChanged' must be
-			// executed
-			// in background otherwise it breaks everything (JDT LS for Java completion,
-			// hover, etc are broken)
-			CompletableFuture.runAsync(() -> {
-				for (IMicroProfilePropertiesChangedListener listener : listeners) {
-					try {
-						listener.propertiesChanged(event);
-					} catch (Exception e) {
-						if (LOGGER.isLoggable(Level.SEVERE)) {
-							LOGGER.log(Level.SEVERE,
-									"Error while sending LSP 'microprofile/propertiesChanged' notification", e);
-						}
-					}
-				}
-			});
-		}
-
 		private boolean isJavaFile(IFile file) {
 			return JAVA_FILE_EXTENSION.equals(file.getFileExtension());
 		}
@@ -208,8 +163,86 @@ public class MicroProfilePropertiesListenerManager {
 
 	private final Set<IMicroProfilePropertiesChangedListener> listeners;
 
+	// project URI -> changed scopes, waiting for the end of the burst
+	private final Map<String, Set<MicroProfilePropertiesScope>> pendingChanges;
+
+	private ScheduledExecutorService executorService;
+
+	private ScheduledFuture<?> pendingFlush;
+
+	private long firstPendingChangeTime;
+
 	private MicroProfilePropertiesListenerManager() {
 		listeners = new HashSet<>();
+		pendingChanges = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Add the given change to the pending changes and (re)schedule the
+	 * notification of the pending changes.
+	 *
+	 * @param event the MicroProfile properties change event.
+	 */
+	private synchronized void fireEvent(MicroProfilePropertiesChangeEvent event) {
+		for (String projectURI : event.getProjectURIs()) {
+			pendingChanges.computeIfAbsent(projectURI, k -> EnumSet.noneOf(MicroProfilePropertiesScope.class))
+					.addAll(event.getType());
+		}
+		long now = System.currentTimeMillis();
+		if (pendingFlush == null) {
+			firstPendingChangeTime = now;
+		} else {
+			pendingFlush.cancel(false);
+		}
+		long delay = Math.min(COALESCE_DELAY_MS, Math.max(0, firstPendingChangeTime + MAX_COALESCE_DELAY_MS - now));
+		if (executorService == null) {
+			executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "MicroProfile properties changed notifier");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		// IMPORTANT: The LSP notification 'microprofile/propertiesChanged' must be
+		// executed in background otherwise it breaks everything (JDT LS for Java
+		// completion, hover, etc are broken)
+		pendingFlush = executorService.schedule(this::flushPendingChanges, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Notify the listeners with the pending changes, with one event per distinct
+	 * set of scopes.
+	 */
+	private void flushPendingChanges() {
+		Map<Set<MicroProfilePropertiesScope>, MicroProfilePropertiesChangeEvent> events = new LinkedHashMap<>();
+		synchronized (this) {
+			for (Map.Entry<String, Set<MicroProfilePropertiesScope>> entry : pendingChanges.entrySet()) {
+				MicroProfilePropertiesChangeEvent event = events.computeIfAbsent(entry.getValue(), scopes -> {
+					MicroProfilePropertiesChangeEvent newEvent = new MicroProfilePropertiesChangeEvent();
+					newEvent.setType(new ArrayList<>(scopes));
+					newEvent.setProjectURIs(new HashSet<String>());
+					return newEvent;
+				});
+				event.getProjectURIs().add(entry.getKey());
+			}
+			pendingChanges.clear();
+			pendingFlush = null;
+		}
+		List<IMicroProfilePropertiesChangedListener> currentListeners;
+		synchronized (listeners) {
+			currentListeners = new ArrayList<>(listeners);
+		}
+		for (MicroProfilePropertiesChangeEvent event : events.values()) {
+			for (IMicroProfilePropertiesChangedListener listener : currentListeners) {
+				try {
+					listener.propertiesChanged(event);
+				} catch (Exception e) {
+					if (LOGGER.isLoggable(Level.SEVERE)) {
+						LOGGER.log(Level.SEVERE, "Error while sending LSP 'microprofile/propertiesChanged' notification",
+								e);
+					}
+				}
+			}
+		}
 	}
 
 	/**
@@ -242,7 +275,7 @@ public class MicroProfilePropertiesListenerManager {
 			return;
 		}
 		this.microprofileListener = new MicroProfileListener();
-		JavaCore.addElementChangedListener(microprofileListener);
+		JavaElementChangedDispatcher.getInstance().addHandler(microprofileListener);
 		ResourcesPlugin.getWorkspace().addResourceChangeListener(microprofileListener,
 				IResourceChangeEvent.POST_CHANGE);
 	}
@@ -252,10 +285,16 @@ public class MicroProfilePropertiesListenerManager {
 	 */
 	public synchronized void destroy() {
 		if (microprofileListener != null) {
-			JavaCore.removeElementChangedListener(microprofileListener);
+			JavaElementChangedDispatcher.getInstance().removeHandler(microprofileListener);
 			ResourcesPlugin.getWorkspace().removeResourceChangeListener(microprofileListener);
 			this.microprofileListener = null;
 		}
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+		pendingChanges.clear();
+		pendingFlush = null;
 	}
 
 }
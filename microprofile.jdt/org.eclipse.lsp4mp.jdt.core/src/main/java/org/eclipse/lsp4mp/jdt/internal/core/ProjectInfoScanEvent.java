@@ -0,0 +1,44 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of the scan of a MicroProfile project information.
+ *
+ */
+@Name("org.eclipse.lsp4mp.ProjectInfoScan")
+@Label("MicroProfile Project Info Scan")
+@Description("Scan of the MicroProfile properties of a Java project")
+@Category({ "LSP4MP", "Project Info" })
+class ProjectInfoScanEvent extends Event {
+
+	@Label("Project")
+	String project;
+
+	@Label("Scopes")
+	String scopes;
+
+	@Label("Classpath Kind")
+	String classpathKind;
+
+	@Label("Properties")
+	int properties;
+
+}
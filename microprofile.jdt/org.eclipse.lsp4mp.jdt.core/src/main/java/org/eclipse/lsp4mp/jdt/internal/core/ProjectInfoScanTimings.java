@@ -0,0 +1,283 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.ProjectInfoTiming;
+
+/**
+ * Timings of the scan of a MicroProfile project information per phase,
+ * properties provider and package fragment root.
+ *
+ * <p>
+ * The timings are collected only if they must be attached to the project
+ * information (see
+ * {@link org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams#isTimings()})
+ * or if the JFR events <code>org.eclipse.lsp4mp.ProjectInfoScan</code> and
+ * <code>org.eclipse.lsp4mp.ProjectInfoTiming</code> are recorded.
+ * </p>
+ *
+ */
+public class ProjectInfoScanTimings {
+
+	/**
+	 * Contribution of the providers to the search classpath (beginBuildingScope,
+	 * contributeToClasspath, endBuildingScope).
+	 */
+	public static final String PHASE_CLASSPATH = "classpath";
+
+	/**
+	 * Begin of the search of the providers.
+	 */
+	public static final String PHASE_BEGIN_SEARCH = "beginSearch";
+
+	/**
+	 * Java search, without the processing of the matches.
+	 */
+	public static final String PHASE_SEARCH = "search";
+
+	/**
+	 * Processing of the search matches by the providers.
+	 */
+	public static final String PHASE_MATCH = "match";
+
+	/**
+	 * End of the search of the providers.
+	 */
+	public static final String PHASE_END_SEARCH = "endSearch";
+
+	/**
+	 * Collect of the static properties (JSON files) by the static properties
+	 * providers.
+	 */
+	public static final String PHASE_STATIC_PROPERTIES = "staticProperties";
+
+	/**
+	 * Merge of the properties in the collector: the metadata merged by the
+	 * providers (ex: static properties, also counted in the phase of the provider)
+	 * and the properties of the Java sources collected per compilation unit.
+	 */
+	public static final String PHASE_MERGE = "merge";
+
+	private static final ProjectInfoScanTimings DISABLED = new ProjectInfoScanTimings(null, null, false, false);
+
+	private static class Key {
+
+		private final String phase;
+
+		private final String provider;
+
+		private final String root;
+
+		public Key(String phase, String provider, String root) {
+			this.phase = phase;
+			this.provider = provider;
+			this.root = root;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(phase, provider, root);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return phase.equals(other.phase) && Objects.equals(provider, other.provider)
+					&& Objects.equals(root, other.root);
+		}
+	}
+
+	private static class Timing {
+
+		private int count;
+
+		private long time;
+	}
+
+	private final String projectName;
+
+	private final List<MicroProfilePropertiesScope> scopes;
+
+	private final boolean attach;
+
+	private final boolean events;
+
+	private final Map<Key, Timing> timings;
+
+	private final ProjectInfoScanEvent scanEvent;
+
+	private ProjectInfoScanTimings(String projectName, List<MicroProfilePropertiesScope> scopes, boolean attach,
+			boolean events) {
+		this.projectName = projectName;
+		this.scopes = scopes;
+		this.attach = attach;
+		this.events = events;
+		this.timings = new LinkedHashMap<>();
+		this.scanEvent = events ? new ProjectInfoScanEvent() : null;
+		if (scanEvent != null) {
+			scanEvent.begin();
+		}
+	}
+
+	/**
+	 * Returns the timings of the scan of the given project.
+	 *
+	 * @param projectName the project name.
+	 * @param scopes      the scanned scopes.
+	 * @param attach      true if the timings must be attached to the project
+	 *                    information and false otherwise.
+	 * @return the timings of the scan of the given project.
+	 */
+	public static ProjectInfoScanTimings create(String projectName, List<MicroProfilePropertiesScope> scopes,
+			boolean attach) {
+		boolean events = new ProjectInfoTimingEvent().isEnabled();
+		if (!attach && !events) {
+			return DISABLED;
+		}
+		return new ProjectInfoScanTimings(projectName, scopes, attach, events);
+	}
+
+	/**
+	 * Returns timings which are not collected.
+	 *
+	 * @return timings which are not collected.
+	 */
+	public static ProjectInfoScanTimings disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Returns true if the timings are collected and false otherwise.
+	 *
+	 * @return true if the timings are collected and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return attach || events;
+	}
+
+	/**
+	 * Returns the start time to give to
+	 * {@link #record(String, String, String, long)}.
+	 *
+	 * @return the start time to give to
+	 *         {@link #record(String, String, String, long)}.
+	 */
+	public long start() {
+		return isEnabled() ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Returns the time in nanoseconds spent since the given start time.
+	 *
+	 * @param start the start time returned by {@link #start()}.
+	 * @return the time in nanoseconds spent since the given start time.
+	 */
+	public long elapsed(long start) {
+		return isEnabled() ? System.nanoTime() - start : 0;
+	}
+
+	/**
+	 * Record the time spent since the given start time.
+	 *
+	 * @param phase    the phase.
+	 * @param provider the properties provider and null otherwise.
+	 * @param root     the package fragment root and null otherwise.
+	 * @param start    the start time returned by {@link #start()}.
+	 * @return the recorded time in nanoseconds.
+	 */
+	public long record(String phase, String provider, String root, long start) {
+		if (!isEnabled()) {
+			return 0;
+		}
+		long time = elapsed(start);
+		add(phase, provider, root, time);
+		return time;
+	}
+
+	/**
+	 * Add the given time in nanoseconds.
+	 *
+	 * @param phase    the phase.
+	 * @param provider the properties provider and null otherwise.
+	 * @param root     the package fragment root and null otherwise.
+	 * @param time     the time in nanoseconds.
+	 */
+	public synchronized void add(String phase, String provider, String root, long time) {
+		if (!isEnabled()) {
+			return;
+		}
+		Timing timing = timings.computeIfAbsent(new Key(phase, provider, root), k -> new Timing());
+		timing.count++;
+		timing.time += time;
+	}
+
+	/**
+	 * Commit the JFR events and attach the timings to the given project
+	 * information if they were requested.
+	 *
+	 * @param info the scanned project information.
+	 */
+	public synchronized void done(MicroProfileProjectInfo info) {
+		if (!isEnabled()) {
+			return;
+		}
+		List<ProjectInfoTiming> result = attach ? new ArrayList<>(timings.size()) : null;
+		for (Map.Entry<Key, Timing> entry : timings.entrySet()) {
+			Key key = entry.getKey();
+			Timing timing = entry.getValue();
+			if (events) {
+				ProjectInfoTimingEvent event = new ProjectInfoTimingEvent();
+				event.project = projectName;
+				event.phase = key.phase;
+				event.provider = key.provider;
+				event.root = key.root;
+				event.count = timing.count;
+				event.time = timing.time;
+				event.commit();
+			}
+			if (result != null) {
+				ProjectInfoTiming projectInfoTiming = new ProjectInfoTiming(key.phase, key.provider, key.root);
+				projectInfoTiming.setCount(timing.count);
+				projectInfoTiming.setTime(TimeUnit.NANOSECONDS.toMillis(timing.time));
+				result.add(projectInfoTiming);
+			}
+		}
+		if (scanEvent != null) {
+			scanEvent.end();
+			scanEvent.project = projectName;
+			scanEvent.scopes = scopes.stream() //
+					.map(MicroProfilePropertiesScope::name) //
+					.collect(Collectors.joining("+"));
+			scanEvent.classpathKind = String.valueOf(info.getClasspathKind());
+			scanEvent.properties = info.getProperties() != null ? info.getProperties().size() : 0;
+			scanEvent.commit();
+		}
+		if (result != null) {
+			info.setTimings(result);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event of the time spent in a phase of the scan of a MicroProfile project
+ * information, for a properties provider and a package fragment root.
+ *
+ */
+@Name("org.eclipse.lsp4mp.ProjectInfoTiming")
+@Label("MicroProfile Project Info Timing")
+@Description("Time spent in a phase of the scan of the MicroProfile properties, per properties provider and package fragment root")
+@Category({ "LSP4MP", "Project Info" })
+class ProjectInfoTimingEvent extends Event {
+
+	@Label("Project")
+	String project;
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Provider")
+	String provider;
+
+	@Label("Package Fragment Root")
+	String root;
+
+	@Label("Count")
+	int count;
+
+	@Label("Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long time;
+
+}
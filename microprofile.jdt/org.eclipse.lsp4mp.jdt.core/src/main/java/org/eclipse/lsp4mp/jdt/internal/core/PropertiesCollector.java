@@ -15,9 +15,12 @@ package org.eclipse.lsp4mp.jdt.internal.core;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -38,6 +41,17 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	private final Map<String, ItemHint> hintsCache;
 
+	// collected properties indexed by name, in the order of the collected
+	// properties
+	private final Map<String, List<ItemMetadata>> propertiesCache;
+
+	// properties replaced by a REPLACE merge which must be removed from the
+	// collected properties at the end of the merge, with their count of
+	// occurrences to remove
+	private final Map<ItemMetadata, Integer> replacedProperties;
+
+	private final Set<ItemMetadata> compilationUnitProperties;
+
 	private final boolean onlySources;
 
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
@@ -45,6 +59,9 @@ public class PropertiesCollector implements IPropertiesCollector {
 		this.configuration.setProperties(new ArrayList<>());
 		this.configuration.setHints(new ArrayList<>());
 		this.hintsCache = new HashMap<>();
+		this.propertiesCache = new HashMap<>();
+		this.replacedProperties = new IdentityHashMap<>();
+		this.compilationUnitProperties = new HashSet<>();
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
 	}
 
@@ -70,7 +87,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
 
-		configuration.getProperties().add(property);
+		addProperty(property);
 		return property;
 	}
 
@@ -106,6 +123,83 @@ public class PropertiesCollector implements IPropertiesCollector {
 				merge(itemHint, mergingStrategy);
 			}
 		}
+		removeReplacedProperties();
+	}
+
+	/**
+	 * Add the properties and hints collected for a compilation unit (see
+	 * {@link CompilationUnitPropertiesCollector}).
+	 *
+	 * <p>
+	 * The properties and hints are copied, so that the given metadata (which is
+	 * cached) is not updated by the next merges. As each compilation unit is
+	 * searched with its own search context, a property which is collected for
+	 * several compilation units (ex : the generic properties of an annotation) is
+	 * added only once.
+	 * </p>
+	 *
+	 * @param metadata the properties and hints of a compilation unit.
+	 */
+	public void addCompilationUnitContribution(ConfigurationMetadata metadata) {
+		for (ItemMetadata property : metadata.getProperties()) {
+			if (compilationUnitProperties.add(property)) {
+				addProperty(copy(property));
+			}
+		}
+		for (ItemHint itemHint : metadata.getHints()) {
+			ItemHint copy = copy(itemHint);
+			if (getExistingItemHint(itemHint.getName()) != null) {
+				merge(copy, MergingStrategy.IGNORE_IF_EXISTS);
+			} else {
+				addItemHint(copy);
+			}
+		}
+	}
+
+	private static ItemHint copy(ItemHint itemHint) {
+		ItemHint copy = new ItemHint();
+		copy.setName(itemHint.getName());
+		copy.setDescription(itemHint.getDescription());
+		copy.setSourceType(itemHint.getSourceType());
+		copy.setSource(itemHint.getSource());
+		copy.setValues(new ArrayList<>());
+		if (itemHint.getValues() != null) {
+			for (ValueHint value : itemHint.getValues()) {
+				copy.getValues().add(copy(value));
+			}
+		}
+		if (itemHint.getProviders() != null) {
+			copy.setProviders(new ArrayList<>(itemHint.getProviders()));
+		}
+		return copy;
+	}
+
+	private static ItemMetadata copy(ItemMetadata property) {
+		ItemMetadata copy = new ItemMetadata();
+		copy.setName(property.getName());
+		copy.setDescription(property.getDescription());
+		copy.setSourceType(property.getSourceType());
+		copy.setSource(property.getSource());
+		copy.setOrigin(property.getOrigin());
+		copy.setType(property.getType());
+		copy.setSourceField(property.getSourceField());
+		copy.setSourceMethod(property.getSourceMethod());
+		copy.setDefaultValue(property.getDefaultValue());
+		copy.setExtensionName(property.getExtensionName());
+		copy.setRequired(property.isRequired());
+		copy.setPhase(property.getPhase());
+		if (property.getConverterKinds() != null) {
+			copy.setConverterKinds(new ArrayList<>(property.getConverterKinds()));
+		}
+		return copy;
+	}
+
+	private static ValueHint copy(ValueHint value) {
+		ValueHint copy = new ValueHint();
+		copy.setValue(value.getValue());
+		copy.setDescription(value.getDescription());
+		copy.setSourceType(value.getSourceType());
+		return copy;
 	}
 
 	// --------------- Properties merge
@@ -138,20 +232,45 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		return configProperties.stream().filter(cp -> cp.getName().equals(property.getName())).findFirst();
+		List<ItemMetadata> properties = propertiesCache.get(property.getName());
+		return properties != null && !properties.isEmpty() ? Optional.of(properties.get(0)) : Optional.empty();
 	}
 
 	private void mergeWithReplace(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
-			configuration.getProperties().remove(configProperty.get());
+		List<ItemMetadata> properties = propertiesCache.get(property.getName());
+		if (properties != null && !properties.isEmpty()) {
+			// Replace the first property with the given name, the other properties with
+			// the same name are kept.
+			replacedProperties.merge(properties.remove(0), 1, Integer::sum);
 		}
 		addProperty(property);
 	}
 
+	private void removeReplacedProperties() {
+		if (replacedProperties.isEmpty()) {
+			return;
+		}
+		// Remove the replaced properties in one pass instead of one pass per replaced
+		// property.
+		configuration.getProperties().removeIf(property -> {
+			Integer count = replacedProperties.get(property);
+			if (count == null) {
+				return false;
+			}
+			if (count == 1) {
+				replacedProperties.remove(property);
+			} else {
+				replacedProperties.put(property, count - 1);
+			}
+			return true;
+		});
+	}
+
 	private void addProperty(ItemMetadata property) {
 		configuration.getProperties().add(property);
+		// Index the properties by name to check in O(1) if a property exists when the
+		// metadata (ex: static properties) are merged.
+		propertiesCache.computeIfAbsent(property.getName(), name -> new ArrayList<>(1)).add(property);
 	}
 
 	// --------------- ItemHint merge
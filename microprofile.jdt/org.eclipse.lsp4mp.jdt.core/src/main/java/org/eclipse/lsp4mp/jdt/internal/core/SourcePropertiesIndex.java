@@ -0,0 +1,383 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+
+/**
+ * Index of the properties and hints contributed by each compilation unit of
+ * the sources of a Java project.
+ *
+ * <p>
+ * The first collect of the sources of a project scans all the compilation
+ * units. The Java element deltas then mark the changed compilation units as
+ * dirty, and the next collect scans only the dirty compilation units (and the
+ * indexed compilation units which reference a type declared in a dirty
+ * compilation unit). The contributions of the other compilation units are
+ * reused. A project index is dropped when its classpath changes or when a
+ * source folder / package is added or removed.
+ * </p>
+ *
+ */
+public class SourcePropertiesIndex {
+
+	private static final Logger LOGGER = Logger.getLogger(SourcePropertiesIndex.class.getName());
+
+	private static final SourcePropertiesIndex INSTANCE = new SourcePropertiesIndex();
+
+	public static SourcePropertiesIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Scanner of the compilation units of a Java project.
+	 */
+	@FunctionalInterface
+	public interface ICompilationUnitsScanner {
+
+		/**
+		 * Scan the given compilation units and returns the properties and hints
+		 * collected per compilation unit handle.
+		 *
+		 * @param units the compilation units to scan, or null to scan all the
+		 *              sources of the project.
+		 * @return the properties and hints collected per compilation unit handle.
+		 * @throws CoreException
+		 */
+		Map<String, ConfigurationMetadata> scan(Set<ICompilationUnit> units) throws CoreException;
+	}
+
+	/**
+	 * Properties and hints contributed by a compilation unit.
+	 */
+	private static class UnitContribution {
+
+		private final ConfigurationMetadata metadata;
+
+		// types declared in the compilation unit
+		private final Set<String> declaredTypes;
+
+		public UnitContribution(ICompilationUnit unit, ConfigurationMetadata metadata) {
+			this.metadata = metadata;
+			this.declaredTypes = getDeclaredTypes(unit);
+		}
+	}
+
+	/**
+	 * Properties and hints of the sources of a Java project.
+	 */
+	private static class ProjectIndex {
+
+		private final boolean excludeTestCode;
+
+		private final DocumentFormat documentFormat;
+
+		private final Map<String /* compilation unit handle */, UnitContribution> units;
+
+		private final Set<String /* compilation unit handle */> dirtyUnits;
+
+		private boolean built;
+
+		private Set<String> lastScannedUnits;
+
+		public ProjectIndex(boolean excludeTestCode, DocumentFormat documentFormat) {
+			this.excludeTestCode = excludeTestCode;
+			this.documentFormat = documentFormat;
+			this.units = new LinkedHashMap<>();
+			this.dirtyUnits = ConcurrentHashMap.newKeySet();
+		}
+
+		public boolean isAdaptedFor(boolean excludeTestCode, DocumentFormat documentFormat) {
+			return this.excludeTestCode == excludeTestCode && this.documentFormat == documentFormat;
+		}
+	}
+
+	private class SourcePropertiesHandler implements IJavaElementChangedHandler {
+
+		@Override
+		public boolean isActive() {
+			return !projects.isEmpty();
+		}
+
+		@Override
+		public void classpathChanged(IJavaProject javaProject) {
+			evict(javaProject);
+		}
+
+		@Override
+		public void packageFragmentsChanged(IJavaProject javaProject) {
+			evict(javaProject);
+		}
+
+		@Override
+		public void compilationUnitChanged(ICompilationUnit unit, IJavaElementDelta delta) {
+			ProjectIndex index = projects.get(getProjectKey(unit.getJavaProject()));
+			if (index != null) {
+				index.dirtyUnits.add(unit.getHandleIdentifier());
+			}
+		}
+	}
+
+	private final Map<String /* project name */, ProjectIndex> projects;
+
+	private SourcePropertiesHandler handler;
+
+	private SourcePropertiesIndex() {
+		projects = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the properties and hints contributed by the compilation units of
+	 * the sources of the given project.
+	 *
+	 * @param javaProject     the Java project.
+	 * @param excludeTestCode true if test code is excluded and false otherwise.
+	 * @param documentFormat  the document format used to format Javadoc.
+	 * @param scanner         the scanner used to collect the properties of the
+	 *                        compilation units which are not indexed or dirty.
+	 * @param monitor         the progress monitor.
+	 * @return the properties and hints contributed by the compilation units of
+	 *         the sources of the given project.
+	 * @throws CoreException
+	 */
+	public List<ConfigurationMetadata> collect(IJavaProject javaProject, boolean excludeTestCode,
+			DocumentFormat documentFormat, ICompilationUnitsScanner scanner, IProgressMonitor monitor)
+			throws CoreException {
+		String key = getProjectKey(javaProject);
+		ProjectIndex index = projects.compute(key, (k, existing) -> existing != null
+				&& existing.isAdaptedFor(excludeTestCode, documentFormat) ? existing
+						: new ProjectIndex(excludeTestCode, documentFormat));
+		synchronized (index) {
+			if (!index.built) {
+				// The compilation units changed while the index is built are kept as dirty
+				index.dirtyUnits.clear();
+				Map<String, ConfigurationMetadata> contributions = scanner.scan(null);
+				if (monitor.isCanceled()) {
+					return Collections.emptyList();
+				}
+				index.units.clear();
+				contributions.forEach((handle, metadata) -> updateUnit(index, handle, metadata));
+				index.lastScannedUnits = null;
+				index.built = true;
+			} else {
+				Set<String> handles = new HashSet<>(index.dirtyUnits);
+				index.dirtyUnits.removeAll(handles);
+				try {
+					handles.addAll(getDependentUnits(index, handles, monitor));
+				} catch (CoreException | OperationCanceledException e) {
+					// scan them again on the next collect
+					index.dirtyUnits.addAll(handles);
+					throw e;
+				}
+				if (!handles.isEmpty()) {
+					Set<ICompilationUnit> units = new HashSet<>();
+					for (String handle : handles) {
+						IJavaElement element = JavaCore.create(handle);
+						if (element instanceof ICompilationUnit && element.exists()) {
+							units.add((ICompilationUnit) element);
+						}
+					}
+					Map<String, ConfigurationMetadata> contributions;
+					try {
+						contributions = units.isEmpty() ? Collections.emptyMap() : scanner.scan(units);
+					} catch (OperationCanceledException e) {
+						// scan them again on the next collect
+						index.dirtyUnits.addAll(handles);
+						throw e;
+					}
+					if (monitor.isCanceled()) {
+						// scan them again on the next collect
+						index.dirtyUnits.addAll(handles);
+						return Collections.emptyList();
+					}
+					for (String handle : handles) {
+						index.units.remove(handle);
+					}
+					contributions.forEach((handle, metadata) -> updateUnit(index, handle, metadata));
+				}
+				index.lastScannedUnits = Collections.unmodifiableSet(handles);
+			}
+			List<ConfigurationMetadata> result = new ArrayList<>(index.units.size());
+			for (UnitContribution contribution : index.units.values()) {
+				result.add(contribution.metadata);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Returns the handles of the compilation units scanned by the last collect of
+	 * the given project, or null if all the sources of the project were scanned.
+	 *
+	 * @param javaProject the Java project.
+	 * @return the handles of the compilation units scanned by the last collect of
+	 *         the given project, or null if all the sources of the project were
+	 *         scanned.
+	 */
+	public Set<String> getLastScannedUnits(IJavaProject javaProject) {
+		ProjectIndex index = projects.get(getProjectKey(javaProject));
+		if (index == null) {
+			return null;
+		}
+		synchronized (index) {
+			return index.lastScannedUnits;
+		}
+	}
+
+	/**
+	 * Evict the index of the given project.
+	 *
+	 * @param javaProject the Java project.
+	 */
+	public void evict(IJavaProject javaProject) {
+		projects.remove(getProjectKey(javaProject));
+	}
+
+	private static void updateUnit(ProjectIndex index, String handle, ConfigurationMetadata metadata) {
+		if (metadata.getProperties().isEmpty() && metadata.getHints().isEmpty()) {
+			return;
+		}
+		IJavaElement element = JavaCore.create(handle);
+		ICompilationUnit unit = element instanceof ICompilationUnit ? (ICompilationUnit) element : null;
+		index.units.put(handle, new UnitContribution(unit, metadata));
+	}
+
+	/**
+	 * Returns the indexed compilation units which reference a type declared
+	 * (before or after the change) in the given dirty compilation units.
+	 */
+	private static Set<String> getDependentUnits(ProjectIndex index, Set<String> dirtyUnits,
+			IProgressMonitor monitor) throws CoreException {
+		if (dirtyUnits.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<String> changedTypes = new HashSet<>();
+		for (String handle : dirtyUnits) {
+			UnitContribution contribution = index.units.get(handle);
+			if (contribution != null) {
+				changedTypes.addAll(contribution.declaredTypes);
+			}
+			IJavaElement element = JavaCore.create(handle);
+			if (element instanceof ICompilationUnit) {
+				changedTypes.addAll(getDeclaredTypes((ICompilationUnit) element));
+			}
+		}
+		List<IJavaElement> indexedUnits = new ArrayList<>();
+		for (String handle : index.units.keySet()) {
+			if (!dirtyUnits.contains(handle)) {
+				IJavaElement element = JavaCore.create(handle);
+				if (element != null && element.exists()) {
+					indexedUnits.add(element);
+				}
+			}
+		}
+		if (changedTypes.isEmpty() || indexedUnits.isEmpty()) {
+			return Collections.emptySet();
+		}
+		SearchPattern pattern = null;
+		for (String type : changedTypes) {
+			SearchPattern typePattern = SearchPattern.createPattern(type, IJavaSearchConstants.TYPE,
+					IJavaSearchConstants.REFERENCES, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+			pattern = pattern == null ? typePattern : SearchPattern.createOrPattern(pattern, typePattern);
+		}
+		IJavaSearchScope scope = SearchEngine.createJavaSearchScope(
+				indexedUnits.toArray(new IJavaElement[indexedUnits.size()]), IJavaSearchScope.SOURCES);
+		Set<String> dependentUnits = new HashSet<>();
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				scope, new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						Object element = match.getElement();
+						if (element instanceof IJavaElement) {
+							IJavaElement unit = ((IJavaElement) element).getAncestor(IJavaElement.COMPILATION_UNIT);
+							if (unit != null) {
+								dependentUnits.add(unit.getHandleIdentifier());
+							}
+						}
+					}
+				}, monitor);
+		return dependentUnits;
+	}
+
+	private static Set<String> getDeclaredTypes(ICompilationUnit unit) {
+		if (unit == null || !unit.exists()) {
+			return Collections.emptySet();
+		}
+		Set<String> types = new HashSet<>();
+		try {
+			for (IType type : unit.getAllTypes()) {
+				types.add(type.getFullyQualifiedName('.'));
+			}
+		} catch (JavaModelException e) {
+			LOGGER.log(Level.WARNING, "Error while collecting the types of " + unit.getElementName(), e);
+		}
+		return types;
+	}
+
+	private static String getProjectKey(IJavaProject javaProject) {
+		return javaProject.getElementName();
+	}
+
+	/**
+	 * Initialize the source properties index.
+	 */
+	public synchronized void initialize() {
+		if (handler != null) {
+			return;
+		}
+		handler = new SourcePropertiesHandler();
+		JavaElementChangedDispatcher.getInstance().addHandler(handler);
+	}
+
+	/**
+	 * Destroy the source properties index.
+	 */
+	public synchronized void destroy() {
+		if (handler != null) {
+			JavaElementChangedDispatcher.getInstance().removeHandler(handler);
+			handler = null;
+		}
+		projects.clear();
+	}
+}
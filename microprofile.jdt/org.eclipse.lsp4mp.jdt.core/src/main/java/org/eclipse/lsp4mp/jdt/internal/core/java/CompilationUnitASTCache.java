@@ -0,0 +1,375 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
+import org.eclipse.lsp4mp.jdt.internal.core.IJavaElementChangedHandler;
+import org.eclipse.lsp4mp.jdt.internal.core.JavaElementChangedDispatcher;
+
+/**
+ * LRU cache of the binding-resolved ASTs of compilation units, shared by the
+ * <code>microprofile/java/*</code> handlers (diagnostics, code lens, hover,
+ * completion, definition).
+ *
+ * <p>
+ * A cached AST is reused while its compilation unit keeps the same
+ * modification stamp and the same version. The version of a compilation unit
+ * is incremented by the Java element deltas which change its content (working
+ * copy reconcile, saved file). The ASTs of the other compilation units of the
+ * project are kept, except when the delta is structural (type or member
+ * added, removed or whose signature changed, compilation unit added or
+ * removed, classpath change), because the bindings of an AST refer to the
+ * other types of the project.
+ * </p>
+ *
+ * <p>
+ * The bindings of a DOM AST are resolved lazily, so an AST must not be used by
+ * several threads at the same time. The ASTs are cached only for the requests
+ * of {@link org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava} which call
+ * {@link #beginRequest()} and {@link #endRequest()}: a cached AST is leased to
+ * the thread of the request until the end of the request and, while it is
+ * leased, the other threads get their own AST which is not cached. Outside of
+ * a request, {@link #getAST(ICompilationUnit, IProgressMonitor)} returns an AST
+ * which is not cached.
+ * </p>
+ *
+ * <p>
+ * The cache keeps at most {@link #MAX_ENTRIES} ASTs. {@link #MAX_SOURCE_LENGTH}
+ * bounds the number of source characters of the cached ASTs to keep fewer ASTs
+ * of large compilation units, it is not a bound of the memory used by the ASTs
+ * and their bindings.
+ * </p>
+ *
+ */
+public class CompilationUnitASTCache {
+
+	private static final CompilationUnitASTCache INSTANCE = new CompilationUnitASTCache();
+
+	public static CompilationUnitASTCache getInstance() {
+		return INSTANCE;
+	}
+
+	private static final int MAX_ENTRIES = 10;
+
+	private static final int MAX_SOURCE_LENGTH = 2_000_000;
+
+	// Flags of a member delta which don't change the bindings seen by the other
+	// compilation units (ex : method body change)
+	private static final int CONTENT_FLAGS = IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN
+			| IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED;
+
+	/**
+	 * Cached AST of a compilation unit.
+	 */
+	private static class CachedAST {
+
+		private final String projectKey;
+
+		private final Stamp stamp;
+
+		private final int sourceLength;
+
+		private final CompilationUnit ast;
+
+		// the thread which uses the AST, null if the AST is not leased
+		private Thread owner;
+
+		public CachedAST(String projectKey, Stamp stamp, CompilationUnit ast, Thread owner) {
+			this.projectKey = projectKey;
+			this.stamp = stamp;
+			this.sourceLength = ast.getLength();
+			this.ast = ast;
+			this.owner = owner;
+		}
+
+		public boolean isAvailable(Thread thread) {
+			return owner == null || owner == thread;
+		}
+	}
+
+	/**
+	 * Stamp of a compilation unit used to validate its cached AST.
+	 */
+	private static class Stamp {
+
+		private final long modificationStamp;
+
+		private final long unitVersion;
+
+		private final long projectVersion;
+
+		public Stamp(long modificationStamp, long unitVersion, long projectVersion) {
+			this.modificationStamp = modificationStamp;
+			this.unitVersion = unitVersion;
+			this.projectVersion = projectVersion;
+		}
+
+		public boolean isSame(Stamp other) {
+			return modificationStamp == other.modificationStamp && unitVersion == other.unitVersion
+					&& projectVersion == other.projectVersion;
+		}
+	}
+
+	private class ASTCacheHandler implements IJavaElementChangedHandler {
+
+		@Override
+		public void classpathChanged(IJavaProject javaProject) {
+			invalidateProject(getProjectKey(javaProject));
+		}
+
+		@Override
+		public void packageFragmentsChanged(IJavaProject javaProject) {
+			invalidateProject(getProjectKey(javaProject));
+		}
+
+		@Override
+		public void compilationUnitChanged(ICompilationUnit unit, IJavaElementDelta delta) {
+			if (delta.getKind() != IJavaElementDelta.CHANGED || isStructuralChange(delta)) {
+				invalidateProject(getProjectKey(unit.getJavaProject()));
+			}
+			invalidateUnit(unit.getHandleIdentifier(), delta.getKind() == IJavaElementDelta.REMOVED);
+		}
+	}
+
+	private final Map<String /* project name */, Long> projectVersions;
+
+	private final Map<String /* compilation unit handle */, Long> unitVersions;
+
+	private final LinkedHashMap<String /* compilation unit handle */, CachedAST> asts;
+
+	// number of nested requests of the current thread
+	private final ThreadLocal<int[]> requestDepth;
+
+	private int sourceLength;
+
+	private ASTCacheHandler handler;
+
+	private CompilationUnitASTCache() {
+		projectVersions = new ConcurrentHashMap<>();
+		unitVersions = new ConcurrentHashMap<>();
+		asts = new LinkedHashMap<>(16, 0.75f, true);
+		requestDepth = new ThreadLocal<>();
+	}
+
+	/**
+	 * Begin a request of the current thread: the ASTs returned by
+	 * {@link #getAST(ICompilationUnit, IProgressMonitor)} are cached and leased to
+	 * the current thread until the matching {@link #endRequest()}.
+	 *
+	 * <p>
+	 * {@link #endRequest()} must be called in a <code>finally</code> block. The
+	 * requests can be nested, the ASTs are released at the end of the outermost
+	 * request.
+	 * </p>
+	 */
+	public void beginRequest() {
+		int[] depth = requestDepth.get();
+		if (depth == null) {
+			depth = new int[1];
+			requestDepth.set(depth);
+		}
+		depth[0]++;
+	}
+
+	/**
+	 * End a request of the current thread started with {@link #beginRequest()}:
+	 * at the end of the outermost request, the ASTs leased to the current thread
+	 * are shared with the other threads.
+	 */
+	public void endRequest() {
+		int[] depth = requestDepth.get();
+		if (depth == null) {
+			return;
+		}
+		depth[0]--;
+		if (depth[0] <= 0) {
+			requestDepth.remove();
+			releaseASTs();
+		}
+	}
+
+	/**
+	 * Returns the binding-resolved AST of the given compilation unit.
+	 *
+	 * <p>
+	 * In a request (see {@link #beginRequest()}), the returned AST is leased to
+	 * the current thread until the end of the request. Outside of a request, the
+	 * returned AST is not cached.
+	 * </p>
+	 *
+	 * @param unit    the compilation unit.
+	 * @param monitor the progress monitor.
+	 * @return the binding-resolved AST of the given compilation unit.
+	 */
+	public CompilationUnit getAST(ICompilationUnit unit, IProgressMonitor monitor) {
+		if (requestDepth.get() == null) {
+			// the AST could not be released, don't cache it
+			return ASTResolving.createQuickFixAST(unit, monitor);
+		}
+		String key = unit.getHandleIdentifier();
+		String projectKey = getProjectKey(unit.getJavaProject());
+		Stamp stamp = getStamp(unit, key, projectKey);
+		Thread thread = Thread.currentThread();
+		boolean leasedByOtherThread = false;
+		synchronized (asts) {
+			CachedAST cached = asts.get(key);
+			if (cached != null && cached.stamp.isSame(stamp)) {
+				if (cached.isAvailable(thread)) {
+					cached.owner = thread;
+					return cached.ast;
+				}
+				leasedByOtherThread = true;
+			}
+		}
+		CompilationUnit ast = ASTResolving.createQuickFixAST(unit, monitor);
+		if (ast == null || leasedByOtherThread || (monitor != null && monitor.isCanceled())) {
+			// AST used only by the current thread
+			return ast;
+		}
+		synchronized (asts) {
+			// the compilation unit could have changed while the AST was created
+			CachedAST cached = asts.get(key);
+			if (getStamp(unit, key, projectKey).isSame(stamp) && (cached == null || cached.isAvailable(thread))) {
+				asts.put(key, new CachedAST(projectKey, stamp, ast, thread));
+				if (cached != null) {
+					sourceLength -= cached.sourceLength;
+				}
+				sourceLength += ast.getLength();
+				evict();
+			}
+		}
+		return ast;
+	}
+
+	/**
+	 * Releases the ASTs leased to the current thread to share them with the
+	 * other threads.
+	 */
+	private void releaseASTs() {
+		Thread thread = Thread.currentThread();
+		synchronized (asts) {
+			for (CachedAST cached : asts.values()) {
+				if (cached.owner == thread) {
+					cached.owner = null;
+				}
+			}
+		}
+	}
+
+	private void evict() {
+		Iterator<CachedAST> iterator = asts.values().iterator();
+		// the eldest AST is the least recently used
+		while (iterator.hasNext() && (asts.size() > MAX_ENTRIES || sourceLength > MAX_SOURCE_LENGTH)) {
+			CachedAST cached = iterator.next();
+			iterator.remove();
+			sourceLength -= cached.sourceLength;
+		}
+	}
+
+	private void invalidateUnit(String key, boolean removed) {
+		if (removed) {
+			unitVersions.remove(key);
+		} else {
+			unitVersions.merge(key, 1L, Long::sum);
+		}
+		synchronized (asts) {
+			CachedAST cached = asts.remove(key);
+			if (cached != null) {
+				sourceLength -= cached.sourceLength;
+			}
+		}
+	}
+
+	private void invalidateProject(String projectKey) {
+		projectVersions.merge(projectKey, 1L, Long::sum);
+		synchronized (asts) {
+			Iterator<CachedAST> iterator = asts.values().iterator();
+			while (iterator.hasNext()) {
+				CachedAST cached = iterator.next();
+				if (cached.projectKey.equals(projectKey)) {
+					iterator.remove();
+					sourceLength -= cached.sourceLength;
+				}
+			}
+		}
+	}
+
+	private Stamp getStamp(ICompilationUnit unit, String key, String projectKey) {
+		IResource resource = unit.getResource();
+		long modificationStamp = resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+		return new Stamp(modificationStamp, unitVersions.getOrDefault(key, 0L),
+				projectVersions.getOrDefault(projectKey, 0L));
+	}
+
+	/**
+	 * Returns true if the given compilation unit delta changes the bindings seen
+	 * by the other compilation units (type or member added, removed, or whose
+	 * modifiers, super types, annotations changed) and false if it only changes
+	 * the content of the compilation unit (ex : method body).
+	 *
+	 * @param delta the compilation unit delta.
+	 * @return true if the given compilation unit delta changes the bindings seen
+	 *         by the other compilation units.
+	 */
+	private static boolean isStructuralChange(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getKind() != IJavaElementDelta.CHANGED || (child.getFlags() & ~CONTENT_FLAGS) != 0
+					|| isStructuralChange(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String getProjectKey(IJavaProject javaProject) {
+		return javaProject.getElementName();
+	}
+
+	/**
+	 * Initialize the AST cache.
+	 */
+	public synchronized void initialize() {
+		if (handler != null) {
+			return;
+		}
+		handler = new ASTCacheHandler();
+		JavaElementChangedDispatcher.getInstance().addHandler(handler);
+	}
+
+	/**
+	 * Destroy the AST cache.
+	 */
+	public synchronized void destroy() {
+		if (handler != null) {
+			JavaElementChangedDispatcher.getInstance().removeHandler(handler);
+			handler = null;
+		}
+		synchronized (asts) {
+			asts.clear();
+			sourceLength = 0;
+		}
+	}
+
+}
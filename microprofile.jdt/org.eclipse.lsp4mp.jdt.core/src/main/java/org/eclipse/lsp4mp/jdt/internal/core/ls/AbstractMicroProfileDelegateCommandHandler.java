@@ -22,6 +22,8 @@ import org.eclipse.jdt.ls.core.internal.IDelegateCommandHandler;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
 import org.eclipse.lsp4mp.jdt.internal.core.MicroProfilePropertiesListenerManager;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityMonitor;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityMonitor.IServerAvailabilityListener;
 
 /**
  * Abstract class for MicroProfile JDT LS command handler
@@ -48,6 +50,19 @@ public abstract class AbstractMicroProfileDelegateCommandHandler implements IDel
 		}
 	};
 
+	private static final String MICROPROFILE_JAVA_SERVER_AVAILABILITY_CHANGED_COMMAND = "microprofile/java/serverAvailabilityChanged";
+
+	private static final IServerAvailabilityListener SERVER_AVAILABILITY_LISTENER = (host, port, available) -> {
+		try {
+			// Notify the client to refresh the JAX-RS URL code lenses.
+			JavaLanguageServerPlugin.getInstance().getClientConnection().executeClientCommand(
+					Duration.of(5, ChronoUnit.SECONDS), MICROPROFILE_JAVA_SERVER_AVAILABILITY_CHANGED_COMMAND);
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE,
+					"Error while sending 'microprofile/java/serverAvailabilityChanged' event to the client", e);
+		}
+	};
+
 	private static boolean initialized;
 
 	public AbstractMicroProfileDelegateCommandHandler() {
@@ -64,6 +79,9 @@ public abstract class AbstractMicroProfileDelegateCommandHandler implements IDel
 		// Add a classpath changed listener to execute client command
 		// "microprofile/propertiesChanged"
 		MicroProfilePropertiesListenerManager.getInstance().addMicroProfilePropertiesChangedListener(LISTENER);
+		// Add a server availability listener to execute client command
+		// "microprofile/java/serverAvailabilityChanged"
+		ServerAvailabilityMonitor.getInstance().addServerAvailabilityListener(SERVER_AVAILABILITY_LISTENER);
 		initialized = true;
 	}
 }
@@ -13,23 +13,22 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.ls;
 
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getBoolean;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getFirst;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getString;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesDocumentationParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
@@ -43,14 +42,14 @@ import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
  */
 public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDelegateCommandHandler {
 
-	private static final Logger LOGGER = Logger.getLogger(MicroProfileDelegateCommandHandler.class.getName());
-
 	private static final String PROJECT_INFO_COMMAND_ID = "microprofile/projectInfo";
 
 	private static final String PROPERTY_DEFINITION_COMMAND_ID = "microprofile/propertyDefinition";
 
 	private static final String PROPERTY_DOCUMENTATION_COMMAND_ID = "microprofile/propertyDocumentation";
 
+	private static final String PROPERTIES_DOCUMENTATION_COMMAND_ID = "microprofile/propertiesDocumentation";
+
 	@Override
 	public Object executeCommand(String commandId, List<Object> arguments, IProgressMonitor progress) throws Exception {
 		switch (commandId) {
@@ -60,6 +59,8 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 			return findDeclaredProperty(arguments, commandId, progress);
 		case PROPERTY_DOCUMENTATION_COMMAND_ID:
 			return collectPropertyDocumentation(arguments, commandId, progress);
+		case PROPERTIES_DOCUMENTATION_COMMAND_ID:
+			return collectPropertiesDocumentation(arguments, commandId, progress);
 		default:
 			throw new UnsupportedOperationException(String.format("Unsupported command '%s'!", commandId));
 		}
@@ -102,31 +103,12 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(applicationPropertiesUri);
 		params.setScopes(scopes);
 		params.setDocumentFormat(documentFormat);
+		params.setTimings(getBoolean(obj, "timings"));
 
-		// Execute the getMicroProfileProjectInfo in a Job to benefit with progress
-		// monitor
-		final MicroProfileProjectInfo[] projectInfo = new MicroProfileProjectInfo[1];
-		Job job = Job.create("MicroProfile properties collector", monitor -> {
-			projectInfo[0] = PropertiesManager.getInstance().getMicroProfileProjectInfo(params,
-					JDTUtilsLSImpl.getInstance(), monitor);
-		});
-		job.schedule();
-		try {
-			job.join();
-		} catch (InterruptedException e) {
-			LOGGER.log(Level.WARNING, "Error while joining MicroProfile properties collector job", e);
-		}
-
-		Throwable jobException = job.getResult().getException();
-		if (jobException != null) {
-			if (jobException instanceof Exception) {
-				throw (Exception) jobException;
-			} else {
-				throw new Exception(jobException);
-			}
-		}
-
-		return projectInfo[0];
+		// Schedule the scan of the project: the scans of the projects are queued and
+		// the identical scans are shared
+		return ProjectInfoScanScheduler.getInstance().getMicroProfileProjectInfo(params,
+				JDTUtilsLSImpl.getInstance(), progress);
 	}
 
 	private static Location findDeclaredProperty(List<Object> arguments, String commandId, IProgressMonitor progress)
@@ -199,4 +181,58 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 				progress);
 	}
 
+	private static List<String> collectPropertiesDocumentation(List<Object> arguments, String commandId,
+			IProgressMonitor progress) throws CoreException {
+		Map<String, Object> obj = getFirst(arguments);
+		if (obj == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with one MicroProfilePropertiesDocumentationParams argument!",
+					commandId));
+		}
+		String applicationPropertiesUri = getString(obj, "uri");
+		if (applicationPropertiesUri == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with required MicroProfilePropertiesDocumentationParams.uri (properties file URI)!",
+					commandId));
+		}
+		DocumentFormat documentFormat = DocumentFormat.forValue(ArgumentUtils.getInt(obj, "documentFormat"));
+		if (documentFormat == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with required MicroProfilePropertiesDocumentationParams.documentFormat!",
+					commandId));
+		}
+		Object propertiesObj = obj.get("properties");
+		List<MicroProfilePropertyDocumentationParams> properties = new ArrayList<>();
+		if (propertiesObj instanceof List<?>) {
+			for (Object propertyObj : (List<?>) propertiesObj) {
+				if (!(propertyObj instanceof Map<?, ?>)) {
+					throw new UnsupportedOperationException(String.format(
+							"Command '%s' must be called with MicroProfilePropertiesDocumentationParams.properties objects!",
+							commandId));
+				}
+				Map<?, ?> propertyMap = (Map<?, ?>) propertyObj;
+				MicroProfilePropertyDocumentationParams property = new MicroProfilePropertyDocumentationParams();
+				property.setUri(applicationPropertiesUri);
+				property.setSourceType(getPropertyString(propertyMap, "sourceType"));
+				property.setSourceField(getPropertyString(propertyMap, "sourceField"));
+				property.setSourceMethod(getPropertyString(propertyMap, "sourceMethod"));
+				property.setDocumentFormat(documentFormat);
+				properties.add(property);
+			}
+		}
+
+		MicroProfilePropertiesDocumentationParams params = new MicroProfilePropertiesDocumentationParams();
+		params.setUri(applicationPropertiesUri);
+		params.setDocumentFormat(documentFormat);
+		params.setProperties(properties);
+
+		return PropertiesManager.getInstance().collectPropertiesDocumentation(params, JDTUtilsLSImpl.getInstance(),
+				progress);
+	}
+
+	private static String getPropertyString(Map<?, ?> propertyObj, String key) {
+		Object value = propertyObj.get(key);
+		return value instanceof String ? (String) value : null;
+	}
+
 }
@@ -0,0 +1,417 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.ls;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.internal.core.JavaProject;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
+import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+
+/**
+ * Scheduler of the scans of MicroProfile project information
+ * (<code>microprofile/projectInfo</code>).
+ *
+ * <ul>
+ * <li>at most {@link #MAX_PARALLEL_SCANS} projects are scanned at the same
+ * time, the other scans wait in a queue.</li>
+ * <li>the scans of Java sources only (ex : after a Java file save in the
+ * project of the active editor) are started first, then the most recently
+ * requested scans are started first: the project of the active editor is
+ * scanned before the projects opened in background at startup.</li>
+ * <li>identical requests (same project, classpath kind, scopes, document format
+ * and timings) share the same scan while it is not started. A started scan is
+ * never shared with a new request: it could have read the project before a
+ * change (ex : a Java file save) which the new request expects to see.</li>
+ * </ul>
+ *
+ * <p>
+ * The queue depth and the wait time of the scans are logged and available with
+ * the getters of the scheduler for diagnosis.
+ * </p>
+ *
+ */
+public class ProjectInfoScanScheduler {
+
+	private static final Logger LOGGER = Logger.getLogger(ProjectInfoScanScheduler.class.getName());
+
+	private static final ProjectInfoScanScheduler INSTANCE = new ProjectInfoScanScheduler();
+
+	public static ProjectInfoScanScheduler getInstance() {
+		return INSTANCE;
+	}
+
+	private static final int MAX_PARALLEL_SCANS = Math.max(1,
+			Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+	private static final long WAIT_CANCEL_CHECK_MS = 100;
+
+	/**
+	 * Key of a scan.
+	 */
+	private static class ScanKey {
+
+		private final String projectName;
+
+		private final ClasspathKind classpathKind;
+
+		private final List<MicroProfilePropertiesScope> scopes;
+
+		private final DocumentFormat documentFormat;
+
+		private final boolean timings;
+
+		public ScanKey(String projectName, ClasspathKind classpathKind, List<MicroProfilePropertiesScope> scopes,
+				DocumentFormat documentFormat, boolean timings) {
+			this.projectName = projectName;
+			this.classpathKind = classpathKind;
+			this.scopes = scopes;
+			this.documentFormat = documentFormat;
+			this.timings = timings;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectName, classpathKind, scopes, documentFormat, timings);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			ScanKey other = (ScanKey) obj;
+			return projectName.equals(other.projectName) && classpathKind == other.classpathKind
+					&& Objects.equals(scopes, other.scopes) && documentFormat == other.documentFormat
+					&& timings == other.timings;
+		}
+
+		@Override
+		public String toString() {
+			return projectName + " (" + classpathKind + ", " + scopes + ")";
+		}
+	}
+
+	/**
+	 * Scan of a MicroProfile project information, shared by the identical
+	 * requests.
+	 */
+	private static class Scan {
+
+		private final ScanKey key;
+
+		private final IFile file;
+
+		private final IJDTUtils utils;
+
+		private final boolean onlySources;
+
+		private final long queuedTime;
+
+		private final CompletableFuture<MicroProfileProjectInfo> result;
+
+		// the sequence of the last request, the most recently requested scans are
+		// started first
+		private long sequence;
+
+		// number of requests which wait for the result of the scan
+		private int waiters;
+
+		private Job job;
+
+		public Scan(ScanKey key, IFile file, IJDTUtils utils, long sequence) {
+			this.key = key;
+			this.file = file;
+			this.utils = utils;
+			this.onlySources = MicroProfilePropertiesScope.isOnlySources(key.scopes);
+			this.queuedTime = System.currentTimeMillis();
+			this.result = new CompletableFuture<>();
+			this.sequence = sequence;
+			this.waiters = 1;
+		}
+	}
+
+	private static final Comparator<Scan> PRIORITY_COMPARATOR = Comparator
+			.comparing((Scan scan) -> !scan.onlySources) //
+			.thenComparing(Comparator.comparingLong((Scan scan) -> scan.sequence).reversed());
+
+	private final PriorityQueue<Scan> queue;
+
+	// the scans which are not started, shared by the identical requests
+	private final Map<ScanKey, Scan> scans;
+
+	// the scans whose job is scheduled
+	private final Set<Scan> runningScans;
+
+	private long sequence;
+
+	private long totalScans;
+
+	private long totalWaitTime;
+
+	private long maxWaitTime;
+
+	private ProjectInfoScanScheduler() {
+		queue = new PriorityQueue<>(PRIORITY_COMPARATOR);
+		scans = new HashMap<>();
+		runningScans = new HashSet<>();
+	}
+
+	/**
+	 * Returns the MicroProfile project information of the project of the given
+	 * params uri.
+	 *
+	 * @param params   the MicroProfile project information parameters.
+	 * @param utils    the JDT LS utilities.
+	 * @param progress the progress monitor of the request.
+	 * @return the MicroProfile project information of the project of the given
+	 *         params uri.
+	 * @throws Exception
+	 */
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(MicroProfileProjectInfoParams params, IJDTUtils utils,
+			IProgressMonitor progress) throws Exception {
+		IFile file = utils.findFile(params.getUri());
+		if (file == null || file.getProject() == null || !JavaProject.hasJavaNature(file.getProject())) {
+			// No scan is required
+			return PropertiesManager.getInstance().getMicroProfileProjectInfo(params, utils, progress);
+		}
+		IJavaProject javaProject = JavaCore.create(file.getProject());
+		ScanKey key = new ScanKey(javaProject.getElementName(),
+				JDTMicroProfileUtils.getClasspathKind(file, javaProject), params.getScopes(),
+				params.getDocumentFormat(), params.isTimings());
+		Scan scan = schedule(key, file, utils);
+		return waitFor(scan, progress);
+	}
+
+	private Scan schedule(ScanKey key, IFile file, IJDTUtils utils) {
+		synchronized (queue) {
+			Scan scan = scans.get(key);
+			if (scan != null) {
+				// an identical scan is not started, share it
+				scan.waiters++;
+				if (scan.job == null) {
+					// the scan is requested again, give it the highest priority
+					queue.remove(scan);
+					scan.sequence = ++sequence;
+					queue.add(scan);
+				}
+				return scan;
+			}
+			scan = new Scan(key, file, utils, ++sequence);
+			scans.put(key, scan);
+			queue.add(scan);
+			startScans();
+			return scan;
+		}
+	}
+
+	private MicroProfileProjectInfo waitFor(Scan scan, IProgressMonitor progress) throws Exception {
+		try {
+			while (true) {
+				if (progress != null && progress.isCanceled()) {
+					release(scan);
+					throw new OperationCanceledException();
+				}
+				try {
+					return scan.result.get(WAIT_CANCEL_CHECK_MS, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					// check again the cancellation of the request
+				}
+			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			throw new Exception(cause);
+		}
+	}
+
+	/**
+	 * Release the given scan for a cancelled request: the scan is cancelled if no
+	 * other request waits for it.
+	 *
+	 * @param scan the scan to release.
+	 */
+	private void release(Scan scan) {
+		synchronized (queue) {
+			scan.waiters--;
+			if (scan.waiters > 0 || scan.result.isDone()) {
+				return;
+			}
+			if (scan.job == null) {
+				// the scan is not started
+				queue.remove(scan);
+				scans.remove(scan.key);
+				scan.result.completeExceptionally(new OperationCanceledException());
+			} else {
+				// the next identical requests must not share the cancelled scan
+				scans.remove(scan.key, scan);
+				scan.job.cancel();
+			}
+		}
+	}
+
+	/**
+	 * Start the queued scans with the highest priority while the maximum of
+	 * parallel scans is not reached.
+	 */
+	private void startScans() {
+		while (runningScans.size() < MAX_PARALLEL_SCANS && !queue.isEmpty()) {
+			Scan scan = queue.poll();
+			long waitTime = System.currentTimeMillis() - scan.queuedTime;
+			runningScans.add(scan);
+			totalScans++;
+			totalWaitTime += waitTime;
+			maxWaitTime = Math.max(maxWaitTime, waitTime);
+			if (LOGGER.isLoggable(Level.INFO)) {
+				LOGGER.info("Start scanning MicroProfile properties for '" + scan.key + "' after waiting " + waitTime
+						+ "ms (" + queue.size() + " queued scans, " + runningScans.size() + " running scans).");
+			}
+			// Execute the scan in a Job to benefit with progress monitor
+			scan.job = Job.create("MicroProfile properties collector", monitor -> {
+				synchronized (queue) {
+					// the next identical requests must not share the scan which starts to read
+					// the project
+					scans.remove(scan.key, scan);
+				}
+				try {
+					scan.result.complete(PropertiesManager.getInstance().getMicroProfileProjectInfo(scan.file,
+							scan.key.scopes, scan.utils, scan.key.documentFormat, scan.key.timings, monitor));
+				} catch (Throwable e) {
+					scan.result.completeExceptionally(e);
+				}
+			});
+			scan.job.addJobChangeListener(new JobChangeAdapter() {
+
+				@Override
+				public void done(IJobChangeEvent event) {
+					// the job could be cancelled before running
+					scan.result.completeExceptionally(new OperationCanceledException());
+					synchronized (queue) {
+						scans.remove(scan.key, scan);
+						runningScans.remove(scan);
+						startScans();
+					}
+				}
+			});
+			scan.job.schedule();
+		}
+	}
+
+	/**
+	 * Returns the number of queued scans.
+	 *
+	 * @return the number of queued scans.
+	 */
+	public int getQueueDepth() {
+		synchronized (queue) {
+			return queue.size();
+		}
+	}
+
+	/**
+	 * Returns the number of running scans.
+	 *
+	 * @return the number of running scans.
+	 */
+	public int getRunningScans() {
+		synchronized (queue) {
+			return runningScans.size();
+		}
+	}
+
+	/**
+	 * Returns the number of started scans.
+	 *
+	 * @return the number of started scans.
+	 */
+	public long getTotalScans() {
+		synchronized (queue) {
+			return totalScans;
+		}
+	}
+
+	/**
+	 * Returns the number of requests which wait for a queued or running scan.
+	 *
+	 * @return the number of requests which wait for a queued or running scan.
+	 */
+	public int getWaitingRequests() {
+		synchronized (queue) {
+			int waitingRequests = 0;
+			for (Scan scan : queue) {
+				waitingRequests += scan.waiters;
+			}
+			for (Scan scan : runningScans) {
+				waitingRequests += scan.waiters;
+			}
+			return waitingRequests;
+		}
+	}
+
+	/**
+	 * Returns the average time in milliseconds the started scans waited in the
+	 * queue.
+	 *
+	 * @return the average time in milliseconds the started scans waited in the
+	 *         queue.
+	 */
+	public long getAverageWaitTime() {
+		synchronized (queue) {
+			return totalScans == 0 ? 0 : totalWaitTime / totalScans;
+		}
+	}
+
+	/**
+	 * Returns the maximum time in milliseconds a started scan waited in the queue.
+	 *
+	 * @return the maximum time in milliseconds a started scan waited in the queue.
+	 */
+	public long getMaxWaitTime() {
+		synchronized (queue) {
+			return maxWaitTime;
+		}
+	}
+}
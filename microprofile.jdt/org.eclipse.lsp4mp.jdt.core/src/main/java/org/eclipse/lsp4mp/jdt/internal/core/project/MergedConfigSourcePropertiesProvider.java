@@ -0,0 +1,146 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.project;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.jdt.core.project.IConfigSource;
+import org.eclipse.lsp4mp.jdt.core.project.MicroProfileConfigPropertyInformation;
+
+/**
+ * Immutable snapshot of a list of config sources merged by ordinal.
+ *
+ * <p>
+ * The value of a property is the value of the config source which has the
+ * bigger ordinal (see {@link IConfigSource#getOrdinal()}), so that a property
+ * lookup is one hash lookup instead of one lookup per config source. The
+ * snapshot must be created again when a config source changes.
+ * </p>
+ */
+public class MergedConfigSourcePropertiesProvider implements IConfigSourcePropertiesProvider {
+
+	private static final MergedConfigSourcePropertiesProvider EMPTY = new MergedConfigSourcePropertiesProvider(
+			Collections.emptyList());
+
+	// property key with profile -> value
+	private final Map<String, String> values;
+
+	// property keys with profile which have a non-empty value
+	private final Set<String> keys;
+
+	// property key without profile -> informations sorted by property key with
+	// profile
+	private final Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations;
+
+	/**
+	 * Returns the merged snapshot of the given config sources.
+	 *
+	 * @param configSources the config sources sorted by descending ordinal.
+	 * @return the merged snapshot of the given config sources.
+	 */
+	public static MergedConfigSourcePropertiesProvider create(List<IConfigSource> configSources) {
+		if (configSources.isEmpty()) {
+			return EMPTY;
+		}
+		return new MergedConfigSourcePropertiesProvider(configSources);
+	}
+
+	private MergedConfigSourcePropertiesProvider(List<IConfigSource> configSources) {
+		Map<String, String> values = new HashMap<>();
+		Set<String> keys = new HashSet<>();
+		Map<String, Map<String, MicroProfileConfigPropertyInformation>> informations = new HashMap<>();
+		// The config sources are sorted by descending ordinal: the first value wins
+		for (IConfigSource configSource : configSources) {
+			Set<String> processedPropertyKeys = new HashSet<>();
+			for (String key : configSource.getAllKeys()) {
+				String value = configSource.getProperty(key);
+				if (value == null) {
+					continue;
+				}
+				values.putIfAbsent(key, value);
+				if (StringUtils.hasText(value)) {
+					keys.add(key);
+				}
+				String propertyKey = MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key);
+				if (!processedPropertyKeys.add(propertyKey)) {
+					continue;
+				}
+				List<MicroProfileConfigPropertyInformation> sourceInformations = configSource
+						.getPropertyInformations(propertyKey);
+				if (sourceInformations != null) {
+					Map<String, MicroProfileConfigPropertyInformation> propertyInformations = informations
+							.computeIfAbsent(propertyKey, k -> new TreeMap<>());
+					for (MicroProfileConfigPropertyInformation information : sourceInformations) {
+						propertyInformations.putIfAbsent(information.getPropertyNameWithProfile(), information);
+					}
+				}
+			}
+		}
+		Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations = new HashMap<>();
+		informations.forEach((propertyKey, infos) -> propertyInformations.put(propertyKey,
+				Collections.unmodifiableList(new ArrayList<>(infos.values()))));
+		this.values = Collections.unmodifiableMap(values);
+		this.keys = Collections.unmodifiableSet(keys);
+		this.propertyInformations = Collections.unmodifiableMap(propertyInformations);
+	}
+
+	@Override
+	public Set<String> keys() {
+		return keys;
+	}
+
+	@Override
+	public boolean hasKey(String key) {
+		return keys.contains(key);
+	}
+
+	@Override
+	public String getValue(String key) {
+		return values.get(key);
+	}
+
+	/**
+	 * Returns true if a value is declared for the given property (without
+	 * profile) for any profile and false otherwise.
+	 *
+	 * @param propertyKey the property key without profile.
+	 * @return true if a value is declared for the given property (without
+	 *         profile) for any profile and false otherwise.
+	 */
+	public boolean hasProperty(String propertyKey) {
+		return propertyInformations.containsKey(propertyKey);
+	}
+
+	/**
+	 * Returns the informations (not expanded) of the given property (without
+	 * profile) for all the profiles sorted by property key with profile, or an
+	 * empty list.
+	 *
+	 * @param propertyKey the property key without profile.
+	 * @return the informations of the given property for all the profiles.
+	 */
+	public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+		List<MicroProfileConfigPropertyInformation> infos = propertyInformations.get(propertyKey);
+		return infos != null ? infos : Collections.emptyList();
+	}
+}
@@ -78,6 +78,13 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public boolean isIncrementalSearchSupported() {
+		// the processed annotations are stored in the search context, so per
+		// compilation unit in an incremental search
+		return true;
+	}
+
 	static class AnnotationInfo {
 
 		private final String name;
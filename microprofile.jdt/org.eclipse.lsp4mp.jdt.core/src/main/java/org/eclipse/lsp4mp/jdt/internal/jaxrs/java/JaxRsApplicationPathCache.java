@@ -0,0 +1,262 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.lsp4mp.jdt.internal.core.IJavaElementChangedHandler;
+import org.eclipse.lsp4mp.jdt.internal.core.JavaElementChangedDispatcher;
+
+/**
+ * Cache of the <code>@ApplicationPath</code> annotation value per Java project.
+ *
+ * <p>
+ * The value is searched once per project and is evicted only when a
+ * compilation unit which contains (or contained) an
+ * <code>@ApplicationPath</code> annotation changes, when the classpath of the
+ * project changes, or when the config sources of the project are evicted.
+ * </p>
+ *
+ */
+public class JaxRsApplicationPathCache {
+
+	private static final Logger LOGGER = Logger.getLogger(JaxRsApplicationPathCache.class.getName());
+
+	private static final JaxRsApplicationPathCache INSTANCE = new JaxRsApplicationPathCache();
+
+	public static JaxRsApplicationPathCache getInstance() {
+		return INSTANCE;
+	}
+
+	private static final SearchPattern SEARCH_PATTERN = SearchPattern.createOrPattern(
+			SearchPattern.createPattern(JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION, IJavaSearchConstants.ANNOTATION_TYPE,
+					IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH),
+			SearchPattern.createPattern(JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION, IJavaSearchConstants.ANNOTATION_TYPE,
+					IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH));
+
+	/**
+	 * The <code>@ApplicationPath</code> value of a Java project.
+	 */
+	private static class ApplicationPathInfo {
+
+		private final String applicationPath;
+
+		// handle identifiers of the compilation units which declare @ApplicationPath
+		private final Set<String> units;
+
+		public ApplicationPathInfo(String applicationPath, Set<String> units) {
+			this.applicationPath = applicationPath;
+			this.units = units;
+		}
+	}
+
+	private class ApplicationPathHandler implements IJavaElementChangedHandler {
+
+		@Override
+		public boolean isActive() {
+			return !applicationPaths.isEmpty();
+		}
+
+		@Override
+		public void classpathChanged(IJavaProject javaProject) {
+			evict(javaProject);
+		}
+
+		@Override
+		public void packageFragmentsChanged(IJavaProject javaProject) {
+			evict(javaProject);
+		}
+
+		@Override
+		public void compilationUnitChanged(ICompilationUnit unit, IJavaElementDelta delta) {
+			IJavaProject javaProject = unit.getJavaProject();
+			ApplicationPathInfo info = applicationPaths.get(getProjectKey(javaProject));
+			if (info != null) {
+				if (info.units.contains(unit.getHandleIdentifier()) || hasApplicationPath(unit)) {
+					evict(javaProject);
+				}
+			}
+		}
+	}
+
+	private final Map<String /* project name */, ApplicationPathInfo> applicationPaths;
+
+	// incremented each time a project is evicted, to ignore the result of a search
+	// which was running while the project was evicted.
+	private final Map<String /* project name */, Integer> versions;
+
+	private ApplicationPathHandler handler;
+
+	private JaxRsApplicationPathCache() {
+		this.applicationPaths = new ConcurrentHashMap<>();
+		this.versions = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the value of the <code>@ApplicationPath</code> annotation declared
+	 * in the sources of the given project, or null if not found.
+	 *
+	 * @param javaProject the Java project.
+	 * @param monitor     the progress monitor.
+	 * @return the value of the <code>@ApplicationPath</code> annotation declared
+	 *         in the sources of the given project, or null if not found.
+	 * @throws CoreException
+	 */
+	public String getApplicationPath(IJavaProject javaProject, IProgressMonitor monitor) throws CoreException {
+		String key = getProjectKey(javaProject);
+		ApplicationPathInfo info = applicationPaths.get(key);
+		if (info != null) {
+			return info.applicationPath;
+		}
+		Integer version = versions.get(key);
+		info = findApplicationPath(javaProject, monitor);
+		if (monitor == null || !monitor.isCanceled()) {
+			synchronized (this) {
+				if (Objects.equals(version, versions.get(key))) {
+					applicationPaths.put(key, info);
+				}
+			}
+		}
+		return info.applicationPath;
+	}
+
+	/**
+	 * Evict the <code>@ApplicationPath</code> value of the given project.
+	 *
+	 * @param javaProject the Java project.
+	 */
+	public void evict(IJavaProject javaProject) {
+		String key = getProjectKey(javaProject);
+		synchronized (this) {
+			versions.merge(key, 1, Integer::sum);
+			applicationPaths.remove(key);
+		}
+	}
+
+	/**
+	 * Use the java search engine to search the java project for the location and
+	 * value of the @ApplicationPath annotation.
+	 *
+	 * @param javaProject the Java project
+	 * @param monitor     the progress monitor
+	 * @return the value of the @ApplicationPath annotation and the compilation
+	 *         units which declare it.
+	 * @throws CoreException
+	 */
+	private static ApplicationPathInfo findApplicationPath(IJavaProject javaProject, IProgressMonitor monitor)
+			throws CoreException {
+		AtomicReference<String> applicationPathRef = new AtomicReference<String>();
+		Set<String> units = new HashSet<>();
+		SearchEngine engine = new SearchEngine();
+		engine.search(SEARCH_PATTERN, new SearchParticipant[] {
+				SearchEngine.getDefaultSearchParticipant()
+		}, createSearchScope(javaProject), new SearchRequestor() {
+
+			@Override
+			public void acceptSearchMatch(SearchMatch match) throws CoreException {
+				Object o = match.getElement();
+				if (o instanceof IType) {
+					collectApplicationPath((IType) o);
+				}
+			}
+
+			private void collectApplicationPath(IType type) throws CoreException {
+				String applicationPathValue = getJaxRsApplicationPathValue(type);
+				if (applicationPathValue != null) {
+					applicationPathRef.set(applicationPathValue);
+					ICompilationUnit unit = type.getCompilationUnit();
+					if (unit != null) {
+						units.add(unit.getHandleIdentifier());
+					}
+				}
+			}
+		}, monitor);
+		return new ApplicationPathInfo(applicationPathRef.get(),
+				units.isEmpty() ? Collections.emptySet() : units);
+	}
+
+	private static IJavaSearchScope createSearchScope(IJavaProject javaProject) throws CoreException {
+		return SearchEngine.createJavaSearchScope(new IJavaProject[] {
+				javaProject
+		}, IJavaSearchScope.SOURCES);
+	}
+
+	private static boolean hasApplicationPath(ICompilationUnit unit) {
+		if (!unit.exists()) {
+			return false;
+		}
+		try {
+			for (IType type : unit.getTypes()) {
+				if (getJaxRsApplicationPathValue(type) != null) {
+					return true;
+				}
+			}
+		} catch (JavaModelException e) {
+			LOGGER.log(Level.WARNING, "Error while checking @ApplicationPath in " + unit.getElementName(), e);
+		}
+		return false;
+	}
+
+	private static String getProjectKey(IJavaProject javaProject) {
+		return javaProject.getElementName();
+	}
+
+	/**
+	 * Initialize the <code>@ApplicationPath</code> cache.
+	 */
+	public synchronized void initialize() {
+		if (handler != null) {
+			return;
+		}
+		handler = new ApplicationPathHandler();
+		JavaElementChangedDispatcher.getInstance().addHandler(handler);
+	}
+
+	/**
+	 * Destroy the <code>@ApplicationPath</code> cache.
+	 */
+	public synchronized void destroy() {
+		if (handler != null) {
+			JavaElementChangedDispatcher.getInstance().removeHandler(handler);
+			handler = null;
+		}
+		applicationPaths.clear();
+	}
+}
@@ -13,9 +13,6 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
 
-import java.io.IOException;
-import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
@@ -56,8 +53,6 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 
 	private static final String LOCALHOST = "localhost";
 
-	private static final int PING_TIMEOUT = 2000;
-
 	@Override
 	public boolean isAdaptedForCodeLens(JavaCodeLensContext context, IProgressMonitor monitor) throws CoreException {
 		MicroProfileJavaCodeLensParams params = context.getParams();
@@ -81,22 +76,22 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 		JaxRsContext jaxrsContext = JaxRsContext.getJaxRsContext(context);
 		IJDTUtils utils = context.getUtils();
 
-		if (context.getParams().isCheckServerAvailable()
-				&& !isServerAvailable(LOCALHOST, jaxrsContext.getServerPort(), PING_TIMEOUT)) {
+		// The server availability is probed in background, this check never blocks
+		if (context.getParams().isCheckServerAvailable() && !ServerAvailabilityMonitor.getInstance()
+				.isServerAvailable(LOCALHOST, jaxrsContext.getServerPort())) {
 			return Collections.emptyList();
 		}
 
-		IJaxRsInfoProvider provider = getProviderForType(typeRoot, monitor);
-		if (provider == null) {
-			return Collections.emptyList();
-		}
-		List<JaxRsMethodInfo> infos = provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		List<JaxRsEndpoint> endpoints = JaxRsEndpointIndex.getInstance().getEndpoints(typeRoot, utils, monitor);
 
+		// The index stores the paths relative to the base URL, the URLs are built with
+		// the current server port, root path and @ApplicationPath
+		String baseURL = jaxrsContext.getLocalBaseURL();
 		MicroProfileJavaCodeLensParams params = context.getParams();
-		return infos.stream() //
-				.map(methodInfo -> {
+		return endpoints.stream() //
+				.map(endpoint -> {
 					try {
-						return createCodeLens(methodInfo, params.getOpenURICommand(), utils);
+						return createCodeLens(endpoint.toMethodInfo(baseURL), params.getOpenURICommand(), utils);
 					} catch (Exception e) {
 						LOGGER.log(Level.WARNING, "failed to create codelens for jax-rs method", e);
 						return null;
@@ -106,15 +101,6 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 				.collect(Collectors.toList());
 	}
 
-	private static boolean isServerAvailable(String host, int port, int timeout) {
-		try (Socket socket = new Socket()) {
-			socket.connect(new InetSocketAddress(host, port), timeout);
-			return true;
-		} catch (IOException e) {
-			return false;
-		}
-	}
-
 	/**
 	 * Returns the provider that can provide JAX-RS method info for the given class,
 	 * or null if no provider can provide info.
@@ -0,0 +1,125 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.HttpMethod;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsMethodInfo;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsUtils;
+
+/**
+ * JAX-RS endpoint stored in the {@link JaxRsEndpointIndex}.
+ *
+ * <p>
+ * The endpoint path is stored relative to the base URL (server port, root path
+ * and <code>@ApplicationPath</code>) which can change without changing the
+ * JAX-RS resource, the URL is built when the code lens or the workspace symbol
+ * is created with {@link #toMethodInfo(String)}.
+ * </p>
+ *
+ */
+public class JaxRsEndpoint {
+
+	private final HttpMethod httpMethod;
+
+	// the path relative to the base URL, or null if the URL is absolute
+	private final String path;
+
+	// the URL if it doesn't start with the base URL
+	private final String url;
+
+	private final IMethod javaMethod;
+
+	private final String documentUri;
+
+	JaxRsEndpoint(JaxRsMethodInfo info, String baseURL) {
+		this.httpMethod = info.getHttpMethod();
+		String infoUrl = info.getUrl();
+		if (infoUrl != null && infoUrl.startsWith(baseURL)) {
+			this.path = infoUrl.substring(baseURL.length());
+			this.url = null;
+		} else {
+			this.path = null;
+			this.url = infoUrl;
+		}
+		this.javaMethod = info.getJavaMethod();
+		this.documentUri = info.getDocumentUri();
+	}
+
+	/**
+	 * Returns the HTTP method of the endpoint.
+	 *
+	 * @return the HTTP method of the endpoint.
+	 */
+	public HttpMethod getHttpMethod() {
+		return httpMethod;
+	}
+
+	/**
+	 * Returns the path of the endpoint relative to the base URL and null if the
+	 * endpoint URL doesn't depend on the base URL.
+	 *
+	 * @return the path of the endpoint relative to the base URL and null if the
+	 *         endpoint URL doesn't depend on the base URL.
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns the Java method of the endpoint.
+	 *
+	 * @return the Java method of the endpoint.
+	 */
+	public IMethod getJavaMethod() {
+		return javaMethod;
+	}
+
+	/**
+	 * Returns the URI of the Java file where the endpoint is defined.
+	 *
+	 * @return the URI of the Java file where the endpoint is defined.
+	 */
+	public String getDocumentUri() {
+		return documentUri;
+	}
+
+	/**
+	 * Returns the URL of the endpoint for the given base URL.
+	 *
+	 * @param baseURL the base URL.
+	 * @return the URL of the endpoint for the given base URL.
+	 */
+	public String getUrl(String baseURL) {
+		if (path == null) {
+			return url;
+		}
+		if (path.isEmpty()) {
+			return baseURL.endsWith("/") ? baseURL : baseURL + "/";
+		}
+		return JaxRsUtils.buildURL(baseURL, path);
+	}
+
+	/**
+	 * Returns the JAX-RS method information of the endpoint for the given base
+	 * URL.
+	 *
+	 * @param baseURL the base URL.
+	 * @return the JAX-RS method information of the endpoint for the given base
+	 *         URL.
+	 */
+	public JaxRsMethodInfo toMethodInfo(String baseURL) {
+		return new JaxRsMethodInfo(getUrl(baseURL), httpMethod, javaMethod, documentUri);
+	}
+}
@@ -0,0 +1,305 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.IJaxRsInfoProvider;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsContext;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsMethodInfo;
+import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.IJavaElementChangedHandler;
+import org.eclipse.lsp4mp.jdt.internal.core.JavaElementChangedDispatcher;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
+
+/**
+ * Workspace-wide index of the JAX-RS endpoints (HTTP method, path, Java method)
+ * per Java project.
+ *
+ * <p>
+ * The index of a project is built with the {@link IJaxRsInfoProvider}
+ * providers the first time it is queried, and then it is maintained
+ * incrementally: the Java element deltas mark the changed compilation units as
+ * dirty and only those compilation units are collected again on the next query.
+ * A project index is dropped when its classpath changes.
+ * </p>
+ *
+ * <p>
+ * The endpoint paths are stored relative to the base URL: the index doesn't
+ * depend on the server port, the root path and the
+ * <code>@ApplicationPath</code>, the URLs are built by the code lens and
+ * workspace symbol participants with {@link JaxRsEndpoint#getUrl(String)}.
+ * </p>
+ *
+ */
+public class JaxRsEndpointIndex {
+
+	private static final JaxRsEndpointIndex INSTANCE = new JaxRsEndpointIndex();
+
+	public static JaxRsEndpointIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * JAX-RS endpoints of a Java project.
+	 */
+	private static class ProjectIndex {
+
+		private final JaxRsContext indexContext;
+
+		private final Map<String /* type root handle */, List<JaxRsEndpoint>> endpoints;
+
+		private final Map<String /* type root handle */, ITypeRoot> dirtyUnits;
+
+		private volatile boolean built;
+
+		public ProjectIndex(IJavaProject javaProject) {
+			// Context used to collect the endpoints: the application path is not
+			// searched, the URLs are rebuilt with the context given at query time.
+			this.indexContext = new JaxRsContext(javaProject);
+			indexContext.setApplicationPath("");
+			this.endpoints = new ConcurrentHashMap<>();
+			this.dirtyUnits = new ConcurrentHashMap<>();
+		}
+
+		public String getBaseURL() {
+			return indexContext.getLocalBaseURL();
+		}
+	}
+
+	private class JaxRsEndpointHandler implements IJavaElementChangedHandler {
+
+		@Override
+		public boolean isActive() {
+			return !projects.isEmpty();
+		}
+
+		@Override
+		public void classpathChanged(IJavaProject javaProject) {
+			projects.remove(getProjectKey(javaProject));
+		}
+
+		@Override
+		public void packageFragmentsChanged(IJavaProject javaProject) {
+			// a source folder / package has been added or removed, collect all the
+			// endpoints of the project again.
+			projects.remove(getProjectKey(javaProject));
+		}
+
+		@Override
+		public void compilationUnitChanged(ICompilationUnit unit, IJavaElementDelta delta) {
+			ProjectIndex index = projects.get(getProjectKey(unit.getJavaProject()));
+			if (index != null) {
+				String key = unit.getHandleIdentifier();
+				if (delta.getKind() == IJavaElementDelta.REMOVED) {
+					index.dirtyUnits.remove(key);
+					index.endpoints.remove(key);
+				} else {
+					index.dirtyUnits.put(key, unit);
+				}
+			}
+		}
+	}
+
+	private final Map<String /* project name */, ProjectIndex> projects;
+
+	private JaxRsEndpointHandler handler;
+
+	private JaxRsEndpointIndex() {
+		projects = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns all the JAX-RS endpoints of the given project.
+	 *
+	 * @param javaProject the Java project.
+	 * @param utils       the JDT utils.
+	 * @param monitor     the progress monitor.
+	 * @return all the JAX-RS endpoints of the given project.
+	 */
+	public List<JaxRsEndpoint> getEndpoints(IJavaProject javaProject, IJDTUtils utils, IProgressMonitor monitor) {
+		ProjectIndex index = getProjectIndex(javaProject);
+		if (!index.built) {
+			buildIndex(javaProject, index, utils, monitor);
+		}
+		refreshDirtyUnits(index, utils, monitor);
+		if (monitor.isCanceled()) {
+			return Collections.emptyList();
+		}
+		List<JaxRsEndpoint> allEndpoints = new ArrayList<>();
+		for (List<JaxRsEndpoint> endpoints : index.endpoints.values()) {
+			allEndpoints.addAll(endpoints);
+		}
+		return allEndpoints;
+	}
+
+	/**
+	 * Returns the JAX-RS endpoints declared in the given type root.
+	 *
+	 * @param typeRoot the type root (compilation unit or class file).
+	 * @param utils    the JDT utils.
+	 * @param monitor  the progress monitor.
+	 * @return the JAX-RS endpoints declared in the given type root.
+	 */
+	public List<JaxRsEndpoint> getEndpoints(ITypeRoot typeRoot, IJDTUtils utils, IProgressMonitor monitor) {
+		ProjectIndex index = getProjectIndex(typeRoot.getJavaProject());
+		String key = typeRoot.getHandleIdentifier();
+		List<JaxRsEndpoint> endpoints = null;
+		if (index.dirtyUnits.remove(key) == null) {
+			endpoints = index.endpoints.get(key);
+			if (endpoints == null && index.built) {
+				// The type root has been indexed and it doesn't declare JAX-RS endpoints
+				return Collections.emptyList();
+			}
+		}
+		if (endpoints == null) {
+			endpoints = collectEndpoints(typeRoot, index, utils, monitor);
+			if (monitor.isCanceled()) {
+				return Collections.emptyList();
+			}
+			updateEndpoints(index, key, endpoints);
+		}
+		return endpoints;
+	}
+
+	private ProjectIndex getProjectIndex(IJavaProject javaProject) {
+		return projects.computeIfAbsent(getProjectKey(javaProject), k -> new ProjectIndex(javaProject));
+	}
+
+	private static void buildIndex(IJavaProject javaProject, ProjectIndex index, IJDTUtils utils,
+			IProgressMonitor monitor) {
+		synchronized (index) {
+			if (index.built) {
+				return;
+			}
+			// The compilation units changed while the index is built are kept as dirty
+			index.dirtyUnits.clear();
+			Set<ITypeRoot> jaxrsTypes = new HashSet<>();
+			for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
+				jaxrsTypes.addAll(provider.getAllJaxRsClasses(javaProject, monitor));
+				if (monitor.isCanceled()) {
+					return;
+				}
+			}
+			Map<String, List<JaxRsEndpoint>> endpoints = new HashMap<>();
+			for (ITypeRoot typeRoot : jaxrsTypes) {
+				List<JaxRsEndpoint> typeEndpoints = collectEndpoints(typeRoot, index, utils, monitor);
+				if (monitor.isCanceled()) {
+					return;
+				}
+				if (!typeEndpoints.isEmpty()) {
+					endpoints.put(typeRoot.getHandleIdentifier(), typeEndpoints);
+				}
+			}
+			index.endpoints.clear();
+			index.endpoints.putAll(endpoints);
+			index.built = true;
+		}
+	}
+
+	private static void refreshDirtyUnits(ProjectIndex index, IJDTUtils utils, IProgressMonitor monitor) {
+		for (String key : new ArrayList<>(index.dirtyUnits.keySet())) {
+			ITypeRoot typeRoot = index.dirtyUnits.remove(key);
+			if (typeRoot == null) {
+				continue;
+			}
+			if (!typeRoot.exists()) {
+				index.endpoints.remove(key);
+				continue;
+			}
+			List<JaxRsEndpoint> endpoints = collectEndpoints(typeRoot, index, utils, monitor);
+			if (monitor.isCanceled()) {
+				// collect it again on the next query
+				index.dirtyUnits.putIfAbsent(key, typeRoot);
+				return;
+			}
+			updateEndpoints(index, key, endpoints);
+		}
+	}
+
+	private static void updateEndpoints(ProjectIndex index, String key, List<JaxRsEndpoint> endpoints) {
+		if (endpoints.isEmpty()) {
+			index.endpoints.remove(key);
+		} else {
+			index.endpoints.put(key, endpoints);
+		}
+	}
+
+	private static List<JaxRsEndpoint> collectEndpoints(ITypeRoot typeRoot, ProjectIndex index, IJDTUtils utils,
+			IProgressMonitor monitor) {
+		IJaxRsInfoProvider provider = getProviderForType(typeRoot, monitor);
+		if (provider == null) {
+			return Collections.emptyList();
+		}
+		List<JaxRsMethodInfo> methodsInfo = provider.getJaxRsMethodInfo(typeRoot, index.indexContext, utils,
+				monitor);
+		if (methodsInfo.isEmpty()) {
+			return Collections.emptyList();
+		}
+		String baseURL = index.getBaseURL();
+		List<JaxRsEndpoint> endpoints = new ArrayList<>(methodsInfo.size());
+		for (JaxRsMethodInfo methodInfo : methodsInfo) {
+			endpoints.add(new JaxRsEndpoint(methodInfo, baseURL));
+		}
+		return endpoints;
+	}
+
+	private static IJaxRsInfoProvider getProviderForType(ITypeRoot typeRoot, IProgressMonitor monitor) {
+		for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
+			if (provider.canProvideJaxRsMethodInfoForClass(typeRoot, monitor)) {
+				return provider;
+			}
+		}
+		return null;
+	}
+
+	private static String getProjectKey(IJavaProject javaProject) {
+		return javaProject.getElementName();
+	}
+
+	/**
+	 * Initialize the JAX-RS endpoint index.
+	 */
+	public synchronized void initialize() {
+		if (handler != null) {
+			return;
+		}
+		handler = new JaxRsEndpointHandler();
+		JavaElementChangedDispatcher.getInstance().addHandler(handler);
+	}
+
+	/**
+	 * Destroy the JAX-RS endpoint index.
+	 */
+	public synchronized void destroy() {
+		if (handler != null) {
+			JavaElementChangedDispatcher.getInstance().removeHandler(handler);
+			handler = null;
+		}
+		projects.clear();
+	}
+
+}
@@ -15,28 +15,22 @@ package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ISourceRange;
-import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.SymbolKind;
 import org.eclipse.lsp4mp.jdt.core.java.symbols.IJavaWorkspaceSymbolsParticipant;
-import org.eclipse.lsp4mp.jdt.core.jaxrs.IJaxRsInfoProvider;
 import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsContext;
 import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsMethodInfo;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
-import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
 
 /**
  * Collects workspace symbols for JAX-RS REST endpoints.
@@ -51,62 +45,23 @@ public class JaxRsWorkspaceSymbolParticipant implements IJavaWorkspaceSymbolsPar
 			return;
 		}
 
-		JaxRsContext jaxrsContext = new JaxRsContext(project);
-		Set<ITypeRoot> jaxrsTypes = getAllJaxRsTypes(project, monitor);
+		// The JAX-RS endpoints are collected from the index which is updated only for
+		// the changed compilation units.
+		List<JaxRsEndpoint> endpoints = JaxRsEndpointIndex.getInstance().getEndpoints(project, utils, monitor);
 		if (monitor.isCanceled()) {
 			return;
 		}
-		List<JaxRsMethodInfo> methodsInfo = new ArrayList<>();
-		for (ITypeRoot typeRoot : jaxrsTypes) {
-			IJaxRsInfoProvider provider = getProviderForType(typeRoot, monitor);
-			if (provider != null) {
-				methodsInfo.addAll(provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor));
-			}
-			if (monitor.isCanceled()) {
-				return;
-			}
-		}
 
-		methodsInfo.forEach(methodInfo -> {
+		String baseURL = new JaxRsContext(project).getLocalBaseURL();
+		endpoints.forEach(endpoint -> {
 			try {
-				symbols.add(createSymbol(methodInfo, utils));
+				symbols.add(createSymbol(endpoint.toMethodInfo(baseURL), utils));
 			} catch (Exception e) {
 				LOGGER.log(Level.WARNING, "failed to create workspace symbol for jax-rs method", e);
 			}
 		});
 	}
 
-	/**
-	 * Returns the provider that can provide JAX-RS method info for the given class,
-	 * or null if no provider can provide info.
-	 *
-	 * @param typeRoot the class to collect JAX-RS method info for
-	 * @param monitor the progress monitor
-	 * @return the provider that can provide JAX-RS method info for the given class,
-	 *         or null if no provider can provide info
-	 */
-	private static IJaxRsInfoProvider getProviderForType(ITypeRoot typeRoot, IProgressMonitor monitor) {
-		for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
-			if (provider.canProvideJaxRsMethodInfoForClass(typeRoot, monitor)) {
-				return provider;
-			}
-		}
-		LOGGER.severe("Attempted to collect JAX-RS info for " + typeRoot.getElementName()
-				+ ", but no participant was suitable, despite the fact that an earlier check found a suitable participant");
-		return null;
-	}
-
-	private static Set<ITypeRoot> getAllJaxRsTypes(IJavaProject javaProject, IProgressMonitor monitor) {
-		Set<ITypeRoot> jaxrsTypes = new HashSet<>();
-		for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
-			jaxrsTypes.addAll(provider.getAllJaxRsClasses(javaProject, monitor));
-			if (monitor.isCanceled()) {
-				return null;
-			}
-		}
-		return jaxrsTypes;
-	}
-
 	private static SymbolInformation createSymbol(JaxRsMethodInfo methodInfo, IJDTUtils utils) throws JavaModelException, MalformedURLException {
 		ISourceRange sourceRange = methodInfo.getJavaMethod().getNameRange();
 		Range r = utils.toRange(methodInfo.getJavaMethod().getOpenable(), sourceRange.getOffset(), sourceRange.getLength());
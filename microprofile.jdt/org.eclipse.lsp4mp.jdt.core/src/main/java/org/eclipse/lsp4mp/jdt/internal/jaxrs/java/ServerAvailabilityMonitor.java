@@ -0,0 +1,260 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Monitors in background the availability of local servers (host, port) used by
+ * the JAX-RS URL code lenses.
+ *
+ * <p>
+ * A server is probed the first time its availability is requested, and then on
+ * a schedule with an exponential backoff: the delay is reset to
+ * {@link #MIN_PROBE_DELAY_MS} when the availability changes and doubles up to
+ * {@link #MAX_PROBE_DELAY_MS} while it doesn't change. A server which has not
+ * been requested since {@link #IDLE_TIMEOUT_MS} is not probed anymore (those
+ * delays can be customized with
+ * {@link #ServerAvailabilityMonitor(long, long, long)}).
+ * </p>
+ *
+ * <p>
+ * {@link #isServerAvailable(String, int)} never blocks on the network, it
+ * returns the last probed availability. The registered
+ * {@link IServerAvailabilityListener listeners} are notified when the
+ * availability of a server changes.
+ * </p>
+ *
+ */
+public class ServerAvailabilityMonitor {
+
+	private static final Logger LOGGER = Logger.getLogger(ServerAvailabilityMonitor.class.getName());
+
+	private static final ServerAvailabilityMonitor INSTANCE = new ServerAvailabilityMonitor();
+
+	public static ServerAvailabilityMonitor getInstance() {
+		return INSTANCE;
+	}
+
+	public static final int PING_TIMEOUT_MS = 2000;
+
+	public static final long MIN_PROBE_DELAY_MS = 1000;
+
+	public static final long MAX_PROBE_DELAY_MS = 30000;
+
+	public static final long IDLE_TIMEOUT_MS = 5 * 60 * 1000;
+
+	/**
+	 * Server availability listener.
+	 */
+	public interface IServerAvailabilityListener {
+
+		/**
+		 * Notifies that the availability of the given server changed.
+		 *
+		 * @param host      the server host.
+		 * @param port      the server port.
+		 * @param available true if the server is available and false otherwise.
+		 */
+		void serverAvailabilityChanged(String host, int port, boolean available);
+	}
+
+	private class ServerProbe implements Runnable {
+
+		private final String key;
+
+		private final String host;
+
+		private final int port;
+
+		private volatile boolean available;
+
+		private volatile long lastAccess;
+
+		private long delay;
+
+		public ServerProbe(String key, String host, int port) {
+			this.key = key;
+			this.host = host;
+			this.port = port;
+			this.lastAccess = System.currentTimeMillis();
+			this.delay = minProbeDelay;
+		}
+
+		@Override
+		public void run() {
+			if (System.currentTimeMillis() - lastAccess > idleTimeout) {
+				// nobody requests this server anymore, stop probing it
+				probes.remove(key, this);
+				return;
+			}
+			boolean newAvailable = ping(host, port, PING_TIMEOUT_MS);
+			boolean changed = newAvailable != available;
+			available = newAvailable;
+			if (changed) {
+				delay = minProbeDelay;
+				fireServerAvailabilityChanged(host, port, newAvailable);
+			} else {
+				delay = Math.min(delay * 2, maxProbeDelay);
+			}
+			schedule(this, delay);
+		}
+	}
+
+	private final Map<String /* host:port */, ServerProbe> probes;
+
+	private final Set<IServerAvailabilityListener> listeners;
+
+	private final long minProbeDelay;
+
+	private final long maxProbeDelay;
+
+	private final long idleTimeout;
+
+	private ScheduledExecutorService executorService;
+
+	private ServerAvailabilityMonitor() {
+		this(MIN_PROBE_DELAY_MS, MAX_PROBE_DELAY_MS, IDLE_TIMEOUT_MS);
+	}
+
+	/**
+	 * Server availability monitor with the given delays. The JAX-RS URL code
+	 * lenses use the shared instance returned by {@link #getInstance()}.
+	 *
+	 * @param minProbeDelay the delay in ms between two probes after an
+	 *                      availability change.
+	 * @param maxProbeDelay the maximum delay in ms between two probes.
+	 * @param idleTimeout   the delay in ms after which a server which has not
+	 *                      been requested is not probed anymore.
+	 */
+	public ServerAvailabilityMonitor(long minProbeDelay, long maxProbeDelay, long idleTimeout) {
+		this.probes = new ConcurrentHashMap<>();
+		this.listeners = new CopyOnWriteArraySet<>();
+		this.minProbeDelay = minProbeDelay;
+		this.maxProbeDelay = maxProbeDelay;
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Returns the last probed availability of the given server without blocking.
+	 *
+	 * <p>
+	 * The first call for a given server starts to monitor it and returns false
+	 * until the first probe completes.
+	 * </p>
+	 *
+	 * @param host the server host.
+	 * @param port the server port.
+	 * @return the last probed availability of the given server.
+	 */
+	public boolean isServerAvailable(String host, int port) {
+		String key = host + ":" + port;
+		ServerProbe probe = probes.get(key);
+		if (probe == null) {
+			ServerProbe newProbe = new ServerProbe(key, host, port);
+			probe = probes.putIfAbsent(key, newProbe);
+			if (probe == null) {
+				probe = newProbe;
+				schedule(newProbe, 0);
+			}
+		}
+		probe.lastAccess = System.currentTimeMillis();
+		return probe.available;
+	}
+
+	/**
+	 * Returns true if the given server is monitored and false otherwise (never
+	 * requested or not requested since the idle timeout).
+	 *
+	 * @param host the server host.
+	 * @param port the server port.
+	 * @return true if the given server is monitored and false otherwise.
+	 */
+	public boolean isMonitored(String host, int port) {
+		return probes.containsKey(host + ":" + port);
+	}
+
+	/**
+	 * Add the given server availability listener.
+	 *
+	 * @param listener the listener to add
+	 */
+	public void addServerAvailabilityListener(IServerAvailabilityListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove the given server availability listener.
+	 *
+	 * @param listener the listener to remove
+	 */
+	public void removeServerAvailabilityListener(IServerAvailabilityListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Stop monitoring all servers.
+	 */
+	public synchronized void destroy() {
+		probes.clear();
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+	}
+
+	private synchronized void schedule(ServerProbe probe, long delay) {
+		if (probes.get(probe.key) != probe) {
+			return;
+		}
+		if (executorService == null) {
+			executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "MicroProfile server availability monitor");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		executorService.schedule(probe, delay, TimeUnit.MILLISECONDS);
+	}
+
+	private void fireServerAvailabilityChanged(String host, int port, boolean available) {
+		for (IServerAvailabilityListener listener : listeners) {
+			try {
+				listener.serverAvailabilityChanged(host, port, available);
+			} catch (Exception e) {
+				LOGGER.log(Level.SEVERE, "Error while notifying server availability change", e);
+			}
+		}
+	}
+
+	private static boolean ping(String host, int port, int timeout) {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, port), timeout);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+}
@@ -118,6 +118,11 @@ public class MicroProfileReactiveMessagingProvider extends AbstractAnnotationTyp
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public boolean isIncrementalSearchSupported() {
+		return true;
+	}
+
 	@Override
 	protected void processAnnotation(IJavaElement javaElement, IAnnotation mprmAnnotation, String annotationName,
 			SearchContext context, IProgressMonitor monitor) throws JavaModelException {
@@ -0,0 +1,280 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.restclient.java;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.internal.restclient.MicroProfileRestClientConstants.REST_CLIENT_ANNOTATION;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.lsp4mp.jdt.core.utils.AnnotationUtils;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.IJavaElementChangedHandler;
+import org.eclipse.lsp4mp.jdt.internal.core.JavaElementChangedDispatcher;
+
+/**
+ * Index of the MicroProfile RestClient injection points (fields annotated with
+ * <code>@Inject</code> and <code>@RestClient</code>) per Java project, keyed by
+ * the type of the injected interface.
+ *
+ * <p>
+ * The index of a project is built the first time it is queried by searching
+ * the compilation units which reference the <code>@RestClient</code>
+ * annotation, and then it is maintained incrementally: the Java element deltas
+ * mark the changed compilation units as dirty and only those compilation units
+ * are collected again on the next query. A project index is dropped when its
+ * classpath changes or when a source folder / package is added or removed.
+ * </p>
+ *
+ */
+public class RestClientInjectionIndex {
+
+	private static final RestClientInjectionIndex INSTANCE = new RestClientInjectionIndex();
+
+	public static RestClientInjectionIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * RestClient injection points of a Java project.
+	 */
+	private static class ProjectIndex {
+
+		private final Map<String /* compilation unit handle */, Map<String /* interface type */, Integer>> injectionPoints;
+
+		private final Map<String /* compilation unit handle */, ICompilationUnit> dirtyUnits;
+
+		private volatile boolean built;
+
+		public ProjectIndex() {
+			this.injectionPoints = new ConcurrentHashMap<>();
+			this.dirtyUnits = new ConcurrentHashMap<>();
+		}
+	}
+
+	private class RestClientInjectionHandler implements IJavaElementChangedHandler {
+
+		@Override
+		public boolean isActive() {
+			return !projects.isEmpty();
+		}
+
+		@Override
+		public void classpathChanged(IJavaProject javaProject) {
+			projects.remove(getProjectKey(javaProject));
+		}
+
+		@Override
+		public void packageFragmentsChanged(IJavaProject javaProject) {
+			projects.remove(getProjectKey(javaProject));
+		}
+
+		@Override
+		public void compilationUnitChanged(ICompilationUnit unit, IJavaElementDelta delta) {
+			ProjectIndex index = projects.get(getProjectKey(unit.getJavaProject()));
+			if (index != null) {
+				String key = unit.getHandleIdentifier();
+				if (delta.getKind() == IJavaElementDelta.REMOVED) {
+					index.dirtyUnits.remove(key);
+					index.injectionPoints.remove(key);
+				} else {
+					index.dirtyUnits.put(key, unit);
+				}
+			}
+		}
+	}
+
+	private final Map<String /* project name */, ProjectIndex> projects;
+
+	private RestClientInjectionHandler handler;
+
+	private RestClientInjectionIndex() {
+		projects = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the number of fields of the sources of the project of the given
+	 * interface which inject the given interface with <code>@Inject</code> and
+	 * <code>@RestClient</code>.
+	 *
+	 * @param interfaceType the interface type.
+	 * @param monitor       the progress monitor.
+	 * @return the number of fields which inject the given interface with
+	 *         <code>@Inject</code> and <code>@RestClient</code>.
+	 * @throws CoreException
+	 */
+	public int getInjectionPointsCount(IType interfaceType, IProgressMonitor monitor) throws CoreException {
+		IJavaProject javaProject = interfaceType.getJavaProject();
+		ProjectIndex index = projects.computeIfAbsent(getProjectKey(javaProject), k -> new ProjectIndex());
+		if (!index.built) {
+			buildIndex(javaProject, index, monitor);
+		}
+		refreshDirtyUnits(index, monitor);
+		if (monitor.isCanceled()) {
+			return 0;
+		}
+		String interfaceName = interfaceType.getFullyQualifiedName('.');
+		int count = 0;
+		for (Map<String, Integer> unitInjectionPoints : index.injectionPoints.values()) {
+			Integer unitCount = unitInjectionPoints.get(interfaceName);
+			if (unitCount != null) {
+				count += unitCount;
+			}
+		}
+		return count;
+	}
+
+	private static void buildIndex(IJavaProject javaProject, ProjectIndex index, IProgressMonitor monitor)
+			throws CoreException {
+		synchronized (index) {
+			if (index.built) {
+				return;
+			}
+			// The compilation units changed while the index is built are kept as dirty
+			index.dirtyUnits.clear();
+			// Only the compilation units which reference @RestClient can declare an
+			// injection point
+			Set<ICompilationUnit> units = new HashSet<>();
+			SearchPattern pattern = SearchPattern.createPattern(REST_CLIENT_ANNOTATION,
+					IJavaSearchConstants.ANNOTATION_TYPE, IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE,
+					SearchPattern.R_EXACT_MATCH);
+			SearchEngine engine = new SearchEngine();
+			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+					createSearchScope(javaProject), new SearchRequestor() {
+
+						@Override
+						public void acceptSearchMatch(SearchMatch match) throws CoreException {
+							Object o = match.getElement();
+							if (o instanceof IJavaElement) {
+								IJavaElement unit = ((IJavaElement) o).getAncestor(IJavaElement.COMPILATION_UNIT);
+								if (unit != null) {
+									units.add((ICompilationUnit) unit);
+								}
+							}
+						}
+					}, monitor);
+			if (monitor.isCanceled()) {
+				return;
+			}
+			Map<String, Map<String, Integer>> injectionPoints = new HashMap<>();
+			for (ICompilationUnit unit : units) {
+				Map<String, Integer> unitInjectionPoints = collectInjectionPoints(unit);
+				if (!unitInjectionPoints.isEmpty()) {
+					injectionPoints.put(unit.getHandleIdentifier(), unitInjectionPoints);
+				}
+			}
+			index.injectionPoints.clear();
+			index.injectionPoints.putAll(injectionPoints);
+			index.built = true;
+		}
+	}
+
+	private static void refreshDirtyUnits(ProjectIndex index, IProgressMonitor monitor) throws CoreException {
+		for (String key : new ArrayList<>(index.dirtyUnits.keySet())) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			ICompilationUnit unit = index.dirtyUnits.remove(key);
+			if (unit == null) {
+				continue;
+			}
+			Map<String, Integer> unitInjectionPoints = unit.exists() ? collectInjectionPoints(unit)
+					: Collections.emptyMap();
+			if (unitInjectionPoints.isEmpty()) {
+				index.injectionPoints.remove(key);
+			} else {
+				index.injectionPoints.put(key, unitInjectionPoints);
+			}
+		}
+	}
+
+	private static Map<String, Integer> collectInjectionPoints(ICompilationUnit unit) throws CoreException {
+		Map<String, Integer> injectionPoints = null;
+		for (IType type : unit.getAllTypes()) {
+			for (IField field : type.getFields()) {
+				if (!isInjectionPoint(field)) {
+					continue;
+				}
+				String fieldTypeName = JDTTypeUtils.getResolvedTypeName(field);
+				if (fieldTypeName == null) {
+					continue;
+				}
+				if (injectionPoints == null) {
+					injectionPoints = new HashMap<>();
+				}
+				injectionPoints.merge(fieldTypeName.replace('$', '.'), 1, Integer::sum);
+			}
+		}
+		return injectionPoints != null ? injectionPoints : Collections.emptyMap();
+	}
+
+	private static boolean isInjectionPoint(IField field) throws CoreException {
+		boolean hasInjectAnnotation = AnnotationUtils.hasAnnotation(field, INJECT_JAVAX_ANNOTATION)
+				|| AnnotationUtils.hasAnnotation(field, INJECT_JAKARTA_ANNOTATION);
+		return hasInjectAnnotation && AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION);
+	}
+
+	private static IJavaSearchScope createSearchScope(IJavaProject javaProject) throws CoreException {
+		return SearchEngine.createJavaSearchScope(new IJavaProject[] { javaProject }, IJavaSearchScope.SOURCES);
+	}
+
+	private static String getProjectKey(IJavaProject javaProject) {
+		return javaProject.getElementName();
+	}
+
+	/**
+	 * Initialize the RestClient injection index.
+	 */
+	public synchronized void initialize() {
+		if (handler != null) {
+			return;
+		}
+		handler = new RestClientInjectionHandler();
+		JavaElementChangedDispatcher.getInstance().addHandler(handler);
+	}
+
+	/**
+	 * Destroy the RestClient injection index.
+	 */
+	public synchronized void destroy() {
+		if (handler != null) {
+			JavaElementChangedDispatcher.getInstance().removeHandler(handler);
+			handler = null;
+		}
+		projects.clear();
+	}
+
+}
@@ -106,6 +106,13 @@ public class MicroProfileRegisterRestClientProvider extends AbstractAnnotationTy
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public boolean isIncrementalSearchSupported() {
+		// the generic mp-rest properties are collected once per search context, so
+		// once per compilation unit in an incremental search
+		return true;
+	}
+
 	@Override
 	protected void processAnnotation(IJavaElement javaElement, IAnnotation registerRestClientAnnotation,
 			String annotationName, SearchContext context, IProgressMonitor monitor) throws JavaModelException {
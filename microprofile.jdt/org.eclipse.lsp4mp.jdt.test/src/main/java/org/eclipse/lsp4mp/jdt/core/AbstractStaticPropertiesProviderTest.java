@@ -0,0 +1,75 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the static metadata shared by {@link AbstractStaticPropertiesProvider}.
+ *
+ */
+public class AbstractStaticPropertiesProviderTest {
+
+	private static class TestStaticPropertiesProvider extends AbstractStaticPropertiesProvider {
+
+		public TestStaticPropertiesProvider(String path) {
+			super(null, path);
+		}
+
+		@Override
+		protected ConfigurationMetadata getMetadata() {
+			ItemMetadata property = new ItemMetadata();
+			property.setName("static.property");
+			property.setType("java.lang.String");
+			ValueHint value = new ValueHint();
+			value.setValue("value");
+			ItemHint hint = new ItemHint();
+			hint.setName("static.hint");
+			hint.setValues(new ArrayList<>(Arrays.asList(value)));
+			ConfigurationMetadata metadata = new ConfigurationMetadata();
+			metadata.setProperties(new ArrayList<>(Arrays.asList(property)));
+			metadata.setHints(new ArrayList<>(Arrays.asList(hint)));
+			return metadata;
+		}
+
+		@Override
+		protected boolean isAdaptedFor(SearchContext context, IProgressMonitor monitor) {
+			return true;
+		}
+	}
+
+	@Test
+	public void sharedMetadataIsImmutable() {
+		ConfigurationMetadata metadata = new TestStaticPropertiesProvider("/immutable.json").loadMetadata();
+		Assert.assertSame(metadata, new TestStaticPropertiesProvider("/immutable.json").loadMetadata());
+
+		ItemMetadata property = metadata.getProperties().get(0);
+		Assert.assertEquals("static.property", property.getName());
+		Assert.assertThrows(UnsupportedOperationException.class, () -> property.setDescription("updated"));
+		Assert.assertThrows(UnsupportedOperationException.class, () -> metadata.getProperties().clear());
+
+		ValueHint value = metadata.getHints().get(0).getValues().get(0);
+		Assert.assertEquals("value", value.getValue());
+		Assert.assertThrows(UnsupportedOperationException.class, () -> value.setDescription("updated"));
+	}
+}
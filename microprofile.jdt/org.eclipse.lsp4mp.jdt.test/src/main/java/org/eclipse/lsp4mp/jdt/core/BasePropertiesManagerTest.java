@@ -166,7 +166,24 @@ public class BasePropertiesManagerTest {
 			IPath path = new Path(projectFolder.getAbsolutePath());
 			paths.add(path);
 		}
+		return importJavaProjects(paths);
+	}
+
+	/**
+	 * Import the Java project located in the given folder (ex : a project
+	 * generated by a test).
+	 *
+	 * @param projectFolder the project folder.
+	 * @return the imported Java project.
+	 * @throws Exception
+	 */
+	public static IJavaProject loadJavaProject(File projectFolder) throws Exception {
+		List<IPath> paths = new ArrayList<>();
+		paths.add(new Path(projectFolder.getAbsolutePath()));
+		return importJavaProjects(paths)[0];
+	}
 
+	private static IJavaProject[] importJavaProjects(List<IPath> paths) throws CoreException, Exception {
 		JavaLanguageServerPlugin.getPreferencesManager().initialize();
 		JavaLanguageServerPlugin.getPreferencesManager().updateClientPrefences(new ClientCapabilities(), new HashMap<>());
 		JavaLanguageServerPlugin.getProjectsManager().initializeProjects(paths, null);
@@ -0,0 +1,184 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.lsp4mp.jdt.internal.core.java.CompilationUnitASTCache;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the shared AST cache of compilation units.
+ *
+ */
+public class CompilationUnitASTCacheTest extends BasePropertiesManagerTest {
+
+	@Before
+	public void beginRequest() {
+		CompilationUnitASTCache.getInstance().beginRequest();
+	}
+
+	@After
+	public void endRequest() {
+		CompilationUnitASTCache.getInstance().endRequest();
+	}
+
+	@Test
+	public void astIsSharedUntilProjectChanges() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		ICompilationUnit unit = (ICompilationUnit) JavaCore.create(
+				javaProject.getProject().getFile("src/main/java/org/acme/config/GreetingResource.java"));
+
+		CompilationUnit ast = getAST(unit);
+		Assert.assertNotNull(ast);
+		// Unchanged compilation unit: the same AST is returned
+		Assert.assertSame(ast, getAST(unit));
+
+		// Change another compilation unit of the project: the bindings of the AST
+		// could be obsolete
+		saveFile("org/acme/config/OtherResource.java", "package org.acme.config;\n" + //
+				"\n" + //
+				"public class OtherResource {\n" + //
+				"}\n", javaProject, true);
+		try {
+			CompilationUnit newAst = getAST(unit);
+			Assert.assertNotSame(ast, newAst);
+			Assert.assertSame(newAst, getAST(unit));
+		} finally {
+			deleteFile("org/acme/config/OtherResource.java", javaProject, true);
+		}
+	}
+
+	@Test
+	public void astIsKeptWhenOnlyContentOfOtherUnitChanges() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		ICompilationUnit unit = (ICompilationUnit) JavaCore.create(
+				javaProject.getProject().getFile("src/main/java/org/acme/config/GreetingResource.java"));
+		ICompilationUnit otherUnit = (ICompilationUnit) JavaCore.create(
+				javaProject.getProject().getFile("src/main/java/org/acme/config/FakeResource.java"));
+		String otherSource = otherUnit.getSource();
+
+		CompilationUnit ast = getAST(unit);
+		Assert.assertNotNull(ast);
+
+		// Save the other compilation unit: only its AST is invalidated
+		saveFile("org/acme/config/FakeResource.java", otherSource + "\n", javaProject, true);
+		try {
+			Assert.assertSame(ast, getAST(unit));
+		} finally {
+			saveFile("org/acme/config/FakeResource.java", otherSource, javaProject, true);
+		}
+
+		// Save the compilation unit: its modification stamp changes
+		saveFile("org/acme/config/GreetingResource.java", unit.getSource(), javaProject, true);
+		Assert.assertNotSame(ast, getAST(unit));
+	}
+
+	@Test
+	public void astIsNotSharedWhileLeasedToAnotherThread() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		ICompilationUnit unit = (ICompilationUnit) JavaCore.create(
+				javaProject.getProject().getFile("src/main/java/org/acme/config/GreetingResource.java"));
+
+		// The AST is leased to the current thread
+		CompilationUnit ast = getAST(unit);
+		CompilationUnit otherThreadAst = CompletableFuture.supplyAsync(() -> getAST(unit)).get();
+		Assert.assertNotNull(otherThreadAst);
+		Assert.assertNotSame(ast, otherThreadAst);
+
+		// The AST released at the end of the request is shared with the other threads
+		CompilationUnitASTCache.getInstance().endRequest();
+		CompilationUnit releasedAst;
+		try {
+			releasedAst = CompletableFuture.supplyAsync(() -> getASTInRequest(unit)).get();
+		} finally {
+			CompilationUnitASTCache.getInstance().beginRequest();
+		}
+		Assert.assertSame(ast, releasedAst);
+	}
+
+	@Test
+	public void astIsNotLeasedOutsideOfRequest() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		ICompilationUnit unit = (ICompilationUnit) JavaCore.create(
+				javaProject.getProject().getFile("src/main/java/org/acme/config/GreetingResource.java"));
+		CompilationUnit ast = getAST(unit);
+		CompilationUnitASTCache.getInstance().endRequest();
+		try {
+			// Outside of a request, the AST is not cached and the cached AST is not
+			// leased to the current thread
+			CompilationUnit notCachedAst = getAST(unit);
+			Assert.assertNotNull(notCachedAst);
+			Assert.assertNotSame(ast, notCachedAst);
+			Assert.assertSame(ast, CompletableFuture.supplyAsync(() -> getASTInRequest(unit)).get());
+
+			// Nested requests release the ASTs at the end of the outermost request
+			CompilationUnitASTCache.getInstance().beginRequest();
+			CompilationUnitASTCache.getInstance().beginRequest();
+			Assert.assertSame(ast, getAST(unit));
+			CompilationUnitASTCache.getInstance().endRequest();
+			Assert.assertNotSame(ast, CompletableFuture.supplyAsync(() -> getASTInRequest(unit)).get());
+			CompilationUnitASTCache.getInstance().endRequest();
+			Assert.assertSame(ast, CompletableFuture.supplyAsync(() -> getASTInRequest(unit)).get());
+		} finally {
+			CompilationUnitASTCache.getInstance().beginRequest();
+		}
+	}
+
+	@Test
+	public void astIsKeptWhenReconcileDoesNotChangeContent() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		ICompilationUnit unit = (ICompilationUnit) JavaCore.create(
+				javaProject.getProject().getFile("src/main/java/org/acme/config/GreetingResource.java"));
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		unit.becomeWorkingCopy(monitor);
+		try {
+			CompilationUnit ast = getAST(unit);
+			Assert.assertNotNull(ast);
+
+			// Reconcile without change only reports that an AST has been created
+			unit.reconcile(AST.getJLSLatest(), true, null, monitor);
+			Assert.assertSame(ast, getAST(unit));
+
+			// Reconcile with a change of the content
+			unit.getBuffer().append("\n");
+			unit.reconcile(AST.getJLSLatest(), true, null, monitor);
+			Assert.assertNotSame(ast, getAST(unit));
+		} finally {
+			unit.discardWorkingCopy();
+		}
+	}
+
+	private static CompilationUnit getAST(ICompilationUnit unit) {
+		return CompilationUnitASTCache.getInstance().getAST(unit, new NullProgressMonitor());
+	}
+
+	private static CompilationUnit getASTInRequest(ICompilationUnit unit) {
+		CompilationUnitASTCache.getInstance().beginRequest();
+		try {
+			return getAST(unit);
+		} finally {
+			CompilationUnitASTCache.getInstance().endRequest();
+		}
+	}
+}
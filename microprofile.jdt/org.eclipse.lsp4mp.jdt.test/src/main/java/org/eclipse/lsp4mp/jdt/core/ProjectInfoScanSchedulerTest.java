@@ -0,0 +1,148 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.jobs.IJobManager;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.internal.core.ls.ProjectInfoScanScheduler;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the scheduler of the scans of MicroProfile project information.
+ *
+ */
+public class ProjectInfoScanSchedulerTest extends BasePropertiesManagerTest {
+
+	@Test
+	public void identicalRequests() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		MicroProfileProjectInfoParams params = createParams(javaProject);
+		ProjectInfoScanScheduler scheduler = ProjectInfoScanScheduler.getInstance();
+		long totalScans = scheduler.getTotalScans();
+
+		// Suspend the jobs so that the scan of the first request is still running when
+		// the second request is received
+		IJobManager jobManager = Job.getJobManager();
+		jobManager.suspend();
+		CompletableFuture<MicroProfileProjectInfo> info1;
+		CompletableFuture<MicroProfileProjectInfo> info2;
+		try {
+			info1 = CompletableFuture.supplyAsync(() -> getProjectInfo(params));
+			info2 = CompletableFuture.supplyAsync(() -> getProjectInfo(params));
+			long timeout = System.currentTimeMillis() + 10000;
+			while (scheduler.getWaitingRequests() < 2 && System.currentTimeMillis() < timeout) {
+				Thread.sleep(10);
+			}
+			Assert.assertEquals("Both requests wait for the same scan", 2, scheduler.getWaitingRequests());
+		} finally {
+			jobManager.resume();
+		}
+
+		// Both requests get the result of one scan
+		Assert.assertSame(info1.join(), info2.join());
+		Assert.assertEquals(totalScans + 1, scheduler.getTotalScans());
+
+		MicroProfileProjectInfo expected = PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.PlainText, new NullProgressMonitor());
+		Assert.assertEquals(expected.getProperties().size(), info1.join().getProperties().size());
+		Assert.assertEquals(expected.getProperties().size(), info2.join().getProperties().size());
+		Assert.assertEquals(0, ProjectInfoScanScheduler.getInstance().getQueueDepth());
+	}
+
+	@Test
+	public void sourceChangedWhileScanning() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		MicroProfileProjectInfoParams params = createParams(javaProject);
+		IFile javaFile = javaProject.getProject().getFile("src/main/java/org/acme/config/OtherConfig.java");
+		String content = "package org.acme.config;\n" + //
+				"\n" + //
+				"import org.eclipse.microprofile.config.inject.ConfigProperty;\n" + //
+				"\n" + //
+				"public class OtherConfig {\n" + //
+				"\n" + //
+				"	@ConfigProperty(name = \"other.property\")\n" + //
+				"	String otherProperty;\n" + //
+				"}\n";
+
+		// Save a Java file while the scan of a first request is running
+		CompletableFuture<MicroProfileProjectInfo> info1 = CompletableFuture.supplyAsync(() -> getProjectInfo(params));
+		long timeout = System.currentTimeMillis() + 10000;
+		while (!info1.isDone() && !isScanRunning() && System.currentTimeMillis() < timeout) {
+			Thread.sleep(1);
+		}
+		javaFile.create(new ByteArrayInputStream(content.getBytes()), true, new NullProgressMonitor());
+		try {
+			// The request received after the save must not get the result of the running
+			// scan
+			MicroProfileProjectInfo info2 = getProjectInfo(params);
+			info1.join();
+			Assert.assertTrue("The property of the saved Java file is collected", info2.getProperties().stream() //
+					.anyMatch(property -> "other.property".equals(property.getName())));
+		} finally {
+			javaFile.delete(true, new NullProgressMonitor());
+		}
+	}
+
+	@Test(expected = OperationCanceledException.class)
+	public void cancelledRequest() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		MicroProfileProjectInfoParams params = createParams(javaProject);
+
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		ProjectInfoScanScheduler.getInstance().getMicroProfileProjectInfo(params, JDT_UTILS, monitor);
+	}
+
+	private static MicroProfileProjectInfoParams createParams(IJavaProject javaProject) {
+		IFile file = javaProject.getProject().getFile("src/main/resources/META-INF/microprofile-config.properties");
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(
+				file.getLocation().toFile().toURI().toString());
+		params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		params.setDocumentFormat(DocumentFormat.PlainText);
+		return params;
+	}
+
+	private static boolean isScanRunning() {
+		for (Job job : Job.getJobManager().find(null)) {
+			if ("MicroProfile properties collector".equals(job.getName()) && job.getState() == Job.RUNNING) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static MicroProfileProjectInfo getProjectInfo(MicroProfileProjectInfoParams params) {
+		try {
+			return ProjectInfoScanScheduler.getInstance().getMicroProfileProjectInfo(params, JDT_UTILS,
+					new NullProgressMonitor());
+		} catch (Exception e) {
+			throw new CompletionException(e);
+		}
+	}
+}
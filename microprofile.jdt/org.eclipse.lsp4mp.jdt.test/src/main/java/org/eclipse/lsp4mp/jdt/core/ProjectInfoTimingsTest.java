@@ -0,0 +1,57 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.internal.core.ProjectInfoScanTimings;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the timings of the scan attached to the MicroProfile project
+ * information.
+ *
+ */
+public class ProjectInfoTimingsTest extends BasePropertiesManagerTest {
+
+	@Test
+	public void timingsAttached() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+
+		MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.PlainText, true, new NullProgressMonitor());
+		Assert.assertNotNull(info.getTimings());
+		Assert.assertTrue(info.getTimings().stream()
+				.anyMatch(timing -> ProjectInfoScanTimings.PHASE_SEARCH.equals(timing.getPhase())));
+		Assert.assertTrue(info.getTimings().stream()
+				.anyMatch(timing -> ProjectInfoScanTimings.PHASE_MATCH.equals(timing.getPhase())
+						&& timing.getProvider() != null && timing.getRoot() != null));
+	}
+
+	@Test
+	public void timingsNotAttachedByDefault() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+
+		MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.PlainText, new NullProgressMonitor());
+		Assert.assertNull(info.getTimings());
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.jdt.internal.core.SourcePropertiesIndex;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the incremental collect of the properties of the Java sources (only the
+ * changed compilation units are scanned).
+ *
+ */
+public class PropertiesManagerIncrementalSourcesTest extends BasePropertiesManagerTest {
+
+	private static final int SYNTHETIC_CLASSES = 500;
+
+	@Test
+	public void onlyChangedUnitIsScanned() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		createSyntheticClasses(javaProject, SYNTHETIC_CLASSES);
+
+		// First collect: all the sources are scanned
+		MicroProfileProjectInfo info = getSourcesInfo(javaProject);
+		Assert.assertNull(SourcePropertiesIndex.getInstance().getLastScannedUnits(javaProject));
+		Assert.assertTrue(hasProperty(info, "synthetic.prop0"));
+		Assert.assertTrue(hasProperty(info, "synthetic.prop" + (SYNTHETIC_CLASSES - 1)));
+		int propertiesCount = info.getProperties().size();
+
+		// Nothing changed: no compilation unit is scanned
+		info = getSourcesInfo(javaProject);
+		Assert.assertEquals(0, SourcePropertiesIndex.getInstance().getLastScannedUnits(javaProject).size());
+		Assert.assertEquals(propertiesCount, info.getProperties().size());
+
+		// Change one class: only this compilation unit is scanned
+		saveFile("org/acme/config/synthetic/Synthetic42.java",
+				createSyntheticClass(42, "synthetic.renamed42"), javaProject, true);
+		info = getSourcesInfo(javaProject);
+		Set<String> scannedUnits = SourcePropertiesIndex.getInstance().getLastScannedUnits(javaProject);
+		Assert.assertEquals(1, scannedUnits.size());
+		Assert.assertEquals(JavaCore.create(
+				javaProject.getProject().getFile("src/main/java/org/acme/config/synthetic/Synthetic42.java"))
+				.getHandleIdentifier(), scannedUnits.iterator().next());
+		Assert.assertEquals(propertiesCount, info.getProperties().size());
+		Assert.assertFalse(hasProperty(info, "synthetic.prop42"));
+		Assert.assertTrue(hasProperty(info, "synthetic.renamed42"));
+		Assert.assertTrue(hasProperty(info, "synthetic.prop41"));
+	}
+
+	@Test
+	public void unitReferencingChangedTypeIsScanned() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		createSyntheticClasses(javaProject, 2);
+		saveFile("org/acme/config/synthetic/SyntheticUser.java", "package org.acme.config.synthetic;\n" + //
+				"\n" + //
+				"import org.eclipse.microprofile.config.inject.ConfigProperty;\n" + //
+				"\n" + //
+				"public class SyntheticUser {\n" + //
+				"\n" + //
+				"	@ConfigProperty(name = \"synthetic.user\")\n" + //
+				"	Synthetic0 value;\n" + //
+				"}\n", javaProject, true);
+		getSourcesInfo(javaProject);
+
+		// Change Synthetic0: SyntheticUser which references it is scanned too, but
+		// not Synthetic1
+		saveFile("org/acme/config/synthetic/Synthetic0.java", createSyntheticClass(0, "synthetic.renamed0"),
+				javaProject, true);
+		getSourcesInfo(javaProject);
+		Set<String> scannedUnits = SourcePropertiesIndex.getInstance().getLastScannedUnits(javaProject);
+		Assert.assertEquals(2, scannedUnits.size());
+		Assert.assertTrue(scannedUnits.contains(getHandle(javaProject, "Synthetic0.java")));
+		Assert.assertTrue(scannedUnits.contains(getHandle(javaProject, "SyntheticUser.java")));
+	}
+
+	@Test
+	public void cachedPropertiesAreNotShared() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		createSyntheticClasses(javaProject, 2);
+
+		MicroProfileProjectInfo info = getSourcesInfo(javaProject);
+		ItemMetadata property = getProperty(info, "synthetic.prop0");
+		String type = property.getType();
+		property.setType("updated");
+
+		info = getSourcesInfo(javaProject);
+		Assert.assertEquals(0, SourcePropertiesIndex.getInstance().getLastScannedUnits(javaProject).size());
+		Assert.assertEquals(type, getProperty(info, "synthetic.prop0").getType());
+	}
+
+	private static ItemMetadata getProperty(MicroProfileProjectInfo info, String name) {
+		return info.getProperties().stream().filter(p -> name.equals(p.getName())).findFirst().get();
+	}
+
+	private static String getHandle(IJavaProject javaProject, String fileName) {
+		return JavaCore
+				.create(javaProject.getProject().getFile("src/main/java/org/acme/config/synthetic/" + fileName))
+				.getHandleIdentifier();
+	}
+
+	private static MicroProfileProjectInfo getSourcesInfo(IJavaProject javaProject) throws Exception {
+		return PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.ONLY_SOURCES, ClasspathKind.SRC, JDT_UTILS, DocumentFormat.Markdown,
+				new NullProgressMonitor());
+	}
+
+	private static boolean hasProperty(MicroProfileProjectInfo info, String name) {
+		return info.getProperties().stream().anyMatch(p -> name.equals(p.getName()));
+	}
+
+	private static void createSyntheticClasses(IJavaProject javaProject, int count) throws Exception {
+		Path dir = javaProject.getProject().getLocation().toFile().toPath()
+				.resolve("src/main/java/org/acme/config/synthetic");
+		Files.createDirectories(dir);
+		for (int i = 0; i < count; i++) {
+			Files.write(dir.resolve("Synthetic" + i + ".java"),
+					createSyntheticClass(i, "synthetic.prop" + i).getBytes(StandardCharsets.UTF_8));
+		}
+		javaProject.getProject().refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+	}
+
+	private static String createSyntheticClass(int index, String propertyName) {
+		return "package org.acme.config.synthetic;\n" + //
+				"\n" + //
+				"import org.eclipse.microprofile.config.inject.ConfigProperty;\n" + //
+				"\n" + //
+				"public class Synthetic" + index + " {\n" + //
+				"\n" + //
+				"	@ConfigProperty(name = \"" + propertyName + "\")\n" + //
+				"	String value;\n" + //
+				"}\n";
+	}
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.jaxrs.java;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsApplicationPathCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JaxRsApplicationPathCache}.
+ *
+ */
+public class JaxRsApplicationPathCacheTest extends BasePropertiesManagerTest {
+
+	private static final String MY_APPLICATION = "org/acme/MyApplication.java";
+
+	private static final String OTHER_APPLICATION = "org/acme/OtherApplication.java";
+
+	@Test
+	public void applicationPathChange() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_applicationpath);
+		JaxRsApplicationPathCache cache = JaxRsApplicationPathCache.getInstance();
+
+		saveFile(MY_APPLICATION, getApplication("MyApplication", "/api"), javaProject, true);
+		try {
+			Assert.assertEquals("/api", cache.getApplicationPath(javaProject, new NullProgressMonitor()));
+
+			// Update the @ApplicationPath value
+			saveFile(MY_APPLICATION, getApplication("MyApplication", "/ipa"), javaProject, true);
+			Assert.assertEquals("/ipa", cache.getApplicationPath(javaProject, new NullProgressMonitor()));
+
+			// Remove the @ApplicationPath annotation
+			saveFile(MY_APPLICATION, getApplication("MyApplication", null), javaProject, true);
+			Assert.assertNull(cache.getApplicationPath(javaProject, new NullProgressMonitor()));
+
+			// Declare @ApplicationPath in a new compilation unit
+			saveFile(OTHER_APPLICATION, getApplication("OtherApplication", "/other"), javaProject, true);
+			Assert.assertEquals("/other", cache.getApplicationPath(javaProject, new NullProgressMonitor()));
+
+			// Delete the compilation unit which declares @ApplicationPath
+			deleteFile(OTHER_APPLICATION, javaProject, true);
+			Assert.assertNull(cache.getApplicationPath(javaProject, new NullProgressMonitor()));
+
+			// The config sources eviction evicts the @ApplicationPath value, which is
+			// searched again
+			saveFile(MY_APPLICATION, getApplication("MyApplication", "/api"), javaProject, true);
+			Assert.assertEquals("/api", cache.getApplicationPath(javaProject, new NullProgressMonitor()));
+			JDTMicroProfileProjectManager.getInstance().getJDTMicroProfileProject(javaProject)
+					.evictConfigSourcesCache();
+			Assert.assertEquals("/api", cache.getApplicationPath(javaProject, new NullProgressMonitor()));
+		} finally {
+			if (javaProject.getProject().getFile("src/main/java/" + OTHER_APPLICATION).exists()) {
+				deleteFile(OTHER_APPLICATION, javaProject, true);
+			}
+			saveFile(MY_APPLICATION, getApplication("MyApplication", "/api"), javaProject, true);
+		}
+	}
+
+	private static String getApplication(String className, String applicationPath) {
+		StringBuilder content = new StringBuilder();
+		content.append("package org.acme;\n\n");
+		if (applicationPath != null) {
+			content.append("import javax.ws.rs.ApplicationPath;\n");
+		}
+		content.append("import javax.ws.rs.core.Application;\n\n");
+		if (applicationPath != null) {
+			content.append("@ApplicationPath(\"").append(applicationPath).append("\")\n");
+		}
+		content.append("public class ").append(className).append(" extends Application {\n\n}\n");
+		return content.toString();
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.jaxrs.java;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.assertCodeLens;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.assertWorkspaceSymbols;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.cl;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.r;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.si;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeLensParams;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.HttpMethod;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsEndpoint;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsEndpointIndex;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JaxRsEndpointIndex}.
+ *
+ */
+public class JaxRsEndpointIndexTest extends BasePropertiesManagerTest {
+
+	private static final String OTHER_RESOURCE = "org/acme/config/OtherResource.java";
+
+	@Test
+	public void buildIndex() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+
+		List<JaxRsEndpoint> endpoints = JaxRsEndpointIndex.getInstance().getEndpoints(javaProject, JDT_UTILS,
+				new NullProgressMonitor());
+		Assert.assertEquals(6, endpoints.size());
+
+		// The paths are stored relative to the base URL, the URL is built with the
+		// given base URL
+		JaxRsEndpoint hello = findEndpoint(endpoints, "/greeting/hello").get();
+		Assert.assertEquals(HttpMethod.GET, hello.getHttpMethod());
+		Assert.assertEquals("http://localhost:8080/greeting/hello", hello.getUrl("http://localhost:8080"));
+		Assert.assertEquals("http://localhost:9090/api/greeting/hello", hello.getUrl("http://localhost:9090/api"));
+
+		// The index is reused
+		Assert.assertSame(hello, findEndpoint(JaxRsEndpointIndex.getInstance().getEndpoints(javaProject, JDT_UTILS,
+				new NullProgressMonitor()), "/greeting/hello").get());
+	}
+
+	@Test
+	public void updateIndexOnChange() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+
+		// Build the index
+		assertWorkspaceSymbols(javaProject, JDT_UTILS, //
+				si("@/greeting/hello4: GET", r(40, 18, 24)), //
+				si("@/greeting/constructor: GET", r(34, 18, 23)), //
+				si("@/greeting/hello: GET", r(33, 18, 24)), //
+				si("@/greeting: GET", r(26, 18, 23)), //
+				si("@/greeting/method: GET", r(38, 18, 23)), //
+				si("@/greeting/hello5: PATCH", r(46, 18, 24)));
+
+		MicroProfileJavaCodeLensParams params = new MicroProfileJavaCodeLensParams();
+		params.setCheckServerAvailable(false);
+		IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/" + OTHER_RESOURCE));
+		params.setUri(javaFile.getLocation().toFile().toURI().toString());
+		params.setUrlCodeLensEnabled(true);
+
+		// Add a JAX-RS resource
+		saveFile(OTHER_RESOURCE, getOtherResource("/other"), javaProject, true);
+		try {
+			assertWorkspaceSymbols(javaProject, JDT_UTILS, //
+					si("@/greeting/hello4: GET", r(40, 18, 24)), //
+					si("@/greeting/constructor: GET", r(34, 18, 23)), //
+					si("@/greeting/hello: GET", r(33, 18, 24)), //
+					si("@/greeting: GET", r(26, 18, 23)), //
+					si("@/greeting/method: GET", r(38, 18, 23)), //
+					si("@/greeting/hello5: PATCH", r(46, 18, 24)), //
+					si("@/other: GET", r(9, 15, 20)));
+			assertCodeLens(params, JDT_UTILS, //
+					cl("http://localhost:8080/other", "", r(9, 5, 5)));
+
+			// Update the path of the JAX-RS resource
+			saveFile(OTHER_RESOURCE, getOtherResource("/updated"), javaProject, true);
+			assertCodeLens(params, JDT_UTILS, //
+					cl("http://localhost:8080/updated", "", r(9, 5, 5)));
+			assertWorkspaceSymbols(javaProject, JDT_UTILS, //
+					si("@/greeting/hello4: GET", r(40, 18, 24)), //
+					si("@/greeting/constructor: GET", r(34, 18, 23)), //
+					si("@/greeting/hello: GET", r(33, 18, 24)), //
+					si("@/greeting: GET", r(26, 18, 23)), //
+					si("@/greeting/method: GET", r(38, 18, 23)), //
+					si("@/greeting/hello5: PATCH", r(46, 18, 24)), //
+					si("@/updated: GET", r(9, 15, 20)));
+		} finally {
+			deleteFile(OTHER_RESOURCE, javaProject, true);
+		}
+
+		// The endpoints of the deleted compilation unit are removed
+		assertWorkspaceSymbols(javaProject, JDT_UTILS, //
+				si("@/greeting/hello4: GET", r(40, 18, 24)), //
+				si("@/greeting/constructor: GET", r(34, 18, 23)), //
+				si("@/greeting/hello: GET", r(33, 18, 24)), //
+				si("@/greeting: GET", r(26, 18, 23)), //
+				si("@/greeting/method: GET", r(38, 18, 23)), //
+				si("@/greeting/hello5: PATCH", r(46, 18, 24)));
+	}
+
+	private static Optional<JaxRsEndpoint> findEndpoint(List<JaxRsEndpoint> endpoints, String path) {
+		return endpoints.stream().filter(endpoint -> path.equals(endpoint.getPath())).findFirst();
+	}
+
+	private static String getOtherResource(String path) {
+		return "package org.acme.config;\n" + //
+				"\n" + //
+				"import javax.ws.rs.GET;\n" + //
+				"import javax.ws.rs.Path;\n" + //
+				"\n" + //
+				"@Path(\"" + path + "\")\n" + //
+				"public class OtherResource {\n" + //
+				"\n" + //
+				"	@GET\n" + //
+				"	public String other() {\n" + //
+				"		return \"other\";\n" + //
+				"	}\n" + //
+				"}\n";
+	}
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.jaxrs.java;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityMonitor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ServerAvailabilityMonitor}.
+ *
+ */
+public class ServerAvailabilityMonitorTest {
+
+	private static final String LOCALHOST = "localhost";
+
+	private static final long TIMEOUT_MS = 10000;
+
+	private ServerAvailabilityMonitor monitor;
+
+	private BlockingQueue<Boolean> changes;
+
+	@Before
+	public void setUp() {
+		monitor = new ServerAvailabilityMonitor(50, 200, 500);
+		changes = new LinkedBlockingQueue<>();
+		monitor.addServerAvailabilityListener((host, port, available) -> changes.add(available));
+	}
+
+	@After
+	public void tearDown() {
+		monitor.destroy();
+	}
+
+	@Test
+	public void probeInBackground() throws Exception {
+		try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+			int port = server.getLocalPort();
+
+			// The first call starts to monitor the server and doesn't wait for the probe
+			monitor.isServerAvailable(LOCALHOST, port);
+			Assert.assertTrue(monitor.isMonitored(LOCALHOST, port));
+
+			// The background probe notifies that the server is available
+			Assert.assertEquals(Boolean.TRUE, changes.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+			Assert.assertTrue(monitor.isServerAvailable(LOCALHOST, port));
+
+			// The server is stopped
+			server.close();
+			Assert.assertEquals(Boolean.FALSE, changes.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+			Assert.assertFalse(monitor.isServerAvailable(LOCALHOST, port));
+		}
+	}
+
+	@Test
+	public void cachedAvailability() throws Exception {
+		try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+			int port = server.getLocalPort();
+			monitor.isServerAvailable(LOCALHOST, port);
+			Assert.assertEquals(Boolean.TRUE, changes.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+			// The availability is returned from the last probe, without connecting to the
+			// server
+			long start = System.currentTimeMillis();
+			for (int i = 0; i < 1000; i++) {
+				Assert.assertTrue(monitor.isServerAvailable(LOCALHOST, port));
+			}
+			Assert.assertTrue(System.currentTimeMillis() - start < ServerAvailabilityMonitor.PING_TIMEOUT_MS);
+
+			// The availability doesn't change, the listener is not notified again
+			Thread.sleep(500);
+			Assert.assertTrue(changes.isEmpty());
+		}
+	}
+
+	@Test
+	public void expiry() throws Exception {
+		try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+			int port = server.getLocalPort();
+			monitor.isServerAvailable(LOCALHOST, port);
+			Assert.assertEquals(Boolean.TRUE, changes.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+			// The server is not requested anymore, it is not probed after the idle timeout
+			long start = System.currentTimeMillis();
+			while (monitor.isMonitored(LOCALHOST, port)) {
+				Assert.assertTrue("The server is still monitored after the idle timeout",
+						System.currentTimeMillis() - start < TIMEOUT_MS);
+				Thread.sleep(50);
+			}
+
+			// The server is stopped while it is not monitored: nobody is notified
+			server.close();
+			Thread.sleep(500);
+			Assert.assertTrue(changes.isEmpty());
+
+			// A new request starts to monitor the server again
+			monitor.isServerAvailable(LOCALHOST, port);
+			Assert.assertTrue(monitor.isMonitored(LOCALHOST, port));
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.performance;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeLensParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.JavaUtils;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4mp.jdt.core.performance.PerformanceMeter.Measurement;
+import org.eclipse.lsp4mp.jdt.internal.config.java.MicroProfileConfigErrorCode;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Performance tests of the JDT extension on a large synthetic project (see
+ * {@link SyntheticProjectGenerator}) which fail when a measure exceeds its
+ * threshold (see {@link PerformanceSettings}).
+ *
+ * <p>
+ * Those tests are not executed by default, they are executed with the
+ * <code>performance</code> Maven profile.
+ * </p>
+ *
+ */
+public class LargeProjectPerformanceTest extends BasePropertiesManagerTest {
+
+	private static final String PROJECT_NAME = "synthetic-large-project";
+
+	private static IJavaProject javaProject;
+
+	@BeforeClass
+	public static void generateProject() throws Exception {
+		SyntheticProjectGenerator generator = new SyntheticProjectGenerator(PROJECT_NAME,
+				PerformanceSettings.getClassCount(), PerformanceSettings.getJarCount(),
+				PerformanceSettings.getClassesPerJar());
+		File projectFolder = generator.generate(new File(JavaUtils.getWorkingProjectDirectory(), "performance"));
+		javaProject = loadJavaProject(projectFolder);
+	}
+
+	@Test
+	public void projectInfo() throws Exception {
+		Measurement<MicroProfileProjectInfo> measurement = PerformanceMeter.measure("projectInfo",
+				() -> getProjectInfo(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES));
+
+		int expectedProperties = PerformanceSettings.getClassCount() * 4
+				+ PerformanceSettings.getJarCount() * PerformanceSettings.getClassesPerJar() * 2;
+		Assert.assertTrue("Expected at least " + expectedProperties + " properties",
+				measurement.getResult().getProperties().size() >= expectedProperties);
+		PerformanceSettings.assertThresholds(measurement, 60000, 4096);
+	}
+
+	@Test
+	public void sourcesRescan() throws Exception {
+		getProjectInfo(MicroProfilePropertiesScope.ONLY_SOURCES);
+		saveFile(SyntheticProjectGenerator.getConfigClassPath(1),
+				SyntheticProjectGenerator.createConfigClass(1, "synthetic.rescan"), javaProject, true);
+
+		Measurement<MicroProfileProjectInfo> measurement = PerformanceMeter.measure("sourcesRescan",
+				() -> getProjectInfo(MicroProfilePropertiesScope.ONLY_SOURCES));
+
+		Assert.assertTrue(measurement.getResult().getProperties().stream()
+				.anyMatch(property -> "synthetic.rescan.name".equals(property.getName())));
+		PerformanceSettings.assertThresholds(measurement, 10000, 1024);
+	}
+
+	@Test
+	public void javaDiagnostics() throws Exception {
+		int classCount = PerformanceSettings.getClassCount();
+		List<String> uris = new ArrayList<>(classCount);
+		for (int i = 0; i < classCount; i++) {
+			uris.add(getUri(SyntheticProjectGenerator.getConfigClassPath(i)));
+		}
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+		params.setUris(uris);
+		params.setDocumentFormat(DocumentFormat.Markdown);
+
+		Measurement<List<PublishDiagnosticsParams>> measurement = PerformanceMeter.measure("javaDiagnostics",
+				() -> PropertiesManagerForJava.getInstance().diagnostics(params, JDT_UTILS,
+						new NullProgressMonitor()));
+
+		String wrongTypeCode = MicroProfileConfigErrorCode.DEFAULT_VALUE_IS_WRONG_TYPE.getCode();
+		long wrongDefaultValues = measurement.getResult().stream() //
+				.flatMap(diagnostics -> diagnostics.getDiagnostics().stream()) //
+				.filter(diagnostic -> diagnostic.getCode() != null
+						&& wrongTypeCode.equals(diagnostic.getCode().getLeft())) //
+				.count();
+		int expectedWrongDefaultValues = (classCount + SyntheticProjectGenerator.WRONG_DEFAULT_VALUE_EVERY - 1)
+				/ SyntheticProjectGenerator.WRONG_DEFAULT_VALUE_EVERY;
+		Assert.assertEquals(expectedWrongDefaultValues, wrongDefaultValues);
+		PerformanceSettings.assertThresholds(measurement, 120000, 8192);
+	}
+
+	@Test
+	public void codeLens() throws Exception {
+		int classCount = PerformanceSettings.getClassCount();
+		List<MicroProfileJavaCodeLensParams> allParams = new ArrayList<>();
+		for (int i = 0; i < classCount; i += SyntheticProjectGenerator.RESOURCE_EVERY) {
+			MicroProfileJavaCodeLensParams params = new MicroProfileJavaCodeLensParams();
+			params.setCheckServerAvailable(false);
+			params.setUrlCodeLensEnabled(true);
+			params.setUri(getUri(SyntheticProjectGenerator.getResourceClassPath(i)));
+			allParams.add(params);
+		}
+
+		Measurement<Integer> measurement = PerformanceMeter.measure("codeLens", () -> {
+			int count = 0;
+			for (MicroProfileJavaCodeLensParams params : allParams) {
+				List<? extends CodeLens> lenses = PropertiesManagerForJava.getInstance().codeLens(params, JDT_UTILS,
+						new NullProgressMonitor());
+				count += lenses.size();
+			}
+			return count;
+		});
+
+		int expectedLenses = allParams.size() * SyntheticProjectGenerator.RESOURCE_METHODS;
+		Assert.assertTrue("Expected at least " + expectedLenses + " code lens",
+				measurement.getResult() >= expectedLenses);
+		PerformanceSettings.assertThresholds(measurement, 30000, 4096);
+	}
+
+	private static MicroProfileProjectInfo getProjectInfo(List<MicroProfilePropertiesScope> scopes)
+			throws Exception {
+		return PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject, scopes, ClasspathKind.SRC,
+				JDT_UTILS, DocumentFormat.Markdown, new NullProgressMonitor());
+	}
+
+	private static String getUri(String sourcePath) {
+		return javaProject.getProject().getFile("src/main/java/" + sourcePath).getLocation().toFile().toURI()
+				.toString();
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.performance;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures the duration and the allocated memory of an operation.
+ *
+ * <p>
+ * The allocated memory is the sum of the memory allocated by all the threads
+ * during the operation (the search engine and the indexer work in their own
+ * threads). The memory allocated by a thread which terminates during the
+ * operation is not counted.
+ * </p>
+ *
+ */
+public class PerformanceMeter {
+
+	private static final Logger LOGGER = Logger.getLogger(PerformanceMeter.class.getName());
+
+	/**
+	 * Measurement of an operation.
+	 */
+	public static class Measurement<T> {
+
+		private final String name;
+
+		private final long duration;
+
+		private final long allocatedBytes;
+
+		private final T result;
+
+		public Measurement(String name, long duration, long allocatedBytes, T result) {
+			this.name = name;
+			this.duration = duration;
+			this.allocatedBytes = allocatedBytes;
+			this.result = result;
+		}
+
+		/**
+		 * Returns the operation name.
+		 *
+		 * @return the operation name.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the duration of the operation in milliseconds.
+		 *
+		 * @return the duration of the operation in milliseconds.
+		 */
+		public long getDuration() {
+			return duration;
+		}
+
+		/**
+		 * Returns the memory allocated by the operation in bytes and -1 if the JVM
+		 * doesn't support the measure.
+		 *
+		 * @return the memory allocated by the operation in bytes and -1 if the JVM
+		 *         doesn't support the measure.
+		 */
+		public long getAllocatedBytes() {
+			return allocatedBytes;
+		}
+
+		/**
+		 * Returns the result of the operation.
+		 *
+		 * @return the result of the operation.
+		 */
+		public T getResult() {
+			return result;
+		}
+
+		@Override
+		public String toString() {
+			return name + ": " + duration + "ms, "
+					+ (allocatedBytes < 0 ? "?" : String.valueOf(allocatedBytes / (1024 * 1024))) + "MB allocated";
+		}
+	}
+
+	private PerformanceMeter() {
+
+	}
+
+	/**
+	 * Executes and measures the given operation.
+	 *
+	 * @param <T>       the result type.
+	 * @param name      the operation name.
+	 * @param operation the operation.
+	 * @return the measurement of the operation.
+	 * @throws Exception
+	 */
+	public static <T> Measurement<T> measure(String name, Callable<T> operation) throws Exception {
+		ThreadMXBean threadBean = getThreadBean();
+		Map<Long, Long> allocatedBefore = threadBean != null ? getAllocatedBytes(threadBean) : null;
+		long start = System.nanoTime();
+		T result = operation.call();
+		long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		long allocatedBytes = -1;
+		if (threadBean != null) {
+			allocatedBytes = 0;
+			for (Map.Entry<Long, Long> allocated : getAllocatedBytes(threadBean).entrySet()) {
+				long delta = allocated.getValue() - allocatedBefore.getOrDefault(allocated.getKey(), 0L);
+				if (delta > 0) {
+					allocatedBytes += delta;
+				}
+			}
+		}
+		Measurement<T> measurement = new Measurement<>(name, duration, allocatedBytes, result);
+		LOGGER.info("Performance of " + measurement);
+		return measurement;
+	}
+
+	private static ThreadMXBean getThreadBean() {
+		java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		if (threadBean instanceof ThreadMXBean && ((ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+			ThreadMXBean allocationBean = (ThreadMXBean) threadBean;
+			if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+				allocationBean.setThreadAllocatedMemoryEnabled(true);
+			}
+			return allocationBean;
+		}
+		return null;
+	}
+
+	private static Map<Long, Long> getAllocatedBytes(ThreadMXBean threadBean) {
+		long[] threadIds = threadBean.getAllThreadIds();
+		long[] allocatedBytes = threadBean.getThreadAllocatedBytes(threadIds);
+		Map<Long, Long> result = new HashMap<>(threadIds.length);
+		for (int i = 0; i < threadIds.length; i++) {
+			// -1 when the thread is not alive anymore
+			if (allocatedBytes[i] >= 0) {
+				result.put(threadIds[i], allocatedBytes[i]);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.performance;
+
+import org.eclipse.lsp4mp.jdt.core.performance.PerformanceMeter.Measurement;
+import org.junit.Assert;
+
+/**
+ * Settings of the performance tests, configured with system properties:
+ *
+ * <ul>
+ * <li><code>lsp4mp.performance.classes</code>: the number of classes of the
+ * synthetic project.</li>
+ * <li><code>lsp4mp.performance.jars</code>: the number of fake dependency
+ * JARs.</li>
+ * <li><code>lsp4mp.performance.classesPerJar</code>: the number of classes of
+ * each fake dependency JAR.</li>
+ * <li><code>lsp4mp.performance.${metric}.maxTime</code>: the maximum duration
+ * (in milliseconds) of the metric.</li>
+ * <li><code>lsp4mp.performance.${metric}.maxAllocation</code>: the maximum
+ * allocated memory (in MB) of the metric.</li>
+ * <li><code>lsp4mp.performance.factor</code>: the factor applied to all the
+ * thresholds (ex : 2 on a slow machine).</li>
+ * </ul>
+ *
+ */
+public class PerformanceSettings {
+
+	private static final String PREFIX = "lsp4mp.performance.";
+
+	private PerformanceSettings() {
+
+	}
+
+	public static int getClassCount() {
+		return Integer.getInteger(PREFIX + "classes", 2000);
+	}
+
+	public static int getJarCount() {
+		return Integer.getInteger(PREFIX + "jars", 40);
+	}
+
+	public static int getClassesPerJar() {
+		return Integer.getInteger(PREFIX + "classesPerJar", 50);
+	}
+
+	/**
+	 * Asserts that the given measurement doesn't exceed the thresholds of its
+	 * metric.
+	 *
+	 * @param measurement          the measurement.
+	 * @param defaultMaxTime       the default maximum duration in milliseconds.
+	 * @param defaultMaxAllocation the default maximum allocated memory in MB.
+	 */
+	public static void assertThresholds(Measurement<?> measurement, long defaultMaxTime, long defaultMaxAllocation) {
+		String metric = measurement.getName();
+		double factor = getFactor();
+		long maxTime = (long) (Long.getLong(PREFIX + metric + ".maxTime", defaultMaxTime) * factor);
+		Assert.assertTrue("'" + metric + "' took " + measurement.getDuration() + "ms, the threshold is " + maxTime
+				+ "ms (" + PREFIX + metric + ".maxTime)", measurement.getDuration() <= maxTime);
+		if (measurement.getAllocatedBytes() >= 0) {
+			long maxAllocation = (long) (Long.getLong(PREFIX + metric + ".maxAllocation", defaultMaxAllocation)
+					* factor);
+			long allocation = measurement.getAllocatedBytes() / (1024 * 1024);
+			Assert.assertTrue("'" + metric + "' allocated " + allocation + "MB, the threshold is " + maxAllocation
+					+ "MB (" + PREFIX + metric + ".maxAllocation)", allocation <= maxAllocation);
+		}
+	}
+
+	private static double getFactor() {
+		String factor = System.getProperty(PREFIX + "factor");
+		if (factor == null) {
+			return 1;
+		}
+		try {
+			return Double.parseDouble(factor);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid '" + PREFIX + "factor' value '" + factor + "'", e);
+		}
+	}
+}
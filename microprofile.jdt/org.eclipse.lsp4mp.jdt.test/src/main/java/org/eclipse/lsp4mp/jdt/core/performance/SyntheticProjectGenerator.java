@@ -0,0 +1,421 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.performance;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jdt.core.compiler.batch.BatchCompiler;
+
+/**
+ * Generates on the fly a large MicroProfile Maven project:
+ *
+ * <ul>
+ * <li>classes with <code>@ConfigProperty</code> fields (with valid, wrong and
+ * missing default values to produce Java diagnostics).</li>
+ * <li>JAX-RS resources (to produce URL code lens).</li>
+ * <li>fake dependency JARs which contain classes with
+ * <code>@ConfigProperty</code> fields.</li>
+ * </ul>
+ *
+ * <p>
+ * The MicroProfile Config and JAX-RS annotations are compiled from stubs in a
+ * JAR of the project, the dependencies are declared with the
+ * <code>system</code> scope: the project is imported without any access to a
+ * Maven repository.
+ * </p>
+ *
+ */
+public class SyntheticProjectGenerator {
+
+	public static final String CONFIG_PACKAGE = "org.acme.synthetic";
+
+	public static final int RESOURCE_EVERY = 10;
+
+	public static final int WRONG_DEFAULT_VALUE_EVERY = 7;
+
+	public static final int RESOURCE_METHODS = 5;
+
+	private static final int CLASSES_PER_PACKAGE = 100;
+
+	private static final String STUBS_JAR = "microprofile-stubs";
+
+	private static final String[][] STUBS = { //
+			{ "org/eclipse/microprofile/config/inject/ConfigProperty.java", //
+					"package org.eclipse.microprofile.config.inject;\n" //
+							+ "\n" //
+							+ "import java.lang.annotation.ElementType;\n" //
+							+ "import java.lang.annotation.Retention;\n" //
+							+ "import java.lang.annotation.RetentionPolicy;\n" //
+							+ "import java.lang.annotation.Target;\n" //
+							+ "\n" //
+							+ "@Retention(RetentionPolicy.RUNTIME)\n" //
+							+ "@Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER })\n" //
+							+ "public @interface ConfigProperty {\n" //
+							+ "	String UNCONFIGURED_VALUE = \"org.eclipse.microprofile.config.configproperty.unconfigureddvalue\";\n" //
+							+ "	String name() default \"\";\n" //
+							+ "	String defaultValue() default UNCONFIGURED_VALUE;\n" //
+							+ "}\n" }, //
+			{ "javax/ws/rs/Path.java", //
+					"package javax.ws.rs;\n" //
+							+ "\n" //
+							+ "import java.lang.annotation.ElementType;\n" //
+							+ "import java.lang.annotation.Retention;\n" //
+							+ "import java.lang.annotation.RetentionPolicy;\n" //
+							+ "import java.lang.annotation.Target;\n" //
+							+ "\n" //
+							+ "@Retention(RetentionPolicy.RUNTIME)\n" //
+							+ "@Target({ ElementType.TYPE, ElementType.METHOD })\n" //
+							+ "public @interface Path {\n" //
+							+ "	String value();\n" //
+							+ "}\n" }, //
+			{ "javax/ws/rs/GET.java", //
+					"package javax.ws.rs;\n" //
+							+ "\n" //
+							+ "import java.lang.annotation.ElementType;\n" //
+							+ "import java.lang.annotation.Retention;\n" //
+							+ "import java.lang.annotation.RetentionPolicy;\n" //
+							+ "import java.lang.annotation.Target;\n" //
+							+ "\n" //
+							+ "@Retention(RetentionPolicy.RUNTIME)\n" //
+							+ "@Target(ElementType.METHOD)\n" //
+							+ "public @interface GET {\n" //
+							+ "}\n" } };
+
+	private final String projectName;
+
+	private final int classCount;
+
+	private final int jarCount;
+
+	private final int classesPerJar;
+
+	/**
+	 * Creates a generator of a synthetic project.
+	 *
+	 * @param projectName   the project name.
+	 * @param classCount    the number of classes with <code>@ConfigProperty</code>
+	 *                      fields of the project sources.
+	 * @param jarCount      the number of fake dependency JARs.
+	 * @param classesPerJar the number of classes with
+	 *                      <code>@ConfigProperty</code> fields of each fake
+	 *                      dependency JAR.
+	 */
+	public SyntheticProjectGenerator(String projectName, int classCount, int jarCount, int classesPerJar) {
+		this.projectName = projectName;
+		this.classCount = classCount;
+		this.jarCount = jarCount;
+		this.classesPerJar = classesPerJar;
+	}
+
+	/**
+	 * Generates the project in the given parent folder.
+	 *
+	 * @param parentFolder the parent folder.
+	 * @return the project folder.
+	 * @throws IOException
+	 */
+	public File generate(File parentFolder) throws IOException {
+		File projectFolder = new File(parentFolder, projectName);
+		if (projectFolder.exists()) {
+			FileUtils.forceDelete(projectFolder);
+		}
+		File buildFolder = new File(parentFolder, projectName + "-build");
+		if (buildFolder.exists()) {
+			FileUtils.forceDelete(buildFolder);
+		}
+		File libFolder = new File(projectFolder, "lib");
+
+		// Annotation stubs
+		File stubsSources = new File(buildFolder, "stubs-src");
+		for (String[] stub : STUBS) {
+			write(new File(stubsSources, stub[0]), stub[1]);
+		}
+		File stubsClasses = new File(buildFolder, "stubs-classes");
+		compile(stubsSources, stubsClasses, null);
+		createJar(stubsClasses, "", new File(libFolder, STUBS_JAR + ".jar"));
+
+		// Fake dependency JARs
+		File dependenciesSources = new File(buildFolder, "dependencies-src");
+		for (int jar = 0; jar < jarCount; jar++) {
+			for (int i = 0; i < classesPerJar; i++) {
+				write(new File(dependenciesSources, "org/acme/dependency" + jar + "/" + getDependencyClassName(jar, i)
+						+ ".java"), createDependencyClass(jar, i));
+			}
+		}
+		if (jarCount > 0) {
+			File dependenciesClasses = new File(buildFolder, "dependencies-classes");
+			compile(dependenciesSources, dependenciesClasses, stubsClasses);
+			for (int jar = 0; jar < jarCount; jar++) {
+				createJar(dependenciesClasses, "org/acme/dependency" + jar + "/",
+						new File(libFolder, getDependencyJarName(jar) + ".jar"));
+			}
+		}
+
+		// Project sources
+		File javaFolder = new File(projectFolder, "src/main/java");
+		for (int i = 0; i < classCount; i++) {
+			write(new File(javaFolder, getConfigClassPath(i)), createConfigClass(i));
+			if (i % RESOURCE_EVERY == 0) {
+				write(new File(javaFolder, getResourceClassPath(i)), createResourceClass(i));
+			}
+		}
+		write(new File(projectFolder, "src/main/resources/META-INF/microprofile-config.properties"),
+				createConfigProperties());
+		write(new File(projectFolder, "pom.xml"), createPom());
+
+		FileUtils.forceDelete(buildFolder);
+		return projectFolder;
+	}
+
+	/**
+	 * Returns the path of the class with <code>@ConfigProperty</code> fields
+	 * with the given index, relative to the Java source folder.
+	 *
+	 * @param index the class index.
+	 * @return the path of the class with <code>@ConfigProperty</code> fields.
+	 */
+	public static String getConfigClassPath(int index) {
+		return getPackage(index).replace('.', '/') + "/Config" + index + ".java";
+	}
+
+	/**
+	 * Returns the path of the JAX-RS resource generated with the class of the
+	 * given index (see {@link #RESOURCE_EVERY}), relative to the Java source
+	 * folder.
+	 *
+	 * @param index the class index.
+	 * @return the path of the JAX-RS resource.
+	 */
+	public static String getResourceClassPath(int index) {
+		return getPackage(index).replace('.', '/') + "/Resource" + index + ".java";
+	}
+
+	/**
+	 * Returns the content of the class with <code>@ConfigProperty</code> fields
+	 * with the given index.
+	 *
+	 * @param index        the class index.
+	 * @param propertyName the name prefix of the properties.
+	 * @return the content of the class.
+	 */
+	public static String createConfigClass(int index, String propertyName) {
+		String defaultTimeout = index % WRONG_DEFAULT_VALUE_EVERY == 0 ? "not-an-int" : "30";
+		return "package " + getPackage(index) + ";\n" //
+				+ "\n" //
+				+ "import org.eclipse.microprofile.config.inject.ConfigProperty;\n" //
+				+ "\n" //
+				+ "public class Config" + index + " {\n" //
+				+ "\n" //
+				+ "	@ConfigProperty(name = \"" + propertyName + ".name\", defaultValue = \"config" + index
+				+ "\")\n" //
+				+ "	String name;\n" //
+				+ "\n" //
+				+ "	@ConfigProperty(name = \"" + propertyName + ".port\", defaultValue = \"8080\")\n" //
+				+ "	int port;\n" //
+				+ "\n" //
+				+ "	@ConfigProperty(name = \"" + propertyName + ".enabled\")\n" //
+				+ "	boolean enabled;\n" //
+				+ "\n" //
+				+ "	@ConfigProperty(name = \"" + propertyName + ".timeout\", defaultValue = \"" + defaultTimeout
+				+ "\")\n" //
+				+ "	int timeout;\n" //
+				+ "}\n";
+	}
+
+	/**
+	 * Returns the name prefix of the properties of the class with the given
+	 * index.
+	 *
+	 * @param index the class index.
+	 * @return the name prefix of the properties of the class.
+	 */
+	public static String getPropertyName(int index) {
+		return "synthetic.config" + index;
+	}
+
+	/**
+	 * Returns the name prefix of the properties of the class of the given fake
+	 * dependency JAR.
+	 *
+	 * @param jar   the JAR index.
+	 * @param index the class index in the JAR.
+	 * @return the name prefix of the properties of the class.
+	 */
+	public static String getDependencyPropertyName(int jar, int index) {
+		return "dependency" + jar + ".config" + index;
+	}
+
+	private static String createConfigClass(int index) {
+		return createConfigClass(index, getPropertyName(index));
+	}
+
+	private static String createResourceClass(int index) {
+		StringBuilder content = new StringBuilder();
+		content.append("package ").append(getPackage(index)).append(";\n") //
+				.append("\n") //
+				.append("import javax.ws.rs.GET;\n") //
+				.append("import javax.ws.rs.Path;\n") //
+				.append("\n") //
+				.append("@Path(\"/resource").append(index).append("\")\n") //
+				.append("public class Resource").append(index).append(" {\n");
+		for (int i = 0; i < RESOURCE_METHODS; i++) {
+			content.append("\n") //
+					.append("	@GET\n") //
+					.append("	@Path(\"/item").append(i).append("\")\n") //
+					.append("	public String item").append(i).append("() {\n") //
+					.append("		return \"item").append(i).append("\";\n") //
+					.append("	}\n");
+		}
+		content.append("}\n");
+		return content.toString();
+	}
+
+	private static String createDependencyClass(int jar, int index) {
+		String propertyName = getDependencyPropertyName(jar, index);
+		return "package org.acme.dependency" + jar + ";\n" //
+				+ "\n" //
+				+ "import org.eclipse.microprofile.config.inject.ConfigProperty;\n" //
+				+ "\n" //
+				+ "public class " + getDependencyClassName(jar, index) + " {\n" //
+				+ "\n" //
+				+ "	@ConfigProperty(name = \"" + propertyName + ".url\", defaultValue = \"http://localhost\")\n" //
+				+ "	String url;\n" //
+				+ "\n" //
+				+ "	@ConfigProperty(name = \"" + propertyName + ".size\", defaultValue = \"10\")\n" //
+				+ "	int size;\n" //
+				+ "}\n";
+	}
+
+	private String createConfigProperties() {
+		// only the half of the properties without default value have a value
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < classCount; i += 2) {
+			content.append(getPropertyName(i)).append(".enabled=true\n");
+		}
+		return content.toString();
+	}
+
+	private String createPom() {
+		StringBuilder content = new StringBuilder();
+		content.append("<?xml version=\"1.0\"?>\n") //
+				.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n") //
+				.append("    xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 https://maven.apache.org/xsd/maven-4.0.0.xsd\">\n") //
+				.append("  <modelVersion>4.0.0</modelVersion>\n") //
+				.append("  <groupId>org.acme</groupId>\n") //
+				.append("  <artifactId>").append(projectName).append("</artifactId>\n") //
+				.append("  <version>1.0.0-SNAPSHOT</version>\n") //
+				.append("  <properties>\n") //
+				.append("    <maven.compiler.source>11</maven.compiler.source>\n") //
+				.append("    <maven.compiler.target>11</maven.compiler.target>\n") //
+				.append("    <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>\n") //
+				.append("  </properties>\n") //
+				.append("  <dependencies>\n");
+		appendSystemDependency(content, STUBS_JAR);
+		for (int jar = 0; jar < jarCount; jar++) {
+			appendSystemDependency(content, getDependencyJarName(jar));
+		}
+		content.append("  </dependencies>\n") //
+				.append("</project>\n");
+		return content.toString();
+	}
+
+	private static void appendSystemDependency(StringBuilder content, String artifactId) {
+		content.append("    <dependency>\n") //
+				.append("      <groupId>org.acme.synthetic</groupId>\n") //
+				.append("      <artifactId>").append(artifactId).append("</artifactId>\n") //
+				.append("      <version>1.0.0</version>\n") //
+				.append("      <scope>system</scope>\n") //
+				.append("      <systemPath>${project.basedir}/lib/").append(artifactId).append(".jar</systemPath>\n") //
+				.append("    </dependency>\n");
+	}
+
+	private static String getPackage(int index) {
+		return CONFIG_PACKAGE + ".p" + (index / CLASSES_PER_PACKAGE);
+	}
+
+	private static String getDependencyClassName(int jar, int index) {
+		return "Dependency" + jar + "Config" + index;
+	}
+
+	private static String getDependencyJarName(int jar) {
+		return "fake-dependency" + jar;
+	}
+
+	private static void write(File file, String content) throws IOException {
+		FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+	}
+
+	private static void compile(File sourceFolder, File outputFolder, File classpath) throws IOException {
+		List<String> args = new ArrayList<>();
+		args.add("-11");
+		args.add("-proc:none");
+		args.add("-nowarn");
+		args.add("-encoding");
+		args.add("UTF-8");
+		args.add("-d");
+		args.add(outputFolder.getAbsolutePath());
+		if (classpath != null) {
+			args.add("-cp");
+			args.add(classpath.getAbsolutePath());
+		}
+		args.add(sourceFolder.getAbsolutePath());
+		StringWriter errors = new StringWriter();
+		if (!BatchCompiler.compile(args.toArray(new String[0]), new PrintWriter(new StringWriter()),
+				new PrintWriter(errors), null)) {
+			throw new IOException("Cannot compile '" + sourceFolder + "': " + errors);
+		}
+	}
+
+	private static void createJar(File classesFolder, String prefix, File jarFile) throws IOException {
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		Path root = classesFolder.toPath();
+		List<Path> classFiles;
+		try (Stream<Path> files = Files.walk(root)) {
+			classFiles = files.filter(Files::isRegularFile) //
+					.filter(file -> toEntryName(root, file).startsWith(prefix)) //
+					.sorted() //
+					.collect(Collectors.toList());
+		}
+		jarFile.getParentFile().mkdirs();
+		try (OutputStream out = Files.newOutputStream(jarFile.toPath());
+				JarOutputStream jar = new JarOutputStream(out, manifest)) {
+			for (Path classFile : classFiles) {
+				jar.putNextEntry(new JarEntry(toEntryName(root, classFile)));
+				Files.copy(classFile, jar);
+				jar.closeEntry();
+			}
+		}
+	}
+
+	private static String toEntryName(Path root, Path file) {
+		return root.relativize(file).toString().replace(File.separatorChar, '/');
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.project;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.internal.core.providers.MicroProfileConfigSourceProvider;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the loading and the invalidation of {@link AbstractConfigSource}.
+ *
+ */
+public class AbstractConfigSourceTest extends BasePropertiesManagerTest {
+
+	private static final String CONFIG_FILE = MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE;
+
+	/**
+	 * Properties config source which counts the loads of the config file.
+	 */
+	private static class CountingConfigSource extends PropertiesConfigSource {
+
+		private final AtomicInteger loadCount;
+
+		public CountingConfigSource(String configFileName, IJavaProject javaProject, AtomicInteger loadCount) {
+			super(configFileName, javaProject);
+			this.loadCount = loadCount;
+		}
+
+		@Override
+		protected Properties loadConfig(InputStream input) throws IOException {
+			loadCount.incrementAndGet();
+			return super.loadConfig(input);
+		}
+	}
+
+	@After
+	public void cleanUp() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		deleteFile(CONFIG_FILE, javaProject);
+	}
+
+	@Test
+	public void loadOnce() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		saveFile(CONFIG_FILE, "greeting.message=hello", javaProject);
+
+		AtomicInteger loadCount = new AtomicInteger();
+		CountingConfigSource configSource = new CountingConfigSource(CONFIG_FILE, javaProject, loadCount);
+		Assert.assertEquals(1, loadCount.get());
+
+		// The lookups use the loaded config
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals("hello", configSource.getProperty("greeting.message"));
+			Assert.assertNull(configSource.getProperty("greeting.name"));
+			Assert.assertNotNull(configSource.getPropertyInformations("greeting.message"));
+		}
+		Assert.assertEquals(1, loadCount.get());
+	}
+
+	@Test
+	public void evictOnChange() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		saveFile(CONFIG_FILE, "greeting.message=hello", javaProject);
+
+		JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
+				.getJDTMicroProfileProject(javaProject);
+		IConfigSource configSource = getConfigSource(mpProject);
+		Assert.assertEquals("hello", configSource.getProperty("greeting.message"));
+		// The config sources are kept while the config file doesn't change
+		Assert.assertSame(configSource, getConfigSource(mpProject));
+
+		// Update the config file: the resource delta evicts the config sources
+		saveFile(CONFIG_FILE, "greeting.message=updated", javaProject);
+		IConfigSource updatedConfigSource = getConfigSource(mpProject);
+		Assert.assertNotSame(configSource, updatedConfigSource);
+		Assert.assertEquals("updated", updatedConfigSource.getProperty("greeting.message"));
+		Assert.assertEquals("updated", mpProject.getProperty("greeting.message"));
+
+		// Delete the config file
+		deleteFile(CONFIG_FILE, javaProject);
+		Assert.assertNull(mpProject.getProperty("greeting.message"));
+	}
+
+	private static IConfigSource getConfigSource(JDTMicroProfileProject mpProject) {
+		return mpProject.getConfigSources().stream() //
+				.filter(configSource -> CONFIG_FILE.equals(configSource.getConfigFileName())) //
+				.findFirst() //
+				.orElseThrow(() -> new AssertionError("No config source for " + CONFIG_FILE));
+	}
+}
@@ -183,6 +183,47 @@ public class MicroProfileRestClientJavaDiagnosticsTest extends BasePropertiesMan
 								"\r\n\r\nimport org.eclipse.microprofile.rest.client.inject.RegisterRestClient;\r\n\r\n@RegisterRestClient\r\n")));
 	}
 
+	@Test
+	public void restClientAnnotationMissingForInterfaceAfterChange() throws Exception {
+		IJavaProject javaProject = ProjectUtils.getJavaProject(MicroProfileMavenProjectName.rest_client_quickstart);
+		IJDTUtils utils = JDT_UTILS;
+
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+		IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/org/acme/restclient/MyService.java"));
+		params.setUris(Arrays.asList(javaFile.getLocation().toFile().toURI().toString()));
+		params.setDocumentFormat(DocumentFormat.Markdown);
+
+		// Add a new injection point of MyService
+		saveFile("org/acme/restclient/OtherFields.java", "package org.acme.restclient;\n" + //
+				"\n" + //
+				"import javax.inject.Inject;\n" + //
+				"\n" + //
+				"import org.eclipse.microprofile.rest.client.inject.RestClient;\n" + //
+				"\n" + //
+				"public class OtherFields {\n" + //
+				"\n" + //
+				"	@Inject\n" + //
+				"	@RestClient\n" + //
+				"	public MyService service;\n" + //
+				"}\n", javaProject, true);
+		try {
+			assertJavaDiagnostics(params, utils, //
+					d(2, 17, 26,
+							"The interface `MyService` does not have the @RegisterRestClient annotation. The 2 fields references will not be injected as CDI beans.",
+							DiagnosticSeverity.Warning, MicroProfileRestClientConstants.DIAGNOSTIC_SOURCE,
+							MicroProfileRestClientErrorCode.RegisterRestClientAnnotationMissing));
+		} finally {
+			deleteFile("org/acme/restclient/OtherFields.java", javaProject, true);
+		}
+
+		// The injection point of the deleted compilation unit is removed
+		assertJavaDiagnostics(params, utils, //
+				d(2, 17, 26,
+						"The interface `MyService` does not have the @RegisterRestClient annotation. The 1 fields references will not be injected as CDI beans.",
+						DiagnosticSeverity.Warning, MicroProfileRestClientConstants.DIAGNOSTIC_SOURCE,
+						MicroProfileRestClientErrorCode.RegisterRestClientAnnotationMissing));
+	}
+
 	@Test
 	public void restClientAnnotationMissingForInterfaceJakarta() throws Exception {
 		IJavaProject javaProject = ProjectUtils.getJavaProject(MicroProfileMavenProjectName.open_liberty);
@@ -13,10 +13,16 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.InputStream;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -28,6 +34,9 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest.MicroProfileMavenProjectName;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
 import org.eclipse.lsp4mp.jdt.core.JavaUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
@@ -66,6 +75,23 @@ public class MicroProfilePropertiesListenerManagerTest {
 		}
 	}
 
+	static class EventTracker implements IMicroProfilePropertiesChangedListener {
+
+		// the notifications are sent from the notifier thread
+		final List<MicroProfilePropertiesChangeEvent> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
+			events.add(event);
+		}
+
+		public List<MicroProfilePropertiesChangeEvent> getEvents(String projectURI) {
+			return events.stream() //
+					.filter(event -> event.getProjectURIs().contains(projectURI)) //
+					.collect(Collectors.toList());
+		}
+	}
+
 	private ProjectTracker projectTracker;
 
 	@Before
@@ -207,4 +233,61 @@ public class MicroProfilePropertiesListenerManagerTest {
 				projectTracker.getProjects().iterator().next());
 
 	}
+
+	@Test
+	public void burstOfChangesIsCoalesced() throws Exception {
+		IJavaProject javaProject = BasePropertiesManagerTest
+				.loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		String projectURI = JDTMicroProfileUtils.getProjectURI(javaProject);
+		IFile javaFile = javaProject.getProject().getFile("src/main/java/org/acme/config/GreetingResource.java");
+		IFile configFile = javaProject.getProject().getFile("src/main/resources/META-INF/microprofile-config.properties");
+		byte[] javaContent = getContents(javaFile);
+		byte[] configContent = getContents(configFile);
+
+		// Wait for the end of the notifications of the project import
+		JobHelpers.waitForJobsToComplete();
+		Thread.sleep(MicroProfilePropertiesListenerManager.MAX_COALESCE_DELAY_MS);
+
+		EventTracker eventTracker = new EventTracker();
+		MicroProfilePropertiesListenerManager manager = MicroProfilePropertiesListenerManager.getInstance();
+		manager.addMicroProfilePropertiesChangedListener(eventTracker);
+		try {
+			// A burst of saves of Java files and of config files of the same project
+			for (int i = 0; i < 5; i++) {
+				setContents(javaFile, javaContent);
+				setContents(configFile, ("greeting.message=hello" + i).getBytes());
+			}
+
+			// Wait for the notification
+			long start = System.currentTimeMillis();
+			while (eventTracker.getEvents(projectURI).isEmpty()) {
+				Assert.assertTrue("The burst of changes is not notified",
+						System.currentTimeMillis() - start < 10000);
+				Thread.sleep(50);
+			}
+			// No other notification follows
+			Thread.sleep(MicroProfilePropertiesListenerManager.MAX_COALESCE_DELAY_MS);
+
+			List<MicroProfilePropertiesChangeEvent> events = eventTracker.getEvents(projectURI);
+			Assert.assertEquals(1, events.size());
+			MicroProfilePropertiesChangeEvent event = events.get(0);
+			Assert.assertEquals(1, event.getProjectURIs().size());
+			// The scopes of the changes of the burst are merged
+			Assert.assertTrue(event.getType().contains(MicroProfilePropertiesScope.sources));
+			Assert.assertTrue(event.getType().contains(MicroProfilePropertiesScope.configfiles));
+		} finally {
+			manager.removeMicroProfilePropertiesChangedListener(eventTracker);
+			setContents(configFile, configContent);
+		}
+	}
+
+	private static byte[] getContents(IFile file) throws Exception {
+		try (InputStream input = file.getContents()) {
+			return input.readAllBytes();
+		}
+	}
+
+	private static void setContents(IFile file, byte[] content) throws Exception {
+		file.setContents(new ByteArrayInputStream(content), true, false, null);
+	}
 }
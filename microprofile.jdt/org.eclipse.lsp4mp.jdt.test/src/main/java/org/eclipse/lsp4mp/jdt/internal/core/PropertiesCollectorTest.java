@@ -105,6 +105,47 @@ public class PropertiesCollectorTest {
 		assertNull(configuration.getProperties().get(0).getDescription());
 	}
 
+	@Test
+	public void mergeWithReplaceThenIgnore() {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		collector.merge(createToMerge(), MergingStrategy.IGNORE_IF_EXISTS);
+		collector.merge(createDuplicateMerge(), MergingStrategy.REPLACE);
+
+		assertEquals(2, configuration.getProperties().size());
+		assertNotNull(configuration.getProperties().get(1).getDescription());
+
+		// The replaced property must be used to check if the property exists
+		collector.merge(createToMerge(), MergingStrategy.IGNORE_IF_EXISTS);
+
+		assertEquals(2, configuration.getProperties().size());
+		assertNotNull(configuration.getProperties().get(1).getDescription());
+	}
+
+	@Test
+	public void mergeWithReplaceKeepsDuplicates() {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		collector.merge(createToMerge(), MergingStrategy.FORCE);
+		collector.merge(createToMerge(), MergingStrategy.FORCE);
+		assertEquals(4, configuration.getProperties().size());
+
+		// Only the first "binaryProperty" is replaced
+		collector.merge(createDuplicateMerge(), MergingStrategy.REPLACE);
+		assertEquals(4, configuration.getProperties().size());
+		assertEquals(1, configuration.getProperties().stream()
+				.filter(p -> "binaryProperty".equals(p.getName()) && p.getDescription() == null).count());
+		assertNotNull(configuration.getProperties().get(3).getDescription());
+
+		// The remaining duplicate is still used to check if the property exists
+		collector.merge(createDuplicateMerge(), MergingStrategy.IGNORE_IF_EXISTS);
+		assertEquals(4, configuration.getProperties().size());
+	}
+
 	private static ConfigurationMetadata createToMerge() {
 		ConfigurationMetadata toMerge = new ConfigurationMetadata();
 		toMerge.setProperties(new ArrayList<>());
@@ -0,0 +1,115 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.project;
+
+import java.util.List;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.TestConfigSourceProvider;
+import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
+import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
+import org.eclipse.lsp4mp.jdt.core.project.MicroProfileConfigPropertyInformation;
+import org.eclipse.lsp4mp.jdt.internal.core.providers.MicroProfileConfigSourceProvider;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MergedConfigSourcePropertiesProvider} used by
+ * {@link JDTMicroProfileProject}.
+ *
+ */
+public class MergedConfigSourcePropertiesProviderTest extends BasePropertiesManagerTest {
+
+	// ordinal 100
+	private static final String MICROPROFILE_CONFIG_FILE = MicroProfileConfigSourceProvider.MICROPROFILE_CONFIG_PROPERTIES_FILE;
+
+	// ordinal 101
+	private static final String MICROPROFILE_CONFIG_TEST_FILE = TestConfigSourceProvider.MICROPROFILE_CONFIG_TEST_FILE;
+
+	// ordinal 102
+	private static final String CONFIG_FILE = TestConfigSourceProvider.CONFIG_FILE;
+
+	@After
+	public void cleanUp() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		deleteFile(MICROPROFILE_CONFIG_FILE, javaProject);
+		deleteFile(MICROPROFILE_CONFIG_TEST_FILE, javaProject);
+		deleteFile(CONFIG_FILE, javaProject);
+	}
+
+	@Test
+	public void mergeByOrdinal() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		saveFile(MICROPROFILE_CONFIG_FILE, "a=100\nb=100\nc=100\n%dev.c=dev100", javaProject);
+		saveFile(MICROPROFILE_CONFIG_TEST_FILE, "a=101\nb=101\n%dev.c=dev101", javaProject);
+		saveFile(CONFIG_FILE, "a=102", javaProject);
+
+		JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
+				.getJDTMicroProfileProject(javaProject);
+
+		// The config source with the bigger ordinal wins
+		Assert.assertEquals("102", mpProject.getProperty("a"));
+		Assert.assertEquals("101", mpProject.getProperty("b"));
+		Assert.assertEquals("100", mpProject.getProperty("c"));
+		Assert.assertEquals("dev101", mpProject.getProperty("%dev.c"));
+		Assert.assertNull(mpProject.getProperty("d"));
+
+		// One information per property key with profile, from the config source with
+		// the bigger ordinal, sorted by property key with profile
+		List<MicroProfileConfigPropertyInformation> infos = mpProject.getPropertyInformations("c");
+		Assert.assertEquals(2, infos.size());
+		assertInformation(infos.get(0), "%dev.c", "dev101", MICROPROFILE_CONFIG_TEST_FILE);
+		assertInformation(infos.get(1), "c", "100", MICROPROFILE_CONFIG_FILE);
+		infos = mpProject.getPropertyInformations("a");
+		Assert.assertEquals(1, infos.size());
+		assertInformation(infos.get(0), "a", "102", CONFIG_FILE);
+	}
+
+	@Test
+	public void rebuildWhenSourceChanges() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		saveFile(MICROPROFILE_CONFIG_FILE, "a=100\nb=100", javaProject);
+		saveFile(CONFIG_FILE, "a=102", javaProject);
+
+		JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
+				.getJDTMicroProfileProject(javaProject);
+		Assert.assertEquals("102", mpProject.getProperty("a"));
+		Assert.assertEquals("100", mpProject.getProperty("b"));
+
+		// Remove the property from the config source with the bigger ordinal: the
+		// snapshot is rebuilt and the value of the other config source is used
+		saveFile(CONFIG_FILE, "d=102", javaProject);
+		Assert.assertEquals("100", mpProject.getProperty("a"));
+		Assert.assertEquals("102", mpProject.getProperty("d"));
+
+		// Override a property in a config source which had no value
+		saveFile(MICROPROFILE_CONFIG_TEST_FILE, "b=101", javaProject);
+		Assert.assertEquals("101", mpProject.getProperty("b"));
+		assertInformation(mpProject.getPropertyInformations("b").get(0), "b", "101", MICROPROFILE_CONFIG_TEST_FILE);
+
+		// Delete the config source with the bigger ordinal
+		deleteFile(CONFIG_FILE, javaProject);
+		Assert.assertNull(mpProject.getProperty("d"));
+		Assert.assertEquals("100", mpProject.getProperty("a"));
+	}
+
+	private static void assertInformation(MicroProfileConfigPropertyInformation info, String propertyNameWithProfile,
+			String value, String configFileName) {
+		Assert.assertEquals(propertyNameWithProfile, info.getPropertyNameWithProfile());
+		Assert.assertEquals(value, info.getValue());
+		Assert.assertEquals(configFileName, info.getConfigFileName());
+	}
+}
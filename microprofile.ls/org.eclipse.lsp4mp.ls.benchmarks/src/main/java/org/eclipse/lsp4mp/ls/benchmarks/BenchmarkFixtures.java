@@ -0,0 +1,175 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+
+/**
+ * Synthetic fixtures of the benchmarks: a MicroProfile project information with
+ * a lot of properties and a large properties file which uses them.
+ *
+ * <p>
+ * The fixtures are generated in a deterministic way to compare the results of
+ * several runs.
+ * </p>
+ *
+ */
+public class BenchmarkFixtures {
+
+	public static final int PROPERTY_COUNT = 10_000;
+
+	public static final int LINE_COUNT = 10_000;
+
+	public static final String PROPERTIES_URI = "file:///benchmarks/src/main/resources/application.properties";
+
+	public static final CancelChecker NO_CANCEL = () -> {
+	};
+
+	private static final String ENUM_TYPE = "org.acme.bench.Level";
+
+	private static final List<String> ENUM_VALUES = Arrays.asList("LOW", "MEDIUM", "HIGH");
+
+	private static final String[] TYPES = { "java.lang.String", "int", "boolean", ENUM_TYPE, "java.time.Duration" };
+
+	private static final String[] VALUES = { "some-value", "8080", "true", "MEDIUM", "PT10S" };
+
+	private static final int PROPERTIES_PER_GROUP = 10;
+
+	private BenchmarkFixtures() {
+
+	}
+
+	/**
+	 * Returns the name of the property with the given index.
+	 *
+	 * @param index the property index.
+	 * @return the name of the property with the given index.
+	 */
+	public static String getPropertyName(int index) {
+		return "mp.bench.group" + (index / PROPERTIES_PER_GROUP) + ".property" + (index % PROPERTIES_PER_GROUP);
+	}
+
+	/**
+	 * Returns a MicroProfile project information with the given number of
+	 * properties of several types (String, int, boolean, enum, Duration).
+	 *
+	 * @param propertyCount the number of properties.
+	 * @return a MicroProfile project information with the given number of
+	 *         properties.
+	 */
+	public static MicroProfileProjectInfo createProjectInfo(int propertyCount) {
+		List<ItemMetadata> properties = new ArrayList<>(propertyCount);
+		for (int i = 0; i < propertyCount; i++) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(getPropertyName(i));
+			property.setType(TYPES[i % TYPES.length]);
+			property.setDescription("Description of the property " + i + " used by the benchmarks.");
+			property.setSourceType("org.acme.bench.Config" + (i / PROPERTIES_PER_GROUP));
+			property.setSourceField("property" + (i % PROPERTIES_PER_GROUP));
+			property.setDefaultValue(VALUES[i % VALUES.length]);
+			property.setExtensionName("bench-extension");
+			properties.add(property);
+		}
+
+		ItemHint hint = new ItemHint();
+		hint.setName(ENUM_TYPE);
+		List<ValueHint> values = new ArrayList<>(ENUM_VALUES.size());
+		for (String value : ENUM_VALUES) {
+			ValueHint valueHint = new ValueHint();
+			valueHint.setValue(value);
+			valueHint.setDescription("Level " + value);
+			values.add(valueHint);
+		}
+		hint.setValues(values);
+		List<ItemHint> hints = new ArrayList<>();
+		hints.add(hint);
+
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI("benchmarks");
+		info.setProperties(properties);
+		info.setHints(hints);
+		return info;
+	}
+
+	/**
+	 * Returns the content of a properties file with the given number of lines
+	 * which uses the properties of {@link #createProjectInfo(int)}.
+	 *
+	 * <p>
+	 * The content mixes comments, profiles, property expressions, unknown
+	 * properties and values with a wrong type to exercise all the validation
+	 * rules.
+	 * </p>
+	 *
+	 * @param lineCount     the number of lines.
+	 * @param propertyCount the number of properties of the project information.
+	 * @return the content of a properties file.
+	 */
+	public static String createPropertiesFile(int lineCount, int propertyCount) {
+		StringBuilder content = new StringBuilder(lineCount * 48);
+		for (int line = 0; line < lineCount; line++) {
+			int index = line % propertyCount;
+			if (line % 20 == 0) {
+				content.append("# Comment of the section ").append(line / 20).append('\n');
+				continue;
+			}
+			if (line % 50 == 1) {
+				content.append("%dev.");
+			}
+			if (line % 97 == 2) {
+				// unknown property
+				content.append("mp.bench.unknown").append(line).append("=value\n");
+				continue;
+			}
+			content.append(getPropertyName(index)).append('=');
+			if (line % 10 == 3 && index > 0) {
+				// property expression which references the previous property
+				content.append("${").append(getPropertyName(index - 1)).append("}");
+			} else if (line % 89 == 4) {
+				// wrong value
+				content.append("not-a-valid-value");
+			} else {
+				content.append(VALUES[index % VALUES.length]);
+			}
+			content.append('\n');
+		}
+		return content.toString();
+	}
+
+	/**
+	 * Returns the content of a properties file with a chain of property
+	 * expressions of the given depth: the property <code>chain.N</code>
+	 * references the property <code>chain.N-1</code>.
+	 *
+	 * @param depth the depth of the chain.
+	 * @return the content of a properties file with a chain of property
+	 *         expressions.
+	 */
+	public static String createExpressionChain(int depth) {
+		StringBuilder content = new StringBuilder();
+		content.append("chain.0=start\n");
+		for (int i = 1; i < depth; i++) {
+			content.append("chain.").append(i).append("=${chain.").append(i - 1).append("}.").append(i).append('\n');
+		}
+		return content.toString();
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.CompletionCapabilities;
+import org.eclipse.lsp4j.CompletionItemCapabilities;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the completion of property keys and property values in a 10k
+ * lines properties file with a 10k properties project information.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertiesFileCompletionsBenchmark {
+
+	private PropertiesFileLanguageService languageService;
+
+	private MicroProfileProjectInfo projectInfo;
+
+	private MicroProfileCompletionCapabilities completionCapabilities;
+
+	private MicroProfileFormattingSettings formattingSettings;
+
+	private PropertiesModel keyModel;
+
+	private Position keyPosition;
+
+	private PropertiesModel valueModel;
+
+	private Position valuePosition;
+
+	@Setup
+	public void setup() throws Exception {
+		languageService = new PropertiesFileLanguageService();
+		projectInfo = BenchmarkFixtures.createProjectInfo(BenchmarkFixtures.PROPERTY_COUNT);
+		String text = BenchmarkFixtures.createPropertiesFile(BenchmarkFixtures.LINE_COUNT,
+				BenchmarkFixtures.PROPERTY_COUNT);
+
+		// completion of a property key on a new line at the end of the file
+		String keyText = text + "mp.bench.";
+		keyModel = PropertiesModel.parse(keyText, BenchmarkFixtures.PROPERTIES_URI);
+		keyPosition = keyModel.positionAt(keyText.length());
+
+		// completion of an enum value at the end of the file
+		String valueText = text + BenchmarkFixtures.getPropertyName(3) + "=";
+		valueModel = PropertiesModel.parse(valueText, BenchmarkFixtures.PROPERTIES_URI);
+		valuePosition = valueModel.positionAt(valueText.length());
+
+		CompletionItemCapabilities completionItemCapabilities = new CompletionItemCapabilities();
+		completionItemCapabilities.setSnippetSupport(true);
+		completionCapabilities = new MicroProfileCompletionCapabilities();
+		completionCapabilities.setCapabilities(new CompletionCapabilities(completionItemCapabilities));
+		formattingSettings = new MicroProfileFormattingSettings();
+	}
+
+	@Benchmark
+	public CompletionList completeKey() {
+		return languageService.doComplete(keyModel, keyPosition, projectInfo, completionCapabilities,
+				formattingSettings, BenchmarkFixtures.NO_CANCEL);
+	}
+
+	@Benchmark
+	public CompletionList completeValue() {
+		return languageService.doComplete(valueModel, valuePosition, projectInfo, completionCapabilities,
+				formattingSettings, BenchmarkFixtures.NO_CANCEL);
+	}
+}
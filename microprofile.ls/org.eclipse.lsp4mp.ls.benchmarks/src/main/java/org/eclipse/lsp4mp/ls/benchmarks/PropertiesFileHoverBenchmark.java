@@ -0,0 +1,104 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.HoverCapabilities;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
+import org.eclipse.lsp4mp.settings.MicroProfileHoverSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the hover of a property key and of a property expression in a
+ * 10k lines properties file with a 10k properties project information.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertiesFileHoverBenchmark {
+
+	private static final MicroProfilePropertyDocumentationProvider NO_DOCUMENTATION = new MicroProfilePropertyDocumentationProvider() {
+
+		@Override
+		public CompletableFuture<String> getPropertyDocumentation(MicroProfilePropertyDocumentationParams params) {
+			return CompletableFuture.completedFuture(null);
+		}
+	};
+
+	private PropertiesFileLanguageService languageService;
+
+	private MicroProfileProjectInfo projectInfo;
+
+	private MicroProfileHoverSettings hoverSettings;
+
+	private PropertiesModel model;
+
+	private Position keyPosition;
+
+	private Position expressionPosition;
+
+	@Setup
+	public void setup() throws Exception {
+		languageService = new PropertiesFileLanguageService();
+		projectInfo = BenchmarkFixtures.createProjectInfo(BenchmarkFixtures.PROPERTY_COUNT);
+		String text = BenchmarkFixtures.createPropertiesFile(BenchmarkFixtures.LINE_COUNT,
+				BenchmarkFixtures.PROPERTY_COUNT);
+		model = PropertiesModel.parse(text, BenchmarkFixtures.PROPERTIES_URI);
+		hoverSettings = new MicroProfileHoverSettings();
+		hoverSettings.setCapabilities(new HoverCapabilities(Arrays.asList(MarkupKind.MARKDOWN), false));
+
+		// a property key in the middle of the file
+		int middle = text.indexOf('\n', text.length() / 2) + 1;
+		keyPosition = model.positionAt(middle + 2);
+
+		// a property expression after the middle of the file
+		int expression = text.indexOf("${", middle);
+		expressionPosition = model.positionAt(expression + 3);
+	}
+
+	@Benchmark
+	public Hover hoverKey() {
+		return languageService.doHover(model, keyPosition, projectInfo, hoverSettings, NO_DOCUMENTATION,
+				BenchmarkFixtures.NO_CANCEL).join();
+	}
+
+	@Benchmark
+	public Hover hoverExpression() {
+		return languageService.doHover(model, expressionPosition, projectInfo, hoverSettings, NO_DOCUMENTATION,
+				BenchmarkFixtures.NO_CANCEL).join();
+	}
+}
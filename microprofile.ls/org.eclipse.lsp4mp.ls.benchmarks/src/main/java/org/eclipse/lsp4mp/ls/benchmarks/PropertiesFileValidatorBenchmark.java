@@ -0,0 +1,70 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
+import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the validation of a 10k lines properties file with a 10k
+ * properties project information.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertiesFileValidatorBenchmark {
+
+	private PropertiesFileLanguageService languageService;
+
+	private MicroProfileProjectInfo projectInfo;
+
+	private PropertiesModel model;
+
+	private MicroProfileValidationSettings validationSettings;
+
+	@Setup
+	public void setup() {
+		languageService = new PropertiesFileLanguageService();
+		projectInfo = BenchmarkFixtures.createProjectInfo(BenchmarkFixtures.PROPERTY_COUNT);
+		model = PropertiesModel.parse(
+				BenchmarkFixtures.createPropertiesFile(BenchmarkFixtures.LINE_COUNT, BenchmarkFixtures.PROPERTY_COUNT),
+				BenchmarkFixtures.PROPERTIES_URI);
+		validationSettings = new MicroProfileValidationSettings();
+	}
+
+	@Benchmark
+	public List<Diagnostic> validate() {
+		return languageService.doDiagnostics(model, projectInfo, validationSettings, BenchmarkFixtures.NO_CANCEL);
+	}
+}
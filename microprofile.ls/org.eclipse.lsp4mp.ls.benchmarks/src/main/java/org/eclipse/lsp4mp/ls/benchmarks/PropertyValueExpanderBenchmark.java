@@ -0,0 +1,77 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the expansion of property expressions with
+ * {@link PropertyValueExpander}.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyValueExpanderBenchmark {
+
+	@Param({ "10", "100" })
+	public int depth;
+
+	private PropertiesModel chainModel;
+
+	private String chainKey;
+
+	private PropertiesModel largeModel;
+
+	private String largeKey;
+
+	@Setup
+	public void setup() {
+		chainModel = PropertiesModel.parse(BenchmarkFixtures.createExpressionChain(depth),
+				BenchmarkFixtures.PROPERTIES_URI);
+		chainKey = "chain." + (depth - 1);
+		largeModel = PropertiesModel.parse(
+				BenchmarkFixtures.createPropertiesFile(BenchmarkFixtures.LINE_COUNT, BenchmarkFixtures.PROPERTY_COUNT),
+				BenchmarkFixtures.PROPERTIES_URI);
+		// line 13 references the property of the line 12
+		largeKey = BenchmarkFixtures.getPropertyName(13);
+	}
+
+	@Benchmark
+	public String expandChain() {
+		return new PropertyValueExpander(chainModel).getValue(chainKey);
+	}
+
+	@Benchmark
+	public String expandInLargeFile() {
+		return new PropertyValueExpander(largeModel).getValue(largeKey);
+	}
+}
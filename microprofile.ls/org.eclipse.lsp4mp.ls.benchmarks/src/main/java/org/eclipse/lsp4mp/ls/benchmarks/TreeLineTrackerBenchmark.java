@@ -0,0 +1,84 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.ls.commons.TextDocument;
+import org.eclipse.lsp4mp.ls.commons.TreeLineTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the incremental changes of a 10k lines text document
+ * (<code>textDocument/didChange</code>) which uses a {@link TreeLineTracker}.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeLineTrackerBenchmark {
+
+	private TextDocument document;
+
+	private int line;
+
+	@Setup
+	public void setup() {
+		document = new TextDocument(
+				BenchmarkFixtures.createPropertiesFile(BenchmarkFixtures.LINE_COUNT, BenchmarkFixtures.PROPERTY_COUNT),
+				BenchmarkFixtures.PROPERTIES_URI);
+		document.setIncremental(true);
+	}
+
+	/**
+	 * Type a character then delete it on a line which moves in the document, the
+	 * content of the document is the same after each invocation.
+	 */
+	@Benchmark
+	public TextDocument typeAndDelete() {
+		line = (line + 7) % (BenchmarkFixtures.LINE_COUNT - 1);
+		Position position = new Position(line, 0);
+		TextDocumentContentChangeEvent insert = new TextDocumentContentChangeEvent(new Range(position, position), 0,
+				"x");
+		document.update(Collections.singletonList(insert));
+		TextDocumentContentChangeEvent delete = new TextDocumentContentChangeEvent(
+				new Range(position, new Position(line, 1)), 1, "");
+		document.update(Collections.singletonList(delete));
+		return document;
+	}
+
+	@Benchmark
+	public Position positionAt() throws BadLocationException {
+		line = (line + 7) % (BenchmarkFixtures.LINE_COUNT - 1);
+		int offset = document.offsetAt(new Position(line, 0));
+		return document.positionAt(offset + 1);
+	}
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.stats;
+
+/**
+ * Emitter of the {@link ServerStatsEvent} JFR events, instantiated by
+ * reflection by {@link ServerStats}.
+ *
+ */
+class JFRServerStatsEmitter implements ServerStatsEmitter {
+
+	@Override
+	public boolean isEnabled() {
+		return ServerStatsEvent.isRecorded();
+	}
+
+	@Override
+	public void emit(String kind, String name, long nanos, boolean error) {
+		ServerStatsEvent.emit(kind, name, nanos, error);
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.stats;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event of an operation recorded by {@link ServerStats}.
+ *
+ * <p>
+ * The <code>src/main/java-jfr</code> source folder is compiled for Java 11, it
+ * is loaded only by {@link JFRServerStatsEmitter} when JFR is available (see
+ * {@link ServerStats}).
+ * </p>
+ *
+ */
+@Name("org.eclipse.lsp4mp.ServerOperation")
+@Label("MicroProfile LS Operation")
+@Category("MicroProfile LS")
+@Description("Latency of a request, a delegate request or a parse of the MicroProfile language server")
+@StackTrace(false)
+class ServerStatsEvent extends Event {
+
+	private static final ServerStatsEvent PROBE = new ServerStatsEvent();
+
+	@Label("Kind")
+	String kind;
+
+	@Label("Name")
+	String name;
+
+	@Label("Latency")
+	@Timespan(Timespan.NANOSECONDS)
+	long latency;
+
+	@Label("Error")
+	boolean error;
+
+	/**
+	 * Returns true if the event is recorded and false otherwise.
+	 *
+	 * @return true if the event is recorded and false otherwise.
+	 */
+	static boolean isRecorded() {
+		return PROBE.isEnabled();
+	}
+
+	static void emit(String kind, String name, long nanos, boolean error) {
+		ServerStatsEvent event = new ServerStatsEvent();
+		event.kind = kind;
+		event.name = name;
+		event.latency = nanos;
+		event.error = error;
+		event.commit();
+	}
+}
@@ -29,6 +29,8 @@ public class MicroProfileProjectInfoParams {
 
 	private DocumentFormat documentFormat;
 
+	private boolean timings;
+
 	public MicroProfileProjectInfoParams() {
 	}
 
@@ -89,4 +91,27 @@ public class MicroProfileProjectInfoParams {
 	public DocumentFormat getDocumentFormat() {
 		return documentFormat;
 	}
+
+	/**
+	 * Returns true if the timings of the scan of the project (per properties
+	 * provider, package fragment root and phase) must be attached to the project
+	 * information and false otherwise.
+	 *
+	 * @return true if the timings of the scan of the project must be attached to
+	 *         the project information and false otherwise.
+	 */
+	public boolean isTimings() {
+		return timings;
+	}
+
+	/**
+	 * Set true if the timings of the scan of the project must be attached to the
+	 * project information and false otherwise.
+	 *
+	 * @param timings true if the timings of the scan of the project must be
+	 *                attached to the project information and false otherwise.
+	 */
+	public void setTimings(boolean timings) {
+		this.timings = timings;
+	}
 }
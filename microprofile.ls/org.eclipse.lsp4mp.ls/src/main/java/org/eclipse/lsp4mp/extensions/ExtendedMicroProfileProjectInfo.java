@@ -75,6 +75,9 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 
 	private boolean updating;
 
+	// incremented each time the properties list is updated in place
+	private volatile long propertiesVersion;
+
 	public ExtendedMicroProfileProjectInfo(MicroProfileProjectInfo delegate) {
 		super.setProjectURI(delegate.getProjectURI());
 		// Update hints
@@ -137,6 +140,9 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 			updateListFromPropertiesSources(getProperties(), staticProperties);
 			updateListFromPropertiesSources(getDynamicProperties(), dynamicProperties);
 		}
+		if (hintsFromJavaSource != null || propertiesFromJavaSource != null) {
+			propertiesVersion++;
+		}
 		// Update custom properties
 		updateCustomProperties(null);
 		setReloadFromSource(false);
@@ -175,6 +181,17 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		this.reloadFromSource = reloadFromSource;
 	}
 
+	/**
+	 * Returns the version of the properties and hints lists, incremented each
+	 * time they are updated (properties and hints from Java sources, custom
+	 * properties).
+	 *
+	 * @return the version of the properties and hints lists.
+	 */
+	public long getPropertiesVersion() {
+		return propertiesVersion;
+	}
+
 	public List<ItemMetadata> getDynamicProperties() {
 		return dynamicProperties;
 	}
@@ -222,6 +239,7 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 						if (newProperties != null) {
 							getProperties().addAll(newProperties);
 						}
+						propertiesVersion++;
 					}
 				}
 			}
@@ -17,7 +17,9 @@ package org.eclipse.lsp4mp.ls;
 import static org.eclipse.lsp4j.jsonrpc.CompletableFutures.computeAsync;
 import static org.eclipse.lsp4mp.utils.VersionHelper.getVersion;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -46,15 +48,19 @@ import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI;
 import org.eclipse.lsp4mp.ls.commons.ParentProcessWatcher.ProcessLanguageServer;
 import org.eclipse.lsp4mp.ls.commons.client.ExtendedClientCapabilities;
 import org.eclipse.lsp4mp.ls.commons.client.InitializationOptionsExtendedClientCapabilities;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStats;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStatsSnapshot;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
 import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
 import org.eclipse.lsp4mp.settings.AllMicroProfileSettings;
 import org.eclipse.lsp4mp.settings.InitializationOptionsSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileCodeLensSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileExtensionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileGeneralClientSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileInlayHintSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileSymbolSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 import org.eclipse.lsp4mp.settings.SharedSettings;
@@ -163,12 +169,21 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 			if (newInlayHint != null) {
 				textDocumentService.updateInlayHintSettings(newInlayHint);
 			}
+			MicroProfileProjectInfoSettings newProjectInfo = clientSettings.getProjectInfo();
+			if (newProjectInfo != null) {
+				textDocumentService.updateProjectInfoSettings(newProjectInfo);
+			}
+			MicroProfileCompletionSettings newCompletion = clientSettings.getCompletion();
+			if (newCompletion != null) {
+				textDocumentService.updateCompletionSettings(newCompletion);
+			}
 		}
 	}
 
 	@Override
 	public CompletableFuture<Object> shutdown() {
 		propertiesFileLanguageService.dispose();
+		textDocumentService.dispose();
 		if (capabilityManager.getClientCapabilities().shouldLanguageServerExitOnShutdown()) {
 			ScheduledExecutorService delayer = Executors.newScheduledThreadPool(1);
 			delayer.schedule(() -> exit(0), 1, TimeUnit.SECONDS);
@@ -227,12 +242,27 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 		textDocumentService.propertiesChanged(event);
 	}
 
+	@Override
+	public void serverAvailabilityChanged() {
+		// The URL code lenses are shown only if the server is available, refresh them
+		if (capabilityManager != null && capabilityManager.getClientCapabilities().isCodeLensRefreshSupported()) {
+			languageClient.refreshCodeLenses();
+		}
+	}
+
 	@Override
 	public CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(
 			MicroProfileProjectInfoParams params) {
 		return textDocumentService.getJsonSchemaForProjectInfo(params);
 	}
 
+	@Override
+	public CompletableFuture<ServerStatsSnapshot> getServerStats() {
+		Map<String, Integer> queues = new HashMap<>();
+		textDocumentService.collectQueueDepths(queues);
+		return CompletableFuture.completedFuture(ServerStats.getInstance().snapshot(queues));
+	}
+
 	@Override
 	public CompletableFuture<ProjectLabelInfoEntry> getJavaProjectLabels(
 			MicroProfileJavaProjectLabelsParams javaParams) {
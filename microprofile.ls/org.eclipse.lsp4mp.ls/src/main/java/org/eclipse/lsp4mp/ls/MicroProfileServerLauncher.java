@@ -27,6 +27,9 @@ import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageClientAPI;
 import org.eclipse.lsp4mp.ls.commons.ParentProcessWatcher;
+import org.eclipse.lsp4mp.ls.commons.StringPool;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStatsMessageTracer;
+import org.eclipse.lsp4mp.ls.properties.ProjectInfoInterningTypeAdapterFactory;
 
 /**
  * MicroProfile server launcher
@@ -50,6 +53,8 @@ public class MicroProfileServerLauncher {
 		if ("true".equals(System.getProperty("runAsync")) ) {
 			wrapper = it -> msg -> CompletableFuture.runAsync(() -> it.consume(msg));
 		}
+		// record the latencies of the requests for microprofile/server/stats
+		wrapper = new ServerStatsMessageTracer(wrapper);
 		if (!"false".equals(System.getProperty("watchParentProcess"))) {
 			wrapper = new ParentProcessWatcher(server, wrapper);
 		}
@@ -83,6 +88,10 @@ public class MicroProfileServerLauncher {
 				// MicroProfile
 				// language
 				// client
-				.setInput(in).setOutput(out).setExecutorService(executorService).wrapMessages(wrapper).create();
+				.setInput(in).setOutput(out).setExecutorService(executorService).wrapMessages(wrapper)
+				// share the strings of the project information sent by the client
+				.configureGson(builder -> builder.registerTypeAdapterFactory(
+						new ProjectInfoInterningTypeAdapterFactory(StringPool.getInstance())))
+				.create();
 	}
 }
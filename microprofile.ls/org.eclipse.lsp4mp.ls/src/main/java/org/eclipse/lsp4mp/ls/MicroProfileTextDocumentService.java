@@ -62,8 +62,10 @@ import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
 import org.eclipse.lsp4mp.ls.properties.PropertiesFileTextDocumentService;
 import org.eclipse.lsp4mp.services.properties.CompletionData;
 import org.eclipse.lsp4mp.settings.MicroProfileCodeLensSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileInlayHintSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileSymbolSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 import org.eclipse.lsp4mp.settings.SharedSettings;
@@ -288,6 +290,24 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		applicationPropertiesTextDocumentService.updateInlayHintSettings(newInlayHint);
 	}
 
+	/**
+	 * Update the project information settings.
+	 *
+	 * @param newProjectInfo the new project information settings.
+	 */
+	public void updateProjectInfoSettings(MicroProfileProjectInfoSettings newProjectInfo) {
+		applicationPropertiesTextDocumentService.updateProjectInfoSettings(newProjectInfo);
+	}
+
+	/**
+	 * Update the completion settings.
+	 *
+	 * @param newCompletion the new completion settings.
+	 */
+	public void updateCompletionSettings(MicroProfileCompletionSettings newCompletion) {
+		applicationPropertiesTextDocumentService.updateCompletionSettings(newCompletion);
+	}
+
 	private TextDocumentService getTextDocumentService(TextDocumentIdentifier document) {
 		String fileExtension = getFileExtension(document);
 		return fileExtension != null ? textDocumentServicesMap.get(fileExtension) : null;
@@ -316,4 +336,21 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		return applicationPropertiesTextDocumentService.getJsonSchemaForProjectInfo(params);
 	}
 
+	/**
+	 * Collect the depth of the queues of the text document services.
+	 *
+	 * @param queues the queue depths to update.
+	 */
+	public void collectQueueDepths(Map<String, Integer> queues) {
+		applicationPropertiesTextDocumentService.collectQueueDepths(queues);
+		javaTextDocumentService.collectQueueDepths(queues);
+	}
+
+	/**
+	 * Dispose the text document services.
+	 */
+	public void dispose() {
+		applicationPropertiesTextDocumentService.dispose();
+	}
+
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.WorkspaceService;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
 import org.eclipse.lsp4mp.utils.FutureUtils;
+import org.eclipse.lsp4mp.utils.WorkspaceSymbolUtils;
 
 /**
  * MicroProfile workspace service.
@@ -100,12 +101,16 @@ public class MicroProfileWorkspaceService implements WorkspaceService {
 									// all be completed or cancelled by now
 									cancelChecker.checkCanceled();
 
-									return Either.forLeft(symbolFutures.stream() //
+									List<SymbolInformation> symbols = symbolFutures.stream() //
 											.flatMap(projectSymbolsFuture -> {
-												List<SymbolInformation> symbols = projectSymbolsFuture.getNow(null);
-												return symbols != null ? symbols.stream() : Stream.empty();
+												List<SymbolInformation> projectSymbols = projectSymbolsFuture
+														.getNow(null);
+												return projectSymbols != null ? projectSymbols.stream()
+														: Stream.empty();
 											}) //
-											.collect(Collectors.toList()));
+											.collect(Collectors.toList());
+									// Filter the symbols on the server side with prefix / fuzzy matching
+									return Either.forLeft(WorkspaceSymbolUtils.filter(symbols, params.getQuery()));
 								});
 					});
 		});
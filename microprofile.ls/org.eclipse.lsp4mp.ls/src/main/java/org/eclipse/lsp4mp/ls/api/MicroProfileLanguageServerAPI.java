@@ -20,6 +20,7 @@ import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStatsSnapshot;
 
 /**
  * MicroProfile language server API.
@@ -75,6 +76,14 @@ public interface MicroProfileLanguageServerAPI extends LanguageServer {
 	@JsonNotification("microprofile/propertiesChanged")
 	void propertiesChanged(MicroProfilePropertiesChangeEvent event);
 
+	/**
+	 * Notification for the availability change of a local server (ex : the
+	 * Quarkus dev server has been started / stopped) which occurs when the URL
+	 * code lenses of JAX-RS methods must be refreshed.
+	 */
+	@JsonNotification("microprofile/java/serverAvailabilityChanged")
+	void serverAvailabilityChanged();
+
 	/**
 	 * Returns the Json Schema for the MicroProfile properties of the given
 	 * application.yaml URI.
@@ -85,4 +94,13 @@ public interface MicroProfileLanguageServerAPI extends LanguageServer {
 	 */
 	@JsonRequest("microprofile/jsonSchemaForProjectInfo")
 	CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(MicroProfileProjectInfoParams params);
+
+	/**
+	 * Returns the statistics of the language server (latencies of the requests
+	 * and the delegate requests, parse times, cache hit ratios and queue depths).
+	 *
+	 * @return the statistics of the language server.
+	 */
+	@JsonRequest("microprofile/server/stats")
+	CompletableFuture<ServerStatsSnapshot> getServerStats();
 }
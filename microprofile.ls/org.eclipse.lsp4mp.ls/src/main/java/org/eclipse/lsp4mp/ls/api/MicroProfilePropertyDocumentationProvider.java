@@ -13,9 +13,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.api;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesDocumentationParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
 
 /**
@@ -26,4 +29,27 @@ public interface MicroProfilePropertyDocumentationProvider {
 	@JsonRequest("microprofile/propertyDocumentation")
 	CompletableFuture<String> getPropertyDocumentation(MicroProfilePropertyDocumentationParams params);
 
+	/**
+	 * Returns the documentation of several properties in one request. The result
+	 * list has the same order than the properties of the given parameters.
+	 *
+	 * <p>
+	 * The default implementation sends one
+	 * <code>microprofile/propertyDocumentation</code> request per property.
+	 * </p>
+	 *
+	 * @param params the properties documentation parameters.
+	 * @return the documentation of several properties in one request.
+	 */
+	@JsonRequest("microprofile/propertiesDocumentation")
+	default CompletableFuture<List<String>> getPropertiesDocumentation(
+			MicroProfilePropertiesDocumentationParams params) {
+		List<CompletableFuture<String>> futures = params.getProperties().stream() //
+				.map(this::getPropertyDocumentation) //
+				.collect(Collectors.toList());
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])) //
+				.thenApply(_void -> futures.stream() //
+						.map(CompletableFuture::join) //
+						.collect(Collectors.toList()));
+	}
 }
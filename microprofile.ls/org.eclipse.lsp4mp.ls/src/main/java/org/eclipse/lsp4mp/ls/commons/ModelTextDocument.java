@@ -19,6 +19,7 @@ import java.util.logging.Logger;
 
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStats;
 
 /**
  * A {@link TextDocument} which is associate to a model loaded in async.
@@ -69,6 +70,7 @@ public class ModelTextDocument<T> extends TextDocument {
 		}
 		int version = super.getVersion();
 		long start = System.currentTimeMillis();
+		long startNanos = System.nanoTime();
 		try {
 			LOGGER.fine("Start parsing of model with version '" + version);
 			// Stop of parse process can be done when completable future is canceled or when
@@ -76,6 +78,10 @@ public class ModelTextDocument<T> extends TextDocument {
 			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
 			// parse the model
 			model = parse.apply(this, cancelChecker);
+			if (model != null) {
+				ServerStats.getInstance().record(ServerStats.PARSE, model.getClass().getSimpleName(),
+						System.nanoTime() - startNanos, false);
+			}
 		} catch (CancellationException e) {
 			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
 					+ (System.currentTimeMillis() - start) + "ms");
@@ -0,0 +1,101 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.lsp4mp.ls.commons.stats.CacheStats;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStats;
+
+/**
+ * Bounded pool of strings used to share the same instance of the strings which
+ * are repeated a lot in the project information (ex : <code>java.lang.String</code>
+ * type, extension name, etc).
+ *
+ * <p>
+ * The pool references its strings weakly: a string is removed from the pool
+ * when it is no longer used (ex : the project information which used it has
+ * been evicted). The pool is also bounded: when it is full, the strings which
+ * are not in the pool are returned as is. Long strings are never pooled.
+ * </p>
+ *
+ */
+public class StringPool {
+
+	public static final int DEFAULT_MAX_SIZE = 100_000;
+
+	public static final int DEFAULT_MAX_LENGTH = 256;
+
+	private static final StringPool INSTANCE = new StringPool(DEFAULT_MAX_SIZE, DEFAULT_MAX_LENGTH);
+
+	public static StringPool getInstance() {
+		return INSTANCE;
+	}
+
+	private final int maxSize;
+
+	private final int maxLength;
+
+	// the value references weakly the key to not prevent its collection
+	private final Map<String, WeakReference<String>> strings;
+
+	private final CacheStats stats;
+
+	public StringPool(int maxSize, int maxLength) {
+		this.maxSize = maxSize;
+		this.maxLength = maxLength;
+		this.strings = new WeakHashMap<>();
+		this.stats = ServerStats.getInstance().getCache("stringPool");
+	}
+
+	/**
+	 * Returns the pooled instance of the given string, or the given string if
+	 * it cannot be pooled (pool full, string too long).
+	 *
+	 * @param value the string.
+	 * @return the pooled instance of the given string, or the given string if
+	 *         it cannot be pooled.
+	 */
+	public String intern(String value) {
+		if (value == null || value.length() > maxLength) {
+			return value;
+		}
+		synchronized (strings) {
+			WeakReference<String> reference = strings.get(value);
+			String pooled = reference != null ? reference.get() : null;
+			if (pooled != null) {
+				stats.hit();
+				return pooled;
+			}
+			stats.miss();
+			if (strings.size() < maxSize) {
+				strings.put(value, new WeakReference<>(value));
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Returns the number of pooled strings which are still used.
+	 *
+	 * @return the number of pooled strings which are still used.
+	 */
+	public int size() {
+		synchronized (strings) {
+			return strings.size();
+		}
+	}
+}
@@ -95,4 +95,15 @@ public class ValidatorDelayer<T extends TextDocument> {
 			return pendingValidationRequests.containsKey(uri);
 		}
 	}
+
+	/**
+	 * Returns the number of pending validations.
+	 *
+	 * @return the number of pending validations.
+	 */
+	public int getPendingValidationCount() {
+		synchronized (pendingValidationRequests) {
+			return pendingValidationRequests.size();
+		}
+	}
 }
@@ -0,0 +1,95 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.snippets;
+
+import java.util.Map;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4mp.commons.utils.JSONUtility;
+
+/**
+ * Represents data of a snippet completion item sent to compute the
+ * documentation with completionItem/resolve
+ *
+ * { 'data': { 'uri': {...}, 'prefix': {...}, 'model': {...},
+ * 'lineDelimiter': {...} } }
+ */
+public class SnippetCompletionData {
+
+	private String uri;
+
+	private String prefix;
+
+	private Map<String, String> model;
+
+	private String lineDelimiter;
+
+	public SnippetCompletionData() {
+	}
+
+	public SnippetCompletionData(String uri, String prefix, Map<String, String> model, String lineDelimiter) {
+		this.uri = uri;
+		this.prefix = prefix;
+		this.model = model;
+		this.lineDelimiter = lineDelimiter;
+	}
+
+	public String getUri() {
+		return uri;
+	}
+
+	public void setUri(String uri) {
+		this.uri = uri;
+	}
+
+	public String getPrefix() {
+		return prefix;
+	}
+
+	public void setPrefix(String prefix) {
+		this.prefix = prefix;
+	}
+
+	public Map<String, String> getModel() {
+		return model;
+	}
+
+	public void setModel(Map<String, String> model) {
+		this.model = model;
+	}
+
+	public String getLineDelimiter() {
+		return lineDelimiter;
+	}
+
+	public void setLineDelimiter(String lineDelimiter) {
+		this.lineDelimiter = lineDelimiter;
+	}
+
+	/**
+	 * Returns the snippet completion data of the given completion item and null
+	 * if the completion item is not a snippet completion item.
+	 *
+	 * @param unresolved the completion item to resolve.
+	 * @return the snippet completion data of the given completion item and null
+	 *         if the completion item is not a snippet completion item.
+	 */
+	public static SnippetCompletionData getSnippetCompletionData(CompletionItem unresolved) {
+		if (unresolved.getData() == null) {
+			return null;
+		}
+		SnippetCompletionData data = JSONUtility.toModel(unresolved.getData(), SnippetCompletionData.class);
+		return data != null && data.getPrefix() != null ? data : null;
+	}
+}
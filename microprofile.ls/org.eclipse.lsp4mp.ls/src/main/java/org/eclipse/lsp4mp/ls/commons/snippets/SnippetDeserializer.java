@@ -15,7 +15,9 @@ package org.eclipse.lsp4mp.ls.commons.snippets;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 
@@ -46,8 +48,13 @@ class SnippetDeserializer implements JsonDeserializer<Snippet> {
 
 	private final TypeAdapter<? extends ISnippetContext<?>> contextDeserializer;
 
+	// the snippets which declare an equal JSON context share the same context
+	// instance
+	private final Map<JsonElement, ISnippetContext<?>> contexts;
+
 	public SnippetDeserializer(TypeAdapter<? extends ISnippetContext<?>> contextDeserializer) {
 		this.contextDeserializer = contextDeserializer;
+		this.contexts = new HashMap<>();
 	}
 
 	@Override
@@ -137,7 +144,8 @@ class SnippetDeserializer implements JsonDeserializer<Snippet> {
 		if (contextDeserializer != null) {
 			JsonElement contextElt = snippetObj.get(CONTEXT_ELT);
 			if (contextElt != null) {
-				ISnippetContext<?> snippetContext = contextDeserializer.fromJsonTree(contextElt);
+				ISnippetContext<?> snippetContext = contexts.computeIfAbsent(contextElt,
+						elt -> contextDeserializer.fromJsonTree(elt));
 				snippet.setContext(snippetContext);
 			}
 		}
@@ -21,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,7 +29,6 @@ import java.util.ServiceLoader;
 import java.util.function.BiPredicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
@@ -41,6 +41,7 @@ import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
@@ -59,6 +60,16 @@ public class SnippetRegistry {
 
 	private final List<Snippet> snippets;
 
+	// snippets without context
+	private final List<Snippet> snippetsWithoutContext;
+
+	// snippets without context and snippets with a context of the key class, in
+	// the registration order
+	private final Map<Class<?>, List<Snippet>> snippetsByContextKind;
+
+	// snippets by their first prefix
+	private final Map<String, List<Snippet>> snippetsByPrefix;
+
 	public SnippetRegistry() {
 		this(null);
 	}
@@ -76,6 +87,9 @@ public class SnippetRegistry {
 	 */
 	public SnippetRegistry(String languageId, boolean loadDefault) {
 		snippets = new ArrayList<>();
+		snippetsWithoutContext = new ArrayList<>();
+		snippetsByContextKind = new HashMap<>();
+		snippetsByPrefix = new HashMap<>();
 		// Load snippets from SPI
 		if (loadDefault) {
 			ServiceLoader<ISnippetRegistryLoader> loaders = ServiceLoader.load(ISnippetRegistryLoader.class);
@@ -99,6 +113,20 @@ public class SnippetRegistry {
 	 */
 	public void registerSnippet(Snippet snippet) {
 		snippets.add(snippet);
+		if (snippet.hasContext()) {
+			snippetsByContextKind
+					.computeIfAbsent(snippet.getContext().getClass(), k -> new ArrayList<>(snippetsWithoutContext))
+					.add(snippet);
+		} else {
+			snippetsWithoutContext.add(snippet);
+			for (List<Snippet> kindSnippets : snippetsByContextKind.values()) {
+				kindSnippets.add(snippet);
+			}
+		}
+		List<String> prefixes = snippet.getPrefixes();
+		if (prefixes != null && !prefixes.isEmpty()) {
+			snippetsByPrefix.computeIfAbsent(prefixes.get(0), k -> new ArrayList<>()).add(snippet);
+		}
 	}
 
 	/**
@@ -202,10 +230,11 @@ public class SnippetRegistry {
 	public void registerSnippets(Reader in, ISnippetContext<?> defaultContext,
 			TypeAdapter<? extends ISnippetContext<?>> contextDeserializer) throws IOException {
 		JsonReader reader = new JsonReader(in);
+		Gson gson = createGson(contextDeserializer);
 		reader.beginObject();
 		while (reader.hasNext()) {
 			String name = reader.nextName();
-			Snippet snippet = createSnippet(reader, contextDeserializer);
+			Snippet snippet = gson.fromJson(reader, Snippet.class);
 			if (snippet.getDescription() == null) {
 				snippet.setDescription(name);
 			}
@@ -217,11 +246,10 @@ public class SnippetRegistry {
 		reader.endObject();
 	}
 
-	private static Snippet createSnippet(JsonReader reader,
-			TypeAdapter<? extends ISnippetContext<?>> contextDeserializer) throws JsonIOException, JsonSyntaxException {
+	private static Gson createGson(TypeAdapter<? extends ISnippetContext<?>> contextDeserializer) {
 		GsonBuilder builder = new GsonBuilder();
 		builder.registerTypeAdapter(Snippet.class, new SnippetDeserializer(contextDeserializer));
-		return builder.create().fromJson(reader, Snippet.class);
+		return builder.create();
 	}
 
 	/**
@@ -233,6 +261,19 @@ public class SnippetRegistry {
 		return snippets;
 	}
 
+	/**
+	 * Returns the snippets without context and the snippets with a context of the
+	 * given kind, in the registration order.
+	 * 
+	 * @param contextKind the class of the snippet context.
+	 * @return the snippets without context and the snippets with a context of the
+	 *         given kind, in the registration order.
+	 */
+	private List<Snippet> getSnippets(Class<?> contextKind) {
+		List<Snippet> kindSnippets = snippetsByContextKind.get(contextKind);
+		return kindSnippets != null ? kindSnippets : snippetsWithoutContext;
+	}
+
 	/**
 	 * Returns the snippet completion items according to the context filter.
 	 * 
@@ -247,21 +288,96 @@ public class SnippetRegistry {
 	public List<CompletionItem> getCompletionItems(Range replaceRange, String lineDelimiter, boolean canSupportMarkdown,
 			boolean snippetsSupported, BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
 			Map<String, String> initialModel, ISuffixPositionProvider suffixProvider) {
+		return getCompletionItems(replaceRange, lineDelimiter, canSupportMarkdown, snippetsSupported, contextFilter,
+				initialModel, suffixProvider, null);
+	}
+
+	/**
+	 * Returns the snippet completion items according to the context filter.
+	 * 
+	 * <p>
+	 * When a document URI is given, the documentation of the completion items is
+	 * not computed and it is computed on completionItem/resolve with
+	 * {@link #resolveCompletionItem(CompletionItem, boolean)}.
+	 * </p>
+	 * 
+	 * @param replaceRange       the replace range.
+	 * @param lineDelimiter      the line delimiter.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @param contextFilter      the context filter.
+	 * @param initialModel       the initial model.
+	 * @param resolveUri         the document URI to store in the completion item
+	 *                           data to resolve the documentation, or null to
+	 *                           compute the documentation immediately.
+	 * @return the snippet completion items according to the context filter.
+	 */
+	public List<CompletionItem> getCompletionItems(Range replaceRange, String lineDelimiter, boolean canSupportMarkdown,
+			boolean snippetsSupported, BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
+			Map<String, String> initialModel, ISuffixPositionProvider suffixProvider, String resolveUri) {
+		return getCompletionItems(getSnippets(), replaceRange, lineDelimiter, canSupportMarkdown, snippetsSupported,
+				contextFilter, initialModel, suffixProvider, resolveUri);
+	}
+
+	/**
+	 * Returns the completion items of the snippets without context and of the
+	 * snippets with a context of the given kind which matches the context filter.
+	 * 
+	 * <p>
+	 * The snippets are indexed by the class of their context when they are
+	 * registered: the snippets with a context of another kind are never evaluated.
+	 * </p>
+	 * 
+	 * @param replaceRange       the replace range.
+	 * @param lineDelimiter      the line delimiter.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @param contextKind        the class of the snippet context.
+	 * @param contextFilter      the context filter.
+	 * @param initialModel       the initial model.
+	 * @param resolveUri         the document URI to store in the completion item
+	 *                           data to resolve the documentation, or null to
+	 *                           compute the documentation immediately.
+	 * @return the snippet completion items according to the context filter.
+	 */
+	public <C extends ISnippetContext<?>> List<CompletionItem> getCompletionItems(Range replaceRange,
+			String lineDelimiter, boolean canSupportMarkdown, boolean snippetsSupported, Class<C> contextKind,
+			BiPredicate<C, Map<String, String>> contextFilter, Map<String, String> initialModel,
+			ISuffixPositionProvider suffixProvider, String resolveUri) {
+		return getCompletionItems(getSnippets(contextKind), replaceRange, lineDelimiter, canSupportMarkdown,
+				snippetsSupported, (context, model) -> contextFilter.test(contextKind.cast(context), model),
+				initialModel, suffixProvider, resolveUri);
+	}
+
+	private List<CompletionItem> getCompletionItems(List<Snippet> snippets, Range replaceRange, String lineDelimiter,
+			boolean canSupportMarkdown, boolean snippetsSupported,
+			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, Map<String, String> initialModel,
+			ISuffixPositionProvider suffixProvider, String resolveUri) {
 		if (replaceRange == null) {
 			return Collections.emptyList();
 		}
 		final Map<String, String> model = initialModel != null ? initialModel : new HashMap<>();
-		return getSnippets().stream().filter(snippet -> {
-			return snippet.match(contextFilter, model);
-		}).map(snippet -> {
+		// snippets loaded from the same JSON with an equal context share the same
+		// context instance (see SnippetDeserializer), the context filter is evaluated
+		// once per context instance.
+		Map<ISnippetContext<?>, Boolean> matches = new IdentityHashMap<>();
+		List<CompletionItem> items = new ArrayList<>();
+		for (Snippet snippet : snippets) {
+			if (!match(snippet, contextFilter, model, matches)) {
+				continue;
+			}
 			CompletionItem item = new CompletionItem();
 			String prefix = snippet.getPrefixes().get(0);
 			String label = snippet.getLabel() != null ? snippet.getLabel() : prefix;
 			item.setLabel(label);
 			String insertText = getInsertText(snippet, model, snippetsSupported, lineDelimiter);
 			item.setKind(CompletionItemKind.Snippet);
-			item.setDocumentation(
-					Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
+			if (resolveUri != null) {
+				item.setData(new SnippetCompletionData(resolveUri, prefix, model, lineDelimiter));
+			} else {
+				item.setDocumentation(
+						Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
+			}
 			item.setFilterText(prefix);
 			item.setDetail(snippet.getDescription());
 			Range range = replaceRange;
@@ -274,9 +390,61 @@ public class SnippetRegistry {
 			item.setTextEdit(Either.forLeft(new TextEdit(range, insertText)));
 			item.setInsertTextFormat(InsertTextFormat.Snippet);
 			item.setSortText(snippet.getSortText());
-			return item;
+			items.add(item);
+		}
+		return items;
+	}
 
-		}).collect(Collectors.toList());
+	private static boolean match(Snippet snippet, BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
+			Map<String, String> model, Map<ISnippetContext<?>, Boolean> matches) {
+		if (!snippet.hasContext()) {
+			return true;
+		}
+		ISnippetContext<?> context = snippet.getContext();
+		Boolean match = matches.get(context);
+		if (match == null) {
+			match = snippet.match(contextFilter, model);
+			matches.put(context, match);
+		}
+		return match;
+	}
+
+	/**
+	 * Compute the documentation of the given snippet completion item which was
+	 * created without documentation.
+	 * 
+	 * @param unresolved         the completion item to resolve.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @return the completion item with the documentation.
+	 */
+	public CompletionItem resolveCompletionItem(CompletionItem unresolved, boolean canSupportMarkdown) {
+		SnippetCompletionData data = SnippetCompletionData.getSnippetCompletionData(unresolved);
+		if (data == null) {
+			return unresolved;
+		}
+		Snippet snippet = findSnippet(data.getPrefix(), unresolved.getLabel());
+		if (snippet == null) {
+			return unresolved;
+		}
+		Map<String, String> model = data.getModel() != null ? data.getModel() : new HashMap<>();
+		unresolved.setDocumentation(Either.forRight(
+				createDocumentation(snippet, model, canSupportMarkdown, data.getLineDelimiter())));
+		return unresolved;
+	}
+
+	private Snippet findSnippet(String prefix, String label) {
+		List<Snippet> prefixSnippets = snippetsByPrefix.get(prefix);
+		if (prefixSnippets == null) {
+			return null;
+		}
+		for (Snippet snippet : prefixSnippets) {
+			String snippetLabel = snippet.getLabel() != null ? snippet.getLabel() : prefix;
+			if (snippetLabel.equals(label)) {
+				return snippet;
+			}
+		}
+		return null;
 	}
 
 	private static MarkupContent createDocumentation(Snippet snippet, Map<String, String> model,
@@ -64,11 +64,68 @@ public class TextDocumentSnippetRegistry extends SnippetRegistry {
 	public List<CompletionItem> getCompletionItems(TextDocument document, int completionOffset,
 			boolean canSupportMarkdown, boolean snippetsSupported,
 			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, Map<String, String> model) {
+		return getCompletionItems(document, completionOffset, canSupportMarkdown, snippetsSupported, contextFilter,
+				model, false);
+	}
+
+	/**
+	 * Returns the snippet completion items for the given completion offset and
+	 * context filter.
+	 *
+	 * @param document              the text document.
+	 * @param completionOffset      the completion offset.
+	 * @param canSupportMarkdown    true if markdown is supported to generate
+	 *                              documentation and false otherwise.
+	 * @param contextFilter         the context filter.
+	 * @param model                 the context model used to replace some place
+	 *                              holder.
+	 * @param resolveDocumentation true if the documentation must be computed on
+	 *                              completionItem/resolve and false otherwise.
+	 * @return the snippet completion items for the given completion offset and
+	 *         context filter.
+	 */
+	public List<CompletionItem> getCompletionItems(TextDocument document, int completionOffset,
+			boolean canSupportMarkdown, boolean snippetsSupported,
+			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, Map<String, String> model,
+			boolean resolveDocumentation) {
+		try {
+			String lineDelimiter = getLineDelimiter(document, completionOffset);
+			Range replaceRange = getReplaceRange(document, completionOffset);
+			return super.getCompletionItems(replaceRange, lineDelimiter, canSupportMarkdown, snippetsSupported,
+					contextFilter, model, null, resolveDocumentation ? document.getUri() : null);
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error while computing snippet completion items", e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Returns the completion items of the snippets without context and of the
+	 * snippets with a context of the given kind for the given completion offset
+	 * and context filter.
+	 *
+	 * @param document              the text document.
+	 * @param completionOffset      the completion offset.
+	 * @param canSupportMarkdown    true if markdown is supported to generate
+	 *                              documentation and false otherwise.
+	 * @param contextKind           the class of the snippet context.
+	 * @param contextFilter         the context filter.
+	 * @param model                 the context model used to replace some place
+	 *                              holder.
+	 * @param resolveDocumentation true if the documentation must be computed on
+	 *                              completionItem/resolve and false otherwise.
+	 * @return the snippet completion items for the given completion offset and
+	 *         context filter.
+	 */
+	public <C extends ISnippetContext<?>> List<CompletionItem> getCompletionItems(TextDocument document,
+			int completionOffset, boolean canSupportMarkdown, boolean snippetsSupported, Class<C> contextKind,
+			BiPredicate<C, Map<String, String>> contextFilter, Map<String, String> model,
+			boolean resolveDocumentation) {
 		try {
 			String lineDelimiter = getLineDelimiter(document, completionOffset);
 			Range replaceRange = getReplaceRange(document, completionOffset);
 			return super.getCompletionItems(replaceRange, lineDelimiter, canSupportMarkdown, snippetsSupported,
-					contextFilter, model, null);
+					contextKind, contextFilter, model, null, resolveDocumentation ? document.getUri() : null);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while computing snippet completion items", e);
 			return Collections.emptyList();
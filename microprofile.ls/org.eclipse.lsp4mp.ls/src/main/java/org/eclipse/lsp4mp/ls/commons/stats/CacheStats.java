@@ -0,0 +1,62 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.stats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hits and misses of a cache.
+ *
+ */
+public class CacheStats {
+
+	private final LongAdder hits;
+
+	private final LongAdder misses;
+
+	public CacheStats() {
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+	}
+
+	/**
+	 * Record a cache hit.
+	 */
+	public void hit() {
+		hits.increment();
+	}
+
+	/**
+	 * Record a cache miss.
+	 */
+	public void miss() {
+		misses.increment();
+	}
+
+	/**
+	 * Returns the snapshot of the cache hits and misses.
+	 *
+	 * @return the snapshot of the cache hits and misses.
+	 */
+	public ServerStatsSnapshot.Cache snapshot() {
+		long hitCount = hits.sum();
+		long missCount = misses.sum();
+		ServerStatsSnapshot.Cache cache = new ServerStatsSnapshot.Cache();
+		cache.setHits(hitCount);
+		cache.setMisses(missCount);
+		long total = hitCount + missCount;
+		cache.setHitRatio(total == 0 ? 0 : (double) hitCount / total);
+		return cache;
+	}
+}
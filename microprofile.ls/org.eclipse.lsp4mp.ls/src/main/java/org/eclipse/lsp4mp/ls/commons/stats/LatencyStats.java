@@ -0,0 +1,133 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.stats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram of an operation (LSP request, delegate request, parse of a
+ * model, etc).
+ *
+ * <p>
+ * The latencies are counted in fixed buckets (see {@link #BUCKET_BOUNDS}) to
+ * record a latency without lock and without allocation.
+ * </p>
+ *
+ */
+public class LatencyStats {
+
+	/**
+	 * Upper bounds in milliseconds of the buckets of the histogram, the last
+	 * bucket counts the latencies greater than the last bound.
+	 */
+	static final long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000 };
+
+	private final LongAdder count;
+
+	private final LongAdder errors;
+
+	private final LongAdder totalTime;
+
+	private final LongAccumulator maxTime;
+
+	private final AtomicLongArray buckets;
+
+	public LatencyStats() {
+		this.count = new LongAdder();
+		this.errors = new LongAdder();
+		this.totalTime = new LongAdder();
+		this.maxTime = new LongAccumulator(Math::max, 0);
+		this.buckets = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+	}
+
+	/**
+	 * Record the given latency.
+	 *
+	 * @param nanos the latency in nanoseconds.
+	 * @param error true if the operation failed and false otherwise.
+	 */
+	public void record(long nanos, boolean error) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		count.increment();
+		if (error) {
+			errors.increment();
+		}
+		totalTime.add(millis);
+		maxTime.accumulate(millis);
+		buckets.incrementAndGet(getBucket(millis));
+	}
+
+	private static int getBucket(long millis) {
+		for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+			if (millis <= BUCKET_BOUNDS[i]) {
+				return i;
+			}
+		}
+		return BUCKET_BOUNDS.length;
+	}
+
+	/**
+	 * Returns the snapshot of the latencies.
+	 *
+	 * @return the snapshot of the latencies.
+	 */
+	public ServerStatsSnapshot.Latency snapshot() {
+		long[] counts = new long[buckets.length()];
+		long total = 0;
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		Map<String, Long> histogram = new LinkedHashMap<>();
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] > 0) {
+				histogram.put(i < BUCKET_BOUNDS.length ? String.valueOf(BUCKET_BOUNDS[i]) : "+Inf", counts[i]);
+			}
+		}
+		ServerStatsSnapshot.Latency latency = new ServerStatsSnapshot.Latency();
+		latency.setCount(count.sum());
+		latency.setErrors(errors.sum());
+		latency.setTotalTime(totalTime.sum());
+		latency.setMaxTime(maxTime.get());
+		latency.setP50(getPercentile(counts, total, 0.50));
+		latency.setP90(getPercentile(counts, total, 0.90));
+		latency.setP99(getPercentile(counts, total, 0.99));
+		latency.setHistogram(histogram);
+		return latency;
+	}
+
+	/**
+	 * Returns the upper bound of the bucket which contains the given percentile,
+	 * or the max time for the last bucket.
+	 */
+	private long getPercentile(long[] counts, long total, double percentile) {
+		if (total == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(total * percentile);
+		long cumulative = 0;
+		for (int i = 0; i < counts.length; i++) {
+			cumulative += counts[i];
+			if (cumulative >= rank) {
+				return i < BUCKET_BOUNDS.length ? Math.min(BUCKET_BOUNDS[i], maxTime.get()) : maxTime.get();
+			}
+		}
+		return maxTime.get();
+	}
+}
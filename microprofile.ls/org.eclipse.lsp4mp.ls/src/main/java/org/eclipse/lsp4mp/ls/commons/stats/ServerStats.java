@@ -0,0 +1,189 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.stats;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Lightweight statistics of the language server:
+ *
+ * <ul>
+ * <li>latencies of the requests and notifications sent by the client.</li>
+ * <li>round trips of the requests delegated to the client.</li>
+ * <li>parse times of the document models.</li>
+ * <li>hits and misses of the caches.</li>
+ * <li>number of in-flight requests.</li>
+ * </ul>
+ *
+ * <p>
+ * Each recorded latency is emitted as the JFR event
+ * <code>org.eclipse.lsp4mp.ServerOperation</code> when a JFR recording enables
+ * it. The JFR event is compiled separately for Java 11 (see
+ * <code>src/main/java-jfr</code>) and loaded by reflection, so the language
+ * server still runs on a Java 8 runtime.
+ * </p>
+ *
+ */
+public class ServerStats {
+
+	public static final String REQUEST = "request";
+
+	public static final String NOTIFICATION = "notification";
+
+	public static final String DELEGATE = "delegate";
+
+	public static final String PARSE = "parse";
+
+	private static final ServerStats INSTANCE = new ServerStats();
+
+	public static ServerStats getInstance() {
+		return INSTANCE;
+	}
+
+	private static final ServerStatsEmitter JFR_EMITTER = createJFREmitter();
+
+	private final long startTime;
+
+	private final Map<String, LatencyStats> requests;
+
+	private final Map<String, LatencyStats> notifications;
+
+	private final Map<String, LatencyStats> delegates;
+
+	private final Map<String, LatencyStats> parses;
+
+	private final Map<String, CacheStats> caches;
+
+	private final AtomicInteger pendingRequests;
+
+	private final AtomicInteger pendingDelegates;
+
+	private ServerStats() {
+		this.startTime = System.currentTimeMillis();
+		this.requests = new ConcurrentHashMap<>();
+		this.notifications = new ConcurrentHashMap<>();
+		this.delegates = new ConcurrentHashMap<>();
+		this.parses = new ConcurrentHashMap<>();
+		this.caches = new ConcurrentHashMap<>();
+		this.pendingRequests = new AtomicInteger();
+		this.pendingDelegates = new AtomicInteger();
+	}
+
+	/**
+	 * Record the latency of the given operation.
+	 *
+	 * @param kind  the kind of the operation ({@link #REQUEST},
+	 *              {@link #NOTIFICATION}, {@link #DELEGATE}, {@link #PARSE}).
+	 * @param name  the name of the operation (LSP method, model type).
+	 * @param nanos the latency in nanoseconds.
+	 * @param error true if the operation failed and false otherwise.
+	 */
+	public void record(String kind, String name, long nanos, boolean error) {
+		getLatencies(kind).computeIfAbsent(name, n -> new LatencyStats()).record(nanos, error);
+		if (JFR_EMITTER != null && JFR_EMITTER.isEnabled()) {
+			JFR_EMITTER.emit(kind, name, nanos, error);
+		}
+	}
+
+	private Map<String, LatencyStats> getLatencies(String kind) {
+		switch (kind) {
+		case REQUEST:
+			return requests;
+		case NOTIFICATION:
+			return notifications;
+		case DELEGATE:
+			return delegates;
+		case PARSE:
+			return parses;
+		default:
+			throw new IllegalArgumentException("Unknown operation kind '" + kind + "'");
+		}
+	}
+
+	/**
+	 * Returns the hits and misses of the given cache.
+	 *
+	 * @param name the cache name.
+	 * @return the hits and misses of the given cache.
+	 */
+	public CacheStats getCache(String name) {
+		return caches.computeIfAbsent(name, n -> new CacheStats());
+	}
+
+	/**
+	 * Returns the counter of the requests sent by the client which are not
+	 * answered.
+	 *
+	 * @return the counter of the requests sent by the client which are not
+	 *         answered.
+	 */
+	AtomicInteger getPendingRequests() {
+		return pendingRequests;
+	}
+
+	/**
+	 * Returns the counter of the requests delegated to the client which are not
+	 * answered.
+	 *
+	 * @return the counter of the requests delegated to the client which are not
+	 *         answered.
+	 */
+	AtomicInteger getPendingDelegates() {
+		return pendingDelegates;
+	}
+
+	/**
+	 * Returns the snapshot of the statistics.
+	 *
+	 * @param queues the current depth of the queues of the language server
+	 *               services which are added to the snapshot.
+	 * @return the snapshot of the statistics.
+	 */
+	public ServerStatsSnapshot snapshot(Map<String, Integer> queues) {
+		ServerStatsSnapshot snapshot = new ServerStatsSnapshot();
+		snapshot.setUptime(System.currentTimeMillis() - startTime);
+		snapshot.setRequests(snapshot(requests, LatencyStats::snapshot));
+		snapshot.setNotifications(snapshot(notifications, LatencyStats::snapshot));
+		snapshot.setDelegates(snapshot(delegates, LatencyStats::snapshot));
+		snapshot.setParses(snapshot(parses, LatencyStats::snapshot));
+		snapshot.setCaches(snapshot(caches, CacheStats::snapshot));
+		Map<String, Integer> allQueues = new TreeMap<>(queues);
+		allQueues.put("pendingRequests", pendingRequests.get());
+		allQueues.put("pendingDelegates", pendingDelegates.get());
+		snapshot.setQueues(allQueues);
+		return snapshot;
+	}
+
+	private static <T, S> Map<String, S> snapshot(Map<String, T> stats, Function<T, S> snapshot) {
+		Map<String, S> result = new TreeMap<>();
+		stats.forEach((name, s) -> result.put(name, snapshot.apply(s)));
+		return result;
+	}
+
+	private static ServerStatsEmitter createJFREmitter() {
+		try {
+			Class.forName("jdk.jfr.Event", false, ServerStats.class.getClassLoader());
+			return (ServerStatsEmitter) Class
+					.forName(ServerStats.class.getPackage().getName() + ".JFRServerStatsEmitter")
+					.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			// Java 8 runtime without JFR
+			return null;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.stats;
+
+/**
+ * Emitter of the operations recorded by {@link ServerStats} to an external
+ * recorder (ex : JFR).
+ *
+ */
+interface ServerStatsEmitter {
+
+	/**
+	 * Returns true if the operations must be emitted and false otherwise.
+	 *
+	 * @return true if the operations must be emitted and false otherwise.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Emit the given operation.
+	 *
+	 * @param kind  the kind of the operation.
+	 * @param name  the name of the operation.
+	 * @param nanos the latency in nanoseconds.
+	 * @param error true if the operation failed and false otherwise.
+	 */
+	void emit(String kind, String name, long nanos, boolean error);
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.stats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+
+/**
+ * Message wrapper which records in {@link ServerStats} the latencies of all
+ * LSP methods:
+ *
+ * <ul>
+ * <li>an incoming request is measured until its response is sent (any text
+ * document and workspace service method).</li>
+ * <li>an incoming notification is measured while it is consumed by the
+ * {@link RemoteEndpoint}, inside the given wrapper: when the wrapper consumes
+ * the messages asynchronously (<code>runAsync</code>), the time spent waiting
+ * for the executor is not measured. The work that the service method starts in
+ * background (ex : validation) is not measured.</li>
+ * <li>an outgoing request (delegate command to the client, ex :
+ * <code>microprofile/projectInfo</code>) is measured until its response is
+ * received.</li>
+ * </ul>
+ *
+ * <p>
+ * LSP4J applies the wrapper to the incoming message stream (consumed by the
+ * {@link RemoteEndpoint}) and to the outgoing message stream.
+ * </p>
+ *
+ */
+public class ServerStatsMessageTracer implements Function<MessageConsumer, MessageConsumer> {
+
+	// the requests whose response is never received must not leak
+	private static final int MAX_PENDING_REQUESTS = 10000;
+
+	private static class PendingRequest {
+
+		private final String method;
+
+		private final long start;
+
+		public PendingRequest(String method) {
+			this.method = method;
+			this.start = System.nanoTime();
+		}
+	}
+
+	private final Function<MessageConsumer, MessageConsumer> wrapper;
+
+	private final ServerStats stats;
+
+	private final Map<String /* request id */, PendingRequest> incomingRequests;
+
+	private final Map<String /* request id */, PendingRequest> outgoingRequests;
+
+	public ServerStatsMessageTracer(Function<MessageConsumer, MessageConsumer> wrapper) {
+		this.wrapper = wrapper;
+		this.stats = ServerStats.getInstance();
+		this.incomingRequests = new ConcurrentHashMap<>();
+		this.outgoingRequests = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public MessageConsumer apply(MessageConsumer consumer) {
+		if (consumer instanceof RemoteEndpoint) {
+			// the notifications are measured when they are consumed, after the wrapper
+			MessageConsumer wrapped = wrapper.apply(message -> consumeIncomingNotification(message, consumer));
+			return message -> consumeIncoming(message, wrapped);
+		}
+		MessageConsumer wrapped = wrapper.apply(consumer);
+		return message -> {
+			consumeOutgoing(message);
+			wrapped.consume(message);
+		};
+	}
+
+	private void consumeIncoming(Message message, MessageConsumer consumer) {
+		if (message instanceof RequestMessage) {
+			RequestMessage request = (RequestMessage) message;
+			start(incomingRequests, request, stats.getPendingRequests());
+		} else if (message instanceof ResponseMessage) {
+			end(outgoingRequests, (ResponseMessage) message, ServerStats.DELEGATE, stats.getPendingDelegates());
+		}
+		consumer.consume(message);
+	}
+
+	private void consumeIncomingNotification(Message message, MessageConsumer consumer) {
+		if (!(message instanceof NotificationMessage)) {
+			consumer.consume(message);
+			return;
+		}
+		String method = ((NotificationMessage) message).getMethod();
+		long start = System.nanoTime();
+		boolean error = true;
+		try {
+			consumer.consume(message);
+			error = false;
+		} finally {
+			stats.record(ServerStats.NOTIFICATION, method, System.nanoTime() - start, error);
+		}
+	}
+
+	private void consumeOutgoing(Message message) {
+		if (message instanceof RequestMessage) {
+			start(outgoingRequests, (RequestMessage) message, stats.getPendingDelegates());
+		} else if (message instanceof ResponseMessage) {
+			end(incomingRequests, (ResponseMessage) message, ServerStats.REQUEST, stats.getPendingRequests());
+		}
+	}
+
+	private static void start(Map<String, PendingRequest> pendingRequests, RequestMessage request,
+			AtomicInteger pendingCount) {
+		if (request.getId() == null) {
+			return;
+		}
+		if (pendingRequests.size() >= MAX_PENDING_REQUESTS) {
+			pendingCount.addAndGet(-pendingRequests.size());
+			pendingRequests.clear();
+		}
+		if (pendingRequests.put(request.getId(), new PendingRequest(request.getMethod())) == null) {
+			pendingCount.incrementAndGet();
+		}
+	}
+
+	private void end(Map<String, PendingRequest> pendingRequests, ResponseMessage response, String kind,
+			AtomicInteger pendingCount) {
+		if (response.getId() == null) {
+			return;
+		}
+		PendingRequest request = pendingRequests.remove(response.getId());
+		if (request == null) {
+			return;
+		}
+		pendingCount.decrementAndGet();
+		stats.record(kind, request.method, System.nanoTime() - request.start, response.getError() != null);
+	}
+}
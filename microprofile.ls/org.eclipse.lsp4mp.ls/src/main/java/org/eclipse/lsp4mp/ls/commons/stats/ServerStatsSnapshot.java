@@ -0,0 +1,250 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.stats;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the statistics of the language server returned by the
+ * <code>microprofile/server/stats</code> request.
+ *
+ * <p>
+ * All times are in milliseconds.
+ * </p>
+ *
+ */
+public class ServerStatsSnapshot {
+
+	/**
+	 * Latencies of an operation.
+	 */
+	public static class Latency {
+
+		private long count;
+
+		private long errors;
+
+		private long totalTime;
+
+		private long maxTime;
+
+		private long p50;
+
+		private long p90;
+
+		private long p99;
+
+		private Map<String /* upper bound in ms */, Long> histogram;
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+
+		public long getErrors() {
+			return errors;
+		}
+
+		public void setErrors(long errors) {
+			this.errors = errors;
+		}
+
+		public long getTotalTime() {
+			return totalTime;
+		}
+
+		public void setTotalTime(long totalTime) {
+			this.totalTime = totalTime;
+		}
+
+		public long getMaxTime() {
+			return maxTime;
+		}
+
+		public void setMaxTime(long maxTime) {
+			this.maxTime = maxTime;
+		}
+
+		public long getP50() {
+			return p50;
+		}
+
+		public void setP50(long p50) {
+			this.p50 = p50;
+		}
+
+		public long getP90() {
+			return p90;
+		}
+
+		public void setP90(long p90) {
+			this.p90 = p90;
+		}
+
+		public long getP99() {
+			return p99;
+		}
+
+		public void setP99(long p99) {
+			this.p99 = p99;
+		}
+
+		public Map<String, Long> getHistogram() {
+			return histogram;
+		}
+
+		public void setHistogram(Map<String, Long> histogram) {
+			this.histogram = histogram;
+		}
+	}
+
+	/**
+	 * Hits and misses of a cache.
+	 */
+	public static class Cache {
+
+		private long hits;
+
+		private long misses;
+
+		private double hitRatio;
+
+		public long getHits() {
+			return hits;
+		}
+
+		public void setHits(long hits) {
+			this.hits = hits;
+		}
+
+		public long getMisses() {
+			return misses;
+		}
+
+		public void setMisses(long misses) {
+			this.misses = misses;
+		}
+
+		public double getHitRatio() {
+			return hitRatio;
+		}
+
+		public void setHitRatio(double hitRatio) {
+			this.hitRatio = hitRatio;
+		}
+	}
+
+	private long uptime;
+
+	private Map<String /* LSP method */, Latency> requests;
+
+	private Map<String /* LSP method */, Latency> notifications;
+
+	private Map<String /* LSP method */, Latency> delegates;
+
+	private Map<String /* model */, Latency> parses;
+
+	private Map<String /* cache name */, Cache> caches;
+
+	private Map<String /* queue name */, Integer> queues;
+
+	public long getUptime() {
+		return uptime;
+	}
+
+	public void setUptime(long uptime) {
+		this.uptime = uptime;
+	}
+
+	/**
+	 * Returns the latencies of the requests sent by the client per LSP method.
+	 *
+	 * @return the latencies of the requests sent by the client per LSP method.
+	 */
+	public Map<String, Latency> getRequests() {
+		return requests;
+	}
+
+	public void setRequests(Map<String, Latency> requests) {
+		this.requests = requests;
+	}
+
+	/**
+	 * Returns the processing times of the notifications sent by the client per
+	 * LSP method.
+	 *
+	 * @return the processing times of the notifications sent by the client per
+	 *         LSP method.
+	 */
+	public Map<String, Latency> getNotifications() {
+		return notifications;
+	}
+
+	public void setNotifications(Map<String, Latency> notifications) {
+		this.notifications = notifications;
+	}
+
+	/**
+	 * Returns the round trips of the requests delegated to the client (ex :
+	 * <code>microprofile/projectInfo</code>) per LSP method.
+	 *
+	 * @return the round trips of the requests delegated to the client per LSP
+	 *         method.
+	 */
+	public Map<String, Latency> getDelegates() {
+		return delegates;
+	}
+
+	public void setDelegates(Map<String, Latency> delegates) {
+		this.delegates = delegates;
+	}
+
+	/**
+	 * Returns the parse times of the document models per model type.
+	 *
+	 * @return the parse times of the document models per model type.
+	 */
+	public Map<String, Latency> getParses() {
+		return parses;
+	}
+
+	public void setParses(Map<String, Latency> parses) {
+		this.parses = parses;
+	}
+
+	public Map<String, Cache> getCaches() {
+		return caches;
+	}
+
+	public void setCaches(Map<String, Cache> caches) {
+		this.caches = caches;
+	}
+
+	/**
+	 * Returns the current depth of the queues (pending requests, pending
+	 * validations, etc).
+	 *
+	 * @return the current depth of the queues.
+	 */
+	public Map<String, Integer> getQueues() {
+		return queues;
+	}
+
+	public void setQueues(Map<String, Integer> queues) {
+		this.queues = queues;
+	}
+}
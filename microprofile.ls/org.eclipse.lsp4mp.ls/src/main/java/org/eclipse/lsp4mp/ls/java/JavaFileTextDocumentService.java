@@ -16,7 +16,9 @@ package org.eclipse.lsp4mp.ls.java;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
@@ -74,7 +76,6 @@ import org.eclipse.lsp4mp.settings.MicroProfileCodeLensSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 import org.eclipse.lsp4mp.settings.SharedSettings;
 import org.eclipse.lsp4mp.snippets.JavaSnippetCompletionContext;
-import org.eclipse.lsp4mp.snippets.SnippetContextForJava;
 import org.eclipse.lsp4mp.utils.PositionUtils;
 import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
 
@@ -91,12 +92,14 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	private final IPropertiesModelProvider propertiesModelProvider;
 	private final JavaTextDocuments documents;
 	private ValidatorDelayer<JavaTextDocument> validatorDelayer;
+	private final Map<List<String> /* Java files uris */, CompletableFuture<?>> pendingJavaDiagnostics;
 
 	public JavaFileTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer,
 			IPropertiesModelProvider propertiesModelProvider, SharedSettings sharedSettings, JavaTextDocuments javaTextDocuments) {
 		super(microprofileLanguageServer, sharedSettings);
 		this.propertiesModelProvider = propertiesModelProvider;
 		this.documents = javaTextDocuments;
+		this.pendingJavaDiagnostics = new HashMap<>();
 		this.validatorDelayer = new ValidatorDelayer<>((javaTextDocument) -> {
 			triggerValidationFor(javaTextDocument);
 		});
@@ -119,6 +122,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
 		validatorDelayer.cleanPendingValidation(uri);
+		cancelPendingJavaDiagnostics(Arrays.asList(uri));
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
 	}
@@ -139,8 +143,8 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 					params.getTextDocument().getUri(), params.getPosition());
 
 			// get the completion capabilities from the java language server component
-			CompletableFuture<MicroProfileJavaCompletionResult> javaParticipantCompletionsFuture = microprofileLanguageServer
-					.getLanguageClient().getJavaCompletion(javaParams);
+			CompletableFuture<MicroProfileJavaCompletionResult> javaParticipantCompletionsFuture = cancelChecker
+					.cancelIfNeeded(microprofileLanguageServer.getLanguageClient().getJavaCompletion(javaParams));
 
 			// calculate params for Java snippets
 			Integer completionOffset = null;
@@ -153,6 +157,8 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 			final Integer finalizedCompletionOffset = completionOffset;
 			boolean canSupportMarkdown = true;
 			boolean snippetsSupported = sharedSettings.getCompletionCapabilities().isCompletionSnippetsSupported();
+			boolean resolveDocumentation = sharedSettings.getCompletionCapabilities()
+					.isCompletionResolveDocumentationSupported();
 
 			cancelChecker.checkCanceled();
 
@@ -168,13 +174,9 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 
 				// calculate the snippet completion items based on the context
 				List<CompletionItem> snippetCompletionItems = documents.getSnippetRegistry().getCompletionItems(document, finalizedCompletionOffset,
-						canSupportMarkdown, snippetsSupported, (context, model) -> {
-							if (context != null && context instanceof SnippetContextForJava) {
-								return ((SnippetContextForJava) context)
-										.isMatch(new JavaSnippetCompletionContext(projectInfo, cursorContext));
-							}
-							return true;
-						}, projectInfo);
+						canSupportMarkdown, snippetsSupported, (context, model) -> context
+								.isMatch(new JavaSnippetCompletionContext(projectInfo, cursorContext)),
+						projectInfo, resolveDocumentation);
 				list.getItems().addAll(snippetCompletionItems);
 
 				// This reduces the number of completion requests to the server. See:
@@ -186,6 +188,14 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		}, Either.forLeft(Collections.emptyList()));
 	}
 
+	@Override
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved) {
+		// compute the documentation of the Java snippet
+		boolean canSupportMarkdown = true;
+		return CompletableFuture
+				.completedFuture(documents.getSnippetRegistry().resolveCompletionItem(unresolved, canSupportMarkdown));
+	}
+
 	// ------------------------------ Code Lens ------------------------------
 
 	public void updateCodeLensSettings(MicroProfileCodeLensSettings newCodeLens) {
@@ -210,7 +220,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 			javaParams.setUrlCodeLensEnabled(urlCodeLensEnabled);
 			// javaParams.setLocalServerPort(8080); // TODO : manage this server port from
 			// the settings
-			return microprofileLanguageServer.getLanguageClient().getJavaCodelens(javaParams);
+			return cancelChecker.cancelIfNeeded(microprofileLanguageServer.getLanguageClient().getJavaCodelens(javaParams));
 		}, Collections.emptyList(), true);
 	}
 
@@ -234,7 +244,8 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 			javaParams.setCommandConfigurationUpdateSupported(commandConfigurationUpdateSupported);
 			javaParams.setResolveSupported(microprofileLanguageServer.getCapabilityManager().getClientCapabilities()
 					.isCodeActionResolveSupported());
-			return microprofileLanguageServer.getLanguageClient().getJavaCodeAction(javaParams) //
+			return cancelChecker
+					.cancelIfNeeded(microprofileLanguageServer.getLanguageClient().getJavaCodeAction(javaParams)) //
 					.thenApply(codeActions -> {
 						cancelChecker.checkCanceled();
 						return codeActions.stream() //
@@ -261,7 +272,8 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		return document.executeIfInMicroProfileProject((projectinfo, cancelChecker) -> {
 			MicroProfileJavaDefinitionParams javaParams = new MicroProfileJavaDefinitionParams(
 					params.getTextDocument().getUri(), params.getPosition());
-			return microprofileLanguageServer.getLanguageClient().getJavaDefinition(javaParams)
+			return cancelChecker
+					.cancelIfNeeded(microprofileLanguageServer.getLanguageClient().getJavaDefinition(javaParams))
 					.thenApply(definitions -> {
 						cancelChecker.checkCanceled();
 						List<LocationLink> locations = definitions.stream() //
@@ -322,7 +334,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 			DocumentFormat documentFormat = markdownSupported ? DocumentFormat.Markdown : DocumentFormat.PlainText;
 			MicroProfileJavaHoverParams javaParams = new MicroProfileJavaHoverParams(params.getTextDocument().getUri(),
 					params.getPosition(), documentFormat, surroundEqualsWithSpaces);
-			return microprofileLanguageServer.getLanguageClient().getJavaHover(javaParams);
+			return cancelChecker.cancelIfNeeded(microprofileLanguageServer.getLanguageClient().getJavaHover(javaParams));
 		}, null);
 	}
 
@@ -378,7 +390,23 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		if (markdownSupported) {
 			javaParams.setDocumentFormat(DocumentFormat.Markdown);
 		}
-		microprofileLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams) //
+		CompletableFuture<List<PublishDiagnosticsParams>> diagnosticsFuture = microprofileLanguageServer
+				.getLanguageClient().getJavaDiagnostics(javaParams);
+		CompletableFuture<?> supersededDiagnosticsFuture;
+		synchronized (pendingJavaDiagnostics) {
+			supersededDiagnosticsFuture = pendingJavaDiagnostics.put(uris, diagnosticsFuture);
+		}
+		if (supersededDiagnosticsFuture != null) {
+			// The pending diagnostics of the same Java files are obsolete, cancel them
+			// to stop the JDT LS scan.
+			supersededDiagnosticsFuture.cancel(true);
+		}
+		diagnosticsFuture //
+				.whenComplete((diagnostics, error) -> {
+					synchronized (pendingJavaDiagnostics) {
+						pendingJavaDiagnostics.remove(uris, diagnosticsFuture);
+					}
+				}) //
 				.thenApply(diagnostics -> {
 					if (diagnostics == null) {
 						return null;
@@ -390,6 +418,33 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 				});
 	}
 
+	/**
+	 * Cancel the pending Java diagnostics request of the given Java files uris.
+	 *
+	 * @param uris Java files uris.
+	 */
+	private void cancelPendingJavaDiagnostics(List<String> uris) {
+		CompletableFuture<?> diagnosticsFuture;
+		synchronized (pendingJavaDiagnostics) {
+			diagnosticsFuture = pendingJavaDiagnostics.remove(uris);
+		}
+		if (diagnosticsFuture != null) {
+			diagnosticsFuture.cancel(true);
+		}
+	}
+
+	/**
+	 * Collect the depth of the queues of the Java file service.
+	 *
+	 * @param queues the queue depths to update.
+	 */
+	public void collectQueueDepths(Map<String, Integer> queues) {
+		queues.put("javaValidations", validatorDelayer.getPendingValidationCount());
+		synchronized (pendingJavaDiagnostics) {
+			queues.put("javaDiagnostics", pendingJavaDiagnostics.size());
+		}
+	}
+
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
 		if (documents.propertiesChanged(event) || MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
 			// Classpath changed or some properties config files (ex :
@@ -23,7 +23,6 @@ import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
-import org.eclipse.lsp4mp.ls.commons.snippets.ISnippetContext;
 import org.eclipse.lsp4mp.ls.commons.snippets.Snippet;
 import org.eclipse.lsp4mp.ls.commons.snippets.TextDocumentSnippetRegistry;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments.JavaTextDocument;
@@ -139,7 +138,15 @@ public class JavaTextDocumentSnippetRegistry extends TextDocumentSnippetRegistry
 
 	public List<CompletionItem> getCompletionItems(JavaTextDocument document, int completionOffset,
 			boolean canSupportMarkdown, boolean snippetsSupported,
-			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, ProjectLabelInfoEntry projectInfo) {
+			BiPredicate<SnippetContextForJava, Map<String, String>> contextFilter, ProjectLabelInfoEntry projectInfo) {
+		return getCompletionItems(document, completionOffset, canSupportMarkdown, snippetsSupported, contextFilter,
+				projectInfo, false);
+	}
+
+	public List<CompletionItem> getCompletionItems(JavaTextDocument document, int completionOffset,
+			boolean canSupportMarkdown, boolean snippetsSupported,
+			BiPredicate<SnippetContextForJava, Map<String, String>> contextFilter, ProjectLabelInfoEntry projectInfo,
+			boolean resolveDocumentation) {
 		Map<String, String> model = new HashMap<>();
 		String packageStatement = "";
 		String packageName = document.getPackageName();
@@ -169,7 +176,7 @@ public class JavaTextDocumentSnippetRegistry extends TextDocumentSnippetRegistry
 				? JavaTextDocumentSnippetRegistry.JAKARTA_VALUE
 				: JavaTextDocumentSnippetRegistry.JAVAX_VALUE);
 		return super.getCompletionItems(document, completionOffset, canSupportMarkdown, snippetsSupported,
-				contextFilter, model);
+				SnippetContextForJava.class, contextFilter, model, resolveDocumentation);
 	}
 
 }
@@ -20,14 +20,11 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
-import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.TextDocumentItem;
-import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
 import org.eclipse.lsp4mp.commons.JavaFileInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaFileInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaProjectLabelsParams;
@@ -38,7 +35,11 @@ import org.eclipse.lsp4mp.ls.api.MicroProfileJavaFileInfoProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaProjectLabelsProvider;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
 import org.eclipse.lsp4mp.ls.commons.TextDocuments;
+import org.eclipse.lsp4mp.ls.commons.stats.CacheStats;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStats;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments.JavaTextDocument;
+import org.eclipse.lsp4mp.utils.ExtendedCancelChecker;
+import org.eclipse.lsp4mp.utils.FutureUtils;
 
 /**
  * Java Text documents registry which manages opened Java file.
@@ -54,6 +55,8 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 
 	private static final ProjectLabelInfoEntry PROJECT_INFO_LOADING = new ProjectLabelInfoEntry(null, null, null);
 
+	private static final CacheStats CACHE_STATS = ServerStats.getInstance().getCache("javaProjectLabels");
+
 	private final Map<String /* Java file URI */, CompletableFuture<ProjectLabelInfoEntry>> documentCache;
 
 	private final Map<String /* project URI */, CompletableFuture<ProjectLabelInfoEntry>> projectCache;
@@ -132,7 +135,7 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 		 *         project without waiting for the load of project information.
 		 */
 		public <T> CompletableFuture<T> executeIfInMicroProfileProject(
-				BiFunction<ProjectLabelInfoEntry, CancelChecker, CompletableFuture<T>> code, T defaultValue) {
+				BiFunction<ProjectLabelInfoEntry, ExtendedCancelChecker, CompletableFuture<T>> code, T defaultValue) {
 			return executeIfInMicroProfileProject(code, defaultValue, false);
 		}
 
@@ -151,9 +154,9 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 		 *         project.
 		 */
 		public <T> CompletableFuture<T> executeIfInMicroProfileProject(
-				BiFunction<ProjectLabelInfoEntry, CancelChecker, CompletableFuture<T>> code, T defaultValue,
+				BiFunction<ProjectLabelInfoEntry, ExtendedCancelChecker, CompletableFuture<T>> code, T defaultValue,
 				boolean waitForLoadingProjectInfo) {
-			return computeAsyncCompose(cancelChecker -> {
+			return FutureUtils.computeAsyncCompose(cancelChecker -> {
 				CompletableFuture<ProjectLabelInfoEntry> projectInfoFuture = getProjectInfo(this);
 				ProjectLabelInfoEntry projectInfo = projectInfoFuture.getNow(PROJECT_INFO_LOADING);
 				if (isProjectInfoLoading(projectInfo)) {
@@ -173,8 +176,8 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 		}
 
 		private <T> CompletableFuture<T> executeIfInMicroProfileProject(ProjectLabelInfoEntry projectInfo,
-				BiFunction<ProjectLabelInfoEntry, CancelChecker, CompletableFuture<T>> code, T defaultValue,
-				CancelChecker cancelChecker) {
+				BiFunction<ProjectLabelInfoEntry, ExtendedCancelChecker, CompletableFuture<T>> code, T defaultValue,
+				ExtendedCancelChecker cancelChecker) {
 			cancelChecker.checkCanceled();
 			if (projectInfo == null || !isMicroProfileProject(projectInfo)) {
 				return CompletableFuture.completedFuture(defaultValue);
@@ -240,9 +243,11 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 			synchronized (documentCache) {
 				projectInfo = getProjectFromCache(projectURI, documentURI);
 				if (projectInfo != null) {
+					CACHE_STATS.hit();
 					return projectInfo;
 				}
 				// not found in the cache, load the project info from the JDT LS Extension
+				CACHE_STATS.miss();
 				MicroProfileJavaProjectLabelsParams params = new MicroProfileJavaProjectLabelsParams();
 				params.setUri(documentURI);
 				params.setTypes(getSnippetRegistry().getTypes());
@@ -268,6 +273,7 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 		}
 
 		// Returns the cached project info
+		CACHE_STATS.hit();
 		return projectInfo;
 	}
 
@@ -359,13 +365,6 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 		return snippetRegistry;
 	}
 
-	private static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
-		CompletableFuture<CancelChecker> start = new CompletableFuture<>();
-		CompletableFuture<R> result = start.thenComposeAsync(code);
-		start.complete(new FutureCancelChecker(result));
-		return result;
-	}
-
 	private static boolean isProjectInfoLoading(ProjectLabelInfoEntry projectInfo) {
 		return PROJECT_INFO_LOADING == projectInfo;
 	}
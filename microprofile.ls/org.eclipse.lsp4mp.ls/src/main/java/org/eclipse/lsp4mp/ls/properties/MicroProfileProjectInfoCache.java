@@ -13,13 +13,17 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.properties;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -28,12 +32,42 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.ProjectInfoTiming;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
+import org.eclipse.lsp4mp.ls.commons.stats.CacheStats;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStats;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoSettings;
 
 /**
  * MicroProfile project information cache.
  * 
+ * <p>
+ * When the classpath of a project changes and the stale-while-revalidate mode
+ * is enabled (see {@link MicroProfileProjectInfoSettings}), the cached project
+ * information keeps being returned while the new project information is
+ * computed in background. The new project information then replaces the
+ * previous one and the refreshed listener is notified.
+ * </p>
+ * 
+ * <p>
+ * In this mode, the project information is also persisted (see
+ * {@link MicroProfileProjectInfoStore}) when a cache directory is configured:
+ * after a restart of the language server, the persisted project information is
+ * returned immediately and refreshed in background.
+ * </p>
+ * 
+ * <p>
+ * The project information of the closed properties files is kept in the cache
+ * within a memory budget (see
+ * {@link MicroProfileProjectInfoSettings#getMemoryBudget()}): beyond this
+ * budget, the least recently used project information is evicted and loaded
+ * again when it is needed.
+ * </p>
+ * 
  * @author Angelo ZERR
  *
  */
@@ -41,13 +75,99 @@ class MicroProfileProjectInfoCache {
 
 	private static final Logger LOGGER = Logger.getLogger(MicroProfileProjectInfoCache.class.getName());
 
+	private static final CacheStats CACHE_STATS = ServerStats.getInstance().getCache("projectInfo");
+
+	private static final long MB = 1024 * 1024;
+
+	// estimated size of an item (object, references, boxed values) without its
+	// own strings
+	private static final int ITEM_SIZE = 128;
+
+	private static final int VALUE_HINT_SIZE = 48;
+
 	private final Map<String /* application.properties URI */, CompletableFuture<MicroProfileProjectInfo>> cache;
 
+	private final Map<String /* application.properties URI */, MicroProfileProjectInfoParams> cacheParams;
+
+	private final Map<String /* application.properties URI */, CompletableFuture<MicroProfileProjectInfo>> refreshes;
+
 	private final MicroProfileProjectInfoProvider provider;
 
+	private final MicroProfileProjectInfoSettings settings;
+
+	private final Consumer<String> refreshedListener;
+
+	private final MicroProfileProjectInfoStore store;
+
+	// updated while holding the closedURIs lock, to not track as closed a properties
+	// file which is being opened
+	private final Set<String /* application.properties URI */> openedURIs;
+
+	// least recently used first, guarded by itself
+	private final LinkedHashMap<String /* application.properties URI */, Long /* estimated size */> closedURIs;
+
+	private long closedMemory;
+
+	/**
+	 * MicroProfile project information cache which evicts the project information
+	 * when the classpath changes.
+	 * 
+	 * @param provider the project information provider.
+	 */
 	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider) {
+		this(provider, null, null);
+	}
+
+	/**
+	 * MicroProfile project information cache.
+	 * 
+	 * @param provider          the project information provider.
+	 * @param settings          the project information settings.
+	 * @param refreshedListener the listener notified with the
+	 *                          application.properties URI when its project
+	 *                          information has been computed again in
+	 *                          background and replaces the previous one.
+	 */
+	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider,
+			MicroProfileProjectInfoSettings settings, Consumer<String> refreshedListener) {
 		this.provider = provider;
+		this.settings = settings;
+		this.refreshedListener = refreshedListener;
+		this.store = new MicroProfileProjectInfoStore(settings);
 		this.cache = new ConcurrentHashMap<>();
+		this.cacheParams = new ConcurrentHashMap<>();
+		this.refreshes = new ConcurrentHashMap<>();
+		this.openedURIs = ConcurrentHashMap.newKeySet();
+		this.closedURIs = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Notifies that the properties file of the given URI is opened: its project
+	 * information is never evicted while it is opened.
+	 * 
+	 * @param uri the application.properties URI.
+	 */
+	public void documentOpened(String uri) {
+		synchronized (closedURIs) {
+			openedURIs.add(uri);
+			untrackClosed(uri);
+		}
+	}
+
+	/**
+	 * Notifies that the properties file of the given URI is closed: its project
+	 * information can be evicted to respect the memory budget.
+	 * 
+	 * @param uri the application.properties URI.
+	 */
+	public void documentClosed(String uri) {
+		synchronized (closedURIs) {
+			openedURIs.remove(uri);
+		}
+		CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.get(uri);
+		if (projectInfo != null) {
+			projectInfo.thenAccept(info -> trackClosed(uri, info, false));
+		}
 	}
 
 	/**
@@ -59,7 +179,13 @@ class MicroProfileProjectInfoCache {
 	 *         application.properties URI.
 	 */
 	public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
-		return getProjectInfoFromCache(params). //
+		CompletableFuture<MicroProfileProjectInfo> projectInfo = getProjectInfoFromCache(params);
+		String uri = params.getUri();
+		if (!openedURIs.contains(uri)) {
+			// project info used by a closed properties file (ex : from a Java file)
+			projectInfo.thenAccept(info -> trackClosed(uri, info, false));
+		}
+		return projectInfo. //
 				exceptionally(ex -> {
 					LOGGER.log(Level.WARNING, String.format(
 							"Error while getting MicroProfileProjectInfo (classpath) for '%s'", params.getUri()), ex);
@@ -71,15 +197,39 @@ class MicroProfileProjectInfoCache {
 		// Search future which load project info in cache
 		CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.get(params.getUri());
 		if (projectInfo == null || projectInfo.isCancelled() || projectInfo.isCompletedExceptionally()) {
+			if (projectInfo == null && isStaleWhileRevalidate() && store.isEnabled()) {
+				// not found in the cache, use the project info persisted by the previous
+				// session and refresh it in background
+				MicroProfileProjectInfo snapshot = store.load(params.getUri());
+				if (snapshot != null) {
+					CACHE_STATS.hit();
+					CompletableFuture<MicroProfileProjectInfo> future = CompletableFuture
+							.completedFuture(new ExtendedMicroProfileProjectInfo(snapshot));
+					if (cache.putIfAbsent(params.getUri(), future) == null) {
+						cacheParams.put(params.getUri(), copy(params));
+						refresh(params.getUri());
+						return future;
+					}
+					return getProjectInfoFromCache(params);
+				}
+			}
 			// not found in the cache, load the project info from the JDT LS Extension
+			CACHE_STATS.miss();
 			params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+			String uri = params.getUri();
 			CompletableFuture<MicroProfileProjectInfo> future = provider.getProjectInfo(params). //
-					thenApply(info -> new ExtendedMicroProfileProjectInfo(info));
+					thenApply(info -> {
+						logTimings(uri, info);
+						persist(uri, info);
+						return new ExtendedMicroProfileProjectInfo(info);
+					});
 			// cache the future.
 			cache.put(params.getUri(), future);
+			cacheParams.put(params.getUri(), copy(params));
 			return future;
 		}
 		if (!projectInfo.isDone()) {
+			CACHE_STATS.hit();
 			return projectInfo;
 		}
 
@@ -88,6 +238,7 @@ class MicroProfileProjectInfoCache {
 			// There are some java sources changed, get the MicroProfile properties from
 			// java
 			// sources.
+			CACHE_STATS.miss();
 			params.setScopes(MicroProfilePropertiesScope.ONLY_SOURCES);
 			return provider.getProjectInfo(params). //
 					exceptionally(ex -> {
@@ -104,6 +255,7 @@ class MicroProfileProjectInfoCache {
 		}
 
 		// Returns the cached project info
+		CACHE_STATS.hit();
 		return projectInfo;
 	}
 
@@ -132,8 +284,213 @@ class MicroProfileProjectInfoCache {
 
 	private Collection<String> classpathChanged(Set<String> projectURIs) {
 		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
-		applicationPropertiesURIs.forEach(cache::remove);
-		return applicationPropertiesURIs;
+		if (!isStaleWhileRevalidate()) {
+			applicationPropertiesURIs.forEach(this::evict);
+			return applicationPropertiesURIs;
+		}
+		// Keep the cached project info and compute the new project info in background
+		List<String> evictedURIs = new ArrayList<>();
+		for (String uri : applicationPropertiesURIs) {
+			if (!refresh(uri)) {
+				evict(uri);
+				evictedURIs.add(uri);
+			}
+		}
+		return evictedURIs;
+	}
+
+	private boolean isStaleWhileRevalidate() {
+		return settings != null && refreshedListener != null && settings.isStaleWhileRevalidate();
+	}
+
+	/**
+	 * Compute in background the project information of the given
+	 * application.properties URI and replace the cached project information with
+	 * it when it is done.
+	 * 
+	 * @param uri the application.properties URI.
+	 * @return true if the project information is computed in background and
+	 *         false otherwise.
+	 */
+	private boolean refresh(String uri) {
+		CompletableFuture<MicroProfileProjectInfo> current = cache.get(uri);
+		MicroProfileProjectInfoParams params = cacheParams.get(uri);
+		if (current == null || params == null) {
+			return false;
+		}
+		MicroProfileProjectInfoParams refreshParams = copy(params);
+		refreshParams.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		CompletableFuture<MicroProfileProjectInfo> refresh = provider.getProjectInfo(refreshParams). //
+				thenApply(info -> {
+					logTimings(uri, info);
+					persist(uri, info);
+					return new ExtendedMicroProfileProjectInfo(info);
+				});
+		CompletableFuture<MicroProfileProjectInfo> previousRefresh = refreshes.put(uri, refresh);
+		if (previousRefresh != null) {
+			// a new classpath change occurred while the previous refresh was running
+			previousRefresh.cancel(true);
+		}
+		refresh.whenComplete((info, ex) -> {
+			if (!refreshes.remove(uri, refresh)) {
+				// the refresh has been replaced with a new one
+				return;
+			}
+			boolean updated;
+			if (ex != null) {
+				LOGGER.log(Level.WARNING, String.format(
+						"Error while refreshing MicroProfileProjectInfo (classpath) for '%s'", uri), ex);
+				updated = cache.remove(uri, current);
+				if (updated) {
+					untrackClosed(uri);
+				}
+			} else {
+				updated = cache.replace(uri, current, CompletableFuture.completedFuture(info));
+				if (updated) {
+					// the size of the new project info is not the same
+					trackClosed(uri, info, true);
+				}
+			}
+			if (updated) {
+				refreshedListener.accept(uri);
+			}
+		});
+		return true;
+	}
+
+	private static void logTimings(String uri, MicroProfileProjectInfo info) {
+		if (info == null || info.getTimings() == null || !LOGGER.isLoggable(Level.INFO)) {
+			return;
+		}
+		StringBuilder message = new StringBuilder("MicroProfileProjectInfo timings for '").append(uri).append("':");
+		for (ProjectInfoTiming timing : info.getTimings()) {
+			message.append("\n  ").append(timing);
+		}
+		LOGGER.info(message.toString());
+	}
+
+	private void persist(String uri, MicroProfileProjectInfo info) {
+		if (isStaleWhileRevalidate() && info != null && info != MicroProfileProjectInfo.EMPTY_PROJECT_INFO
+				&& info.getProjectURI() != null && !info.getProjectURI().isEmpty()) {
+			store.save(uri, info);
+		}
+	}
+
+	MicroProfileProjectInfoStore getStore() {
+		return store;
+	}
+
+	private void evict(String uri) {
+		cache.remove(uri);
+		CompletableFuture<MicroProfileProjectInfo> refresh = refreshes.remove(uri);
+		if (refresh != null) {
+			refresh.cancel(true);
+		}
+		untrackClosed(uri);
+	}
+
+	/**
+	 * Track the project information of the given closed properties file as the
+	 * most recently used and evict the least recently used project information
+	 * when the memory budget is exceeded.
+	 * 
+	 * @param uri     the application.properties URI.
+	 * @param info    the project information.
+	 * @param resized true if the project information has been replaced and its
+	 *                size must be estimated again.
+	 */
+	private void trackClosed(String uri, MicroProfileProjectInfo info, boolean resized) {
+		long memoryBudget = getMemoryBudget();
+		if (memoryBudget < 0 || info == null || openedURIs.contains(uri)) {
+			return;
+		}
+		List<String> evictedURIs = new ArrayList<>();
+		synchronized (closedURIs) {
+			if (openedURIs.contains(uri)) {
+				// the properties file has been opened in the meantime
+				return;
+			}
+			// get updates the access order
+			Long size = closedURIs.get(uri);
+			if (size == null || resized) {
+				long newSize = estimateMemory(info);
+				closedURIs.put(uri, newSize);
+				closedMemory += newSize - (size != null ? size : 0);
+			}
+			// the most recently used project info is kept even if it exceeds alone the
+			// budget, to avoid loading it again at each use
+			Iterator<Map.Entry<String, Long>> iterator = closedURIs.entrySet().iterator();
+			while (closedMemory > memoryBudget && closedURIs.size() > 1) {
+				Map.Entry<String, Long> eldest = iterator.next();
+				iterator.remove();
+				closedMemory -= eldest.getValue();
+				evictedURIs.add(eldest.getKey());
+			}
+		}
+		for (String evictedURI : evictedURIs) {
+			LOGGER.fine(() -> String.format(
+					"Evict MicroProfileProjectInfo of the closed document '%s' (memory budget)", evictedURI));
+			evict(evictedURI);
+			cacheParams.remove(evictedURI);
+		}
+	}
+
+	private void untrackClosed(String uri) {
+		synchronized (closedURIs) {
+			Long size = closedURIs.remove(uri);
+			if (size != null) {
+				closedMemory -= size;
+			}
+		}
+	}
+
+	private long getMemoryBudget() {
+		if (settings == null || settings.getMemoryBudget() < 0) {
+			return -1;
+		}
+		return settings.getMemoryBudget() * MB;
+	}
+
+	/**
+	 * Returns the estimated memory of the given project information, the strings
+	 * shared between the items (type, extension name, etc) are not counted (see
+	 * {@link ProjectInfoInterningTypeAdapterFactory}).
+	 * 
+	 * @param info the project information.
+	 * @return the estimated memory of the given project information.
+	 */
+	static long estimateMemory(MicroProfileProjectInfo info) {
+		long size = 0;
+		List<ItemMetadata> properties = info.getProperties();
+		if (properties != null) {
+			for (ItemMetadata property : properties) {
+				size += ITEM_SIZE + length(property.getName()) + length(property.getDescription());
+			}
+		}
+		List<ItemHint> hints = info.getHints();
+		if (hints != null) {
+			for (ItemHint hint : hints) {
+				size += ITEM_SIZE + length(hint.getName()) + length(hint.getDescription());
+				if (hint.getValues() != null) {
+					for (ValueHint value : hint.getValues()) {
+						size += VALUE_HINT_SIZE + length(value.getValue()) + length(value.getDescription());
+					}
+				}
+			}
+		}
+		return size;
+	}
+
+	private static int length(String value) {
+		return value != null ? value.length() : 0;
+	}
+
+	private static MicroProfileProjectInfoParams copy(MicroProfileProjectInfoParams params) {
+		MicroProfileProjectInfoParams copy = new MicroProfileProjectInfoParams(params.getUri());
+		copy.setScopes(params.getScopes());
+		copy.setDocumentFormat(params.getDocumentFormat());
+		copy.setTimings(params.isTimings());
+		return copy;
 	}
 
 	private Collection<String> javaSourceChanged(Set<String> projectURIs) {
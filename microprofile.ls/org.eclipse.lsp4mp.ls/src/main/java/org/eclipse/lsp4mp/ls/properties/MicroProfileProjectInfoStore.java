@@ -0,0 +1,220 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.ls.commons.StringPool;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoSettings;
+
+import com.google.gson.Gson;
+
+/**
+ * Store of the last known MicroProfile project information per
+ * application.properties URI, persisted in the cache directory of the
+ * {@link MicroProfileProjectInfoSettings} to serve the project information
+ * immediately at the next start of the language server.
+ *
+ * <p>
+ * A snapshot is written in background, and only when it differs from the
+ * snapshot already written. A snapshot is only used until the project
+ * information is refreshed from the JDT side, so it is not validated against
+ * the current classpath.
+ * </p>
+ *
+ */
+class MicroProfileProjectInfoStore {
+
+	private static final Logger LOGGER = Logger.getLogger(MicroProfileProjectInfoStore.class.getName());
+
+	private static final int SNAPSHOT_VERSION = 1;
+
+	private static final Gson GSON = new MessageJsonHandler(new HashMap<>(), builder -> builder
+			.registerTypeAdapterFactory(new ProjectInfoInterningTypeAdapterFactory(StringPool.getInstance())))
+			.getGson();
+
+	/**
+	 * Persisted project information.
+	 */
+	private static class Snapshot {
+
+		private int version;
+
+		private String uri;
+
+		private MicroProfileProjectInfo projectInfo;
+	}
+
+	private final MicroProfileProjectInfoSettings settings;
+
+	// hash of the JSON of the last written snapshot
+	private final Map<String /* application.properties URI */, Integer> writtenSnapshots;
+
+	private final Map<String /* application.properties URI */, CompletableFuture<Void>> pendingSaves;
+
+	public MicroProfileProjectInfoStore(MicroProfileProjectInfoSettings settings) {
+		this.settings = settings;
+		this.writtenSnapshots = new ConcurrentHashMap<>();
+		this.pendingSaves = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns true if the project information are persisted and false otherwise.
+	 *
+	 * @return true if the project information are persisted and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return getCacheDirectory() != null;
+	}
+
+	/**
+	 * Returns the last known project information of the given
+	 * application.properties URI, or null if there is no snapshot.
+	 *
+	 * @param uri the application.properties URI.
+	 * @return the last known project information of the given
+	 *         application.properties URI, or null if there is no snapshot.
+	 */
+	public MicroProfileProjectInfo load(String uri) {
+		Path file = getSnapshotFile(uri);
+		if (file == null || !Files.isRegularFile(file)) {
+			return null;
+		}
+		try {
+			String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+			Snapshot snapshot = GSON.fromJson(json, Snapshot.class);
+			if (snapshot == null || snapshot.version != SNAPSHOT_VERSION || !uri.equals(snapshot.uri)
+					|| snapshot.projectInfo == null) {
+				return null;
+			}
+			writtenSnapshots.put(uri, json.hashCode());
+			return snapshot.projectInfo;
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING,
+					String.format("Error while loading MicroProfileProjectInfo snapshot for '%s'", uri), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Persist in background the given project information of the given
+	 * application.properties URI.
+	 *
+	 * @param uri         the application.properties URI.
+	 * @param projectInfo the project information to persist.
+	 * @return the future which completes when the snapshot is written.
+	 */
+	public CompletableFuture<Void> save(String uri, MicroProfileProjectInfo projectInfo) {
+		Path file = getSnapshotFile(uri);
+		if (file == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		// copy the lists which are updated when the project info is wrapped in an
+		// ExtendedMicroProfileProjectInfo
+		MicroProfileProjectInfo copy = new MicroProfileProjectInfo();
+		copy.setProjectURI(projectInfo.getProjectURI());
+		copy.setClasspathKind(projectInfo.getClasspathKind());
+		copy.setProperties(projectInfo.getProperties() != null ? new ArrayList<>(projectInfo.getProperties()) : null);
+		copy.setHints(projectInfo.getHints() != null ? new ArrayList<>(projectInfo.getHints()) : null);
+		CompletableFuture<Void> save = CompletableFuture.runAsync(() -> {
+			Snapshot snapshot = new Snapshot();
+			snapshot.version = SNAPSHOT_VERSION;
+			snapshot.uri = uri;
+			snapshot.projectInfo = copy;
+			String json = GSON.toJson(snapshot);
+			Integer written = writtenSnapshots.get(uri);
+			if (written != null && written == json.hashCode()) {
+				// same properties than the snapshot already written
+				return;
+			}
+			Path tmpFile = null;
+			try {
+				Files.createDirectories(file.getParent());
+				tmpFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+				Files.write(tmpFile, json.getBytes(StandardCharsets.UTF_8));
+				Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				tmpFile = null;
+				writtenSnapshots.put(uri, json.hashCode());
+			} catch (IOException e) {
+				LOGGER.log(Level.WARNING,
+						String.format("Error while saving MicroProfileProjectInfo snapshot for '%s'", uri), e);
+			} finally {
+				if (tmpFile != null) {
+					try {
+						Files.deleteIfExists(tmpFile);
+					} catch (IOException e) {
+						// Do nothing
+					}
+				}
+			}
+		});
+		pendingSaves.put(uri, save);
+		save.whenComplete((result, ex) -> pendingSaves.remove(uri, save));
+		return save;
+	}
+
+	/**
+	 * Returns the future which completes when the pending snapshot of the given
+	 * application.properties URI is written.
+	 *
+	 * @param uri the application.properties URI.
+	 * @return the future which completes when the pending snapshot of the given
+	 *         application.properties URI is written.
+	 */
+	CompletableFuture<Void> getPendingSave(String uri) {
+		return pendingSaves.getOrDefault(uri, CompletableFuture.completedFuture(null));
+	}
+
+	private Path getSnapshotFile(String uri) {
+		String cacheDirectory = getCacheDirectory();
+		if (cacheDirectory == null) {
+			return null;
+		}
+		return Paths.get(cacheDirectory, "projectInfo", getFileName(uri));
+	}
+
+	private String getCacheDirectory() {
+		String cacheDirectory = settings != null ? settings.getCacheDirectory() : null;
+		return cacheDirectory != null && !cacheDirectory.trim().isEmpty() ? cacheDirectory : null;
+	}
+
+	private static String getFileName(String uri) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			StringBuilder fileName = new StringBuilder();
+			for (byte b : digest.digest(uri.getBytes(StandardCharsets.UTF_8))) {
+				fileName.append(String.format("%02x", b));
+			}
+			return fileName.append(".json").toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(uri.hashCode()) + ".json";
+		}
+	}
+}
@@ -0,0 +1,383 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesDocumentationParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
+import org.eclipse.lsp4mp.ls.commons.stats.CacheStats;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStats;
+import org.eclipse.lsp4mp.model.Node;
+import org.eclipse.lsp4mp.model.Node.NodeType;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.model.Property;
+import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
+
+/**
+ * MicroProfile property documentation service which:
+ *
+ * <ul>
+ * <li>caches the documentation of Java properties by member signature and
+ * document format.</li>
+ * <li>batches the documentation requests emitted in a short window into one
+ * <code>microprofile/propertiesDocumentation</code> request.</li>
+ * <li>prefetches the documentation of the properties declared in a properties
+ * file, once per version of the project information.</li>
+ * </ul>
+ *
+ * <p>
+ * When the client doesn't support the
+ * <code>microprofile/propertiesDocumentation</code> request, the service falls
+ * back to one <code>microprofile/propertyDocumentation</code> request per
+ * property.
+ * </p>
+ *
+ * <p>
+ * The cache keeps the documentation of at most {@link #MAX_CACHED_DOCUMENTATIONS}
+ * properties, the least recently used documentation is evicted first. A
+ * prefetch requests the documentation of at most
+ * {@link #MAX_PREFETCHED_DOCUMENTATIONS} properties to keep the cache for the
+ * hovered properties.
+ * </p>
+ */
+class MicroProfilePropertyDocumentationService implements MicroProfilePropertyDocumentationProvider {
+
+	private static final Logger LOGGER = Logger.getLogger(MicroProfilePropertyDocumentationService.class.getName());
+
+	private static final CacheStats CACHE_STATS = ServerStats.getInstance().getCache("propertyDocumentation");
+
+	public static final long DEFAULT_BATCH_DELAY_MS = 50;
+
+	static final int MAX_CACHED_DOCUMENTATIONS = 1000;
+
+	static final int MAX_PREFETCHED_DOCUMENTATIONS = MAX_CACHED_DOCUMENTATIONS / 10;
+
+	private static class PrefetchedProjectInfo {
+
+		private final MicroProfileProjectInfo projectInfo;
+
+		private final long propertiesVersion;
+
+		public PrefetchedProjectInfo(MicroProfileProjectInfo projectInfo) {
+			this.projectInfo = projectInfo;
+			this.propertiesVersion = getPropertiesVersion(projectInfo);
+		}
+
+		public boolean isSame(MicroProfileProjectInfo projectInfo) {
+			return this.projectInfo == projectInfo && this.propertiesVersion == getPropertiesVersion(projectInfo);
+		}
+
+		private static long getPropertiesVersion(MicroProfileProjectInfo projectInfo) {
+			return projectInfo instanceof ExtendedMicroProfileProjectInfo
+					? ((ExtendedMicroProfileProjectInfo) projectInfo).getPropertiesVersion()
+					: projectInfo.getProperties().size();
+		}
+	}
+
+	private static class PendingBatch {
+
+		private final MicroProfilePropertiesDocumentationParams params;
+
+		private final List<CompletableFuture<String>> futures;
+
+		public PendingBatch(String uri, DocumentFormat documentFormat) {
+			this.params = new MicroProfilePropertiesDocumentationParams();
+			params.setUri(uri);
+			params.setDocumentFormat(documentFormat);
+			params.setProperties(new ArrayList<>());
+			this.futures = new ArrayList<>();
+		}
+
+		public void add(MicroProfilePropertyDocumentationParams property, CompletableFuture<String> future) {
+			params.getProperties().add(property);
+			futures.add(future);
+		}
+	}
+
+	private final MicroProfilePropertyDocumentationProvider provider;
+
+	private final ScheduledExecutorService executorService;
+
+	private final long batchDelayMs;
+
+	private final Map<String /* uri + format + member */, CompletableFuture<String>> cache;
+
+	private final Map<String /* uri + format */, PendingBatch> pendingBatches;
+
+	private final Map<String /* uri */, PrefetchedProjectInfo> prefetchedProjectInfos;
+
+	private volatile boolean batchSupported;
+
+	public MicroProfilePropertyDocumentationService(MicroProfilePropertyDocumentationProvider provider) {
+		this(provider, Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "MicroProfile property documentation batcher");
+			thread.setDaemon(true);
+			return thread;
+		}), DEFAULT_BATCH_DELAY_MS);
+	}
+
+	public MicroProfilePropertyDocumentationService(MicroProfilePropertyDocumentationProvider provider,
+			ScheduledExecutorService executorService, long batchDelayMs) {
+		this(provider, executorService, batchDelayMs, MAX_CACHED_DOCUMENTATIONS);
+	}
+
+	MicroProfilePropertyDocumentationService(MicroProfilePropertyDocumentationProvider provider,
+			ScheduledExecutorService executorService, long batchDelayMs, int maxCachedDocumentations) {
+		this.provider = provider;
+		this.executorService = executorService;
+		this.batchDelayMs = batchDelayMs;
+		// access-order map which evicts the least recently used documentation
+		this.cache = Collections.synchronizedMap(new LinkedHashMap<String, CompletableFuture<String>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<String>> eldest) {
+				return size() > maxCachedDocumentations;
+			}
+		});
+		this.pendingBatches = new HashMap<>();
+		this.prefetchedProjectInfos = new ConcurrentHashMap<>();
+		this.batchSupported = true;
+	}
+
+	@Override
+	public CompletableFuture<String> getPropertyDocumentation(MicroProfilePropertyDocumentationParams params) {
+		String key = getKey(params);
+		CompletableFuture<String> documentation = cache.get(key);
+		if (documentation != null) {
+			CACHE_STATS.hit();
+			return documentation;
+		}
+		CompletableFuture<String> future = new CompletableFuture<>();
+		documentation = cache.putIfAbsent(key, future);
+		if (documentation != null) {
+			// Another thread has requested the same documentation
+			CACHE_STATS.hit();
+			return documentation;
+		}
+		CACHE_STATS.miss();
+		// Evict the documentation from the cache when the request fails to retry it
+		// the next time.
+		future.whenComplete((docs, ex) -> {
+			if (ex != null) {
+				cache.remove(key, future);
+			}
+		});
+		addToBatch(params, future);
+		return future;
+	}
+
+	/**
+	 * Prefetch the documentation of the Java properties declared in the given
+	 * properties model which have no description.
+	 *
+	 * <p>
+	 * The documentation is prefetched once per properties file and version of the
+	 * project information, for at most {@link #MAX_PREFETCHED_DOCUMENTATIONS}
+	 * properties which are not cached.
+	 * </p>
+	 *
+	 * @param model          the properties model.
+	 * @param projectInfo    the MicroProfile project information.
+	 * @param documentFormat the document format.
+	 */
+	public void prefetch(PropertiesModel model, MicroProfileProjectInfo projectInfo, DocumentFormat documentFormat) {
+		String uri = model.getDocumentURI();
+		PrefetchedProjectInfo prefetched = prefetchedProjectInfos.get(uri);
+		if (prefetched != null && prefetched.isSame(projectInfo)) {
+			return;
+		}
+		prefetchedProjectInfos.put(uri, new PrefetchedProjectInfo(projectInfo));
+		int requested = 0;
+		for (Node node : model.getChildren()) {
+			if (requested >= MAX_PREFETCHED_DOCUMENTATIONS) {
+				return;
+			}
+			if (node.getNodeType() != NodeType.PROPERTY) {
+				continue;
+			}
+			String propertyName = ((Property) node).getPropertyName();
+			ItemMetadata item = PropertiesFileUtils.getProperty(propertyName, projectInfo);
+			if (item != null && item.isJavaOrigin() && StringUtils.isEmpty(item.getDescription())) {
+				MicroProfilePropertyDocumentationParams params = createParams(uri, item, documentFormat);
+				if (!cache.containsKey(getKey(params))) {
+					getPropertyDocumentation(params);
+					requested++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Forget the prefetch of the given properties file.
+	 *
+	 * @param uri the properties file URI.
+	 */
+	public void documentClosed(String uri) {
+		prefetchedProjectInfos.remove(uri);
+	}
+
+	/**
+	 * Evict all cached documentation.
+	 */
+	public void evictAll() {
+		cache.clear();
+		prefetchedProjectInfos.clear();
+	}
+
+	/**
+	 * Stop the batch executor. The pending batches are not sent.
+	 */
+	public void dispose() {
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Returns the documentation parameters for the given Java property.
+	 *
+	 * @param uri            the properties file URI.
+	 * @param item           the Java property.
+	 * @param documentFormat the document format.
+	 * @return the documentation parameters for the given Java property.
+	 */
+	public static MicroProfilePropertyDocumentationParams createParams(String uri, ItemMetadata item,
+			DocumentFormat documentFormat) {
+		MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
+		params.setUri(uri);
+		params.setSourceField(item.getSourceField());
+		params.setSourceMethod(item.getSourceMethod());
+		params.setSourceType(item.getSourceType());
+		params.setDocumentFormat(documentFormat);
+		return params;
+	}
+
+	private void addToBatch(MicroProfilePropertyDocumentationParams params, CompletableFuture<String> future) {
+		String batchKey = params.getUri() + '|' + params.getDocumentFormat();
+		synchronized (pendingBatches) {
+			PendingBatch batch = pendingBatches.get(batchKey);
+			if (batch == null) {
+				try {
+					executorService.schedule(() -> flush(batchKey), batchDelayMs, TimeUnit.MILLISECONDS);
+				} catch (RejectedExecutionException e) {
+					// The service is disposed
+					future.completeExceptionally(e);
+					return;
+				}
+				batch = new PendingBatch(params.getUri(), params.getDocumentFormat());
+				pendingBatches.put(batchKey, batch);
+			}
+			batch.add(params, future);
+		}
+	}
+
+	private void flush(String batchKey) {
+		PendingBatch batch = null;
+		synchronized (pendingBatches) {
+			batch = pendingBatches.remove(batchKey);
+		}
+		if (batch == null) {
+			return;
+		}
+		if (batch.futures.size() == 1 || !batchSupported) {
+			sendOneByOne(batch);
+			return;
+		}
+		final PendingBatch currentBatch = batch;
+		provider.getPropertiesDocumentation(batch.params) //
+				.whenComplete((docs, ex) -> {
+					if (ex != null && isMethodNotFound(ex)) {
+						// The client doesn't support the batch request, use the single request.
+						LOGGER.log(Level.INFO,
+								"'microprofile/propertiesDocumentation' is not supported, use 'microprofile/propertyDocumentation'",
+								ex);
+						batchSupported = false;
+						sendOneByOne(currentBatch);
+						return;
+					}
+					if (ex != null || docs == null || docs.size() != currentBatch.futures.size()) {
+						// Transient error, cancellation or invalid response: send this batch with the
+						// single request and keep the batch request for the next batches.
+						LOGGER.log(Level.FINE,
+								"'microprofile/propertiesDocumentation' failed, use 'microprofile/propertyDocumentation'",
+								ex);
+						sendOneByOne(currentBatch);
+						return;
+					}
+					for (int i = 0; i < docs.size(); i++) {
+						currentBatch.futures.get(i).complete(docs.get(i));
+					}
+				});
+	}
+
+	private void sendOneByOne(PendingBatch batch) {
+		List<MicroProfilePropertyDocumentationParams> properties = batch.params.getProperties();
+		for (int i = 0; i < properties.size(); i++) {
+			CompletableFuture<String> future = batch.futures.get(i);
+			provider.getPropertyDocumentation(properties.get(i)) //
+					.whenComplete((docs, ex) -> {
+						if (ex != null) {
+							future.completeExceptionally(ex);
+						} else {
+							future.complete(docs);
+						}
+					});
+		}
+	}
+
+	private static boolean isMethodNotFound(Throwable ex) {
+		Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+		if (cause instanceof ResponseErrorException) {
+			ResponseError error = ((ResponseErrorException) cause).getResponseError();
+			return error != null && error.getCode() == ResponseErrorCode.MethodNotFound.getValue();
+		}
+		return false;
+	}
+
+	private static String getKey(MicroProfilePropertyDocumentationParams params) {
+		return new StringBuilder(params.getUri()) //
+				.append('|') //
+				.append(params.getDocumentFormat()) //
+				.append('|') //
+				.append(params.getSourceType()) //
+				.append('#') //
+				.append(params.getSourceField() != null ? params.getSourceField() : params.getSourceMethod()) //
+				.toString();
+	}
+
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.io.IOException;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemBase;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.ls.commons.StringPool;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Gson type adapter factory which interns with a {@link StringPool} the
+ * strings shared by a lot of properties and hints of the MicroProfile project
+ * information when they are deserialized (type, source type, extension name,
+ * default value, hint values, etc).
+ *
+ * <p>
+ * Thousands of properties share a handful of those strings. The strings which
+ * are nearly unique per property (property name, source field, source method,
+ * description) are not interned.
+ * </p>
+ *
+ */
+public class ProjectInfoInterningTypeAdapterFactory implements TypeAdapterFactory {
+
+	private final StringPool pool;
+
+	public ProjectInfoInterningTypeAdapterFactory(StringPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+		if (!ItemBase.class.isAssignableFrom(rawType) && !ValueHint.class.isAssignableFrom(rawType)) {
+			return null;
+		}
+		TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+		return new TypeAdapter<T>() {
+
+			@Override
+			public void write(JsonWriter out, T value) throws IOException {
+				delegate.write(out, value);
+			}
+
+			@Override
+			public T read(JsonReader in) throws IOException {
+				T value = delegate.read(in);
+				intern(value);
+				return value;
+			}
+		};
+	}
+
+	private void intern(Object value) {
+		if (value instanceof ItemBase) {
+			ItemBase item = (ItemBase) value;
+			item.setSourceType(pool.intern(item.getSourceType()));
+			item.setOrigin(pool.intern(item.getOrigin()));
+			if (item instanceof ItemMetadata) {
+				ItemMetadata metadata = (ItemMetadata) item;
+				metadata.setType(pool.intern(metadata.getType()));
+				metadata.setExtensionName(pool.intern(metadata.getExtensionName()));
+				metadata.setDefaultValue(pool.intern(metadata.getDefaultValue()));
+			} else if (item instanceof ItemHint) {
+				// the name of a hint is a type name, referenced by the type of the properties
+				item.setName(pool.intern(item.getName()));
+			}
+		} else if (value instanceof ValueHint) {
+			ValueHint hint = (ValueHint) value;
+			hint.setValue(pool.intern(hint.getValue()));
+			hint.setSourceType(pool.intern(hint.getSourceType()));
+		}
+	}
+}
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
@@ -46,12 +47,14 @@ import org.eclipse.lsp4j.InlayHint;
 import org.eclipse.lsp4j.InlayHintParams;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
+import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
@@ -65,8 +68,10 @@ import org.eclipse.lsp4mp.ls.commons.ValidatorDelayer;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.CompletionData;
 import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileInlayHintSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileSymbolSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 import org.eclipse.lsp4mp.settings.SharedSettings;
@@ -89,6 +94,8 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 
 	private MicroProfileProjectInfoCache projectInfoCache;
 
+	private MicroProfilePropertyDocumentationService propertyDocumentationService;
+
 	private final ValidatorDelayer<ModelTextDocument<PropertiesModel>> validatorDelayer;
 
 	public PropertiesFileTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer,
@@ -105,6 +112,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	@Override
 	public void didOpen(DidOpenTextDocumentParams params) {
 		ModelTextDocument<PropertiesModel> document = documents.onDidOpenTextDocument(params);
+		getProjectInfoCache().documentOpened(document.getUri());
 		validate(document, false);
 	}
 
@@ -118,6 +126,10 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	public void didClose(DidCloseTextDocumentParams params) {
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
+		getProjectInfoCache().documentClosed(uri);
+		if (propertyDocumentationService != null) {
+			propertyDocumentationService.documentClosed(uri);
+		}
 		validatorDelayer.cleanPendingValidation(uri);
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
@@ -143,8 +155,8 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			// then return completion by using the MicroProfile project information and the
 			// Properties model document
 			CompletionList list = getPropertiesFileLanguageService().doComplete(document, params.getPosition(),
-					projectInfo, sharedSettings.getCompletionCapabilities(), sharedSettings.getFormattingSettings(),
-					cancelChecker);
+					projectInfo, sharedSettings.getCompletionCapabilities(), sharedSettings.getCompletionSettings(),
+					sharedSettings.getFormattingSettings(), cancelChecker);
 			return Either.forRight(list);
 		});
 	}
@@ -180,7 +192,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			// then return hover by using the MicroProfile project information and the
 			// Properties model document
 			return getPropertiesFileLanguageService().doHover(document, params.getPosition(), projectInfo,
-					sharedSettings.getHoverSettings(), this.microprofileLanguageServer.getLanguageClient(), cancelChecker);
+					sharedSettings.getHoverSettings(), getPropertyDocumentationService(), cancelChecker);
 		});
 	}
 
@@ -298,6 +310,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	private MicroProfileProjectInfoParams createProjectInfoParams(String uri) {
 		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(uri);
 		params.setDocumentFormat(getDocumentFormat());
+		params.setTimings(sharedSettings.getProjectInfoSettings().isTimings());
 		return params;
 	}
 
@@ -349,6 +362,12 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		cancelChecker.checkCanceled();
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(propertiesModel.getDocumentURI(), diagnostics));
+		// Prefetch the documentation of the Java properties declared in the properties
+		// file to avoid a round trip with the JDT LS extension for each hover. The
+		// prefetch is done once per version of the project information.
+		if (sharedSettings.getHoverSettings().getCapabilities() != null) {
+			getPropertyDocumentationService().prefetch(propertiesModel, projectInfo, getHoverDocumentFormat());
+		}
 		return null;
 	}
 
@@ -385,6 +404,11 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
 		Collection<String> uris = getProjectInfoCache().propertiesChanged(event);
+		if (!uris.isEmpty()) {
+			// Some Java sources or classpath have changed, the Javadoc of properties could
+			// have changed too.
+			getPropertyDocumentationService().evictAll();
+		}
 		for (String uri : uris) {
 			ModelTextDocument<PropertiesModel> document = getDocument(uri);
 			if (document != null) {
@@ -393,6 +417,20 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		}
 	}
 
+	/**
+	 * The project information of the given application.properties URI has been
+	 * computed again after a classpath change and replaces the previous one.
+	 *
+	 * @param uri the application.properties URI.
+	 */
+	private void projectInfoRefreshed(String uri) {
+		getPropertyDocumentationService().evictAll();
+		ModelTextDocument<PropertiesModel> document = getDocument(uri);
+		if (document != null) {
+			triggerValidationFor(document);
+		}
+	}
+
 	public void updateSymbolSettings(MicroProfileSymbolSettings newSettings) {
 		MicroProfileSymbolSettings symbolSettings = sharedSettings.getSymbolSettings();
 		symbolSettings.setShowAsTree(newSettings.isShowAsTree());
@@ -412,6 +450,28 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		sharedSettings.getInlayHintSettings().setEnabled(newInlayHint.isEnabled());
 	}
 
+	/**
+	 * Updates the project information settings configured from the client.
+	 *
+	 * @param newProjectInfo the new project information settings
+	 */
+	public void updateProjectInfoSettings(MicroProfileProjectInfoSettings newProjectInfo) {
+		MicroProfileProjectInfoSettings projectInfo = sharedSettings.getProjectInfoSettings();
+		projectInfo.setStaleWhileRevalidate(newProjectInfo.isStaleWhileRevalidate());
+		projectInfo.setCacheDirectory(newProjectInfo.getCacheDirectory());
+		projectInfo.setTimings(newProjectInfo.isTimings());
+		projectInfo.setMemoryBudget(newProjectInfo.getMemoryBudget());
+	}
+
+	/**
+	 * Updates the completion settings configured from the client.
+	 *
+	 * @param newCompletion the new completion settings
+	 */
+	public void updateCompletionSettings(MicroProfileCompletionSettings newCompletion) {
+		sharedSettings.getCompletionSettings().setMaxPropertyKeyItems(newCompletion.getMaxPropertyKeyItems());
+	}
+
 	/**
 	 * Updates MicroProfile formatting settings configured from the client.
 	 *
@@ -437,7 +497,46 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		if (projectInfoCache != null) {
 			return;
 		}
-		projectInfoCache = new MicroProfileProjectInfoCache(microprofileLanguageServer.getLanguageClient());
+		projectInfoCache = new MicroProfileProjectInfoCache(microprofileLanguageServer.getLanguageClient(),
+				sharedSettings.getProjectInfoSettings(), this::projectInfoRefreshed);
+	}
+
+	private MicroProfilePropertyDocumentationService getPropertyDocumentationService() {
+		if (propertyDocumentationService == null) {
+			createPropertyDocumentationService();
+		}
+		return propertyDocumentationService;
+	}
+
+	private synchronized void createPropertyDocumentationService() {
+		if (propertyDocumentationService != null) {
+			return;
+		}
+		propertyDocumentationService = new MicroProfilePropertyDocumentationService(
+				microprofileLanguageServer.getLanguageClient());
+	}
+
+	private DocumentFormat getHoverDocumentFormat() {
+		return sharedSettings.getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN) ? DocumentFormat.Markdown
+				: DocumentFormat.PlainText;
+	}
+
+	/**
+	 * Collect the depth of the queues of the properties file service.
+	 *
+	 * @param queues the queue depths to update.
+	 */
+	public void collectQueueDepths(Map<String, Integer> queues) {
+		queues.put("propertiesValidations", validatorDelayer.getPendingValidationCount());
+	}
+
+	/**
+	 * Dispose the properties file service.
+	 */
+	public synchronized void dispose() {
+		if (propertyDocumentationService != null) {
+			propertyDocumentationService.dispose();
+		}
 	}
 
 	public CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(
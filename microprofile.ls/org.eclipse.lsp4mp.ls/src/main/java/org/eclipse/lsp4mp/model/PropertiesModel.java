@@ -13,8 +13,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.lsp4j.Position;
@@ -100,6 +104,7 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		@Override
 		public void endProperty(ParseContext context) {
 			property.setEnd(context.getLocationOffset());
+			model.index(property);
 			this.property = null;
 		}
 
@@ -163,10 +168,19 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	private CancelChecker cancelChecker;
 	private transient Set<String> keys;
 
+	// Index built while parsing to find properties and expressions by name without
+	// scanning all the nodes of the model
+	private final Map<String, List<Property>> propertiesByName;
+	private final Map<String, List<Property>> propertiesByNameWithProfile;
+	private final Map<String, List<PropertyValueExpression>> expressionsByReferencedName;
+
 	PropertiesModel(TextDocument document, CancelChecker cancelChecker) {
 		this.document = document;
 		this.cancelChecker = cancelChecker;
 		this.keys = null;
+		this.propertiesByName = new HashMap<>();
+		this.propertiesByNameWithProfile = new HashMap<>();
+		this.expressionsByReferencedName = new HashMap<>();
 	}
 
 	@Override
@@ -296,6 +310,99 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return cancelChecker;
 	}
 
+	/**
+	 * Adds the given parsed property and its property value expressions to the
+	 * index of the model.
+	 *
+	 * @param property the parsed property.
+	 */
+	private void index(Property property) {
+		String propertyName = property.getPropertyName();
+		if (!StringUtils.isEmpty(propertyName)) {
+			propertiesByName.computeIfAbsent(propertyName, k -> new ArrayList<>()).add(property);
+		}
+		String propertyNameWithProfile = property.getPropertyNameWithProfile();
+		if (!StringUtils.isEmpty(propertyNameWithProfile)) {
+			propertiesByNameWithProfile.computeIfAbsent(propertyNameWithProfile, k -> new ArrayList<>())
+					.add(property);
+		}
+		PropertyValue value = property.getValue();
+		if (value != null) {
+			for (Node child : value.getChildren()) {
+				if (child.getNodeType() == NodeType.PROPERTY_VALUE_EXPRESSION) {
+					PropertyValueExpression expression = (PropertyValueExpression) child;
+					String referencedPropertyName = expression.getReferencedPropertyName();
+					if (!StringUtils.isEmpty(referencedPropertyName)) {
+						expressionsByReferencedName.computeIfAbsent(referencedPropertyName, k -> new ArrayList<>())
+								.add(expression);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the properties of the model with the given property name (without
+	 * profile) in the document order.
+	 *
+	 * <ul>
+	 * <li>'key' will return the properties 'key' and '%dev.key'.</li>
+	 * </ul>
+	 *
+	 * @param propertyName the property name without profile.
+	 * @return the properties of the model with the given property name (without
+	 *         profile) in the document order.
+	 */
+	public List<Property> getPropertiesByName(String propertyName) {
+		return getIndexed(propertiesByName, propertyName);
+	}
+
+	/**
+	 * Returns the properties of the model with the given property name with
+	 * profile in the document order.
+	 *
+	 * <ul>
+	 * <li>'key' will return the property 'key'.</li>
+	 * <li>'%dev.key' will return the property '%dev.key'.</li>
+	 * </ul>
+	 *
+	 * @param propertyNameWithProfile the property name with profile.
+	 * @return the properties of the model with the given property name with
+	 *         profile in the document order.
+	 */
+	public List<Property> getPropertiesByNameWithProfile(String propertyNameWithProfile) {
+		return getIndexed(propertiesByNameWithProfile, propertyNameWithProfile);
+	}
+
+	/**
+	 * Returns the property names with profile declared in the model.
+	 *
+	 * @return the property names with profile declared in the model.
+	 */
+	public Set<String> getPropertyNamesWithProfile() {
+		return Collections.unmodifiableSet(propertiesByNameWithProfile.keySet());
+	}
+
+	/**
+	 * Returns the property value expressions of the model which reference the
+	 * given property name (ex : <code>${key}</code>) in the document order.
+	 *
+	 * @param referencedPropertyName the referenced property name.
+	 * @return the property value expressions of the model which reference the
+	 *         given property name in the document order.
+	 */
+	public List<PropertyValueExpression> getExpressionsReferencing(String referencedPropertyName) {
+		return getIndexed(expressionsByReferencedName, referencedPropertyName);
+	}
+
+	private static <T> List<T> getIndexed(Map<String, List<T>> index, String name) {
+		if (name == null) {
+			return Collections.emptyList();
+		}
+		List<T> nodes = index.get(name);
+		return nodes != null ? Collections.unmodifiableList(nodes) : Collections.emptyList();
+	}
+
 	@Override
 	public Set<String> keys() {
 		if (keys != null) {
@@ -304,15 +411,12 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 
 		keys = new HashSet<>();
 
-		for (Node child : getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
+		for (Map.Entry<String, List<Property>> entry : propertiesByNameWithProfile.entrySet()) {
+			for (Property property : entry.getValue()) {
 				PropertyValue valueNode = property.getValue();
 				if (valueNode != null && StringUtils.hasText(valueNode.getText(true))) {
-					String key = property.getPropertyNameWithProfile();
-					if (StringUtils.hasText(key)) {
-						keys.add(key);
-					}
+					keys.add(entry.getKey());
+					break;
 				}
 			}
 		}
@@ -330,17 +434,10 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		if (key == null) {
 			return null;
 		}
-		for (Node child : getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				PropertyKey keyNode = property.getKey();
-				if (key.equals(keyNode.getPropertyNameWithProfile())) {
-					PropertyValue valueNode = property.getValue();
-					if (valueNode != null && StringUtils.hasText(valueNode.getText(true))) {
-						return valueNode.getText(true);
-					}
-				}
-
+		for (Property property : getPropertiesByNameWithProfile(key)) {
+			PropertyValue valueNode = property.getValue();
+			if (valueNode != null && StringUtils.hasText(valueNode.getText(true))) {
+				return valueNode.getText(true);
 			}
 		}
 		return null;
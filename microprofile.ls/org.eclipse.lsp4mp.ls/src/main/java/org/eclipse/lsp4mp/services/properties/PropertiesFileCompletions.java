@@ -44,6 +44,7 @@ import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
+import org.eclipse.lsp4mp.ls.commons.snippets.SnippetCompletionData;
 import org.eclipse.lsp4mp.ls.commons.snippets.TextDocumentSnippetRegistry;
 import org.eclipse.lsp4mp.model.Assign;
 import org.eclipse.lsp4mp.model.BasePropertyValue;
@@ -54,6 +55,7 @@ import org.eclipse.lsp4mp.model.Property;
 import org.eclipse.lsp4mp.model.PropertyKey;
 import org.eclipse.lsp4mp.model.PropertyValueExpression;
 import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.snippets.LanguageId;
 import org.eclipse.lsp4mp.snippets.SnippetContextForProperties;
@@ -79,12 +81,16 @@ class PropertiesFileCompletions {
 	 * @param position               the position where completion was triggered
 	 * @param projectInfo            the MicroProfile project information
 	 * @param completionCapabilities the completion capabilities
+	 * @param completionSettings     the completion settings and null to return
+	 *                               all the property keys.
+	 * @param formattingSettings     the formatting settings
 	 * @param cancelChecker          the cancel checker
 	 * @return completion list for the given position
 	 */
 	public CompletionList doComplete(PropertiesModel document, Position position, MicroProfileProjectInfo projectInfo,
 			MicroProfileCompletionCapabilities completionCapabilities,
-			MicroProfileFormattingSettings formattingSettings, CancelChecker cancelChecker) {
+			MicroProfileCompletionSettings completionSettings, MicroProfileFormattingSettings formattingSettings,
+			CancelChecker cancelChecker) {
 		CompletionList list = new CompletionList();
 		int offset = -1;
 		Node node = null;
@@ -128,7 +134,7 @@ class PropertiesFileCompletions {
 			} else {
 				// completion on property key if on the left side of =
 				collectPropertyKeySuggestions(offset, node, document, projectInfo, completionCapabilities,
-						formattingSettings, list);
+						completionSettings, formattingSettings, list);
 			}
 			break;
 		case PROPERTY_VALUE:
@@ -141,7 +147,7 @@ class PropertiesFileCompletions {
 		default:
 			// completion on property key
 			collectPropertyKeySuggestions(offset, node, document, projectInfo, completionCapabilities,
-					formattingSettings, list);
+					completionSettings, formattingSettings, list);
 			// Collect completion items with snippet
 			collectSnippetSuggestions(offset, node, document, projectInfo, completionCapabilities, getSnippetRegistry(),
 					list);
@@ -162,8 +168,11 @@ class PropertiesFileCompletions {
 	 */
 	public CompletionItem resolveCompletionItem(CompletionItem unresolved, MicroProfileProjectInfo projectInfo,
 			MicroProfileCompletionCapabilities completionCapabilities, CancelChecker cancelChecker) {
-		String propertyName = unresolved.getLabel();
 		boolean markdownSupported = completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN);
+		if (SnippetCompletionData.getSnippetCompletionData(unresolved) != null) {
+			return getSnippetRegistry().resolveCompletionItem(unresolved, markdownSupported);
+		}
+		String propertyName = unresolved.getLabel();
 		ItemMetadata property = PropertiesFileUtils.getProperty(propertyName, projectInfo);
 		if (property == null) {
 			return unresolved;
@@ -179,12 +188,15 @@ class PropertiesFileCompletions {
 	 * @param node                   the property key node
 	 * @param projectInfo            the MicroProfile project information
 	 * @param completionCapabilities the completion capabilities
+	 * @param completionSettings     the completion settings and null to return
+	 *                               all the property keys.
 	 * @param formattingSettings     the formatting settings
 	 * @param list                   the completion list to fill
 	 */
 	private static void collectPropertyKeySuggestions(int offset, Node node, PropertiesModel model,
 			MicroProfileProjectInfo projectInfo, MicroProfileCompletionCapabilities completionCapabilities,
-			MicroProfileFormattingSettings formattingSettings, CompletionList list) {
+			MicroProfileCompletionSettings completionSettings, MicroProfileFormattingSettings formattingSettings,
+			CompletionList list) {
 		boolean snippetsSupported = completionCapabilities.isCompletionSnippetsSupported();
 		boolean markdownSupported = completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN);
 		boolean completionResolveDocumentationSupported = completionCapabilities
@@ -219,19 +231,36 @@ class PropertiesFileCompletions {
 			propertyValue = ((Assign) node).getProperty().getPropertyValue();
 		}
 
-		// Completion on MicroProfile properties
-		for (ItemMetadata property : projectInfo.getProperties()) {
+		final String currentProfile = profile;
+		Predicate<ItemMetadata> filter = property -> {
 			if (property == null) {
-				continue;
+				return false;
 			}
 			String propertyName = property.getName();
-			if (profile != null) {
-				propertyName = "%" + profile + "." + propertyName;
+			if (currentProfile != null) {
+				propertyName = "%" + currentProfile + "." + propertyName;
 			}
-			if (existingProperties.contains(propertyName) && node.getNodeType() == NodeType.PROPERTY_KEY
-					&& !((PropertyKey) node).getPropertyNameWithProfile().equals(propertyName)) {
-				// don't add completion items for properties that already exist
-				// unless current node has a key equal to current property name
+			// don't add completion items for properties that already exist
+			// unless current node has a key equal to current property name
+			return !(existingProperties.contains(propertyName) && node.getNodeType() == NodeType.PROPERTY_KEY
+					&& !((PropertyKey) node).getPropertyNameWithProfile().equals(propertyName));
+		};
+
+		List<ItemMetadata> properties = projectInfo.getProperties();
+		int maxItems = completionSettings != null ? completionSettings.getMaxPropertyKeyItems() : 0;
+		if (maxItems > 0 && properties.size() > maxItems) {
+			// Too many properties: return only the best matches of the typed prefix. When
+			// other properties match, the client must ask the completion again when the
+			// prefix changes.
+			PropertyKeyIndex.Result result = PropertyKeyIndex.getIndex(projectInfo)
+					.find(getPropertyKeyPrefix(offset, node, model), filter, maxItems);
+			properties = result.getProperties();
+			list.setIsIncomplete(result.isTruncated());
+		}
+
+		// Completion on MicroProfile properties
+		for (ItemMetadata property : properties) {
+			if (!filter.test(property)) {
 				continue;
 			}
 
@@ -305,6 +334,38 @@ class PropertiesFileCompletions {
 		}
 	}
 
+	/**
+	 * Returns the lower case property name (without profile) typed before the
+	 * given offset.
+	 *
+	 * @param offset the offset where completion was invoked
+	 * @param node   the node where completion was invoked
+	 * @param model  the properties model
+	 * @return the lower case property name (without profile) typed before the
+	 *         given offset.
+	 */
+	private static String getPropertyKeyPrefix(int offset, Node node, PropertiesModel model) {
+		PropertyKey key = null;
+		if (node != null && node.getNodeType() == NodeType.PROPERTY_KEY) {
+			key = (PropertyKey) node;
+		} else if (node != null && node.getNodeType() == NodeType.ASSIGN) {
+			key = ((Assign) node).getProperty().getKey();
+		}
+		if (key == null || key.getStart() == -1) {
+			return "";
+		}
+		int start = key.getStart();
+		String profile = key.getProfile();
+		if (profile != null) {
+			// skip '%' + profile + '.'
+			start += profile.length() + 2;
+		}
+		if (start >= offset) {
+			return "";
+		}
+		return model.getText(start, offset, true).trim().toLowerCase();
+	}
+
 	/**
 	 * Collect Quarkus profiles
 	 *
@@ -593,14 +654,12 @@ class PropertiesFileCompletions {
 			TextDocumentSnippetRegistry snippetRegistry, CompletionList list) {
 		boolean markdownSupported = completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN);
 		boolean snippetsSupported = completionCapabilities.isCompletionSnippetsSupported();
+		boolean completionResolveDocumentationSupported = completionCapabilities
+				.isCompletionResolveDocumentationSupported();
 		snippetRegistry.getCompletionItems(document.getDocument(), completionOffset, markdownSupported,
-				snippetsSupported, (context, model) -> {
-					if (context instanceof SnippetContextForProperties) {
-						SnippetContextForProperties contextProperties = (SnippetContextForProperties) context;
-						return contextProperties.isMatch(projectInfo);
-					}
-					return false;
-				}, Collections.emptyMap()).forEach(item -> {
+				snippetsSupported, SnippetContextForProperties.class,
+				(context, model) -> context.isMatch(projectInfo), Collections.emptyMap(),
+				completionResolveDocumentationSupported).forEach(item -> {
 					list.getItems().add(item);
 				});
 	}
@@ -15,7 +15,10 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -149,17 +152,12 @@ public class PropertiesFileDefinition {
 
 		String propToResolveName = propertyValueExpression.getReferencedPropertyName();
 
-		List<Property> props = new ArrayList<>();
-
-		for (Node modelChild : document.getChildren()) {
-			if (modelChild.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) modelChild;
-				if (property.getPropertyName().equals(propToResolveName)
-						|| property.getPropertyNameWithProfile().equals(propToResolveName)) {
-					props.add(property);
-				}
-			}
-		}
+		// The properties without profile are indexed with both names, the set removes
+		// those duplicates
+		Set<Property> matchingProps = new LinkedHashSet<>(document.getPropertiesByName(propToResolveName));
+		matchingProps.addAll(document.getPropertiesByNameWithProfile(propToResolveName));
+		List<Property> props = new ArrayList<>(matchingProps);
+		props.sort(Comparator.comparingInt(Property::getStart));
 
 		if (!props.isEmpty()) {
 			return getPropertyDefinition(document, propertyValueExpression, props);
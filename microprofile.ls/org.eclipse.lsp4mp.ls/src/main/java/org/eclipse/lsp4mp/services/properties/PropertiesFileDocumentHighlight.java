@@ -25,7 +25,6 @@ import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.model.Node;
-import org.eclipse.lsp4mp.model.Node.NodeType;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.model.Property;
 import org.eclipse.lsp4mp.model.PropertyKey;
@@ -78,14 +77,9 @@ public class PropertiesFileDocumentHighlight {
 		}
 		List<DocumentHighlight> highlights = new ArrayList<>(2);
 		highlights.add(createHighlight(node, DocumentHighlightKind.Read));
-		for (Node child : document.getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				if (otherProp.equals(property.getPropertyName())) {
-					highlights.add(createHighlight(property.getKey(), DocumentHighlightKind.Write));
-					break;
-				}
-			}
+		List<Property> properties = document.getPropertiesByName(otherProp);
+		if (!properties.isEmpty()) {
+			highlights.add(createHighlight(properties.get(0).getKey(), DocumentHighlightKind.Write));
 		}
 		return highlights;
 	}
@@ -107,18 +101,8 @@ public class PropertiesFileDocumentHighlight {
 		}
 		List<DocumentHighlight> highlights = new ArrayList<>();
 		highlights.add(createHighlight(node, DocumentHighlightKind.Write));
-		for (Node child : document.getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				if (property.getValue() != null) {
-					for (Node valueSegment : property.getValue().getChildren()) {
-						if (valueSegment.getNodeType() == NodeType.PROPERTY_VALUE_EXPRESSION && propertyName
-								.equals(((PropertyValueExpression) valueSegment).getReferencedPropertyName())) {
-							highlights.add(createHighlight(valueSegment, DocumentHighlightKind.Read));
-						}
-					}
-				}
-			}
+		for (PropertyValueExpression expression : document.getExpressionsReferencing(propertyName)) {
+			highlights.add(createHighlight(expression, DocumentHighlightKind.Read));
 		}
 		return highlights;
 	}
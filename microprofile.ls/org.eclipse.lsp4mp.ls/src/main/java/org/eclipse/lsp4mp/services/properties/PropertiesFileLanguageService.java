@@ -42,6 +42,7 @@ import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.extensions.PropertiesFileExtensionRegistry;
 import org.eclipse.lsp4mp.settings.MicroProfileCommandCapabilities;
 import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileHoverSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
@@ -89,11 +90,32 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 	public CompletionList doComplete(PropertiesModel document, Position position, MicroProfileProjectInfo projectInfo,
 			MicroProfileCompletionCapabilities completionCapabilities,
 			MicroProfileFormattingSettings formattingSettings, CancelChecker cancelChecker) {
-		updateProperties(projectInfo, document);
-		return completions.doComplete(document, position, projectInfo, completionCapabilities, formattingSettings,
+		return doComplete(document, position, projectInfo, completionCapabilities, null, formattingSettings,
 				cancelChecker);
 	}
 
+	/**
+	 * Returns completion list for the given position
+	 *
+	 * @param document               the properties model document
+	 * @param position               the position where completion was triggered
+	 * @param projectInfo            the MicroProfile project information
+	 * @param completionCapabilities the completion capabilities
+	 * @param completionSettings     the completion settings and null to return
+	 *                               all the property keys.
+	 * @param formattingSettings     the formatting settings
+	 * @param cancelChecker          the cancel checker
+	 * @return completion list for the given position
+	 */
+	public CompletionList doComplete(PropertiesModel document, Position position, MicroProfileProjectInfo projectInfo,
+			MicroProfileCompletionCapabilities completionCapabilities,
+			MicroProfileCompletionSettings completionSettings, MicroProfileFormattingSettings formattingSettings,
+			CancelChecker cancelChecker) {
+		updateProperties(projectInfo, document);
+		return completions.doComplete(document, position, projectInfo, completionCapabilities, completionSettings,
+				formattingSettings, cancelChecker);
+	}
+
 	/**
 	 * Returns the completion item with the empty fields resolved.
 	 *
@@ -15,8 +15,6 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -65,7 +63,6 @@ class PropertiesFileValidator {
 
 	private final MicroProfileValidationSettings validationSettings;
 	private final PropertiesFileExtensionRegistry extensionRegistry;
-	private final Map<String, List<Property>> existingProperties;
 	private Set<String> declaredProperties;
 	private Map<String, ItemMetadata> availableProperties;
 
@@ -78,7 +75,6 @@ class PropertiesFileValidator {
 		this.diagnostics = diagnostics;
 		this.validationSettings = validationSettings;
 		this.extensionRegistry = extensionRegistry;
-		this.existingProperties = new HashMap<String, List<Property>>();
 		// to be lazily init
 		this.declaredProperties = null;
 		this.availableProperties = null;
@@ -96,7 +92,7 @@ class PropertiesFileValidator {
 			}
 		}
 
-		addDiagnosticsForDuplicates();
+		addDiagnosticsForDuplicates(document);
 		addDiagnosticsForMissingRequired(document);
 	}
 
@@ -105,8 +101,6 @@ class PropertiesFileValidator {
 		if (!StringUtils.isEmpty(propertyNameWithProfile)) {
 			// Validate Syntax property
 			validateSyntaxProperty(propertyNameWithProfile, property);
-			// Validate Duplicate property
-			validateDuplicateProperty(propertyNameWithProfile, property);
 		}
 
 		String propertyName = property.getPropertyName();
@@ -118,7 +112,7 @@ class PropertiesFileValidator {
 		}
 	}
 
-	// ---------------- Property syntax/duplicate validation
+	// ---------------- Property syntax validation
 
 	private void validateSyntaxProperty(String propertyName, Property property) {
 		DiagnosticSeverity severity = validationSettings.getSyntax().getDiagnosticSeverity(propertyName);
@@ -132,20 +126,6 @@ class PropertiesFileValidator {
 		}
 	}
 
-	private void validateDuplicateProperty(String propertyName, Property property) {
-		DiagnosticSeverity severity = validationSettings.getDuplicate().getDiagnosticSeverity(propertyName);
-		if (severity == null) {
-			// The duplicate validation must be ignored for this property name
-			return;
-		}
-
-		if (!existingProperties.containsKey(propertyName)) {
-			existingProperties.put(propertyName, new ArrayList<Property>());
-		}
-
-		existingProperties.get(propertyName).add(property);
-	}
-
 	// ---------------- Property key validation
 
 	private void validatePropertyKey(Property property, String propertyName, ItemMetadata metadata,
@@ -307,11 +287,7 @@ class PropertiesFileValidator {
 					if (declaredProperties == null) {
 						// Collect names of all properties defined in the configuration file and the
 						// project information
-						declaredProperties = property.getOwnerModel().getChildren().stream().filter(n -> {
-							return n.getNodeType() == NodeType.PROPERTY;
-						}).map(prop -> {
-							return ((Property) prop).getPropertyNameWithProfile();
-						}).collect(Collectors.toSet());
+						declaredProperties = property.getOwnerModel().getPropertyNamesWithProfile();
 
 						availableProperties = projectInfo.getProperties()//
 								.stream() //
@@ -526,19 +502,24 @@ class PropertiesFileValidator {
 		return str.startsWith("${") && str.endsWith("}");
 	}
 
-	private void addDiagnosticsForDuplicates() {
-		existingProperties.forEach((propertyName, propertyList) -> {
+	private void addDiagnosticsForDuplicates(PropertiesModel document) {
+		for (String propertyName : document.getPropertyNamesWithProfile()) {
+			List<Property> propertyList = document.getPropertiesByNameWithProfile(propertyName);
 			if (propertyList.size() <= 1) {
-				return;
+				continue;
 			}
 
 			DiagnosticSeverity severity = validationSettings.getDuplicate().getDiagnosticSeverity(propertyName);
+			if (severity == null) {
+				// The duplicate validation must be ignored for this property name
+				continue;
+			}
 
 			for (Property property : propertyList) {
 				addDiagnostic("Duplicate property '" + propertyName + "'", property.getKey(), severity,
 						ValidationType.duplicate.name());
 			}
-		});
+		}
 	}
 
 	private void addDiagnosticsForMissingRequired(PropertiesModel document) {
@@ -549,19 +530,19 @@ class PropertiesFileValidator {
 			DiagnosticSeverity severity = validationSettings.getRequired().getDiagnosticSeverity(propertyName);
 
 			if (severity != null && property.isRequired()) {
-				if (!existingProperties.containsKey(propertyName)) {
+				List<Property> propertyList = document.getPropertiesByNameWithProfile(propertyName);
+				if (propertyList.isEmpty()) {
 					addDiagnostic("Missing required property '" + propertyName + "'", document, severity,
 							ValidationType.required.name());
 				} else {
-					addDiagnosticsForRequiredIfNoValue(propertyName, severity);
+					addDiagnosticsForRequiredIfNoValue(propertyName, propertyList, severity);
 				}
 			}
 		}
 	}
 
-	private void addDiagnosticsForRequiredIfNoValue(String propertyName, DiagnosticSeverity severity) {
-		List<Property> propertyList = existingProperties.get(propertyName);
-
+	private void addDiagnosticsForRequiredIfNoValue(String propertyName, List<Property> propertyList,
+			DiagnosticSeverity severity) {
 		for (Property property : propertyList) {
 			if (property.getValue() != null && !property.getValue().getValue().isEmpty()) {
 				return;
@@ -0,0 +1,326 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+
+/**
+ * Prefix-searchable index of the property names of a MicroProfile project
+ * information, used to return only the best property key completion items
+ * when the project declares a lot of properties.
+ *
+ * <p>
+ * The index is built once per state of the properties of a project
+ * information and is rebuilt when the properties list changes (ex : properties
+ * from Java sources updated). The state is given by the properties version of
+ * {@link ExtendedMicroProfileProjectInfo}, the properties list of the other
+ * project information is considered as immutable.
+ * </p>
+ *
+ */
+class PropertyKeyIndex {
+
+	private static final Map<MicroProfileProjectInfo, PropertyKeyIndex> INDEXES = new WeakHashMap<>();
+
+	/**
+	 * Properties (shallow properties first, then sorted by name).
+	 */
+	private static final Comparator<ItemMetadata> RANK_COMPARATOR = Comparator
+			.comparingInt((ItemMetadata property) -> getDepth(property.getName()))
+			.thenComparing(property -> property.getName().toLowerCase());
+
+	/**
+	 * Result of a search in the index.
+	 */
+	static class Result {
+
+		private final List<ItemMetadata> properties;
+
+		private final boolean truncated;
+
+		private Result(List<ItemMetadata> properties, boolean truncated) {
+			this.properties = properties;
+			this.truncated = truncated;
+		}
+
+		/**
+		 * Returns the best matching properties.
+		 *
+		 * @return the best matching properties.
+		 */
+		public List<ItemMetadata> getProperties() {
+			return properties;
+		}
+
+		/**
+		 * Returns true if other properties match but were not returned and false
+		 * otherwise.
+		 *
+		 * @return true if other properties match but were not returned and false
+		 *         otherwise.
+		 */
+		public boolean isTruncated() {
+			return truncated;
+		}
+	}
+
+	private final List<ItemMetadata> source;
+
+	private final long stamp;
+
+	// properties sorted by lower case name
+	private final ItemMetadata[] properties;
+
+	private final String[] names;
+
+	// rank of the property in rankedProperties
+	private final int[] ranks;
+
+	// segments (which start after '.', '-' or '/') sorted by their lower case
+	// suffix, given by the index of the property name in names and the offset of
+	// the segment in this name
+	private final int[] segmentNames;
+
+	private final int[] segmentOffsets;
+
+	// properties sorted by rank (shallow properties first, then sorted by name)
+	private final ItemMetadata[] rankedProperties;
+
+	private PropertyKeyIndex(List<ItemMetadata> source, long stamp) {
+		this.source = source;
+		this.stamp = stamp;
+		List<ItemMetadata> sorted = new ArrayList<>(source.size());
+		for (ItemMetadata property : source) {
+			if (property != null && property.getName() != null) {
+				sorted.add(property);
+			}
+		}
+		this.rankedProperties = sorted.toArray(new ItemMetadata[sorted.size()]);
+		Arrays.sort(rankedProperties, RANK_COMPARATOR);
+		sorted.sort(Comparator.comparing(property -> property.getName().toLowerCase()));
+		this.properties = sorted.toArray(new ItemMetadata[sorted.size()]);
+		this.names = new String[properties.length];
+		for (int i = 0; i < properties.length; i++) {
+			names[i] = properties[i].getName().toLowerCase();
+		}
+		Map<ItemMetadata, Integer> rankByProperty = new IdentityHashMap<>(rankedProperties.length);
+		for (int i = 0; i < rankedProperties.length; i++) {
+			rankByProperty.put(rankedProperties[i], i);
+		}
+		this.ranks = new int[properties.length];
+		for (int i = 0; i < properties.length; i++) {
+			ranks[i] = rankByProperty.get(properties[i]);
+		}
+		// Index the segments
+		List<int[]> segments = new ArrayList<>();
+		for (int i = 0; i < names.length; i++) {
+			String name = names[i];
+			for (int offset = 1; offset < name.length(); offset++) {
+				if (isSegmentSeparator(name.charAt(offset - 1))) {
+					segments.add(new int[] { i, offset });
+				}
+			}
+		}
+		segments.sort((s1, s2) -> compareSuffix(names[s1[0]], s1[1], names[s2[0]], s2[1]));
+		this.segmentNames = new int[segments.size()];
+		this.segmentOffsets = new int[segments.size()];
+		for (int i = 0; i < segmentNames.length; i++) {
+			segmentNames[i] = segments.get(i)[0];
+			segmentOffsets[i] = segments.get(i)[1];
+		}
+	}
+
+	/**
+	 * Returns the property key index of the given project information.
+	 *
+	 * @param projectInfo the MicroProfile project information.
+	 * @return the property key index of the given project information.
+	 */
+	public static PropertyKeyIndex getIndex(MicroProfileProjectInfo projectInfo) {
+		List<ItemMetadata> source = projectInfo.getProperties();
+		// the version is read before building the index, so that an update done
+		// during the build causes a new build
+		long stamp = projectInfo instanceof ExtendedMicroProfileProjectInfo
+				? ((ExtendedMicroProfileProjectInfo) projectInfo).getPropertiesVersion()
+				: source.size();
+		synchronized (INDEXES) {
+			PropertyKeyIndex index = INDEXES.get(projectInfo);
+			if (index == null || index.source != source || index.stamp != stamp) {
+				index = new PropertyKeyIndex(source, stamp);
+				INDEXES.put(projectInfo, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Returns at most <code>maxItems</code> properties which match the given
+	 * prefix and the given filter.
+	 *
+	 * <p>
+	 * The properties whose name starts with the prefix are returned first, then
+	 * the properties which have a segment starting with the prefix (ex : 'cors'
+	 * matches 'quarkus.http.cors'). Shallow properties are returned first.
+	 * </p>
+	 *
+	 * @param prefix   the lower case typed prefix.
+	 * @param filter   the filter.
+	 * @param maxItems the maximum number of properties to return.
+	 * @return at most <code>maxItems</code> properties which match the given
+	 *         prefix and the given filter.
+	 */
+	public Result find(String prefix, Predicate<ItemMetadata> filter, int maxItems) {
+		if (prefix.isEmpty()) {
+			List<ItemMetadata> result = new ArrayList<>(Math.min(maxItems, rankedProperties.length));
+			for (ItemMetadata property : rankedProperties) {
+				if (filter.test(property)) {
+					if (result.size() == maxItems) {
+						return new Result(result, true);
+					}
+					result.add(property);
+				}
+			}
+			return new Result(result, false);
+		}
+
+		List<ItemMetadata> result = new ArrayList<>();
+		// Properties which start with the prefix
+		int from = lowerBound(prefix);
+		int to = from;
+		while (to < names.length && names[to].startsWith(prefix)) {
+			to++;
+		}
+		int[] startsWith = new int[to - from];
+		for (int i = from; i < to; i++) {
+			startsWith[i - from] = ranks[i];
+		}
+		if (addRanked(startsWith, startsWith.length, filter, maxItems, result)) {
+			return new Result(result, true);
+		}
+
+		// Properties which have a segment which starts with the prefix
+		int segmentFrom = lowerBoundSegment(prefix);
+		int segmentTo = segmentFrom;
+		while (segmentTo < segmentNames.length
+				&& names[segmentNames[segmentTo]].startsWith(prefix, segmentOffsets[segmentTo])) {
+			segmentTo++;
+		}
+		int[] segments = new int[segmentTo - segmentFrom];
+		int count = 0;
+		for (int i = segmentFrom; i < segmentTo; i++) {
+			int nameIndex = segmentNames[i];
+			if (nameIndex < from || nameIndex >= to) {
+				segments[count++] = ranks[nameIndex];
+			}
+		}
+		return new Result(result, addRanked(segments, count, filter, maxItems, result));
+	}
+
+	/**
+	 * Add to the result the properties of the given ranks which match the filter,
+	 * in the rank order, and returns true if the result is full and other
+	 * properties match.
+	 */
+	private boolean addRanked(int[] candidateRanks, int count, Predicate<ItemMetadata> filter, int maxItems,
+			List<ItemMetadata> result) {
+		Arrays.sort(candidateRanks, 0, count);
+		for (int i = 0; i < count; i++) {
+			if (i > 0 && candidateRanks[i] == candidateRanks[i - 1]) {
+				// several segments of the property start with the prefix
+				continue;
+			}
+			ItemMetadata property = rankedProperties[candidateRanks[i]];
+			if (filter.test(property)) {
+				if (result.size() == maxItems) {
+					return true;
+				}
+				result.add(property);
+			}
+		}
+		return false;
+	}
+
+	private int lowerBound(String prefix) {
+		int low = 0;
+		int high = names.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (names[mid].compareTo(prefix) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private int lowerBoundSegment(String prefix) {
+		int low = 0;
+		int high = segmentNames.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compareSuffix(names[segmentNames[mid]], segmentOffsets[mid], prefix, 0) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static boolean isSegmentSeparator(char c) {
+		return c == '.' || c == '-' || c == '/';
+	}
+
+	/**
+	 * Compares lexicographically the suffix of <code>s1</code> which starts at
+	 * <code>offset1</code> with the suffix of <code>s2</code> which starts at
+	 * <code>offset2</code>.
+	 */
+	private static int compareSuffix(String s1, int offset1, String s2, int offset2) {
+		int length1 = s1.length() - offset1;
+		int length2 = s2.length() - offset2;
+		int length = Math.min(length1, length2);
+		for (int i = 0; i < length; i++) {
+			char c1 = s1.charAt(offset1 + i);
+			char c2 = s2.charAt(offset2 + i);
+			if (c1 != c2) {
+				return c1 - c2;
+			}
+		}
+		return length1 - length2;
+	}
+
+	private static int getDepth(String name) {
+		int depth = 0;
+		for (int i = 0; i < name.length(); i++) {
+			if (name.charAt(i) == '.') {
+				depth++;
+			}
+		}
+		return depth;
+	}
+
+}
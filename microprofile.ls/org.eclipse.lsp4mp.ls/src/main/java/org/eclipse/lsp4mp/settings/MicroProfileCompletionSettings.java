@@ -0,0 +1,52 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.settings;
+
+/**
+ * MicroProfile completion settings.
+ *
+ */
+public class MicroProfileCompletionSettings {
+
+	public static final int DEFAULT_MAX_PROPERTY_KEY_ITEMS = 0;
+
+	private int maxPropertyKeyItems = DEFAULT_MAX_PROPERTY_KEY_ITEMS;
+
+	/**
+	 * Returns the maximum number of property key completion items. When the
+	 * project declares more properties, the properties are filtered on the server
+	 * side with the typed prefix: only the properties whose name or one of its
+	 * segments starts with the prefix are returned, which replaces the fuzzy
+	 * matching of the client. When more properties match, only the best matches
+	 * are returned and the completion list is marked as incomplete. A value less
+	 * than or equal to 0 (the default) means no limit.
+	 *
+	 * @return the maximum number of property key completion items.
+	 */
+	public int getMaxPropertyKeyItems() {
+		return maxPropertyKeyItems;
+	}
+
+	/**
+	 * Set the maximum number of property key completion items.
+	 *
+	 * @param maxPropertyKeyItems the maximum number of property key completion
+	 *                            items, or a value less than or equal to 0 for no
+	 *                            limit.
+	 */
+	public void setMaxPropertyKeyItems(int maxPropertyKeyItems) {
+		this.maxPropertyKeyItems = maxPropertyKeyItems;
+	}
+
+}
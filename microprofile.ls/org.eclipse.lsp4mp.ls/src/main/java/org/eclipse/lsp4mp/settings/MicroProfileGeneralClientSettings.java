@@ -42,6 +42,10 @@ public class MicroProfileGeneralClientSettings {
 
 	private MicroProfileInlayHintSettings inlayHint;
 
+	private MicroProfileProjectInfoSettings projectInfo;
+
+	private MicroProfileCompletionSettings completion;
+
 	/**
 	 * Returns the symbols settings.
 	 *
@@ -122,6 +126,42 @@ public class MicroProfileGeneralClientSettings {
 		this.inlayHint = inlayHint;
 	}
 
+	/**
+	 * Returns the project information settings.
+	 *
+	 * @return the project information settings.
+	 */
+	public MicroProfileProjectInfoSettings getProjectInfo() {
+		return projectInfo;
+	}
+
+	/**
+	 * Sets the project information settings.
+	 *
+	 * @param projectInfo the project information settings.
+	 */
+	public void setProjectInfo(MicroProfileProjectInfoSettings projectInfo) {
+		this.projectInfo = projectInfo;
+	}
+
+	/**
+	 * Returns the completion settings.
+	 *
+	 * @return the completion settings.
+	 */
+	public MicroProfileCompletionSettings getCompletion() {
+		return completion;
+	}
+
+	/**
+	 * Sets the completion settings.
+	 *
+	 * @param completion the completion settings.
+	 */
+	public void setCompletion(MicroProfileCompletionSettings completion) {
+		this.completion = completion;
+	}
+
 	/**
 	 * Returns the general settings from the given initialization options
 	 *
@@ -0,0 +1,135 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.settings;
+
+/**
+ * MicroProfile project information settings.
+ *
+ */
+public class MicroProfileProjectInfoSettings {
+
+	public static final int DEFAULT_MEMORY_BUDGET = 256;
+
+	private boolean staleWhileRevalidate = true;
+
+	private String cacheDirectory;
+
+	private boolean timings;
+
+	private int memoryBudget = DEFAULT_MEMORY_BUDGET;
+
+	/**
+	 * Returns true if the previous project information must be used while the
+	 * project information is computed again after a classpath change, and false
+	 * otherwise.
+	 *
+	 * @return true if the previous project information must be used while the
+	 *         project information is computed again after a classpath change,
+	 *         and false otherwise.
+	 */
+	public boolean isStaleWhileRevalidate() {
+		return staleWhileRevalidate;
+	}
+
+	/**
+	 * Set true if the previous project information must be used while the
+	 * project information is computed again after a classpath change, and false
+	 * otherwise.
+	 *
+	 * @param staleWhileRevalidate true if the previous project information must
+	 *                             be used while the project information is
+	 *                             computed again.
+	 */
+	public void setStaleWhileRevalidate(boolean staleWhileRevalidate) {
+		this.staleWhileRevalidate = staleWhileRevalidate;
+	}
+
+	/**
+	 * Returns the directory where the last known project information is persisted
+	 * to be used at the next start of the language server, or null if the project
+	 * information must not be persisted.
+	 *
+	 * @return the directory where the last known project information is
+	 *         persisted, or null if the project information must not be
+	 *         persisted.
+	 */
+	public String getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	/**
+	 * Set the directory where the last known project information is persisted.
+	 *
+	 * @param cacheDirectory the directory where the last known project
+	 *                       information is persisted, or null.
+	 */
+	public void setCacheDirectory(String cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Returns true if the timings of the scan per phase, properties provider and
+	 * package fragment root must be attached to the project information and false
+	 * otherwise.
+	 *
+	 * @return true if the timings of the scan must be attached to the project
+	 *         information and false otherwise.
+	 */
+	public boolean isTimings() {
+		return timings;
+	}
+
+	/**
+	 * Set true if the timings of the scan per phase, properties provider and
+	 * package fragment root must be attached to the project information and false
+	 * otherwise.
+	 *
+	 * @param timings true if the timings of the scan must be attached to the
+	 *                project information and false otherwise.
+	 */
+	public void setTimings(boolean timings) {
+		this.timings = timings;
+	}
+
+	/**
+	 * Returns the estimated memory (in MB) that the project information of the
+	 * closed properties files can keep in the cache, or a negative value if the
+	 * project information is never evicted.
+	 *
+	 * <p>
+	 * Beyond this budget, the least recently used project information of the
+	 * closed properties files is evicted, and loaded again when it is needed.
+	 * </p>
+	 *
+	 * @return the estimated memory (in MB) that the project information of the
+	 *         closed properties files can keep in the cache.
+	 */
+	public int getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Set the estimated memory (in MB) that the project information of the closed
+	 * properties files can keep in the cache, or a negative value if the project
+	 * information is never evicted.
+	 *
+	 * @param memoryBudget the estimated memory (in MB) that the project
+	 *                     information of the closed properties files can keep
+	 *                     in the cache.
+	 */
+	public void setMemoryBudget(int memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+
+}
@@ -29,6 +29,8 @@ public class SharedSettings {
 	private final MicroProfileCommandCapabilities commandCapabilities;
 	private final MicroProfileCodeLensSettings codeLensSettings;
 	private final MicroProfileInlayHintSettings inlayHintSettings;
+	private final MicroProfileProjectInfoSettings projectInfoSettings;
+	private final MicroProfileCompletionSettings completionSettings;
 
 	public SharedSettings() {
 		this.completionCapabilities = new MicroProfileCompletionCapabilities();
@@ -39,6 +41,8 @@ public class SharedSettings {
 		this.commandCapabilities = new MicroProfileCommandCapabilities();
 		this.codeLensSettings = new MicroProfileCodeLensSettings();
 		this.inlayHintSettings = new MicroProfileInlayHintSettings();
+		this.projectInfoSettings = new MicroProfileProjectInfoSettings();
+		this.completionSettings = new MicroProfileCompletionSettings();
 	}
 
 	/**
@@ -113,4 +117,22 @@ public class SharedSettings {
 		return inlayHintSettings;
 	}
 
+	/**
+	 * Returns the project information settings.
+	 *
+	 * @return the project information settings.
+	 */
+	public MicroProfileProjectInfoSettings getProjectInfoSettings() {
+		return projectInfoSettings;
+	}
+
+	/**
+	 * Returns the completion settings.
+	 *
+	 * @return the completion settings.
+	 */
+	public MicroProfileCompletionSettings getCompletionSettings() {
+		return completionSettings;
+	}
+
 }
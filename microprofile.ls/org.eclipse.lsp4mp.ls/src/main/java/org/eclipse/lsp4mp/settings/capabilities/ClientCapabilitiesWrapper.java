@@ -88,6 +88,19 @@ public class ClientCapabilitiesWrapper {
 		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getDocumentHighlight());
 	}
 
+	/**
+	 * Returns true if the client supports the 'workspace/codeLens/refresh'
+	 * request and false otherwise.
+	 *
+	 * @return true if the client supports the 'workspace/codeLens/refresh'
+	 *         request and false otherwise.
+	 */
+	public boolean isCodeLensRefreshSupported() {
+		return capabilities.getWorkspace() != null && capabilities.getWorkspace().getCodeLens() != null
+				&& capabilities.getWorkspace().getCodeLens().getRefreshSupport() != null
+				&& capabilities.getWorkspace().getCodeLens().getRefreshSupport().booleanValue();
+	}
+
 	private boolean isDynamicRegistrationSupported(DynamicRegistrationCapabilities capability) {
 		return capability != null && capability.getDynamicRegistration() != null
 				&& capability.getDynamicRegistration().booleanValue();
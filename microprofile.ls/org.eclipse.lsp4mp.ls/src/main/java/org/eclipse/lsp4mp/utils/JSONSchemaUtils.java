@@ -13,7 +13,16 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.utils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -21,10 +30,11 @@ import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.eclipse.lsp4mp.ls.commons.stats.CacheStats;
+import org.eclipse.lsp4mp.ls.commons.stats.ServerStats;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * JSON Schema utilities.
@@ -53,6 +63,108 @@ public class JSONSchemaUtils {
 
 	// private static final String DEFAULT_PROP = "default";
 
+	private static final Map<MicroProfileProjectInfo, CachedJSONSchema> CACHE = new WeakHashMap<>();
+
+	private static final CacheStats CACHE_STATS = ServerStats.getInstance().getCache("jsonSchema");
+
+	/**
+	 * JSON Schema node, written with a {@link JsonWriter} once all properties
+	 * have been collected.
+	 */
+	private static class SchemaNode {
+
+		private JSONSchemaType type;
+
+		private boolean noAdditionalProperties;
+
+		private String description;
+
+		private List<String> enumValues;
+
+		private Map<String, SchemaNode> properties;
+
+		private SchemaNode items;
+	}
+
+	/**
+	 * Item hints indexed by name.
+	 */
+	private static class HintIndex {
+
+		private final List<ItemHint> hints;
+
+		private final Map<String, Integer> indexes;
+
+		public HintIndex(List<ItemHint> hints) {
+			this.hints = hints;
+			this.indexes = new HashMap<>();
+			if (hints != null) {
+				for (int i = 0; i < hints.size(); i++) {
+					indexes.putIfAbsent(hints.get(i).getName(), i);
+				}
+			}
+		}
+
+		/**
+		 * Returns the item hint of the given property like
+		 * {@link ConfigurationMetadata#getHint(ItemMetadata)}.
+		 */
+		public ItemHint getHint(ItemMetadata property) {
+			Integer byName = property.getName() != null ? indexes.get(property.getName()) : null;
+			Integer byType = property.getHintType() != null ? indexes.get(property.getHintType()) : null;
+			if (byName == null && byType == null) {
+				return null;
+			}
+			// the first declared hint wins
+			int index = byName == null ? byType : byType == null ? byName : Math.min(byName, byType);
+			return hints.get(index);
+		}
+	}
+
+	/**
+	 * JSON Schemas generated for a state of the properties and hints of a project
+	 * information.
+	 */
+	private static class CachedJSONSchema {
+
+		private final String projectURI;
+
+		private final List<ItemMetadata> properties;
+
+		private final List<ItemHint> hints;
+
+		private final long stamp;
+
+		private String jsonSchema;
+
+		private String lenientJsonSchema;
+
+		public CachedJSONSchema(String projectURI, List<ItemMetadata> properties, List<ItemHint> hints,
+				long stamp) {
+			this.projectURI = projectURI;
+			this.properties = properties;
+			this.hints = hints;
+			this.stamp = stamp;
+		}
+
+		public boolean isValid(String projectURI, List<ItemMetadata> properties, List<ItemHint> hints, long stamp) {
+			return Objects.equals(this.projectURI, projectURI) && this.properties == properties
+					&& this.hints == hints && this.stamp == stamp;
+		}
+
+		public String get(boolean lenient) {
+			return lenient ? lenientJsonSchema : jsonSchema;
+		}
+
+		public void set(boolean lenient, String jsonSchema) {
+			if (lenient) {
+				this.lenientJsonSchema = jsonSchema;
+			} else {
+				this.jsonSchema = jsonSchema;
+			}
+		}
+	}
+
 	private static enum JSONSchemaType {
 
 		string, //
@@ -145,6 +257,12 @@ public class JSONSchemaUtils {
 	 *
 	 * </code>
 	 *
+	 * <p>
+	 * The JSON Schema is written with a {@link JsonWriter} and it is cached until
+	 * the properties or the hints of the given <code>info</code> change (see
+	 * {@link ExtendedMicroProfileProjectInfo#getPropertiesVersion()}).
+	 * </p>
+	 *
 	 * @param info    the MicroProfile project information to convert as JSON
 	 *                Schema.
 	 * @param lenient true if 'additionalProperties' must be set to false and false
@@ -153,16 +271,60 @@ public class JSONSchemaUtils {
 	 * @return as JSON string the JSON Schema of the given <code>info</code>.
 	 */
 	public static String toJSONSchema(MicroProfileProjectInfo info, boolean lenient) {
-		final JsonObject schema = new JsonObject();
-		schema.addProperty(SCHEMA_PROP, SCHEMA_URL);
+		List<ItemMetadata> properties = info.getProperties();
+		List<ItemHint> hints = info.getHints();
+		String projectURI = info.getProjectURI();
+		// the version is read before generating the JSON Schema, so that an update
+		// done during the generation causes a new generation
+		long stamp = info instanceof ExtendedMicroProfileProjectInfo
+				? ((ExtendedMicroProfileProjectInfo) info).getPropertiesVersion()
+				: ((long) getSize(properties) << 32) | getSize(hints);
+		synchronized (CACHE) {
+			CachedJSONSchema cached = CACHE.get(info);
+			if (cached != null && cached.isValid(projectURI, properties, hints, stamp)) {
+				String jsonSchema = cached.get(lenient);
+				if (jsonSchema != null) {
+					CACHE_STATS.hit();
+					return jsonSchema;
+				}
+			}
+		}
+		CACHE_STATS.miss();
+		String jsonSchema = generateJSONSchema(info, lenient);
+		synchronized (CACHE) {
+			CachedJSONSchema cached = CACHE.get(info);
+			if (cached == null || !cached.isValid(projectURI, properties, hints, stamp)) {
+				cached = new CachedJSONSchema(projectURI, properties, hints, stamp);
+				CACHE.put(info, cached);
+			}
+			cached.set(lenient, jsonSchema);
+		}
+		return jsonSchema;
+	}
+
+	private static String generateJSONSchema(MicroProfileProjectInfo info, boolean lenient) {
 		// Generate the JSON Schema definitions for MicroProfile properties
-		generateDefinitions(info, schema, lenient);
-		// Reference the JSON Schema #/definitions/root on the root
-		schema.addProperty($REF_PROP, DEFINITIONS_ROOT);
-		// For accepting profile ("%dev"), we use patternProperties bound to
-		// #/definitions/root
-		generateProfile(schema);
-		return new Gson().toJson(schema);
+		SchemaNode root = generateDefinitions(info, lenient);
+		StringWriter out = new StringWriter();
+		try (JsonWriter writer = new JsonWriter(out)) {
+			writer.setHtmlSafe(true);
+			writer.beginObject();
+			writer.name(SCHEMA_PROP).value(SCHEMA_URL);
+			writer.name(DEFINITIONS_PROP).beginObject();
+			writer.name(ROOT_PROP);
+			writeNode(root, writer);
+			writer.endObject();
+			// Reference the JSON Schema #/definitions/root on the root
+			writer.name($REF_PROP).value(DEFINITIONS_ROOT);
+			// For accepting profile ("%dev"), we use patternProperties bound to
+			// #/definitions/root
+			generateProfile(writer);
+			writer.endObject();
+		} catch (IOException e) {
+			// Should never occur with a StringWriter
+			throw new UncheckedIOException(e);
+		}
+		return out.toString();
 	}
 
 	/**
@@ -178,31 +340,28 @@ public class JSONSchemaUtils {
 		        ...
 	 * </code>
 	 *
-	 * @param info   the MicroProfile project information.
-	 * @param schema the JSON Schema
+	 * @param info    the MicroProfile project information.
+	 * @param lenient true if 'additionalProperties' must not be set to false and
+	 *                false otherwise.
+	 * @return the JSON Schema root definition.
 	 */
-	private static void generateDefinitions(MicroProfileProjectInfo info, final JsonObject schema, boolean lenient) {
-		JsonObject definitions = new JsonObject();
-		schema.add(DEFINITIONS_PROP, definitions);
-
-		JsonObject root = new JsonObject();
-		definitions.add(ROOT_PROP, root);
-		root.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
-		if (!lenient) {
-			root.addProperty(ADDITIONAL_PROPERTIES_PROP, false);
-		}
-		JsonObject properties = new JsonObject();
-		root.add(PROPERTIES_PROP, properties);
+	private static SchemaNode generateDefinitions(MicroProfileProjectInfo info, boolean lenient) {
+		SchemaNode root = new SchemaNode();
+		root.type = JSONSchemaType.object;
+		root.noAdditionalProperties = !lenient;
+		root.properties = new LinkedHashMap<>();
 
 		List<ItemMetadata> items = info.getProperties();
 		if (items != null && !items.isEmpty()) {
-			items.forEach(item -> generateProperty(info, item, properties, lenient));
+			HintIndex hints = new HintIndex(info.getHints());
+			items.forEach(item -> generateProperty(hints, item, root.properties, lenient));
 		}
+		return root;
 	}
 
-	private static void generateProperty(ConfigurationMetadata configuration, ItemMetadata item, JsonObject properties,
+	private static void generateProperty(HintIndex hints, ItemMetadata item, Map<String, SchemaNode> properties,
 			boolean lenient) {
-		JsonObject parent = properties;
+		Map<String, SchemaNode> parent = properties;
 		// property name contains '.' (ex: quarkus.application.name)
 		// split it to generates the proper JSON Schema object
 		String[] paths = item.getPaths();
@@ -219,51 +378,43 @@ public class JSONSchemaUtils {
 			}
 			parent = getParentProperties(parent, path, isArray, lenient);
 		}
-		addProperty(paths[paths.length - 1], configuration, item, parent, lenient);
+		addProperty(paths[paths.length - 1], hints, item, parent, lenient);
 	}
 
-	private static JsonObject getParentProperties(JsonObject parent, String path, boolean isArray, boolean lenient) {
-		if (!parent.has(path)) {
+	private static Map<String, SchemaNode> getParentProperties(Map<String, SchemaNode> parent, String path,
+			boolean isArray, boolean lenient) {
+		SchemaNode object = parent.get(path);
+		if (object == null) {
 			// parent has no the current path, create the JSON object
-			JsonObject object = addProperty(path, isArray ? JSONSchemaType.array : JSONSchemaType.object, null, null,
-					parent, lenient);
+			object = addProperty(path, isArray ? JSONSchemaType.array : JSONSchemaType.object, null, parent, lenient);
 			return getOrCreateProperties(object, isArray);
 		}
-		JsonObject object = parent.getAsJsonObject(path);
-		if (!isArray && object.has(TYPE_PROP)
-				&& !JSONSchemaType.object.getName().equals(object.get(TYPE_PROP).getAsString())) {
+		if (!isArray && object.type != null && object.type != JSONSchemaType.object) {
 			// Generate tilde -> see
 			// https://quarkus.io/guides/config#configuration-key-conflicts
 			parent.remove(path);
-			JsonObject newObject = addProperty(path, JSONSchemaType.object, null, null, parent, lenient);
-			JsonObject properties = new JsonObject();
-			newObject.add(PROPERTIES_PROP, properties);
-			properties.add(TILDE_PROP, object);
-			return properties;
+			SchemaNode newObject = addProperty(path, JSONSchemaType.object, null, parent, lenient);
+			newObject.properties = new LinkedHashMap<>();
+			newObject.properties.put(TILDE_PROP, object);
+			return newObject.properties;
 		}
 		return getOrCreateProperties(object, isArray);
 	}
 
-	private static JsonObject getOrCreateProperties(JsonObject parent, boolean isArray) {
+	private static Map<String, SchemaNode> getOrCreateProperties(SchemaNode parent, boolean isArray) {
 		if (isArray) {
 			// should have items/properties
-			JsonObject items = null;
-			if (parent.has(ITEMS_PROP)) {
-				items = parent.getAsJsonObject(ITEMS_PROP);
-			} else {
-				items = new JsonObject();
-				parent.add(ITEMS_PROP, items);
-				items.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
+			if (parent.items == null) {
+				parent.items = new SchemaNode();
+				parent.items.type = JSONSchemaType.object;
 			}
-			return getOrCreateProperties(items, false);
+			return getOrCreateProperties(parent.items, false);
 		}
 		// parent is a object : it should have properties
-		if (parent.has(PROPERTIES_PROP)) {
-			return parent.getAsJsonObject(PROPERTIES_PROP);
+		if (parent.properties == null) {
+			parent.properties = new LinkedHashMap<>();
 		}
-		JsonObject properties = new JsonObject();
-		parent.add(PROPERTIES_PROP, properties);
-		return properties;
+		return parent.properties;
 	}
 
 	/**
@@ -279,31 +430,30 @@ public class JSONSchemaUtils {
 	 *
 	 * </code>
 	 *
-	 * @param schema the JSON Schema
+	 * @param writer the JSON Schema writer
 	 */
-	private static void generateProfile(final JsonObject schema) {
+	private static void generateProfile(JsonWriter writer) throws IOException {
 		// For accepting profile ("%dev", use patternProperties which is bound to the
 		// MicroProfile definitions
-		JsonObject patternProperties = new JsonObject();
-		JsonObject profile = new JsonObject();
-		profile.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
-		profile.addProperty($REF_PROP, DEFINITIONS_ROOT);
-		patternProperties.add(PROFILE_PATTERN, profile);
-		schema.add(PATTERN_PROPERTIES_PROP, patternProperties);
+		writer.name(PATTERN_PROPERTIES_PROP).beginObject();
+		writer.name(PROFILE_PATTERN).beginObject();
+		writer.name(TYPE_PROP).value(JSONSchemaType.object.getName());
+		writer.name($REF_PROP).value(DEFINITIONS_ROOT);
+		writer.endObject();
+		writer.endObject();
 	}
 
-	private static JsonObject addProperty(String name, ConfigurationMetadata configuration, ItemMetadata item,
-			JsonObject parent, boolean lenient) {
-		List<ValueHint> values = getValues(configuration, item);
+	private static SchemaNode addProperty(String name, HintIndex hints, ItemMetadata item,
+			Map<String, SchemaNode> parent, boolean lenient) {
+		List<ValueHint> values = getValues(hints, item);
 		JSONSchemaType type = getType(item, values);
-		JsonObject property = addProperty(name, type, item.getDescription(), item.getDefaultValue(), parent, lenient);
+		SchemaNode property = addProperty(name, type, item.getDescription(), parent, lenient);
 		// enum
 		if (values != null) {
-			JsonArray enumType = new JsonArray();
-			property.add(ENUM_PROP, enumType);
+			property.enumValues = new ArrayList<>(values.size());
 			for (ValueHint value : values) {
 				if (!StringUtils.isEmpty(value.getValue())) {
-					enumType.add(value.getValue());
+					property.enumValues.add(value.getValue());
 				}
 			}
 		}
@@ -311,8 +461,8 @@ public class JSONSchemaUtils {
 
 	}
 
-	private static List<ValueHint> getValues(ConfigurationMetadata configuration, ItemMetadata item) {
-		ItemHint hint = configuration.getHint(item);
+	private static List<ValueHint> getValues(HintIndex hints, ItemMetadata item) {
+		ItemHint hint = hints.getHint(item);
 		if (hint != null) {
 			List<ValueHint> values = hint.getValues();
 			if (values != null && !values.isEmpty()) {
@@ -340,48 +490,74 @@ public class JSONSchemaUtils {
 		return values != null ? JSONSchemaType.string : null;
 	}
 
-	private static JsonObject addProperty(String name, JSONSchemaType type, String description, String defaultValue,
-			JsonObject parent, boolean lenient) {
-		JsonObject property = null;
+	private static SchemaNode addProperty(String name, JSONSchemaType type, String description,
+			Map<String, SchemaNode> parent, boolean lenient) {
+		SchemaNode property = null;
 		if (name.endsWith("[*]")) {
 			// This case comes from with property which ends with an array
 			// ex : kubernetes.image-pull-secrets[*]
 			// here we must create a JSON object array kind
 			name = name.substring(0, name.length() - 3);
 			// should have items/properties
-			JsonObject array = new JsonObject();
-			array.addProperty(TYPE_PROP, JSONSchemaType.array.getName());
-			parent.add(name, array);
+			SchemaNode array = new SchemaNode();
+			array.type = JSONSchemaType.array;
+			parent.put(name, array);
 
-			JsonObject items = null;
-			if (parent.has(ITEMS_PROP)) {
-				items = array.getAsJsonObject(ITEMS_PROP);
-			} else {
-				items = new JsonObject();
-				array.add(ITEMS_PROP, items);
-				items.addProperty(TYPE_PROP, JSONSchemaType.object.getName());
-			}
+			SchemaNode items = new SchemaNode();
+			items.type = JSONSchemaType.object;
+			array.items = items;
 			property = items;
 		} else {
-			property = new JsonObject();
-			parent.add(name, property);
+			property = new SchemaNode();
+			parent.put(name, property);
 		}
 
 		if (type != null) {
-			property.addProperty(TYPE_PROP, type.getName());
+			property.type = type;
 			if (JSONSchemaType.object.equals(type) && !lenient) {
-				property.addProperty(ADDITIONAL_PROPERTIES_PROP, false);
+				property.noAdditionalProperties = true;
+			}
+		}
+		// don't generate default value since apply of completion generate all
+		// properties with default value.
+		property.description = description;
+		return property;
+	}
+
+	private static void writeNode(SchemaNode node, JsonWriter writer) throws IOException {
+		writer.beginObject();
+		if (node.type != null) {
+			writer.name(TYPE_PROP).value(node.type.getName());
+		}
+		if (node.noAdditionalProperties) {
+			writer.name(ADDITIONAL_PROPERTIES_PROP).value(false);
+		}
+		if (node.description != null) {
+			writer.name(DESCRIPTION_PROP).value(node.description);
+		}
+		if (node.enumValues != null) {
+			writer.name(ENUM_PROP).beginArray();
+			for (String value : node.enumValues) {
+				writer.value(value);
 			}
+			writer.endArray();
 		}
-		if (description != null) {
-			property.addProperty(DESCRIPTION_PROP, description);
+		if (node.properties != null) {
+			writer.name(PROPERTIES_PROP).beginObject();
+			for (Map.Entry<String, SchemaNode> property : node.properties.entrySet()) {
+				writer.name(property.getKey());
+				writeNode(property.getValue(), writer);
+			}
+			writer.endObject();
 		}
-		if (defaultValue != null && !defaultValue.isEmpty()) {
-			// don't generate default value since apply of completion generate all
-			// properties
-			// with default value.
-			// property.addProperty(DEFAULT_PROP, defaultValue);
+		if (node.items != null) {
+			writer.name(ITEMS_PROP);
+			writeNode(node.items, writer);
 		}
-		return property;
+		writer.endObject();
+	}
+
+	private static int getSize(List<?> list) {
+		return list != null ? list.size() : 0;
 	}
 }
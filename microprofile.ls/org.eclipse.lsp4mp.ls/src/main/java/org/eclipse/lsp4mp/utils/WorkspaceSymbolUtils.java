@@ -0,0 +1,100 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+
+/**
+ * Workspace symbol utilities.
+ *
+ */
+public class WorkspaceSymbolUtils {
+
+	private static final int NO_MATCH = -1;
+
+	private static final int PREFIX_MATCH = 0;
+
+	private static final int SUBSTRING_MATCH = 1;
+
+	private static final int FUZZY_MATCH = 2;
+
+	private WorkspaceSymbolUtils() {
+
+	}
+
+	/**
+	 * Returns the symbols which match the given query, sorted by relevance:
+	 *
+	 * <ul>
+	 * <li>symbols whose name starts with the query (ignoring the leading '@' of
+	 * JAX-RS symbols).</li>
+	 * <li>symbols whose name contains the query.</li>
+	 * <li>symbols whose name contains all the characters of the query in the same
+	 * order.</li>
+	 * </ul>
+	 *
+	 * The match is case insensitive. All symbols are returned when the query is
+	 * empty.
+	 *
+	 * @param symbols the symbols to filter.
+	 * @param query   the workspace symbol query.
+	 * @return the symbols which match the given query, sorted by relevance.
+	 */
+	public static List<SymbolInformation> filter(List<SymbolInformation> symbols, String query) {
+		if (StringUtils.isEmpty(query)) {
+			return symbols;
+		}
+		String lowerQuery = query.toLowerCase();
+		List<List<SymbolInformation>> buckets = new ArrayList<>(FUZZY_MATCH + 1);
+		for (int i = 0; i <= FUZZY_MATCH; i++) {
+			buckets.add(new ArrayList<>());
+		}
+		for (SymbolInformation symbol : symbols) {
+			int match = match(lowerQuery, symbol.getName());
+			if (match != NO_MATCH) {
+				buckets.get(match).add(symbol);
+			}
+		}
+		List<SymbolInformation> result = new ArrayList<>();
+		buckets.forEach(result::addAll);
+		return result;
+	}
+
+	private static int match(String lowerQuery, String name) {
+		if (name == null) {
+			return NO_MATCH;
+		}
+		String lowerName = name.toLowerCase();
+		if (lowerName.startsWith(lowerQuery)
+				|| (lowerName.startsWith("@") && lowerName.startsWith(lowerQuery, 1))) {
+			return PREFIX_MATCH;
+		}
+		if (lowerName.contains(lowerQuery)) {
+			return SUBSTRING_MATCH;
+		}
+		int index = 0;
+		for (int i = 0; i < lowerQuery.length(); i++) {
+			index = lowerName.indexOf(lowerQuery.charAt(i), index);
+			if (index == -1) {
+				return NO_MATCH;
+			}
+			index++;
+		}
+		return FUZZY_MATCH;
+	}
+}
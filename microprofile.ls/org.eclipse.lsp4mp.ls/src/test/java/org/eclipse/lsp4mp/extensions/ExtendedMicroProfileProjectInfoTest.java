@@ -104,16 +104,20 @@ public class ExtendedMicroProfileProjectInfoTest {
 		assertPropertyExist("quarkus.cache.caffeine.B.initial-capacity", wrapper);
 
 		// Update with empty hints
+		long version = wrapper.getPropertiesVersion();
 		wrapper.updateSourcesProperties(new ArrayList<>(), new ArrayList<>());
 		Assert.assertEquals(0 + PropertiesFileAssert.SYS_ENV_PROPERTIES_NUMBER, wrapper.getProperties().size());
+		Assert.assertTrue(wrapper.getPropertiesVersion() > version);
 
 		// Update with 3 hints
 		value = new ValueHint();
 		value.setValue("C");
 		hint.getValues().add(value);
 
+		version = wrapper.getPropertiesVersion();
 		wrapper.updateSourcesProperties(new ArrayList<>(), Arrays.asList(hint));
 		Assert.assertEquals(3 + PropertiesFileAssert.SYS_ENV_PROPERTIES_NUMBER, wrapper.getProperties().size());
+		Assert.assertTrue(wrapper.getPropertiesVersion() > version);
 		assertPropertyExist("quarkus.cache.caffeine.A.initial-capacity", wrapper);
 		assertPropertyExist("quarkus.cache.caffeine.B.initial-capacity", wrapper);
 		assertPropertyExist("quarkus.cache.caffeine.C.initial-capacity", wrapper);
@@ -18,8 +18,18 @@ import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4mp.commons.utils.JSONUtility;
+import org.eclipse.lsp4mp.ls.commons.TextDocument;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocumentSnippetRegistry;
+import org.eclipse.lsp4mp.services.properties.CompletionData;
+import org.eclipse.lsp4mp.snippets.JavaSnippetCompletionContext;
+import org.eclipse.lsp4mp.snippets.SnippetContextForJava;
+import org.eclipse.lsp4mp.snippets.SnippetContextForProperties;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -183,4 +193,145 @@ public class SnippetRegistryTest {
 		assertCompletion("m|", registry, c("mp", "", r(0, 0, 1)), c("quarkus", "", r(0, 0, 1)));
 	}
 
+	@Test
+	public void resolveDocumentation() {
+		TextDocumentSnippetRegistry registry = new TextDocumentSnippetRegistry();
+		Snippet snippet = new Snippet();
+		snippet.setPrefixes(Arrays.asList("mp"));
+		snippet.setBody(Arrays.asList("a", "\tb", "c"));
+		snippet.setScope("properties");
+		registry.registerSnippet(snippet);
+
+		TextDocument document = new TextDocument("", "test.properties");
+		CompletionItem item = registry
+				.getCompletionItems(document, 0, true, true, (context, model) -> true, null).get(0);
+		CompletionItem unresolved = registry
+				.getCompletionItems(document, 0, true, true, (context, model) -> true, null, true).get(0);
+
+		// The documentation is computed on completionItem/resolve
+		Assert.assertNotNull(item.getDocumentation());
+		Assert.assertNull(unresolved.getDocumentation());
+		Assert.assertEquals(item.getTextEdit(), unresolved.getTextEdit());
+
+		// The completion item data is sent to the client as JSON
+		unresolved.setData(JSONUtility.getLsp4jGson().toJsonTree(unresolved.getData()));
+		Assert.assertEquals("test.properties", CompletionData.getCompletionData(unresolved).getUri());
+		CompletionItem resolved = registry.resolveCompletionItem(unresolved, true);
+		Assert.assertEquals(item.getDocumentation(), resolved.getDocumentation());
+	}
+
+	@Test
+	public void contextFilterEvaluatedOncePerContext() {
+		TextDocumentSnippetRegistry registry = new TextDocumentSnippetRegistry();
+		ISnippetContext<Object> context = value -> true;
+		for (String prefix : Arrays.asList("mp", "quarkus", "rest")) {
+			Snippet snippet = new Snippet();
+			snippet.setPrefixes(Arrays.asList(prefix));
+			snippet.setContext(context);
+			registry.registerSnippet(snippet);
+		}
+
+		AtomicInteger evaluations = new AtomicInteger();
+		List<CompletionItem> items = registry.getCompletionItems(new TextDocument("", "test.properties"), 0, true,
+				true, (c, model) -> {
+					evaluations.incrementAndGet();
+					return true;
+				}, null);
+		Assert.assertEquals(3, items.size());
+		Assert.assertEquals(1, evaluations.get());
+	}
+
+	@Test
+	public void equalJSONContextsAreShared() throws IOException {
+		String content = "{\r\n" + //
+				"  \"mp1\": {\r\n" + //
+				"    \"prefix\": \"mp1\",\r\n" + //
+				"    \"body\": \"a\",\r\n" + //
+				"    \"context\": { \"properties\": \"mp.a\" }\r\n" + //
+				"  },\r\n" + //
+				"  \"mp2\": {\r\n" + //
+				"    \"prefix\": \"mp2\",\r\n" + //
+				"    \"body\": \"b\",\r\n" + //
+				"    \"context\": { \"properties\": \"mp.a\" }\r\n" + //
+				"  },\r\n" + //
+				"  \"mp3\": {\r\n" + //
+				"    \"prefix\": \"mp3\",\r\n" + //
+				"    \"body\": \"c\",\r\n" + //
+				"    \"context\": { \"properties\": \"mp.b\" }\r\n" + //
+				"  }\r\n" + //
+				"}";
+		TextDocumentSnippetRegistry registry = new TextDocumentSnippetRegistry();
+		registry.registerSnippets(new StringReader(content), SnippetContextForProperties.TYPE_ADAPTER);
+		List<Snippet> snippets = registry.getSnippets();
+		Assert.assertSame(snippets.get(0).getContext(), snippets.get(1).getContext());
+		Assert.assertNotSame(snippets.get(0).getContext(), snippets.get(2).getContext());
+
+		AtomicInteger evaluations = new AtomicInteger();
+		List<CompletionItem> items = registry.getCompletionItems(new TextDocument("", "test.properties"), 0, true,
+				true, (c, model) -> {
+					evaluations.incrementAndGet();
+					return true;
+				}, null);
+		Assert.assertEquals(3, items.size());
+		Assert.assertEquals(2, evaluations.get());
+	}
+
+	@Test
+	public void nonMatchingContextKindIsNeverEvaluated() {
+		TextDocumentSnippetRegistry registry = new TextDocumentSnippetRegistry();
+		AtomicInteger javaEvaluations = new AtomicInteger();
+		Snippet snippet = new Snippet();
+		snippet.setPrefixes(Arrays.asList("rest"));
+		snippet.setContext(new SnippetContextForJava(Arrays.asList("javax.ws.rs.GET")) {
+			@Override
+			public boolean isMatch(JavaSnippetCompletionContext context) {
+				javaEvaluations.incrementAndGet();
+				return true;
+			}
+		});
+		registry.registerSnippet(snippet);
+		snippet = new Snippet();
+		snippet.setPrefixes(Arrays.asList("mp"));
+		registry.registerSnippet(snippet);
+		snippet = new Snippet();
+		snippet.setPrefixes(Arrays.asList("mpprop"));
+		snippet.setContext(new SnippetContextForProperties(Arrays.asList("mp.a")));
+		registry.registerSnippet(snippet);
+
+		AtomicInteger evaluations = new AtomicInteger();
+		List<CompletionItem> items = registry.getCompletionItems(new TextDocument("", "test.properties"), 0, true,
+				true, SnippetContextForProperties.class, (context, model) -> {
+					evaluations.incrementAndGet();
+					return true;
+				}, null, false);
+		Assert.assertEquals(Arrays.asList("mp", "mpprop"),
+				items.stream().map(CompletionItem::getLabel).collect(Collectors.toList()));
+		Assert.assertEquals(1, evaluations.get());
+		Assert.assertEquals(0, javaEvaluations.get());
+	}
+
+	@Test
+	public void resolveDocumentationAfterSnippetsChanged() {
+		TextDocumentSnippetRegistry registry = new TextDocumentSnippetRegistry();
+		Snippet snippet = new Snippet();
+		snippet.setPrefixes(Arrays.asList("mp"));
+		snippet.setBody(Arrays.asList("a"));
+		registry.registerSnippet(snippet);
+
+		TextDocument document = new TextDocument("", "test.properties");
+		CompletionItem unresolved = registry
+				.getCompletionItems(document, 0, true, true, (context, model) -> true, null, true).get(0);
+		unresolved.setData(JSONUtility.getLsp4jGson().toJsonTree(unresolved.getData()));
+
+		// A snippet registered before the resolved snippet doesn't change the
+		// resolved snippet
+		Snippet other = new Snippet();
+		other.setPrefixes(Arrays.asList("quarkus"));
+		other.setBody(Arrays.asList("b"));
+		registry.getSnippets().add(0, other);
+
+		CompletionItem resolved = registry.resolveCompletionItem(unresolved, false);
+		Assert.assertEquals("a", resolved.getDocumentation().getRight().getValue());
+	}
+
 }
\ No newline at end of file
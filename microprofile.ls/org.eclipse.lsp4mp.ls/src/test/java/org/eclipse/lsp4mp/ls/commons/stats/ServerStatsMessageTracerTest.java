@@ -0,0 +1,161 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons.stats;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
+import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of the statistics recorded by {@link ServerStatsMessageTracer}.
+ *
+ */
+public class ServerStatsMessageTracerTest {
+
+	@Test
+	public void requestAndDelegateLatencies() {
+		ServerStatsMessageTracer tracer = new ServerStatsMessageTracer(it -> it);
+		MessageConsumer incoming = tracer
+				.apply(new RemoteEndpoint(message -> {
+				}, ServiceEndpoints.toEndpoint(new Object())));
+		MessageConsumer outgoing = tracer.apply(message -> {
+		});
+
+		// request sent by the client
+		incoming.consume(createRequest("1", "test/request"));
+		Assert.assertEquals(1, getQueue("pendingRequests"));
+		outgoing.consume(createResponse("1", null));
+		Assert.assertEquals(0, getQueue("pendingRequests"));
+
+		// request delegated to the client which fails
+		outgoing.consume(createRequest("1", "test/delegate"));
+		Assert.assertEquals(1, getQueue("pendingDelegates"));
+		incoming.consume(createResponse("1",
+				new ResponseError(ResponseErrorCode.InternalError, "error", null)));
+		Assert.assertEquals(0, getQueue("pendingDelegates"));
+
+		// notification sent by the client
+		NotificationMessage notification = new NotificationMessage();
+		notification.setMethod("test/notification");
+		incoming.consume(notification);
+
+		ServerStatsSnapshot snapshot = ServerStats.getInstance().snapshot(Collections.emptyMap());
+		ServerStatsSnapshot.Latency request = snapshot.getRequests().get("test/request");
+		Assert.assertEquals(1, request.getCount());
+		Assert.assertEquals(0, request.getErrors());
+		ServerStatsSnapshot.Latency delegate = snapshot.getDelegates().get("test/delegate");
+		Assert.assertEquals(1, delegate.getCount());
+		Assert.assertEquals(1, delegate.getErrors());
+		Assert.assertEquals(1, snapshot.getNotifications().get("test/notification").getCount());
+	}
+
+	public static class SlowService {
+
+		private final CountDownLatch consumed = new CountDownLatch(1);
+
+		@JsonNotification("test/slowNotification")
+		public void slowNotification(Object params) throws InterruptedException {
+			Thread.sleep(50);
+			consumed.countDown();
+		}
+	}
+
+	@Test
+	public void asyncNotificationLatency() throws Exception {
+		// the messages are consumed asynchronously like with the 'runAsync' system
+		// property
+		ServerStatsMessageTracer tracer = new ServerStatsMessageTracer(
+				it -> message -> CompletableFuture.runAsync(() -> it.consume(message)));
+		SlowService service = new SlowService();
+		MessageConsumer incoming = tracer.apply(new RemoteEndpoint(message -> {
+		}, ServiceEndpoints.toEndpoint(service)));
+
+		NotificationMessage notification = new NotificationMessage();
+		notification.setMethod("test/slowNotification");
+		incoming.consume(notification);
+		Assert.assertTrue(service.consumed.await(10, TimeUnit.SECONDS));
+
+		// the notification is measured when it is consumed, not when it is enqueued
+		ServerStatsSnapshot.Latency latency = null;
+		long timeout = System.currentTimeMillis() + 10000;
+		while (latency == null && System.currentTimeMillis() < timeout) {
+			latency = ServerStats.getInstance().snapshot(Collections.emptyMap()).getNotifications()
+					.get("test/slowNotification");
+			Thread.sleep(10);
+		}
+		Assert.assertNotNull(latency);
+		Assert.assertEquals(1, latency.getCount());
+		Assert.assertTrue("Latency " + latency.getMaxTime() + "ms", latency.getMaxTime() >= 50);
+	}
+
+	@Test
+	public void percentiles() {
+		LatencyStats stats = new LatencyStats();
+		for (int i = 1; i <= 100; i++) {
+			stats.record(TimeUnit.MILLISECONDS.toNanos(i), false);
+		}
+		ServerStatsSnapshot.Latency latency = stats.snapshot();
+		Assert.assertEquals(100, latency.getCount());
+		Assert.assertEquals(100, latency.getMaxTime());
+		Assert.assertEquals(5050, latency.getTotalTime());
+		Assert.assertEquals(50, latency.getP50());
+		Assert.assertEquals(100, latency.getP90());
+		Assert.assertEquals(100, latency.getP99());
+		Assert.assertEquals(Long.valueOf(30), latency.getHistogram().get("50"));
+	}
+
+	@Test
+	public void cacheHitRatio() {
+		CacheStats stats = new CacheStats();
+		stats.hit();
+		stats.hit();
+		stats.hit();
+		stats.miss();
+		ServerStatsSnapshot.Cache cache = stats.snapshot();
+		Assert.assertEquals(3, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+		Assert.assertEquals(0.75, cache.getHitRatio(), 0.001);
+	}
+
+	private static RequestMessage createRequest(String id, String method) {
+		RequestMessage request = new RequestMessage();
+		request.setId(id);
+		request.setMethod(method);
+		return request;
+	}
+
+	private static ResponseMessage createResponse(String id, ResponseError error) {
+		ResponseMessage response = new ResponseMessage();
+		response.setId(id);
+		response.setError(error);
+		return response;
+	}
+
+	private static int getQueue(String name) {
+		return ServerStats.getInstance().snapshot(Collections.emptyMap()).getQueues().get(name);
+	}
+}
@@ -15,6 +15,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaProjectLabelsParams;
@@ -84,4 +86,25 @@ public class JavaTextDocumentsTest {
 		// the project is not a MP Project, the result is the default value.
 		Assert.assertFalse("Test executed in a non-MicroProfile project", result.get());
 	}
+
+	@Test
+	public void cancelDelegatedRequest() throws InterruptedException, ExecutionException, TimeoutException {
+		JavaTextDocuments documents = new JavaTextDocuments(PROVIDER, null);
+		JavaTextDocument document1 = documents
+				.createDocument(new TextDocumentItem(MP_PROJECT + "/file1.java", "", 0, ""));
+		// the request delegated to the JDT LS extension which never completes
+		CompletableFuture<Boolean> delegatedRequest = new CompletableFuture<>();
+		CompletableFuture<Void> delegated = new CompletableFuture<>();
+		CompletableFuture<Boolean> result = document1.executeIfInMicroProfileProject((projectInfo, cancelChecker) -> {
+			CompletableFuture<Boolean> future = cancelChecker.cancelIfNeeded(delegatedRequest);
+			delegated.complete(null);
+			return future.thenApply(value -> value);
+		}, DEFAULT_VALUE);
+		delegated.get(5, TimeUnit.SECONDS);
+
+		// the LSP request is cancelled ($/cancelRequest), the delegated request must
+		// be cancelled too.
+		result.cancel(true);
+		Assert.assertTrue("Delegated request is cancelled", delegatedRequest.isCancelled());
+	}
 }
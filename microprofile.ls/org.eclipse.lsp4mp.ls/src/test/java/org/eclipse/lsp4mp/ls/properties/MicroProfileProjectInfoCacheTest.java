@@ -9,18 +9,32 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.properties;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoSettings;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -136,6 +150,159 @@ public class MicroProfileProjectInfoCacheTest {
 
 	}
 
+	@Test
+	public void getProjectInfoStaleWhileRevalidate() throws InterruptedException, ExecutionException {
+		MicroProfileProjectInfoProviderTracker tracker = new MicroProfileProjectInfoProviderTracker();
+		List<String> refreshedURIs = new CopyOnWriteArrayList<>();
+		CountDownLatch refreshed = new CountDownLatch(1);
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(tracker,
+				new MicroProfileProjectInfoSettings(), uri -> {
+					refreshedURIs.add(uri);
+					refreshed.countDown();
+				});
+
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		CompletableFuture<MicroProfileProjectInfo> request1 = cache.getProjectInfoFromCache(params);
+		request1.get();
+
+		// Classpath changed -> the cached project info is used while the new one is
+		// computed in background
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		Assert.assertTrue("No document to revalidate before the new project info is computed",
+				cache.propertiesChanged(event).isEmpty());
+
+		CompletableFuture<MicroProfileProjectInfo> request2 = cache.getProjectInfoFromCache(params);
+		Assert.assertTrue("Stale project info while the new one is computed", request1 == request2);
+
+		// The new project info replaces the stale one
+		Assert.assertTrue("Project info refreshed", refreshed.await(10, TimeUnit.SECONDS));
+		Assert.assertEquals(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), refreshedURIs);
+		CompletableFuture<MicroProfileProjectInfo> request3 = cache.getProjectInfoFromCache(params);
+		Assert.assertFalse("New project info after the refresh", request1.get() == request3.get());
+		Assert.assertEquals("Number of call of getProjectInfo after the refresh", 2, tracker.getInstanceCount());
+
+		// Stale-while-revalidate disabled -> the cached project info is evicted
+		MicroProfileProjectInfoSettings settings = new MicroProfileProjectInfoSettings();
+		settings.setStaleWhileRevalidate(false);
+		cache = new MicroProfileProjectInfoCache(tracker, settings, uri -> {
+		});
+		CompletableFuture<MicroProfileProjectInfo> request4 = cache.getProjectInfoFromCache(params);
+		request4.get();
+		Assert.assertEquals(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), cache.propertiesChanged(event));
+		Assert.assertFalse("Project info evicted", request4 == cache.getProjectInfoFromCache(params));
+	}
+
+	@Test
+	public void getProjectInfoWarmStart()
+			throws InterruptedException, ExecutionException, TimeoutException, IOException {
+		Path cacheDirectory = Files.createTempDirectory("lsp4mp-cache");
+		try {
+			assertWarmStart(cacheDirectory);
+		} finally {
+			try (Stream<Path> files = Files.walk(cacheDirectory)) {
+				files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+			}
+		}
+	}
+
+	private static void assertWarmStart(Path cacheDirectory)
+			throws InterruptedException, ExecutionException, TimeoutException, IOException {
+		MicroProfileProjectInfoSettings settings = new MicroProfileProjectInfoSettings();
+		settings.setCacheDirectory(cacheDirectory.toString());
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+
+		// First session: the project info is loaded from the provider and persisted
+		MicroProfileProjectInfoProviderTracker tracker = new MicroProfileProjectInfoProviderTracker();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(tracker, settings, uri -> {
+		});
+		cache.getProjectInfoFromCache(params).get();
+		cache.getStore().getPendingSave(PROJECT1_APPLICATION_PROPERTIES).get(10, TimeUnit.SECONDS);
+		try (Stream<Path> files = Files.list(cacheDirectory.resolve("projectInfo"))) {
+			Assert.assertEquals("One persisted project info", 1,
+					files.filter(f -> f.toString().endsWith(".json")).count());
+		}
+
+		// Second session: the persisted project info is returned immediately and
+		// refreshed in background
+		MicroProfileProjectInfoProviderTracker tracker2 = new MicroProfileProjectInfoProviderTracker();
+		CountDownLatch refreshed = new CountDownLatch(1);
+		MicroProfileProjectInfoCache cache2 = new MicroProfileProjectInfoCache(tracker2, settings,
+				uri -> refreshed.countDown());
+		CompletableFuture<MicroProfileProjectInfo> request = cache2.getProjectInfoFromCache(params);
+		Assert.assertTrue("Persisted project info is returned immediately", request.isDone());
+		Assert.assertEquals(PROJECT1, request.get().getProjectURI());
+		Assert.assertTrue("Project info refreshed", refreshed.await(10, TimeUnit.SECONDS));
+		Assert.assertEquals("Number of call of getProjectInfo for the refresh", 1, tracker2.getInstanceCount());
+		Assert.assertFalse("New project info after the refresh",
+				request.get() == cache2.getProjectInfoFromCache(params).get());
+	}
+
+	@Test
+	public void evictClosedDocumentsWithMemoryBudget() throws InterruptedException, ExecutionException {
+		Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+		MicroProfileProjectInfoProvider provider = params -> {
+			calls.computeIfAbsent(params.getUri(), uri -> new AtomicInteger()).incrementAndGet();
+			return CompletableFuture.completedFuture(createLargeProjectInfo(params.getUri()));
+		};
+		MicroProfileProjectInfoSettings settings = new MicroProfileProjectInfoSettings();
+		settings.setMemoryBudget(1);
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider, settings, uri -> {
+		});
+		long size = MicroProfileProjectInfoCache.estimateMemory(createLargeProjectInfo("a/application.properties"));
+		Assert.assertTrue("Two project infos exceed the budget", size * 2 > 1024 * 1024 && size < 1024 * 1024);
+
+		String a = "a/application.properties";
+		String b = "b/application.properties";
+		String c = "c/application.properties";
+		for (String uri : Arrays.asList(a, b, c)) {
+			cache.documentOpened(uri);
+			cache.getProjectInfo(new MicroProfileProjectInfoParams(uri)).get();
+		}
+
+		// Close a and b -> a, the least recently used, is evicted
+		cache.documentClosed(a);
+		cache.documentClosed(b);
+		cache.getProjectInfoFromCache(new MicroProfileProjectInfoParams(b)).get();
+		Assert.assertEquals(1, calls.get(b).get());
+
+		// a is loaded again transparently, b becomes the least recently used and is
+		// evicted
+		Assert.assertEquals("a", cache.getProjectInfo(new MicroProfileProjectInfoParams(a)).get().getProjectURI());
+		Assert.assertEquals(2, calls.get(a).get());
+		cache.getProjectInfoFromCache(new MicroProfileProjectInfoParams(a)).get();
+		Assert.assertEquals(2, calls.get(a).get());
+
+		// c is opened, it is never evicted
+		cache.getProjectInfoFromCache(new MicroProfileProjectInfoParams(c)).get();
+		Assert.assertEquals(1, calls.get(c).get());
+
+		// b is opened again, its project info is loaded again
+		cache.documentOpened(b);
+		cache.getProjectInfo(new MicroProfileProjectInfoParams(b)).get();
+		Assert.assertEquals(2, calls.get(b).get());
+		cache.getProjectInfo(new MicroProfileProjectInfoParams(b)).get();
+		cache.getProjectInfo(new MicroProfileProjectInfoParams(a)).get();
+		Assert.assertEquals(2, calls.get(b).get());
+		Assert.assertEquals(1, calls.get(c).get());
+	}
+
+	private static MicroProfileProjectInfo createLargeProjectInfo(String uri) {
+		List<ItemMetadata> properties = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName("quarkus.property" + i);
+			property.setType("java.lang.String");
+			property.setDescription(String.format("%200d", i));
+			properties.add(property);
+		}
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI(uri.substring(0, uri.indexOf('/')));
+		info.setProperties(properties);
+		return info;
+	}
+
 	@Test
 	public void getProjectInfoCacheProviderException() throws InterruptedException, ExecutionException {
 		MicroProfileProjectInfoProvider provider = new MicroProfileProjectInfoProviderThrowException();
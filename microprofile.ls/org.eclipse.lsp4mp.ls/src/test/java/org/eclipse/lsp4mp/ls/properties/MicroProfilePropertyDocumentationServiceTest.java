@@ -0,0 +1,265 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesDocumentationParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link MicroProfilePropertyDocumentationService}.
+ *
+ */
+public class MicroProfilePropertyDocumentationServiceTest {
+
+	private static final String URI = "project1/application.properties";
+
+	static class DocumentationProviderTracker implements MicroProfilePropertyDocumentationProvider {
+
+		private final AtomicInteger singleCount = new AtomicInteger();
+
+		private final AtomicInteger batchCount = new AtomicInteger();
+
+		private final AtomicInteger propertyCount = new AtomicInteger();
+
+		private final boolean batchSupported;
+
+		private volatile boolean batchFailure;
+
+		public DocumentationProviderTracker(boolean batchSupported) {
+			this.batchSupported = batchSupported;
+		}
+
+		@Override
+		public CompletableFuture<String> getPropertyDocumentation(MicroProfilePropertyDocumentationParams params) {
+			singleCount.incrementAndGet();
+			propertyCount.incrementAndGet();
+			return CompletableFuture.completedFuture(getDocumentation(params));
+		}
+
+		@Override
+		public CompletableFuture<List<String>> getPropertiesDocumentation(
+				MicroProfilePropertiesDocumentationParams params) {
+			batchCount.incrementAndGet();
+			if (!batchSupported || batchFailure) {
+				// Error sent by lsp4j when the client doesn't support the request
+				ResponseError error = batchSupported
+						? new ResponseError(ResponseErrorCode.InternalError, "Internal error", null)
+						: new ResponseError(ResponseErrorCode.MethodNotFound, "Unsupported request method", null);
+				CompletableFuture<List<String>> future = new CompletableFuture<>();
+				future.completeExceptionally(new ResponseErrorException(error));
+				return future;
+			}
+			propertyCount.addAndGet(params.getProperties().size());
+			return CompletableFuture.completedFuture(params.getProperties().stream() //
+					.map(DocumentationProviderTracker::getDocumentation) //
+					.collect(Collectors.toList()));
+		}
+
+		private static String getDocumentation(MicroProfilePropertyDocumentationParams params) {
+			return "Doc of " + params.getSourceType() + "#" + params.getSourceField();
+		}
+
+		public int getSingleCount() {
+			return singleCount.get();
+		}
+
+		public int getBatchCount() {
+			return batchCount.get();
+		}
+
+		public int getPropertyCount() {
+			return propertyCount.get();
+		}
+
+		public void setBatchFailure(boolean batchFailure) {
+			this.batchFailure = batchFailure;
+		}
+	}
+
+	@Test
+	public void batchAndCache() throws Exception {
+		DocumentationProviderTracker tracker = new DocumentationProviderTracker(true);
+		MicroProfilePropertyDocumentationService service = new MicroProfilePropertyDocumentationService(tracker,
+				Executors.newSingleThreadScheduledExecutor(), 100);
+
+		CompletableFuture<String> doc1 = service.getPropertyDocumentation(createParams("org.acme.A", "field1"));
+		CompletableFuture<String> doc2 = service.getPropertyDocumentation(createParams("org.acme.A", "field2"));
+		CompletableFuture<String> doc3 = service.getPropertyDocumentation(createParams("org.acme.B", "field1"));
+
+		Assert.assertEquals("Doc of org.acme.A#field1", doc1.get());
+		Assert.assertEquals("Doc of org.acme.A#field2", doc2.get());
+		Assert.assertEquals("Doc of org.acme.B#field1", doc3.get());
+		Assert.assertEquals("Number of batch requests", 1, tracker.getBatchCount());
+		Assert.assertEquals("Number of single requests", 0, tracker.getSingleCount());
+
+		// Get the documentation from the cache
+		CompletableFuture<String> doc4 = service.getPropertyDocumentation(createParams("org.acme.A", "field1"));
+		Assert.assertTrue("Documentation from the cache", doc4.isDone());
+		Assert.assertEquals("Doc of org.acme.A#field1", doc4.get());
+		Assert.assertEquals("Number of batch requests", 1, tracker.getBatchCount());
+
+		// Evict the cache
+		service.evictAll();
+		Assert.assertEquals("Doc of org.acme.A#field1",
+				service.getPropertyDocumentation(createParams("org.acme.A", "field1")).get());
+		Assert.assertEquals("Number of batch requests", 1, tracker.getBatchCount());
+		Assert.assertEquals("One property is sent with a single request", 1, tracker.getSingleCount());
+	}
+
+	@Test
+	public void batchNotSupported() throws Exception {
+		DocumentationProviderTracker tracker = new DocumentationProviderTracker(false);
+		MicroProfilePropertyDocumentationService service = new MicroProfilePropertyDocumentationService(tracker,
+				Executors.newSingleThreadScheduledExecutor(), 100);
+
+		CompletableFuture<String> doc1 = service.getPropertyDocumentation(createParams("org.acme.A", "field1"));
+		CompletableFuture<String> doc2 = service.getPropertyDocumentation(createParams("org.acme.A", "field2"));
+		Assert.assertEquals("Doc of org.acme.A#field1", doc1.get());
+		Assert.assertEquals("Doc of org.acme.A#field2", doc2.get());
+		Assert.assertEquals("Number of batch requests", 1, tracker.getBatchCount());
+		Assert.assertEquals("Number of single requests", 2, tracker.getSingleCount());
+
+		// The batch request is not supported, it must not be used anymore
+		CompletableFuture<String> doc3 = service.getPropertyDocumentation(createParams("org.acme.B", "field1"));
+		CompletableFuture<String> doc4 = service.getPropertyDocumentation(createParams("org.acme.B", "field2"));
+		Assert.assertEquals("Doc of org.acme.B#field1", doc3.get());
+		Assert.assertEquals("Doc of org.acme.B#field2", doc4.get());
+		Assert.assertEquals("Number of batch requests", 1, tracker.getBatchCount());
+		Assert.assertEquals("Number of single requests", 4, tracker.getSingleCount());
+	}
+
+	@Test
+	public void batchTransientError() throws Exception {
+		DocumentationProviderTracker tracker = new DocumentationProviderTracker(true);
+		MicroProfilePropertyDocumentationService service = new MicroProfilePropertyDocumentationService(tracker,
+				Executors.newSingleThreadScheduledExecutor(), 100);
+
+		tracker.setBatchFailure(true);
+		CompletableFuture<String> doc1 = service.getPropertyDocumentation(createParams("org.acme.A", "field1"));
+		CompletableFuture<String> doc2 = service.getPropertyDocumentation(createParams("org.acme.A", "field2"));
+		Assert.assertEquals("Doc of org.acme.A#field1", doc1.get());
+		Assert.assertEquals("Doc of org.acme.A#field2", doc2.get());
+		Assert.assertEquals("Number of batch requests", 1, tracker.getBatchCount());
+		Assert.assertEquals("Number of single requests", 2, tracker.getSingleCount());
+
+		// The batch request has failed but it is supported, it must be used again
+		tracker.setBatchFailure(false);
+		CompletableFuture<String> doc3 = service.getPropertyDocumentation(createParams("org.acme.B", "field1"));
+		CompletableFuture<String> doc4 = service.getPropertyDocumentation(createParams("org.acme.B", "field2"));
+		Assert.assertEquals("Doc of org.acme.B#field1", doc3.get());
+		Assert.assertEquals("Doc of org.acme.B#field2", doc4.get());
+		Assert.assertEquals("Number of batch requests", 2, tracker.getBatchCount());
+		Assert.assertEquals("Number of single requests", 2, tracker.getSingleCount());
+	}
+
+	@Test
+	public void cacheIsBounded() throws Exception {
+		DocumentationProviderTracker tracker = new DocumentationProviderTracker(true);
+		MicroProfilePropertyDocumentationService service = new MicroProfilePropertyDocumentationService(tracker,
+				Executors.newSingleThreadScheduledExecutor(), 0, 2);
+
+		service.getPropertyDocumentation(createParams("org.acme.A", "field1")).get();
+		service.getPropertyDocumentation(createParams("org.acme.A", "field2")).get();
+		// field1 is the most recently used
+		service.getPropertyDocumentation(createParams("org.acme.A", "field1")).get();
+		service.getPropertyDocumentation(createParams("org.acme.A", "field3")).get();
+		Assert.assertEquals("Number of single requests", 3, tracker.getSingleCount());
+
+		// field1 and field3 are cached, field2 has been evicted
+		service.getPropertyDocumentation(createParams("org.acme.A", "field1")).get();
+		service.getPropertyDocumentation(createParams("org.acme.A", "field3")).get();
+		Assert.assertEquals("Number of single requests", 3, tracker.getSingleCount());
+		service.getPropertyDocumentation(createParams("org.acme.A", "field2")).get();
+		Assert.assertEquals("Number of single requests", 4, tracker.getSingleCount());
+	}
+
+	@Test
+	public void prefetchOncePerProjectInfoVersion() throws Exception {
+		DocumentationProviderTracker tracker = new DocumentationProviderTracker(true);
+		MicroProfilePropertyDocumentationService service = new MicroProfilePropertyDocumentationService(tracker,
+				Executors.newSingleThreadScheduledExecutor(), 0);
+
+		int nbProperties = MicroProfilePropertyDocumentationService.MAX_PREFETCHED_DOCUMENTATIONS + 50;
+		List<ItemMetadata> properties = new ArrayList<>();
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < nbProperties; i++) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName("greeting.field" + i);
+			property.setSourceType("org.acme.A");
+			property.setSourceField("field" + i);
+			properties.add(property);
+			text.append("greeting.field").append(i).append("=value\n");
+		}
+		MicroProfileProjectInfo projectInfo = new MicroProfileProjectInfo();
+		projectInfo.setProperties(properties);
+		PropertiesModel model = PropertiesModel.parse(text.toString(), URI);
+
+		// The prefetch is bounded to keep the cache for the hovered properties
+		service.prefetch(model, projectInfo, DocumentFormat.Markdown);
+		waitForPrefetch(service, MicroProfilePropertyDocumentationService.MAX_PREFETCHED_DOCUMENTATIONS - 1);
+		Assert.assertEquals("Number of prefetched properties",
+				MicroProfilePropertyDocumentationService.MAX_PREFETCHED_DOCUMENTATIONS, tracker.getPropertyCount());
+
+		// The same version of the project information is not prefetched again
+		service.prefetch(model, projectInfo, DocumentFormat.Markdown);
+		Assert.assertEquals("Number of prefetched properties",
+				MicroProfilePropertyDocumentationService.MAX_PREFETCHED_DOCUMENTATIONS, tracker.getPropertyCount());
+
+		// A new project information prefetches only the properties which are not cached
+		MicroProfileProjectInfo newProjectInfo = new MicroProfileProjectInfo();
+		newProjectInfo.setProperties(properties);
+		service.prefetch(model, newProjectInfo, DocumentFormat.Markdown);
+		waitForPrefetch(service, nbProperties - 1);
+		Assert.assertEquals("Number of prefetched properties", nbProperties, tracker.getPropertyCount());
+	}
+
+	private static void waitForPrefetch(MicroProfilePropertyDocumentationService service, int lastIndex)
+			throws Exception {
+		// the last prefetched documentation is returned from the cache
+		service.getPropertyDocumentation(createParams("org.acme.A", "field" + lastIndex)).get();
+	}
+
+	@Test
+	public void dispose() throws Exception {
+		DocumentationProviderTracker tracker = new DocumentationProviderTracker(true);
+		MicroProfilePropertyDocumentationService service = new MicroProfilePropertyDocumentationService(tracker);
+		service.dispose();
+
+		CompletableFuture<String> doc = service.getPropertyDocumentation(createParams("org.acme.A", "field1"));
+		Assert.assertTrue("Documentation request is rejected", doc.isCompletedExceptionally());
+		Assert.assertEquals("Number of single requests", 0, tracker.getSingleCount());
+	}
+
+	private static MicroProfilePropertyDocumentationParams createParams(String sourceType, String sourceField) {
+		MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
+		params.setUri(URI);
+		params.setSourceType(sourceType);
+		params.setSourceField(sourceField);
+		params.setDocumentFormat(DocumentFormat.Markdown);
+		return params;
+	}
+}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.ls.commons.StringPool;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+/**
+ * Test of the strings of the MicroProfile project information deserialized
+ * with {@link ProjectInfoInterningTypeAdapterFactory}.
+ *
+ */
+public class ProjectInfoInterningTypeAdapterFactoryTest {
+
+	private static final int PROJECTS = 10;
+
+	private static final int PROPERTIES = 2000;
+
+	private static final String[] TYPES = { "java.lang.String", "int", "boolean", "java.util.Optional<java.lang.String>",
+			"org.acme.Level" };
+
+	@Test
+	public void estimatedStringsFootprint() {
+		String json = createGson(null).toJson(createProjectInfo());
+
+		List<MicroProfileProjectInfo> plainInfos = deserialize(createGson(null), json);
+		List<MicroProfileProjectInfo> internedInfos = deserialize(
+				createGson(new StringPool(StringPool.DEFAULT_MAX_SIZE, StringPool.DEFAULT_MAX_LENGTH)), json);
+
+		long plainFootprint = getStringsFootprint(plainInfos);
+		long internedFootprint = getStringsFootprint(internedInfos);
+		// the property names and source fields are not interned
+		Assert.assertTrue("Interned footprint " + internedFootprint + " bytes should be less than 1/2 of "
+				+ plainFootprint + " bytes", internedFootprint * 2 < plainFootprint);
+		Assert.assertEquals(plainInfos.get(0).getProperties(), internedInfos.get(0).getProperties());
+
+		// the same instances are shared by all the projects
+		ItemMetadata property = internedInfos.get(0).getProperties().get(3);
+		ItemMetadata otherProperty = internedInfos.get(PROJECTS - 1).getProperties().get(3);
+		Assert.assertNotSame(property, otherProperty);
+		Assert.assertSame(property.getType(), otherProperty.getType());
+		Assert.assertSame(property.getExtensionName(), otherProperty.getExtensionName());
+		Assert.assertNotSame(property.getName(), otherProperty.getName());
+		Assert.assertSame(property.getType(), internedInfos.get(0).getProperties().get(3 + TYPES.length).getType());
+		Assert.assertSame(internedInfos.get(0).getHints().get(0).getValues().get(1).getValue(),
+				internedInfos.get(PROJECTS - 1).getHints().get(0).getValues().get(1).getValue());
+	}
+
+	@Test
+	public void boundedPool() {
+		String json = createGson(null).toJson(createProjectInfo());
+		StringPool pool = new StringPool(5, 10);
+		MicroProfileProjectInfo info = createGson(pool).fromJson(json, MicroProfileProjectInfo.class);
+
+		Assert.assertEquals(5, pool.size());
+		Assert.assertEquals(PROPERTIES, info.getProperties().size());
+		Assert.assertEquals("java.lang.String", info.getProperties().get(0).getType());
+
+		// long strings are not pooled
+		String longValue = "java.util.Optional<java.lang.String>";
+		Assert.assertNotSame(longValue, new StringPool(5, 10).intern(new String(longValue)));
+	}
+
+	@Test
+	public void unusedStringsAreEvicted() throws InterruptedException {
+		StringPool pool = new StringPool(StringPool.DEFAULT_MAX_SIZE, StringPool.DEFAULT_MAX_LENGTH);
+		String value = pool.intern(new String("java.lang.String"));
+		Assert.assertSame(value, pool.intern(new String("java.lang.String")));
+		Assert.assertEquals(1, pool.size());
+
+		// the pool doesn't prevent the collection of the strings which are no longer
+		// used
+		value = null;
+		for (int i = 0; i < 50 && pool.size() > 0; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(0, pool.size());
+	}
+
+	private static Gson createGson(StringPool pool) {
+		if (pool == null) {
+			return new MessageJsonHandler(new HashMap<>()).getGson();
+		}
+		return new MessageJsonHandler(new HashMap<>(),
+				builder -> builder.registerTypeAdapterFactory(new ProjectInfoInterningTypeAdapterFactory(pool)))
+				.getGson();
+	}
+
+	private static List<MicroProfileProjectInfo> deserialize(Gson gson, String json) {
+		List<MicroProfileProjectInfo> infos = new ArrayList<>();
+		for (int i = 0; i < PROJECTS; i++) {
+			infos.add(gson.fromJson(json, MicroProfileProjectInfo.class));
+		}
+		return infos;
+	}
+
+	private static MicroProfileProjectInfo createProjectInfo() {
+		List<ItemMetadata> properties = new ArrayList<>();
+		for (int i = 0; i < PROPERTIES; i++) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName("quarkus.group" + (i / 10) + ".property" + (i % 10));
+			property.setType(TYPES[i % TYPES.length]);
+			property.setSourceType("io.quarkus.runtime.Config" + (i / 10));
+			property.setSourceField("property" + (i % 10));
+			property.setExtensionName("quarkus-extension" + (i % 3));
+			property.setDefaultValue(String.valueOf(i % 10));
+			properties.add(property);
+		}
+		ItemHint hint = new ItemHint();
+		hint.setName("org.acme.Level");
+		List<ValueHint> values = new ArrayList<>();
+		for (String value : Arrays.asList("LOW", "MEDIUM", "HIGH")) {
+			ValueHint valueHint = new ValueHint();
+			valueHint.setValue(value);
+			valueHint.setDescription("The " + value + " level.");
+			values.add(valueHint);
+		}
+		hint.setValues(values);
+
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI("project");
+		info.setProperties(properties);
+		info.setHints(Collections.singletonList(hint));
+		return info;
+	}
+
+	/**
+	 * Returns the estimated heap size in bytes of the distinct string instances
+	 * of the properties and hints of the given project information (compact
+	 * strings, compressed oops). It is computed from the string lengths, not
+	 * measured on the heap.
+	 */
+	private static long getStringsFootprint(List<MicroProfileProjectInfo> infos) {
+		Map<String, Boolean> strings = new IdentityHashMap<>();
+		for (MicroProfileProjectInfo info : infos) {
+			for (ItemMetadata property : info.getProperties()) {
+				add(strings, property.getName(), property.getType(), property.getSourceType(),
+						property.getSourceField(), property.getExtensionName(), property.getDefaultValue());
+			}
+			for (ItemHint hint : info.getHints()) {
+				add(strings, hint.getName(), hint.getSourceType());
+				for (ValueHint value : hint.getValues()) {
+					add(strings, value.getValue(), value.getDescription(), value.getSourceType());
+				}
+			}
+		}
+		long footprint = 0;
+		for (String value : strings.keySet()) {
+			// String object (24 bytes) + byte array (16 bytes header + content aligned
+			// on 8 bytes)
+			footprint += 24 + 16 + ((value.length() + 7) / 8) * 8;
+		}
+		return footprint;
+	}
+
+	private static void add(Map<String, Boolean> strings, String... values) {
+		for (String value : values) {
+			if (value != null) {
+				strings.put(value, Boolean.TRUE);
+			}
+		}
+	}
+}
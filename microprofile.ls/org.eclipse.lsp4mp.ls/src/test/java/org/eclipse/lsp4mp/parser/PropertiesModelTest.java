@@ -9,6 +9,8 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.parser;
 
+import java.util.List;
+
 import org.eclipse.lsp4mp.model.Node;
 import org.eclipse.lsp4mp.model.Node.NodeType;
 import org.eclipse.lsp4mp.model.PropertiesModel;
@@ -458,6 +460,42 @@ public class PropertiesModelTest {
 		Assert.assertTrue("dev".equals(property.getProfile()));
 	}
 
+	@Test
+	public void indexPropertiesAndExpressions() {
+		String text = "a=1\n" + //
+				"%dev.a=2\n" + //
+				"b=${a}-${%dev.a}\n" + //
+				"# comment\n" + //
+				"c=${a:0}\n" + //
+				"a=3";
+		PropertiesModel model = PropertiesModel.parse(text, "microprofile-config.properties");
+
+		List<Property> byName = model.getPropertiesByName("a");
+		Assert.assertEquals(3, byName.size());
+		Assert.assertEquals("1", byName.get(0).getPropertyValue());
+		Assert.assertEquals("2", byName.get(1).getPropertyValue());
+		Assert.assertEquals("3", byName.get(2).getPropertyValue());
+
+		List<Property> byNameWithProfile = model.getPropertiesByNameWithProfile("a");
+		Assert.assertEquals(2, byNameWithProfile.size());
+		Assert.assertEquals("1", byNameWithProfile.get(0).getPropertyValue());
+		Assert.assertEquals("3", byNameWithProfile.get(1).getPropertyValue());
+		Assert.assertEquals(1, model.getPropertiesByNameWithProfile("%dev.a").size());
+		Assert.assertTrue(model.getPropertiesByName("%dev.a").isEmpty());
+		Assert.assertTrue(model.getPropertiesByName("unknown").isEmpty());
+
+		List<PropertyValueExpression> expressions = model.getExpressionsReferencing("a");
+		Assert.assertEquals(2, expressions.size());
+		Assert.assertEquals("b", expressions.get(0).getProperty().getPropertyName());
+		Assert.assertEquals("c", expressions.get(1).getProperty().getPropertyName());
+		Assert.assertEquals(1, model.getExpressionsReferencing("%dev.a").size());
+		Assert.assertTrue(model.getExpressionsReferencing("b").isEmpty());
+
+		Assert.assertEquals("1", model.getValue("a"));
+		Assert.assertEquals("2", model.getValue("%dev.a"));
+		Assert.assertTrue(model.hasKey("c"));
+	}
+
 	private static void assertComments(Node comments, int expectedStart, int expectedEnd, String expectedText) {
 		Assert.assertEquals(comments.getNodeType(), NodeType.COMMENTS);
 		Assert.assertEquals(expectedText, comments.getText());
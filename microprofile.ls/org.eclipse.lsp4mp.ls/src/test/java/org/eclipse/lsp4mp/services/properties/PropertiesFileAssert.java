@@ -76,6 +76,7 @@ import org.eclipse.lsp4mp.ls.commons.snippets.TextDocumentSnippetRegistry;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.settings.MicroProfileCommandCapabilities;
 import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileHoverSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileInlayHintSettings;
@@ -190,6 +191,21 @@ public class PropertiesFileAssert {
 	public static void testCompletionFor(String value, boolean snippetSupport, boolean insertSpacing,
 			boolean isItemDefaultsSupport, String fileURI, Integer expectedCount, MicroProfileProjectInfo projectInfo,
 			CompletionItem... expectedItems) throws BadLocationException {
+		testCompletionFor(value, snippetSupport, insertSpacing, isItemDefaultsSupport, fileURI, expectedCount,
+				projectInfo, null, expectedItems);
+	}
+
+	public static CompletionList testCompletionFor(String value, boolean snippetSupport, Integer expectedCount,
+			MicroProfileCompletionSettings completionSettings, CompletionItem... expectedItems)
+			throws BadLocationException {
+		return testCompletionFor(value, snippetSupport, false, false, null, expectedCount,
+				getDefaultMicroProfileProjectInfo(), completionSettings, expectedItems);
+	}
+
+	public static CompletionList testCompletionFor(String value, boolean snippetSupport, boolean insertSpacing,
+			boolean isItemDefaultsSupport, String fileURI, Integer expectedCount, MicroProfileProjectInfo projectInfo,
+			MicroProfileCompletionSettings completionSettings, CompletionItem... expectedItems)
+			throws BadLocationException {
 		int offset = value.indexOf('|');
 		value = value.substring(0, offset) + value.substring(offset + 1);
 
@@ -214,10 +230,11 @@ public class PropertiesFileAssert {
 
 		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
 		CompletionList list = languageService.doComplete(model, position, projectInfo,
-				microProfileCompletionCapabilities, formattingSettings, () -> {
+				microProfileCompletionCapabilities, completionSettings, formattingSettings, () -> {
 				});
 
 		assertCompletions(list, expectedCount, isItemDefaultsSupport, expectedItems);
+		return list;
 	}
 
 	public static void assertCompletions(CompletionList actual, Integer expectedCount,
@@ -19,9 +19,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -450,6 +454,44 @@ public class PropertiesFileCompletionTest {
 				c("quarkus.banner.enabled", "quarkus.banner.enabled=${1|false,true|}", r(0, 0, 26)));
 	}
 
+	@Test
+	public void completionOnKeyWithMaxItems() throws BadLocationException {
+		MicroProfileCompletionSettings completionSettings = new MicroProfileCompletionSettings();
+		completionSettings.setMaxPropertyKeyItems(10);
+
+		// No prefix: the shallow properties are returned first, the other properties
+		// are not returned and the list is incomplete
+		String value = "|";
+		CompletionList list = testCompletionFor(value, false, 10, completionSettings);
+		Assert.assertTrue(list.isIncomplete());
+		for (CompletionItem item : list.getItems()) {
+			Assert.assertTrue(item.getLabel(), item.getLabel().indexOf('.') == -1);
+		}
+
+		// Properties which start with the prefix: all the matching properties are
+		// returned, the list is complete
+		value = "quarkus.http.co|";
+		list = testCompletionFor(value, true, null, completionSettings,
+				c("quarkus.http.cors", "quarkus.http.cors=${1|false,true|}", r(0, 0, 15)));
+		Assert.assertFalse(list.isIncomplete());
+		for (CompletionItem item : list.getItems()) {
+			Assert.assertTrue(item.getLabel(), item.getLabel().startsWith("quarkus.http.co"));
+		}
+
+		// Properties which have a segment which starts with the prefix
+		value = "%dev.CORS|";
+		list = testCompletionFor(value, false, null, completionSettings,
+				c("quarkus.http.cors", "%dev.quarkus.http.cors=false", r(0, 0, 9)));
+		Assert.assertTrue(list.getItems().size() <= 10);
+
+		// No limit
+		completionSettings.setMaxPropertyKeyItems(0);
+		value = "quarkus.http.co|";
+		list = testCompletionFor(value, false, null, completionSettings);
+		Assert.assertFalse(list.isIncomplete());
+		Assert.assertTrue(list.getItems().size() > 10);
+	}
+
 	@Test
 	public void completionOnKeyResolve() throws BadLocationException {
 		String expectedDocumentation = "quarkus.http.cors" + System.lineSeparator() + System.lineSeparator() + //
@@ -17,6 +17,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -99,6 +100,55 @@ public class JSONSchemaUtilsTest {
 				jsonSchema);
 	}
 
+	@Test
+	public void cache() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		addItem("quarkus.application.name", "java.lang.String", null, info);
+		String jsonSchema = JSONSchemaUtils.toJSONSchema(info, true);
+		Assert.assertSame(jsonSchema, JSONSchemaUtils.toJSONSchema(info, true));
+		String notLenientJsonSchema = JSONSchemaUtils.toJSONSchema(info, false);
+		Assert.assertNotEquals(jsonSchema, notLenientJsonSchema);
+		Assert.assertSame(notLenientJsonSchema, JSONSchemaUtils.toJSONSchema(info, false));
+
+		// Update the properties
+		addItem("quarkus.application.version", "java.lang.String", null, info);
+		String updatedJsonSchema = JSONSchemaUtils.toJSONSchema(info, true);
+		Assert.assertEquals(
+				"{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"definitions\":{\"root\":{\"type\":\"object\",\"properties\":{\"quarkus\":{\"type\":\"object\",\"properties\":{\"application\":{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"version\":{\"type\":\"string\"}}}}}}}},\"$ref\":\"#/definitions/root\",\"patternProperties\":{\"^[%][a-zA-Z0-9]*$\":{\"type\":\"object\",\"$ref\":\"#/definitions/root\"}}}",
+				updatedJsonSchema);
+	}
+
+	@Test
+	public void cacheWithPropertiesVersion() {
+		MicroProfileProjectInfo delegate = new MicroProfileProjectInfo();
+		delegate.setProjectURI("project");
+		addItem("quarkus.application.name", "java.lang.String", null, delegate);
+		ExtendedMicroProfileProjectInfo info = new ExtendedMicroProfileProjectInfo(delegate);
+		String jsonSchema = JSONSchemaUtils.toJSONSchema(info, true);
+		Assert.assertSame(jsonSchema, JSONSchemaUtils.toJSONSchema(info, true));
+
+		// Add a property from Java sources
+		info.updateSourcesProperties(new ArrayList<>(Arrays.asList(createSourceItem("greeting.message"))), null);
+		String updatedJsonSchema = JSONSchemaUtils.toJSONSchema(info, true);
+		Assert.assertTrue(updatedJsonSchema.contains("\"message\""));
+		Assert.assertSame(updatedJsonSchema, JSONSchemaUtils.toJSONSchema(info, true));
+
+		// Replace the property from Java sources without changing the number of
+		// properties
+		info.updateSourcesProperties(new ArrayList<>(Arrays.asList(createSourceItem("greeting.suffix"))), null);
+		String otherJsonSchema = JSONSchemaUtils.toJSONSchema(info, true);
+		Assert.assertFalse(otherJsonSchema.contains("\"message\""));
+		Assert.assertTrue(otherJsonSchema.contains("\"suffix\""));
+	}
+
+	private static ItemMetadata createSourceItem(String name) {
+		ItemMetadata item = new ItemMetadata();
+		item.setName(name);
+		item.setType("java.lang.String");
+		item.setSource(Boolean.TRUE);
+		return item;
+	}
+
 	private static void addItem(String name, String type, String description, MicroProfileProjectInfo info) {
 		addItem(name, type, description, null, info);
 	}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.SymbolKind;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WorkspaceSymbolUtils}.
+ *
+ */
+public class WorkspaceSymbolUtilsTest {
+
+	private static final List<SymbolInformation> SYMBOLS = Arrays.asList( //
+			symbol("@/api/hello: GET"), //
+			symbol("@/hello: POST"), //
+			symbol("@/api/greeting/hello: GET"), //
+			symbol("@/users: GET"));
+
+	@Test
+	public void emptyQuery() {
+		Assert.assertEquals(SYMBOLS, WorkspaceSymbolUtils.filter(SYMBOLS, ""));
+		Assert.assertEquals(SYMBOLS, WorkspaceSymbolUtils.filter(SYMBOLS, null));
+	}
+
+	@Test
+	public void prefixFirst() {
+		Assert.assertEquals(Arrays.asList("@/hello: POST", "@/api/hello: GET", "@/api/greeting/hello: GET"),
+				names(WorkspaceSymbolUtils.filter(SYMBOLS, "/Hello")));
+	}
+
+	@Test
+	public void fuzzy() {
+		Assert.assertEquals(Arrays.asList("@/api/hello: GET", "@/api/greeting/hello: GET"),
+				names(WorkspaceSymbolUtils.filter(SYMBOLS, "apihlo")));
+		Assert.assertEquals(Arrays.asList("@/users: GET"), names(WorkspaceSymbolUtils.filter(SYMBOLS, "usget")));
+		Assert.assertEquals(Arrays.asList("@/hello: POST"), names(WorkspaceSymbolUtils.filter(SYMBOLS, "post")));
+	}
+
+	@Test
+	public void noMatch() {
+		Assert.assertEquals(Collections.emptyList(), WorkspaceSymbolUtils.filter(SYMBOLS, "put"));
+	}
+
+	private static SymbolInformation symbol(String name) {
+		SymbolInformation symbol = new SymbolInformation();
+		symbol.setName(name);
+		symbol.setKind(SymbolKind.Method);
+		return symbol;
+	}
+
+	private static List<String> names(List<SymbolInformation> symbols) {
+		return symbols.stream().map(SymbolInformation::getName).collect(Collectors.toList());
+	}
+}